@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.builder.standalone;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+
+import org.eclipse.core.runtime.Path;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.xtext.builder.standalone.incremental.BinaryFileHashing;
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IReferenceDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.persistence.SerializableEObjectDescription;
+import org.eclipse.xtext.resource.persistence.SerializableReferenceDescription;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+import org.eclipse.xtext.validation.CheckType;
+import org.eclipse.xtext.validation.Issue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Iterables;
+import com.google.common.hash.HashCode;
+import com.google.common.io.Files;
+
+/**
+ * Tests for the persisted format of the {@link StandaloneBuilderState}.
+ *
+ * @author agent - Initial contribution and API
+ */
+public class StandaloneBuilderStateTest {
+
+	private static final URI SOURCE = URI.createFileURI("/project/src/Foo.buildertestlanguage");
+
+	private File tempDir;
+
+	@Before
+	public void setUp() throws IOException {
+		tempDir = java.nio.file.Files.createTempDirectory("StandaloneBuilderStateTest").toFile();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		org.eclipse.xtext.util.Files.sweepFolder(tempDir);
+		tempDir.delete();
+	}
+
+	@Test
+	public void testRoundTrip() {
+		File file = new File(tempDir, "xtext.state");
+		createState().to(file);
+
+		StandaloneBuilderState read = StandaloneBuilderState.from(file);
+		assertEquals(hash(42), read.libraryPathHash);
+		assertEquals(hash(1), read.sourceFiles.get(SOURCE));
+		assertArrayEquals(new Object[] { new Path("/project/src-gen/Foo.txt") }, read.inputToOutputFiles.get(SOURCE));
+		assertEquals(SOURCE, read.outputToInputFile.get(new Path("/project/src-gen/Foo.txt")));
+
+		IResourceDescription description = read.index.getResourceDescription(SOURCE);
+		assertTrue(description instanceof MappedResourceDescription);
+		assertEquals(QualifiedName.create("foo", "Foo"),
+				Iterables.getOnlyElement(description.getExportedObjects()).getName());
+		assertEquals(QualifiedName.create("bar", "Bar"), Iterables.getOnlyElement(description.getImportedNames()));
+		IReferenceDescription reference = Iterables.getOnlyElement(description.getReferenceDescriptions());
+		assertEquals(SOURCE.appendFragment("/0"), reference.getSourceEObjectUri());
+		assertEquals(EcorePackage.Literals.ECLASS__ESUPER_TYPES, reference.getEReference());
+
+		Issue issue = Iterables.getOnlyElement(read.getIssues().get(SOURCE));
+		assertEquals("Something is wrong", issue.getMessage());
+		assertEquals(Severity.ERROR, issue.getSeverity());
+		assertEquals(3, issue.getLineNumber().intValue());
+	}
+
+	@Test
+	public void testUnchangedStateIsCopied() throws IOException {
+		File file = new File(tempDir, "xtext.state");
+		createState().to(file);
+		byte[] written = Files.toByteArray(file);
+
+		StandaloneBuilderState read = StandaloneBuilderState.from(file);
+		read.to(file);
+		assertArrayEquals(written, Files.toByteArray(file));
+
+		StandaloneBuilderState readAgain = StandaloneBuilderState.from(file);
+		assertEquals(QualifiedName.create("bar", "Bar"),
+				Iterables.getOnlyElement(readAgain.index.getResourceDescription(SOURCE).getImportedNames()));
+		assertEquals(1, readAgain.getIssues().size());
+	}
+
+	@Test
+	public void testModifiedDescriptionIsWritten() {
+		File file = new File(tempDir, "xtext.state");
+		createState().to(file);
+
+		StandaloneBuilderState read = StandaloneBuilderState.from(file);
+		SerializableResourceDescription description = (SerializableResourceDescription) read.index
+				.getResourceDescription(SOURCE);
+		description.setImportedNames(Collections.singletonList(QualifiedName.create("baz", "Baz")));
+		read.setIssues(SOURCE, Collections.emptyList());
+		read.to(file);
+
+		StandaloneBuilderState readAgain = StandaloneBuilderState.from(file);
+		IResourceDescription changed = readAgain.index.getResourceDescription(SOURCE);
+		assertEquals(QualifiedName.create("baz", "Baz"), Iterables.getOnlyElement(changed.getImportedNames()));
+		assertEquals(1, Iterables.size(changed.getReferenceDescriptions()));
+		assertTrue(readAgain.getIssues().isEmpty());
+	}
+
+	@Test
+	public void testUnknownFormat() throws IOException {
+		File file = new File(tempDir, "xtext.state");
+		Files.write(new byte[] { 0x1f, (byte) 0x8b, 8, 0 }, file);
+		StandaloneBuilderState read = StandaloneBuilderState.from(file);
+		assertEquals(HashCode.fromInt(0), read.libraryPathHash);
+		assertTrue(read.index.isEmpty());
+	}
+
+	private HashCode hash(int value) {
+		return BinaryFileHashing.hashFunction().hashInt(value);
+	}
+
+	private StandaloneBuilderState createState() {
+		StandaloneBuilderState state = new StandaloneBuilderState();
+		state.libraryPathHash = hash(42);
+		state.sourceFiles.put(SOURCE, hash(1));
+		Path output = new Path("/project/src-gen/Foo.txt");
+		state.outputFiles.put(output, hash(2));
+		state.inputToOutputFiles.put(SOURCE, new Path[] { output });
+		state.outputToInputFile.put(output, SOURCE);
+
+		SerializableEObjectDescription exported = new SerializableEObjectDescription();
+		exported.setEObjectURI(SOURCE.appendFragment("/0"));
+		exported.setEClass(EcorePackage.Literals.ECLASS);
+		exported.setQualifiedName(QualifiedName.create("foo", "Foo"));
+		HashMap<String, String> userData = new HashMap<>();
+		userData.put("key", "value");
+		exported.setUserData(userData);
+
+		SerializableReferenceDescription reference = new SerializableReferenceDescription();
+		reference.setSourceEObjectUri(SOURCE.appendFragment("/0"));
+		reference.setTargetEObjectUri(URI.createFileURI("/project/src/Bar.buildertestlanguage").appendFragment("/0"));
+		reference.setContainerEObjectURI(SOURCE.appendFragment("/0"));
+		reference.setEReference(EcorePackage.Literals.ECLASS__ESUPER_TYPES);
+		reference.setIndexInList(0);
+
+		SerializableResourceDescription description = new SerializableResourceDescription();
+		description.setURI(SOURCE);
+		description.setDescriptions(Collections.singletonList(exported));
+		description.setReferences(Collections.singletonList(reference));
+		description.setImportedNames(Collections.singletonList(QualifiedName.create("bar", "Bar")));
+		state.index.addDescription(SOURCE, description);
+
+		Issue.IssueImpl issue = new Issue.IssueImpl();
+		issue.setMessage("Something is wrong");
+		issue.setCode("some.code");
+		issue.setSeverity(Severity.ERROR);
+		issue.setType(CheckType.FAST);
+		issue.setLineNumber(3);
+		issue.setLineNumberEnd(3);
+		issue.setColumn(1);
+		issue.setColumnEnd(4);
+		issue.setOffset(20);
+		issue.setLength(3);
+		state.setIssues(SOURCE, Collections.singletonList(issue));
+		return state;
+	}
+}
@@ -43,6 +43,7 @@ import com.google.inject.Inject;
 public class StandaloneBuilderTest {
 
 	private static final File PROJECT_DIR = new File("test-data/standalone");
+	private static final File PARALLEL_PROJECT_DIR = new File("test-data/standalone.parallel");
 	private static final File TMP_DIR = new File(PROJECT_DIR, "tmp");
 
 	@Inject
@@ -116,6 +117,35 @@ public class StandaloneBuilderTest {
 		assertFalse(unexpectedFile.exists());
 	}
 
+	@Test
+	public void testParallelIndexing() {
+		TestLanguageConfiguration config = new TestLanguageConfiguration(false);
+		initBuilder(PARALLEL_PROJECT_DIR, config, "src");
+		testBuilder.setMockGeneration(true);
+		assertTrue(testBuilder.launch());
+		Map<String, List<String>> sequentialIndex = testBuilder.getIndexedObjects();
+		List<String> sequentialReferences = testBuilder.getGeneratedReferences();
+		Set<String> sequentialLoaded = testBuilder.getLoadedAfterIndexing();
+		assertEquals(ImmutableSet.of("A.buildertestlanguage", "B.buildertestlanguage", "C.buildertestlanguage",
+				"D.buildertestlanguage"), sequentialLoaded);
+		assertEquals(4, sequentialIndex.size());
+		assertEquals(ImmutableList.of("ns /0", "ns.C /0/@elements.0"), sequentialIndex.get("C.buildertestlanguage"));
+		assertEquals(7, sequentialReferences.size());
+		assertTrue(sequentialReferences.contains("A.buildertestlanguage#/0 -> B.buildertestlanguage#/0"));
+		assertTrue(sequentialReferences.contains("B.buildertestlanguage#/0 -> C.buildertestlanguage#/0/@elements.0"));
+		for (String reference : sequentialReferences) {
+			assertFalse(reference, reference.endsWith("<proxy>"));
+		}
+
+		initBuilder(PARALLEL_PROJECT_DIR, config, "src");
+		testBuilder.setIndexingThreads(4);
+		assertTrue(testBuilder.launch());
+		assertEquals(sequentialIndex, testBuilder.getIndexedObjects());
+		assertEquals(sequentialReferences, testBuilder.getGeneratedReferences());
+		// the resources of the indexing threads are used for generation instead of being loaded again
+		assertEquals(sequentialLoaded, testBuilder.getLoadedAfterIndexing());
+	}
+
 	@Test
 	public void testOnlyOneSourceFolder() {
 		initBuilder(new TestLanguageConfiguration(false));
@@ -207,6 +237,43 @@ public class StandaloneBuilderTest {
 
 	}
 
+	@Test
+	public void testValidationThreads() {
+		TestLanguageConfiguration config = new TestLanguageConfiguration(false);
+		initBuilder(config, "src", "src-error");
+		testBuilder.setValidationThreads(2);
+		testBuilder.setMockGeneration(true);
+		assertFalse("Build should return false, but returned -success-", testBuilder.launch());
+		assertEquals("Build should fail early, but validate all resources", 2, testBuilder.getValidateCalled());
+		assertEquals("Build should fail early", 0, testBuilder.getGenerateCalled());
+
+		initBuilder(config, "src-error", "src");
+		testBuilder.setValidationThreads(2);
+		assertFalse("Build should fail, but returned -success-", testBuilder.launch());
+		assertEquals("Build should fail early, but validation was executed", 2, testBuilder.getValidateCalled());
+		assertEquals("Build should fail early", 0, testBuilder.getGenerateCalled());
+
+		initBuilder(config, "src-error", "src");
+		testBuilder.setValidationThreads(2);
+		testBuilder.setFailOnValidationError(false);
+		assertFalse("Build should fail, but returned -success-", testBuilder.launch());
+		assertEquals("Validation was executed", 2, testBuilder.getValidateCalled());
+		assertEquals("Generator was executed in spite of validation errors", 1, testBuilder.getGenerateCalled());
+		assertEquals(2, testBuilder.getGenerateResources());
+	}
+
+	@Test
+	public void testBuildWithValidationThreads() {
+		initBuilder(new TestLanguageConfiguration(true));
+		testBuilder.setValidationThreads(2);
+		assertTrue(testBuilder.launch());
+
+		File generatedFile = getFile("src-gen/Foo.txt");
+		assertTrue(generatedFile.exists());
+		generatedFile = getFile("src2-gen/Bar.txt");
+		assertTrue(generatedFile.exists());
+	}
+
 	private File getFile(String projectRelativePath) {
 		return new File(PROJECT_DIR, projectRelativePath);
 	}
@@ -224,15 +291,19 @@ public class StandaloneBuilderTest {
 	}
 
 	private StandaloneBuilder initBuilder(ILanguageConfiguration config, String... srcDirs) {
+		return initBuilder(PROJECT_DIR, config, srcDirs);
+	}
+
+	private StandaloneBuilder initBuilder(File projectDir, ILanguageConfiguration config, String... srcDirs) {
 		List<String> patthes = new ArrayList<String>();
 		for (String srcDir : srcDirs) {
-			patthes.add(new File(PROJECT_DIR, srcDir).getAbsolutePath());
+			patthes.add(new File(projectDir, srcDir).getAbsolutePath());
 		}
 		testBuilder.setSourceDirs(patthes);
 		testBuilder.resetCallStatistic();
 		Map<String, LanguageAccess> languages = new LanguageAccessFactory().createLanguageAccess(
 				ImmutableList.of(config), getClass().getClassLoader());
-		testBuilder.setBaseDir(PROJECT_DIR.getAbsolutePath());
+		testBuilder.setBaseDir(projectDir.getAbsolutePath());
 		testBuilder.setLanguages(languages);
 		testBuilder.setClassPathEntries(ImmutableList.<String> of());
 		return testBuilder;
@@ -8,23 +8,42 @@
  *******************************************************************************/
 package org.eclipse.xtext.builder.standalone;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.resource.clustering.IResourceClusteringPolicy;
 
 /**
  * @author dhuebner - Initial contribution and API
  */
 public class TestableStandaloneBuilder extends StandaloneBuilder {
-	private int validateCalled = 0;
+	// validate is called by the validation threads if they are enabled
+	private final AtomicInteger validateCalled = new AtomicInteger();
 	private int generateCalled = 0;
 	private int generateResources = 0;
 	private boolean mockGeneration = false;
+	private Map<String, List<String>> indexedObjects = new LinkedHashMap<>();
+	private Set<String> loadedAfterIndexing = new TreeSet<>();
+	private List<String> generatedReferences = new ArrayList<>();
 
 	@Override
 	protected boolean validate(Resource resource) {
 		boolean validated = super.validate(resource);
-		validateCalled++;
+		validateCalled.incrementAndGet();
 		return validated;
 	}
 
@@ -32,8 +51,37 @@ public class TestableStandaloneBuilder extends StandaloneBuilder {
 		mockGeneration = false;
 	}
 
+	@Override
+	protected IResourceDescription.Event indexResources(XtextResourceSet resourceSet,
+			Collection<URI> sourceResourceURIs, Collection<URI> libraryResourceURIs,
+			IResourceClusteringPolicy strategy) {
+		IResourceDescription.Event result = super.indexResources(resourceSet, sourceResourceURIs, libraryResourceURIs, strategy);
+		for (IResourceDescription.Delta delta : result.getDeltas()) {
+			if (delta.getNew() != null) {
+				List<String> exportedObjects = new ArrayList<>();
+				for (IEObjectDescription description : delta.getNew().getExportedObjects()) {
+					exportedObjects.add(description.getQualifiedName() + " " + description.getEObjectURI().fragment());
+				}
+				indexedObjects.put(delta.getUri().lastSegment(), exportedObjects);
+			}
+		}
+		for (Resource resource : resourceSet.getResources()) {
+			loadedAfterIndexing.add(resource.getURI().lastSegment());
+		}
+		return result;
+	}
+
 	@Override
 	protected void generate(List<Resource> sourceResources) {
+		for (Resource resource : sourceResources) {
+			TreeIterator<EObject> iterator = resource.getAllContents();
+			while (iterator.hasNext()) {
+				EObject source = iterator.next();
+				for (EObject target : source.eCrossReferences()) {
+					generatedReferences.add(toString(source) + " -> " + (target.eIsProxy() ? "<proxy>" : toString(target)));
+				}
+			}
+		}
 		if (!mockGeneration) {
 			super.generate(sourceResources);
 		}
@@ -51,14 +99,22 @@ public class TestableStandaloneBuilder extends StandaloneBuilder {
 		return super.launch();
 	}
 
+	private String toString(EObject object) {
+		URI uri = EcoreUtil.getURI(object);
+		return uri.lastSegment() + "#" + uri.fragment();
+	}
+
 	public void resetCallStatistic() {
-		validateCalled = 0;
+		validateCalled.set(0);
 		generateCalled = 0;
 		generateResources = 0;
+		indexedObjects = new LinkedHashMap<>();
+		loadedAfterIndexing = new TreeSet<>();
+		generatedReferences = new ArrayList<>();
 	}
 
 	public int getValidateCalled() {
-		return validateCalled;
+		return validateCalled.get();
 	}
 
 	public int getGenerateCalled() {
@@ -69,4 +125,25 @@ public class TestableStandaloneBuilder extends StandaloneBuilder {
 		return generateResources;
 	}
 
+	/**
+	 * The exported objects of the resources that were indexed by the last launch, by the name of the resource.
+	 */
+	public Map<String, List<String>> getIndexedObjects() {
+		return indexedObjects;
+	}
+
+	/**
+	 * The names of the resources that were loaded in the resource set of the builder after indexing.
+	 */
+	public Set<String> getLoadedAfterIndexing() {
+		return loadedAfterIndexing;
+	}
+
+	/**
+	 * The cross references of the resources that were passed to the generator by the last launch.
+	 */
+	public List<String> getGeneratedReferences() {
+		return generatedReferences;
+	}
+
 }
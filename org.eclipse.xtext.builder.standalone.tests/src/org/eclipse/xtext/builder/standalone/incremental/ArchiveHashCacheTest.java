@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.builder.standalone.incremental;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.runtime.Path;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.hash.HashCode;
+import com.google.common.io.Files;
+
+/**
+ * @author agent - Initial contribution and API
+ */
+public class ArchiveHashCacheTest {
+
+	private File tempDir;
+
+	private File archive;
+
+	private ArchiveHashCache cache;
+
+	@Before
+	public void setUp() throws IOException {
+		tempDir = java.nio.file.Files.createTempDirectory("ArchiveHashCacheTest").toFile();
+		archive = new File(tempDir, "lib.jar");
+		Files.asCharSink(archive, StandardCharsets.UTF_8).write("abc");
+		archive.setLastModified(System.currentTimeMillis() - 60000);
+		cache = new ArchiveHashCache(new File(tempDir, "cache"));
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		org.eclipse.xtext.util.Files.sweepFolder(tempDir);
+		tempDir.delete();
+	}
+
+	@Test
+	public void testPutAndGet() {
+		assertNull(cache.get(archive));
+		HashCode hash = BinaryFileHashing.processFile(archive);
+		cache.put(archive, hash, System.currentTimeMillis());
+		assertEquals(hash, cache.get(archive));
+		assertEquals(hash, new ArchiveHashCache(cache.getDirectory()).get(archive));
+	}
+
+	@Test
+	public void testModifiedArchive() throws IOException {
+		cache.put(archive, BinaryFileHashing.processFile(archive), System.currentTimeMillis());
+		Files.asCharSink(archive, StandardCharsets.UTF_8).write("abcd");
+		assertNull(cache.get(archive));
+	}
+
+	@Test
+	public void testRecentlyModifiedArchiveIsNotCached() throws IOException {
+		long hashedAt = System.currentTimeMillis();
+		archive.setLastModified(hashedAt);
+		cache.put(archive, BinaryFileHashing.processFile(archive), hashedAt);
+		// a modification of the same size within the timestamp granularity keeps the modification time
+		Files.asCharSink(archive, StandardCharsets.UTF_8).write("abd");
+		archive.setLastModified(hashedAt);
+		assertNull(cache.get(archive));
+	}
+
+	@Test
+	public void testUnknownHashIsNotCached() {
+		cache.put(archive, BinaryFileHashing.unknownHashCode(), System.currentTimeMillis());
+		assertNull(cache.get(archive));
+	}
+
+	@Test
+	public void testClasspathInfos() {
+		HashCode hash = BinaryFileHashing.hashFunction().hashInt(42);
+		cache.put(archive, hash, System.currentTimeMillis());
+		ClasspathInfos classpathInfos = new ClasspathInfos();
+		classpathInfos.setArchiveHashCache(cache);
+		CoarseGrainedEntryHash entryHash = (CoarseGrainedEntryHash) classpathInfos
+				.hashClassesOrJar(new Path(archive.getAbsolutePath()));
+		assertArrayEquals(hash.asBytes(), entryHash.asBytes());
+	}
+
+	@Test
+	public void testClasspathInfosPopulatesCache() {
+		ClasspathInfos classpathInfos = new ClasspathInfos();
+		classpathInfos.setArchiveHashCache(cache);
+		classpathInfos.hashClassesOrJar(new Path(archive.getAbsolutePath()));
+		assertEquals(BinaryFileHashing.processFile(archive), cache.get(archive));
+	}
+
+	@Test
+	public void testClasspathInfosSkipsRecentlyModifiedArchive() {
+		archive.setLastModified(System.currentTimeMillis());
+		ClasspathInfos classpathInfos = new ClasspathInfos();
+		classpathInfos.setArchiveHashCache(cache);
+		classpathInfos.hashClassesOrJar(new Path(archive.getAbsolutePath()));
+		assertNull(cache.get(archive));
+	}
+
+}
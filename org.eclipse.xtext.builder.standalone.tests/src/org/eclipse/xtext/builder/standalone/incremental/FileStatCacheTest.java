@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.builder.standalone.incremental;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.hash.HashCode;
+import com.google.common.io.Files;
+
+/**
+ * @author agent - Initial contribution and API
+ */
+public class FileStatCacheTest {
+
+	private File tempDir;
+
+	private File file;
+
+	private long lastModified;
+
+	@Before
+	public void setUp() throws IOException {
+		tempDir = java.nio.file.Files.createTempDirectory("FileStatCacheTest").toFile();
+		file = new File(tempDir, "Foo.class");
+		lastModified = System.currentTimeMillis() - 60000;
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		org.eclipse.xtext.util.Files.sweepFolder(tempDir);
+		tempDir.delete();
+	}
+
+	@Test
+	public void testUnchangedFileIsNotRead() throws IOException {
+		write("abc");
+		FileStatCache cache = new FileStatCache();
+		HashCode hash = cache.hash(file);
+		assertEquals(BinaryFileHashing.processFile(file), hash);
+
+		// same size and modification time, the cache cannot tell the difference
+		write("xyz");
+		assertEquals(hash, cache.hash(file));
+	}
+
+	@Test
+	public void testParanoidModeReadsFile() throws IOException {
+		write("abc");
+		FileStatCache cache = new FileStatCache();
+		cache.setParanoid(true);
+		HashCode hash = cache.hash(file);
+
+		write("xyz");
+		HashCode changed = cache.hash(file);
+		assertNotEquals(hash, changed);
+		assertEquals(BinaryFileHashing.processFile(file), changed);
+	}
+
+	@Test
+	public void testChangedFileIsRead() throws IOException {
+		write("abc");
+		FileStatCache cache = new FileStatCache();
+		HashCode hash = cache.hash(file);
+
+		lastModified += 1000;
+		write("xyz");
+		assertNotEquals(hash, cache.hash(file));
+	}
+
+	@Test
+	public void testRecentlyModifiedFileIsNotRemembered() throws IOException {
+		Files.asCharSink(file, StandardCharsets.UTF_8).write("abc");
+		FileStatCache cache = new FileStatCache();
+		cache.hash(file);
+
+		long modified = file.lastModified();
+		Files.asCharSink(file, StandardCharsets.UTF_8).write("xyz");
+		file.setLastModified(modified);
+		assertEquals(BinaryFileHashing.processFile(file), cache.hash(file));
+	}
+
+	@Test
+	public void testPersistence() throws IOException {
+		write("abc");
+		File stateFile = new File(tempDir, "files.stat");
+		FileStatCache cache = new FileStatCache();
+		HashCode hash = cache.hash(file);
+		cache.to(stateFile);
+
+		write("xyz");
+		assertEquals(hash, FileStatCache.from(stateFile).hash(file));
+
+		// only the files that were hashed are stored again
+		new FileStatCache().to(stateFile);
+		assertEquals(BinaryFileHashing.processFile(file), FileStatCache.from(stateFile).hash(file));
+	}
+
+	@Test
+	public void testUnreadableCache() throws IOException {
+		write("abc");
+		File stateFile = new File(tempDir, "files.stat");
+		Files.write(new byte[] { 0, 0, 0, 1, 0 }, stateFile);
+		assertEquals(BinaryFileHashing.processFile(file), FileStatCache.from(stateFile).hash(file));
+	}
+
+	private void write(String content) throws IOException {
+		Files.asCharSink(file, StandardCharsets.UTF_8).write(content);
+		assertTrue(file.setLastModified(lastModified));
+	}
+
+}
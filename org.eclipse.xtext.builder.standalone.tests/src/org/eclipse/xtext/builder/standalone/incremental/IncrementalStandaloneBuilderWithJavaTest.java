@@ -319,6 +319,69 @@ public class IncrementalStandaloneBuilderWithJavaTest {
 		assertFalse(genContent.stream().filter(s->s.contains("new Object()")).findFirst().isPresent());
 	}
 
+	@Test
+	public void testCleanBuildWithValidationThreads() throws IOException {
+		initBuilder(new ContentAssistFragmentTestLangConfiguration());
+		assertTrue(testBuilder.launch());
+		byte[] first = java.nio.file.Files.readAllBytes(getFile("src-gen/my/test/First.java").toPath());
+		byte[] second = java.nio.file.Files.readAllBytes(getFile("src-gen/my/test/Second.java").toPath());
+		deleteFolder(getFile("src-gen"));
+		deleteFolder(getFile("tmp"));
+
+		initBuilder(new ContentAssistFragmentTestLangConfiguration());
+		testBuilder.setValidationThreads(2);
+		assertTrue(testBuilder.launch());
+		// Second refers to the inferred type of First that is resolved by the validation threads on their own
+		assertEquals(2, testBuilder.getValidateCalled());
+		assertEquals(2, testBuilder.getGenerateResources());
+		Assert.assertArrayEquals(first, java.nio.file.Files.readAllBytes(getFile("src-gen/my/test/First.java").toPath()));
+		Assert.assertArrayEquals(second, java.nio.file.Files.readAllBytes(getFile("src-gen/my/test/Second.java").toPath()));
+	}
+
+	@Test
+	public void testCleanBuildWithIndexingThreads() throws IOException {
+		initBuilder(new ContentAssistFragmentTestLangConfiguration());
+		assertTrue(testBuilder.launch());
+		byte[] first = java.nio.file.Files.readAllBytes(getFile("src-gen/my/test/First.java").toPath());
+		byte[] second = java.nio.file.Files.readAllBytes(getFile("src-gen/my/test/Second.java").toPath());
+		deleteFolder(getFile("src-gen"));
+		deleteFolder(getFile("tmp"));
+
+		initBuilder(new ContentAssistFragmentTestLangConfiguration());
+		testBuilder.setIndexingThreads(2);
+		assertTrue(testBuilder.launch());
+		// the resources are handed over from the indexing threads together with their inferred types
+		assertEquals(ImmutableSet.of("First.contentassistfragmenttestlang", "Second.contentassistfragmenttestlang"),
+				testBuilder.getLoadedAfterIndexing());
+		assertEquals(2, testBuilder.getGenerateResources());
+		Assert.assertArrayEquals(first, java.nio.file.Files.readAllBytes(getFile("src-gen/my/test/First.java").toPath()));
+		Assert.assertArrayEquals(second, java.nio.file.Files.readAllBytes(getFile("src-gen/my/test/Second.java").toPath()));
+	}
+
+	@Test
+	public void testValidationThreadsReportErrors() throws IOException {
+		File modelFile = getFile("src/com/acme/First.contentassistfragmenttestlang");
+		java.nio.file.Files.write(modelFile.toPath(), Arrays.asList(
+				"{",
+				"  new com.acme.BugsBunny()._singSomeSong()",
+				"  return null",
+				"}"), ISO_8859_1, TRUNCATE_EXISTING);
+
+		initBuilder(new ContentAssistFragmentTestLangConfiguration());
+		testBuilder.setValidationThreads(2);
+		assertFalse(testBuilder.launch());
+		assertEquals(2, testBuilder.getValidateCalled());
+		assertEquals(2, testBuilder.getGenerateResources());
+
+		java.nio.file.Files.write(modelFile.toPath(), Arrays.asList(
+				"{",
+				"  new com.acme.BugsBunny().singSomeSong()",
+				"  return null",
+				"}"), ISO_8859_1, TRUNCATE_EXISTING);
+		assertTrue(testBuilder.launch());
+		assertEquals(1, testBuilder.getGenerateResources());
+	}
+
 	private File getFile(String projectRelativePath) {
 		return new File(PROJECT_DIR, projectRelativePath);
 	}
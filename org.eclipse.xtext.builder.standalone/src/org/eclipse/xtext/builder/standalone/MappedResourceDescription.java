@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.builder.standalone;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IReferenceDescription;
+import org.eclipse.xtext.resource.persistence.SerializableEObjectDescription;
+import org.eclipse.xtext.resource.persistence.SerializableReferenceDescription;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+import org.eclipse.xtext.xbase.lib.Exceptions;
+
+/**
+ * A resource description that is backed by a record of the {@link StandaloneBuilderState state file}. The exported
+ * objects are decoded eagerly since they are required to populate the index, the references and imported names are
+ * decoded on first access. As long as the description is not modified, its record is written verbatim when the state
+ * is stored again.
+ */
+class MappedResourceDescription extends SerializableResourceDescription {
+
+	private ByteBuffer record;
+
+	private final int headLength;
+
+	private boolean referencesLoaded;
+
+	private boolean decoding = true;
+
+	MappedResourceDescription(ByteBuffer record, int headLength) throws IOException {
+		this.record = record;
+		this.headLength = headLength;
+		StandaloneBuilderState.newInput(StandaloneBuilderState.slice(record, 0, headLength)).readExportedObjects(this);
+		decoding = false;
+	}
+
+	/**
+	 * Returns the record of this description or <code>null</code> if the description was modified after it was read.
+	 */
+	ByteBuffer getRecord() {
+		return record != null ? record.duplicate() : null;
+	}
+
+	int getHeadLength() {
+		return headLength;
+	}
+
+	private synchronized void ensureReferencesLoaded() {
+		if (!referencesLoaded) {
+			decoding = true;
+			try {
+				ByteBuffer tail = StandaloneBuilderState.slice(record, headLength, record.limit() - headLength);
+				StandaloneBuilderState.newInput(tail).readReferencesAndImportedNames(this);
+			} catch (IOException e) {
+				throw Exceptions.sneakyThrow(e);
+			} finally {
+				decoding = false;
+			}
+			referencesLoaded = true;
+		}
+	}
+
+	@Override
+	public Iterable<QualifiedName> getImportedNames() {
+		ensureReferencesLoaded();
+		return super.getImportedNames();
+	}
+
+	@Override
+	public Iterable<IReferenceDescription> getReferenceDescriptions() {
+		ensureReferencesLoaded();
+		return super.getReferenceDescriptions();
+	}
+
+	@Override
+	public List<SerializableReferenceDescription> getReferences() {
+		ensureReferencesLoaded();
+		return super.getReferences();
+	}
+
+	@Override
+	public void setReferences(List<SerializableReferenceDescription> references) {
+		markModified();
+		super.setReferences(references);
+	}
+
+	@Override
+	public void setImportedNames(List<QualifiedName> importedNames) {
+		markModified();
+		super.setImportedNames(importedNames);
+	}
+
+	@Override
+	public void setDescriptions(List<SerializableEObjectDescription> descriptions) {
+		markModified();
+		super.setDescriptions(descriptions);
+	}
+
+	@Override
+	public void setURI(URI uri) {
+		markModified();
+		super.setURI(uri);
+	}
+
+	@Override
+	public void updateResourceURI(URI uri) {
+		markModified();
+		super.updateResourceURI(uri);
+	}
+
+	/**
+	 * Decodes the complete record before the description is changed, since the record cannot be reused afterwards.
+	 */
+	private void markModified() {
+		if (!decoding) {
+			ensureReferencesLoaded();
+			record = null;
+		}
+	}
+
+}
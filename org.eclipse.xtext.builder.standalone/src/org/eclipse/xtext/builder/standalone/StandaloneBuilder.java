@@ -28,11 +28,16 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 import java.util.regex.Pattern;
@@ -49,7 +54,9 @@ import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.build.ResolvedResourceDescription;
 import org.eclipse.xtext.builder.standalone.compiler.CompilerConfiguration;
 import org.eclipse.xtext.builder.standalone.compiler.IJavaCompiler;
+import org.eclipse.xtext.builder.standalone.incremental.ArchiveHashCache;
 import org.eclipse.xtext.builder.standalone.incremental.BinaryFileHashing;
+import org.eclipse.xtext.builder.standalone.incremental.FileStatCache;
 import org.eclipse.xtext.builder.standalone.incremental.ClasspathInfos;
 import org.eclipse.xtext.builder.standalone.incremental.CoarseGrainedEntryHash;
 import org.eclipse.xtext.common.types.access.impl.ClasspathTypeProvider;
@@ -102,6 +109,7 @@ import com.google.common.hash.HashCode;
 import com.google.common.hash.Hasher;
 import com.google.common.io.ByteStreams;
 import com.google.common.util.concurrent.Runnables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 
@@ -151,6 +159,59 @@ public class StandaloneBuilder {
 
 	private ClusteringConfig clusteringConfig = null;
 
+	/**
+	 * Number of threads that are used to load and describe resources while
+	 * building the index. Each thread works on its own resource set and
+	 * respects the configured {@link ClusteringConfig}. The descriptions are
+	 * merged into the index in the order of the collected resources, thus the
+	 * produced deltas do not depend on the number of threads.<br>
+	 * Default is <code>1</code>, i.e. the resources are indexed sequentially.
+	 */
+	private int indexingThreads = 1;
+
+	/**
+	 * Number of threads that validate the resources of a cluster by means of
+	 * {@link #validate(Resource)} once the builder thread has loaded, linked
+	 * and indexed all of them. Each thread loads the resources again into its
+	 * own resource set, thus no JvmTypes are shared between the threads. The
+	 * threads see an index that already includes the whole cluster. The
+	 * issues are handled in the order of the resources and the cluster is
+	 * generated by the builder thread afterwards.<br>
+	 * Default is <code>0</code>, i.e. resources are validated by the builder
+	 * thread right after they were linked.
+	 */
+	private int validationThreads = 0;
+
+	/**
+	 * The issues of the resources that are validated by the validation threads.
+	 * They are handled by the builder thread in the order of the resources.
+	 */
+	private volatile Map<URI, List<Issue>> deferredIssues;
+
+	/**
+	 * Whether the size, modification time and file key of the output, stub
+	 * and class files are stored together with their hashes in the state
+	 * directory of an incremental build. Files whose metadata did not change
+	 * are not read again to detect modifications.<br>
+	 * Default is <code>false</code>.
+	 */
+	private boolean fileStatCaching = false;
+
+	/**
+	 * Hash all output, stub and class files even if
+	 * {@link #isFileStatCaching() file stat caching} is enabled, and log a
+	 * warning for each file whose contents changed while its metadata did not.
+	 */
+	private boolean paranoidHashing = false;
+
+	/**
+	 * Directory that holds the hashes of the archives on the class path. It
+	 * may be shared by all builds on a machine, archives whose path, size and
+	 * modification time did not change are not hashed again.<br>
+	 * Default is <code>null</code>, i.e. the hashes are only kept in memory.
+	 */
+	private File archiveHashCacheDirectory = null;
+
 	@Inject
 	private IndexedJvmTypeAccess jvmTypeAccess;
 
@@ -177,6 +238,8 @@ public class StandaloneBuilder {
 
 	private StandaloneBuilderState builderState;
 
+	private FileStatCache fileStatCache;
+
 	private final Map<LanguageAccess, JavaIoFileSystemAccess> configuredFsas = new HashMap<>();
 
 	private boolean incremental = false;
@@ -212,7 +275,10 @@ public class StandaloneBuilder {
 		Iterable<String> rootsToTravers = rootsToTraverse();
 		List<URI> sourceResourceURIs = collectResources(sourceDirs);
 		File stateFile;
+		ExecutorService validationExecutor = createValidationExecutor();
 		try {
+			classpathInfos.setArchiveHashCache(
+					archiveHashCacheDirectory != null ? new ArchiveHashCache(archiveHashCacheDirectory) : null);
 			stateFile = readOrCreateBuilderState(stubsDirectory);
 
 			Set<URI> changedSourceFiles = new HashSet<>();
@@ -263,19 +329,25 @@ public class StandaloneBuilder {
 						EcoreUtil2.resolveLazyCrossReferences(resource, CancelIndicator.NullImpl);
 						IResourceDescription.Manager manager = resourceDescriptionManager(resource);
 
-						IResourceDescription oldDescription = index.getResourceDescription(uri);
 						IResourceDescription newDescription = SerializableResourceDescription
 								.createCopy(manager.getResourceDescription(resource));
+						IResourceDescription oldDescription = index.getResourceDescription(uri);
 						index.addDescription(uri, newDescription);
 						aggregateDelta(manager.createDelta(oldDescription, newDescription), allDeltas);
 
-						// TODO adjust to handle validations that need an up-to-date index
-						hasValidationErrors = validate(resource) || hasValidationErrors;
+						if (validationExecutor == null) {
+							// TODO adjust to handle validations that need an up-to-date index
+							hasValidationErrors = validate(resource) || hasValidationErrors;
+						}
 						clusterIndex++;
 						if (!strategy.continueProcessing(resourceSet, null, clusterIndex)) {
 							canContinue = false;
 						}
 					}
+					if (validationExecutor != null) {
+						hasValidationErrors = validateInParallel(resourceSet, resources, changedSourceFiles, strategy,
+								validationExecutor) || hasValidationErrors;
+					}
 					if (failOnValidationError && hasValidationErrors) {
 						if (incremental) {
 							// since we didn't generate anything yet, we don't want to persist the builder state
@@ -305,13 +377,106 @@ public class StandaloneBuilder {
 			}
 			return commitBuilderState(stateFile, hasValidationErrors);
 		} finally {
+			if (validationExecutor != null) {
+				validationExecutor.shutdownNow();
+			}
 			builderState = null;
+			fileStatCache = null;
 			configuredFsas.clear();
 
 			LOG.info("Build took " + rootStopwatch.elapsed(TimeUnit.MILLISECONDS) + "ms.");
 		}
 	}
 
+	private ExecutorService createValidationExecutor() {
+		if (validationThreads <= 0) {
+			return null;
+		}
+		return Executors.newFixedThreadPool(validationThreads,
+				new ThreadFactoryBuilder().setNameFormat("StandaloneBuilder-Validator-%d").setDaemon(true).build());
+	}
+
+	/**
+	 * Validates the linked resources of a cluster with {@link #validationThreads} workers and waits for them. Each
+	 * worker loads the resources into its own resource set that is cleared according to the clustering policy. The
+	 * index is shared with the workers, it is not modified before all of them are done. The issues are handled in the
+	 * order of the given resources once all of them have been validated.
+	 * 
+	 * Returns true if there was an error.
+	 */
+	private boolean validateInParallel(XtextResourceSet resourceSet, List<Resource> resources,
+			Collection<URI> sourceLevelURIs, IResourceClusteringPolicy strategy, ExecutorService validationExecutor) {
+		List<URI> uris = new ArrayList<>(resources.size());
+		for (Resource resource : resources) {
+			uris.add(resource.getURI());
+		}
+		ResourceDescriptionsData index = builderState.index;
+		Map<URI, List<Issue>> issues = new ConcurrentHashMap<>();
+		AtomicInteger nextIndex = new AtomicInteger();
+		int workerCount = Math.min(validationThreads, uris.size());
+		deferredIssues = issues;
+		try {
+			List<Future<?>> workers = new ArrayList<>(workerCount);
+			for (int i = 0; i < workerCount; i++) {
+				XtextResourceSet workerResourceSet = createValidationResourceSet(resourceSet, index, sourceLevelURIs);
+				workers.add(validationExecutor.submit(() -> {
+					try {
+						int clusterIndex = 0;
+						int next = nextIndex.getAndIncrement();
+						while (next < uris.size()) {
+							Resource resource = workerResourceSet.getResource(uris.get(next), true);
+							resource.getContents(); // fully initialize
+							EcoreUtil2.resolveLazyCrossReferences(resource, CancelIndicator.NullImpl);
+							validate(resource);
+							clusterIndex++;
+							if (!strategy.continueProcessing(workerResourceSet, null, clusterIndex)) {
+								clearResourceSet(workerResourceSet);
+								clusterIndex = 0;
+							}
+							next = nextIndex.getAndIncrement();
+						}
+					} finally {
+						clearResourceSet(workerResourceSet);
+					}
+				}));
+			}
+			for (Future<?> worker : workers) {
+				worker.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			throw Exceptions.sneakyThrow(e.getCause());
+		} finally {
+			deferredIssues = null;
+		}
+		boolean hasValidationErrors = false;
+		for (Resource resource : resources) {
+			List<Issue> validationResult = issues.get(resource.getURI());
+			if (validationResult != null) {
+				hasValidationErrors = handleIssues(resource, validationResult) || hasValidationErrors;
+			}
+		}
+		return hasValidationErrors;
+	}
+
+	/**
+	 * Creates a resource set for a validation worker. It shares the type provider configuration and the source
+	 * level URIs of the given resource set and uses the given index, but it has its own JvmTypes.
+	 */
+	protected XtextResourceSet createValidationResourceSet(XtextResourceSet resourceSet, ResourceDescriptionsData index,
+			Collection<URI> sourceLevelURIs) {
+		XtextResourceSet result = resourceSetProvider.get();
+		Object classpathURIContext = resourceSet.getClasspathURIContext();
+		if (classpathURIContext instanceof ClassLoader) {
+			installTypeProvider((ClassLoader) classpathURIContext, result, jvmTypeAccess);
+		}
+		installIndex(result, index);
+		installSourceLevelURIs(result, sourceLevelURIs);
+		return result;
+	}
+
 	private String generateStubs(File stubsDirectory, Set<URI> changedSourceFiles,
 			Map<URI, IResourceDescription.Delta> allDeltas) {
 		if (stubsDirectory == null) {
@@ -322,7 +487,7 @@ public class StandaloneBuilder {
 		if (incremental) {
 			configuration.enableIncrementalCompilation(createTempDir("state"), event -> {
 				aggregateDeltas(event, allDeltas);
-			});
+			}, fileStatCache);
 		}
 		String stubsClasses = compileStubs(stubsDirectory);
 		if (incremental) {
@@ -336,12 +501,16 @@ public class StandaloneBuilder {
 		if (incremental) {
 			stateFile = new File(createTempDir("state"), "xtext.state");
 			builderState = StandaloneBuilderState.from(stateFile);
+			if (fileStatCaching) {
+				fileStatCache = FileStatCache.from(fileStatCacheFile(stateFile));
+				fileStatCache.setParanoid(paranoidHashing);
+			}
 			// Process the existing output folders and invalidate all cached
 			// data for source files
 			// that do not have their matching output anymore
-			builderState.processOutputDirectories(outputDirectories());
+			builderState.processOutputDirectories(outputDirectories(), fileStatCache);
 			if (stubsDirectory != null) {
-				builderState.processStubDirectory(stubsDirectory.getAbsolutePath());
+				builderState.processStubDirectory(stubsDirectory.getAbsolutePath(), fileStatCache);
 			}
 		} else {
 			stateFile = null;
@@ -487,20 +656,31 @@ public class StandaloneBuilder {
 	private boolean commitBuilderState(File stateFile, boolean hasValidationErrors) {
 		if (incremental) {
 			builderState.to(stateFile);
+			if (fileStatCache != null) {
+				fileStatCache.to(fileStatCacheFile(stateFile));
+			}
 			return builderState.processIssues(issueHandler) && !hasValidationErrors;
 		}
 		return !hasValidationErrors;
 	}
 
+	private File fileStatCacheFile(File stateFile) {
+		return new File(stateFile.getParentFile(), "files.stat");
+	}
+
 	protected IResourceDescription.Event indexResources(XtextResourceSet resourceSet,
 			Collection<URI> sourceResourceURIs, Collection<URI> libraryResourceURIs,
 			IResourceClusteringPolicy strategy) {
-		// TODO consider loading resources in parallel
 		compilerPhases.setIndexing(resourceSet, true);
 		try {
 			List<IResourceDescription.Delta> deltas = new ArrayList<>();
-			indexResources(resourceSet, strategy, sourceResourceURIs, false, deltas);
-			indexResources(resourceSet, strategy, libraryResourceURIs, true, deltas);
+			if (indexingThreads > 1) {
+				indexResourcesInParallel(resourceSet, strategy, sourceResourceURIs, false, deltas);
+				indexResourcesInParallel(resourceSet, strategy, libraryResourceURIs, true, deltas);
+			} else {
+				indexResources(resourceSet, strategy, sourceResourceURIs, false, deltas);
+				indexResources(resourceSet, strategy, libraryResourceURIs, true, deltas);
+			}
 			installIndex(resourceSet, builderState.index);
 			return new ResourceDescriptionChangeEvent(deltas);
 		} finally {
@@ -534,6 +714,106 @@ public class StandaloneBuilder {
 		}
 	}
 	
+	/**
+	 * Loads and describes the given resources with {@link #indexingThreads} workers. Each worker uses
+	 * its own resource set that is cleared according to the clustering policy. The descriptions are added
+	 * to the index in the order of the given URIs once all of them have been computed. The resources that
+	 * are still loaded by the workers are handed over to the given resource set afterwards.
+	 */
+	private void indexResourcesInParallel(XtextResourceSet resourceSet, IResourceClusteringPolicy strategy,
+			Collection<URI> resourceUris, boolean library, List<IResourceDescription.Delta> deltas) {
+		List<URI> uris = new ArrayList<>(resourceUris);
+		if (uris.isEmpty()) {
+			return;
+		}
+		IResourceDescription[] descriptions = new IResourceDescription[uris.size()];
+		AtomicInteger nextIndex = new AtomicInteger();
+		int workerCount = Math.min(indexingThreads, uris.size());
+		List<XtextResourceSet> workerResourceSets = new ArrayList<>(workerCount);
+		ExecutorService executor = Executors.newFixedThreadPool(workerCount,
+				new ThreadFactoryBuilder().setNameFormat("StandaloneBuilder-Indexer-%d").setDaemon(true).build());
+		try {
+			List<Future<XtextResourceSet>> workers = new ArrayList<>(workerCount);
+			for (int i = 0; i < workerCount; i++) {
+				workers.add(executor.submit(() -> {
+					XtextResourceSet workerResourceSet = createIndexingResourceSet(resourceSet);
+					int clusterIndex = 0;
+					int index = nextIndex.getAndIncrement();
+					while (index < descriptions.length) {
+						Resource resource = workerResourceSet.getResource(uris.get(index), true);
+						IResourceDescription description = resourceDescriptionManager(resource)
+								.getResourceDescription(resource);
+						descriptions[index] = new IndexResolvedResourceDescription(description, library);
+						clusterIndex++;
+						if (!strategy.continueProcessing(workerResourceSet, null, clusterIndex)) {
+							clearResourceSet(workerResourceSet);
+							clusterIndex = 0;
+						}
+						index = nextIndex.getAndIncrement();
+					}
+					return workerResourceSet;
+				}));
+			}
+			for (Future<XtextResourceSet> worker : workers) {
+				workerResourceSets.add(worker.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			throw Exceptions.sneakyThrow(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+		for (int i = 0; i < descriptions.length; i++) {
+			URI uri = uris.get(i);
+			IResourceDescription oldDescription = builderState.index.getResourceDescription(uri);
+			IResourceDescription newDescription = descriptions[i];
+			builderState.index.addDescription(uri, newDescription);
+			deltas.add(resourceDescriptionManager(uri).createDelta(oldDescription, newDescription));
+		}
+		Set<URI> indexedURIs = new HashSet<>(uris);
+		for (XtextResourceSet workerResourceSet : workerResourceSets) {
+			adoptIndexedResources(resourceSet, workerResourceSet, indexedURIs, strategy);
+		}
+	}
+
+	/**
+	 * Moves the resources of an indexing worker with one of the given URIs into the resource set of the builder
+	 * as long as the clustering policy allows for it, thus they are not loaded again. All other resources of the
+	 * worker, e.g. its JvmTypes or a second copy of a resource, are unloaded. This turns the references of the
+	 * moved resources into proxies that are resolved against the resource set of the builder.
+	 */
+	private void adoptIndexedResources(XtextResourceSet resourceSet, XtextResourceSet workerResourceSet,
+			Set<URI> uris, IResourceClusteringPolicy strategy) {
+		int clusterIndex = resourceSet.getResources().size();
+		for (Resource resource : new ArrayList<>(workerResourceSet.getResources())) {
+			URI uri = resource.getURI();
+			workerResourceSet.getResources().remove(resource);
+			if (uris.contains(uri) && resourceSet.getResource(uri, false) == null
+					&& strategy.continueProcessing(resourceSet, null, clusterIndex)) {
+				resourceSet.getResources().add(resource);
+				clusterIndex++;
+			} else {
+				resource.unload();
+			}
+		}
+	}
+
+	/**
+	 * Creates a resource set for an indexing worker that shares the type provider configuration
+	 * of the given resource set.
+	 */
+	protected XtextResourceSet createIndexingResourceSet(XtextResourceSet resourceSet) {
+		XtextResourceSet result = resourceSetProvider.get();
+		Object classpathURIContext = resourceSet.getClasspathURIContext();
+		if (classpathURIContext instanceof ClassLoader) {
+			installTypeProvider((ClassLoader) classpathURIContext, result, null);
+		}
+		compilerPhases.setIndexing(result, true);
+		return result;
+	}
+
 	static class IndexResolvedResourceDescription extends ResolvedResourceDescription {
 
 		/**
@@ -680,10 +960,26 @@ public class StandaloneBuilder {
 	}
 
 	/**
-	 * Returns true if there was an error.
+	 * Returns true if there was an error. If the resource is validated by a
+	 * validation thread, the issues are handled later on and <code>false</code>
+	 * is returned.
 	 */
 	protected boolean validate(Resource resource) {
 		LOG.info("Validating: '" + resource.getURI().lastSegment() + "'");
+		IResourceValidator resourceValidator = languageAccess(resource.getURI()).getResourceValidator();
+		List<Issue> validationResult = resourceValidator.validate(resource, CheckMode.ALL, null);
+		Map<URI, List<Issue>> issues = deferredIssues;
+		if (issues != null) {
+			issues.put(resource.getURI(), validationResult);
+			return false;
+		}
+		return handleIssues(resource, validationResult);
+	}
+
+	/**
+	 * Returns true if there was an error.
+	 */
+	private boolean handleIssues(Resource resource, List<Issue> validationResult) {
 		IIssueHandler issueHandler;
 		if (incremental) {
 			issueHandler = (issues) -> {
@@ -698,8 +994,6 @@ public class StandaloneBuilder {
 		} else {
 			issueHandler = this.issueHandler;
 		}
-		IResourceValidator resourceValidator = languageAccess(resource.getURI()).getResourceValidator();
-		List<Issue> validationResult = resourceValidator.validate(resource, CheckMode.ALL, null);
 		return !issueHandler.handleIssue(validationResult);
 	}
 
@@ -782,7 +1076,14 @@ public class StandaloneBuilder {
 
 	protected void installTypeProvider(Iterable<String> classPathRoots, XtextResourceSet resSet,
 			IndexedJvmTypeAccess typeAccess) {
-		URLClassLoader classLoader = createURLClassLoader(classPathRoots);
+		installTypeProvider(createURLClassLoader(classPathRoots), resSet, typeAccess);
+	}
+
+	/**
+	 * @since 2.31
+	 */
+	protected void installTypeProvider(ClassLoader classLoader, XtextResourceSet resSet,
+			IndexedJvmTypeAccess typeAccess) {
 		new ClasspathTypeProvider(classLoader, resSet, typeAccess, null);
 		resSet.setClasspathURIContext(classLoader);
 	}
@@ -988,4 +1289,44 @@ public class StandaloneBuilder {
 	public void setClusteringConfig(ClusteringConfig clusteringConfig) {
 		this.clusteringConfig = clusteringConfig;
 	}
+
+	public int getIndexingThreads() {
+		return indexingThreads;
+	}
+
+	public void setIndexingThreads(int indexingThreads) {
+		this.indexingThreads = indexingThreads;
+	}
+
+	public int getValidationThreads() {
+		return validationThreads;
+	}
+
+	public void setValidationThreads(int validationThreads) {
+		this.validationThreads = validationThreads;
+	}
+
+	public boolean isFileStatCaching() {
+		return fileStatCaching;
+	}
+
+	public void setFileStatCaching(boolean fileStatCaching) {
+		this.fileStatCaching = fileStatCaching;
+	}
+
+	public boolean isParanoidHashing() {
+		return paranoidHashing;
+	}
+
+	public void setParanoidHashing(boolean paranoidHashing) {
+		this.paranoidHashing = paranoidHashing;
+	}
+
+	public File getArchiveHashCacheDirectory() {
+		return archiveHashCacheDirectory;
+	}
+
+	public void setArchiveHashCacheDirectory(File archiveHashCacheDirectory) {
+		this.archiveHashCacheDirectory = archiveHashCacheDirectory;
+	}
 }
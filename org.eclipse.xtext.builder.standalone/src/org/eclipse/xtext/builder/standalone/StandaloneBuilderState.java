@@ -9,29 +9,32 @@
 package org.eclipse.xtext.builder.standalone;
 
 import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 import org.apache.log4j.Logger;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.URIConverter;
 import org.eclipse.xtext.builder.standalone.incremental.BinaryFileHashing;
+import org.eclipse.xtext.builder.standalone.incremental.FileStatCache;
 import org.eclipse.xtext.builder.standalone.incremental.ExtendedEObjectInputStream;
 import org.eclipse.xtext.builder.standalone.incremental.ExtendedEObjectOutputStream;
 import org.eclipse.xtext.diagnostics.Severity;
@@ -55,7 +58,6 @@ import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import com.google.common.io.ByteStreams;
-import com.google.common.io.CountingOutputStream;
 import com.google.common.io.Files;
 
 class StandaloneBuilderState {
@@ -65,7 +67,37 @@ class StandaloneBuilderState {
 
 	private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128(0);
 
-	private static final int SERIALIZATION_VERSION = 1;
+	/**
+	 * The state file starts with a header that holds the magic number, the
+	 * serialization version and an offset table with the position and length of
+	 * each section. The sections are not compressed so they can be mapped into
+	 * memory and decoded independently.
+	 */
+	private static final int MAGIC = 0x58534253;
+
+	private static final int SERIALIZATION_VERSION = 2;
+
+	/**
+	 * The library hash and the file maps.
+	 */
+	private static final int STATE_SECTION = 0;
+
+	/**
+	 * A table with offset, length of the exported objects and total length of
+	 * each resource description record, followed by the records.
+	 */
+	private static final int DESCRIPTIONS_SECTION = 1;
+
+	private static final int ISSUES_SECTION = 2;
+
+	private static final int SECTION_COUNT = 3;
+
+	private static final int HEADER_SIZE = 8 + SECTION_COUNT * 16;
+
+	private static final int DESCRIPTION_ENTRY_SIZE = 12;
+
+	// Windows does not allow to replace a file that is mapped into memory
+	private static final boolean MAP_STATE_FILE = File.separatorChar != '\\';
 
 	private static final int HASH_CODE = 0;
 	private static final int PATH = 1;
@@ -92,10 +124,16 @@ class StandaloneBuilderState {
 
 	final Map<IPath, URI> stubToInputFile = new HashMap<>();
 
-	final Multimap<URI, Issue> issues = TreeMultimap.create(Comparator.comparing(Object::toString),
+	private final Multimap<URI, Issue> issues = TreeMultimap.create(Comparator.comparing(Object::toString),
 			Comparator.comparingInt(Issue::getLineNumber).thenComparingInt(Issue::getColumn)
 					.thenComparing(Issue::getMessage).thenComparing(Issue::hashCode));
 
+	/**
+	 * The issues section of the state file as long as the issues were not
+	 * decoded.
+	 */
+	private ByteBuffer pendingIssues;
+
 	StandaloneBuilderState() {
 		index = new ResourceDescriptionsData(new ArrayList<>());
 	}
@@ -112,17 +150,17 @@ class StandaloneBuilderState {
 	// files are outdated
 	// which effectively treats them as new files when sourceChanges are
 	// collected
-	void processOutputDirectories(Set<String> outputFolders) {
+	void processOutputDirectories(Set<String> outputFolders, FileStatCache fileStatCache) {
 		Map<IPath, HashCode> currentOutputFiles = new HashMap<>();
 		for (String directory : outputFolders) {
-			BinaryFileHashing.processDirectory(directory, currentOutputFiles, null);
+			BinaryFileHashing.processDirectory(directory, currentOutputFiles, null, fileStatCache);
 		}
 		syncOutputFiles(this.outputFiles, currentOutputFiles);
 	}
 
-	void processStubDirectory(String stubDirectory) {
+	void processStubDirectory(String stubDirectory, FileStatCache fileStatCache) {
 		Map<IPath, HashCode> currentStubFiles = new HashMap<>();
-		BinaryFileHashing.processDirectory(stubDirectory, currentStubFiles, ".java");
+		BinaryFileHashing.processDirectory(stubDirectory, currentStubFiles, ".java", fileStatCache);
 		syncOutputFiles(this.stubFiles, currentStubFiles);
 	}
 
@@ -192,7 +230,7 @@ class StandaloneBuilderState {
 				deltas.add(new DefaultResourceDescriptionDelta(oldDescription, null));
 				index.removeDescription(removed);
 			}
-			issues.removeAll(removed);
+			getIssues().removeAll(removed);
 			processRemovedFiles(removed, inputToOutputFiles, outputToInputFile, outputFiles);
 			processRemovedFiles(removed, inputToStubFiles, stubToInputFile, stubFiles);
 		}
@@ -230,13 +268,25 @@ class StandaloneBuilderState {
 		return hasher.hash();
 	}
 
+	Multimap<URI, Issue> getIssues() {
+		if (pendingIssues != null) {
+			try {
+				readIssues(newInput(pendingIssues));
+			} catch (IOException e) {
+				LOG.error("Failed to read issues from compiler state.", e);
+			}
+			pendingIssues = null;
+		}
+		return issues;
+	}
+
 	void setIssues(URI resource, Iterable<Issue> issues) {
-		this.issues.replaceValues(resource, issues);
+		getIssues().replaceValues(resource, issues);
 	}
 
 	boolean processIssues(IIssueHandler issueHandler) {
 		boolean result = true;
-		for (Collection<Issue> issues : issues.asMap().values()) {
+		for (Collection<Issue> issues : getIssues().asMap().values()) {
 			if (!issueHandler.handleIssue(issues)) {
 				result = false;
 			}
@@ -249,11 +299,9 @@ class StandaloneBuilderState {
 		if (file.exists()) {
 			Stopwatch sw = Stopwatch.createStarted();
 			boolean failed = false;
-			try (BufferedInputStream buffy = new BufferedInputStream(
-					new GZIPInputStream(new BufferedInputStream(new FileInputStream(file))))) {
-				ExtendedEObjectInputStream in = new ExtendedEObjectInputStream(buffy, 128);
-				result.read(in);
-			} catch (IOException e) {
+			try {
+				result.read(readFile(file));
+			} catch (IOException | RuntimeException e) {
 				failed = true;
 				LOG.error("Failed to read compiler state.", e);
 			} finally {
@@ -267,15 +315,29 @@ class StandaloneBuilderState {
 		return result;
 	}
 
-	private void read(ExtendedEObjectInputStream in) throws IOException {
-		if (in.readCompressedInt() != SERIALIZATION_VERSION) {
+	private static ByteBuffer readFile(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (MAP_STATE_FILE) {
+				return channel.map(MapMode.READ_ONLY, 0, size);
+			}
+			ByteBuffer result = ByteBuffer.allocate((int) size);
+			while (result.hasRemaining() && channel.read(result) >= 0) {
+				// read fully
+			}
+			result.flip();
+			return result;
+		}
+	}
+
+	private void read(ByteBuffer buffer) throws IOException {
+		if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != SERIALIZATION_VERSION) {
 			libraryPathHash = HashCode.fromInt(0);
 			return;
 		}
+		ExtendedEObjectInputStream in = newInput(section(buffer, STATE_SECTION));
 		libraryPathHash = in.readHashCode();
 
-		readResourceDescriptions(in);
-		
 		readMap(in, sourceFiles, URI, URI.class, HASH_CODE, HashCode.class);
 		readMap(in, libraryFiles, URI, URI.class, HASH_CODE, HashCode.class);
 		readMap(in, outputFiles, PATH, IPath.class, HASH_CODE, HashCode.class);
@@ -284,10 +346,57 @@ class StandaloneBuilderState {
 		readMap(in, stubFiles, PATH, IPath.class, HASH_CODE, HashCode.class);
 		readMap(in, inputToStubFiles, URI, URI.class, PATHS, IPath[].class);
 		readMap(in, stubToInputFile, PATH, IPath.class, URI, URI.class);
-		
-		readIssues(in);
+
+		readResourceDescriptions(section(buffer, DESCRIPTIONS_SECTION));
+
+		pendingIssues = section(buffer, ISSUES_SECTION);
 	}
-	
+
+	private static ByteBuffer section(ByteBuffer buffer, int section) {
+		int entry = 8 + section * 16;
+		return slice(buffer, (int) buffer.getLong(entry), (int) buffer.getLong(entry + 8));
+	}
+
+	static ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+		ByteBuffer result = buffer.duplicate();
+		result.limit(offset + length);
+		result.position(offset);
+		return result.slice();
+	}
+
+	static ExtendedEObjectInputStream newInput(ByteBuffer buffer) throws IOException {
+		return new ExtendedEObjectInputStream(new ByteBufferInputStream(buffer.duplicate()), 128);
+	}
+
+	private static class ByteBufferInputStream extends InputStream {
+
+		private final ByteBuffer buffer;
+
+		ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (!buffer.hasRemaining()) {
+				return -1;
+			}
+			int count = Math.min(len, buffer.remaining());
+			buffer.get(b, off, count);
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return buffer.remaining();
+		}
+	}
+
 	private void readIssues(ExtendedEObjectInputStream input)
 			throws IOException {
 		int numberOfSources = input.readCompressedInt();
@@ -302,12 +411,12 @@ class StandaloneBuilderState {
 		}
 	}
 	
-	private void readResourceDescriptions(ExtendedEObjectInputStream input)
-			throws IOException {
-		int size = input.readCompressedInt();
-		while (size > 0) {
-			size--;
-			SerializableResourceDescription description = input.readResourceDescription();
+	private void readResourceDescriptions(ByteBuffer section) throws IOException {
+		int size = section.getInt(0);
+		for (int i = 0; i < size; i++) {
+			int entry = 4 + i * DESCRIPTION_ENTRY_SIZE;
+			ByteBuffer record = slice(section, section.getInt(entry), section.getInt(entry + 8));
+			MappedResourceDescription description = new MappedResourceDescription(record, section.getInt(entry + 4));
 			index.addDescription(description.getURI(), description);
 		}
 	}
@@ -322,46 +431,62 @@ class StandaloneBuilderState {
 			return;
 		}
 
-		long uncompressedCount = 0;
-		long compressedCount = 0;
-		try (CountingOutputStream baseOut = new CountingOutputStream(
-				new BufferedOutputStream(new FileOutputStream(file)));
-				CountingOutputStream countingOut = new CountingOutputStream(
-						new BufferedOutputStream(new GZIPOutputStream(baseOut)))) {
-
-			ExtendedEObjectOutputStream out = new ExtendedEObjectOutputStream(countingOut, 128);
-			out.writeCompressedInt(SERIALIZATION_VERSION);
-
-			out.writeHashCode(libraryPathHash);
-			
-			writeResourceDescriptions(out);
-
-			writeMap(out, sourceFiles, URI, HASH_CODE);
-			writeMap(out, libraryFiles, URI, HASH_CODE);
-			writeMap(out, outputFiles, PATH, HASH_CODE);
-			writeMap(out, inputToOutputFiles, URI, PATHS);
-			writeMap(out, outputToInputFile, PATH, URI);
-			writeMap(out, stubFiles, PATH, HASH_CODE);
-			writeMap(out, inputToStubFiles, URI, PATHS);
-			writeMap(out, stubToInputFile, PATH, URI);
-
-			writeIssues(out);
-			out.flush();
-			countingOut.flush();
-			countingOut.close();
-			compressedCount = baseOut.getCount();
-			uncompressedCount = countingOut.getCount();
+		// the current state file may still be mapped, thus it is replaced rather than overwritten
+		File tmpFile = new File(file.getPath() + ".tmp");
+		long size = 0;
+		try {
+			try (FileChannel channel = FileChannel.open(tmpFile.toPath(), StandardOpenOption.CREATE,
+					StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+				header.putInt(MAGIC);
+				header.putInt(SERIALIZATION_VERSION);
+				channel.position(HEADER_SIZE);
+				writeSection(channel, header, writeState());
+				writeSection(channel, header, writeResourceDescriptions());
+				writeSection(channel, header, writeIssues());
+				size = channel.position();
+				header.flip();
+				channel.write(header, 0);
+			}
+			java.nio.file.Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
 		} catch (IOException e) {
 			failed = true;
 			LOG.error("Failed to store compiler state.", e);
 		} finally {
 			if (!failed) {
-				LOG.trace("Stored compiler state in " + sw.elapsed(TimeUnit.MILLISECONDS) + "ms (" + uncompressedCount
-						+ " bytes compressed to " + compressedCount + " bytes).");
+				LOG.trace("Stored compiler state in " + sw.elapsed(TimeUnit.MILLISECONDS) + "ms (" + size + " bytes).");
 			}
 		}
 	}
 
+	private void writeSection(FileChannel channel, ByteBuffer header, List<ByteBuffer> content) throws IOException {
+		long offset = channel.position();
+		for (ByteBuffer buffer : content) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+		header.putLong(offset);
+		header.putLong(channel.position() - offset);
+	}
+
+	private List<ByteBuffer> writeState() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ExtendedEObjectOutputStream out = new ExtendedEObjectOutputStream(bytes, 128);
+		out.writeHashCode(libraryPathHash);
+
+		writeMap(out, sourceFiles, URI, HASH_CODE);
+		writeMap(out, libraryFiles, URI, HASH_CODE);
+		writeMap(out, outputFiles, PATH, HASH_CODE);
+		writeMap(out, inputToOutputFiles, URI, PATHS);
+		writeMap(out, outputToInputFile, PATH, URI);
+		writeMap(out, stubFiles, PATH, HASH_CODE);
+		writeMap(out, inputToStubFiles, URI, PATHS);
+		writeMap(out, stubToInputFile, PATH, URI);
+		out.flush();
+		return Collections.singletonList(ByteBuffer.wrap(bytes.toByteArray()));
+	}
+
 	private void writeMap(ExtendedEObjectOutputStream out, Map<?, ?> files, int keyMode, int valueMode)
 			throws IOException {
 		out.writeCompressedInt(files.size());
@@ -436,16 +561,61 @@ class StandaloneBuilderState {
 		}
 	}
 
-	private void writeResourceDescriptions(ExtendedEObjectOutputStream out) throws IOException {
-		out.writeCompressedInt(index.getAllURIs().size());
-		for (IResourceDescription description : FluentIterable.from(index.getAllResourceDescriptions())
-				.toSortedList(Comparator.comparing(rd -> rd.getURI().toString()))) {
-			if (description instanceof SerializableResourceDescription) {
-				out.writeResourceDescription((SerializableResourceDescription) description);
-			} else {
-				out.writeResourceDescription(SerializableResourceDescription.createCopy(description));
+	/**
+	 * Records of descriptions that were not modified since they were read are
+	 * copied, all others are encoded.
+	 */
+	private List<ByteBuffer> writeResourceDescriptions() throws IOException {
+		List<IResourceDescription> descriptions = FluentIterable.from(index.getAllResourceDescriptions())
+				.toSortedList(Comparator.comparing(rd -> rd.getURI().toString()));
+		List<ByteBuffer> result = new ArrayList<>(descriptions.size() + 1);
+		ByteBuffer table = ByteBuffer.allocate(4 + descriptions.size() * DESCRIPTION_ENTRY_SIZE);
+		result.add(table);
+		table.putInt(descriptions.size());
+		int offset = table.capacity();
+		for (IResourceDescription description : descriptions) {
+			ByteBuffer record = null;
+			int headLength = 0;
+			if (description instanceof MappedResourceDescription) {
+				record = ((MappedResourceDescription) description).getRecord();
+				headLength = ((MappedResourceDescription) description).getHeadLength();
+			}
+			if (record == null) {
+				SerializableResourceDescription serializable = description instanceof SerializableResourceDescription
+						? (SerializableResourceDescription) description
+						: SerializableResourceDescription.createCopy(description);
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				ExtendedEObjectOutputStream head = new ExtendedEObjectOutputStream(bytes, 128);
+				head.writeExportedObjects(serializable);
+				head.flush();
+				headLength = bytes.size();
+				ExtendedEObjectOutputStream tail = new ExtendedEObjectOutputStream(bytes, 128);
+				tail.writeReferencesAndImportedNames(serializable);
+				tail.flush();
+				record = ByteBuffer.wrap(bytes.toByteArray());
 			}
+			table.putInt(offset);
+			table.putInt(headLength);
+			table.putInt(record.remaining());
+			offset += record.remaining();
+			result.add(record);
+		}
+		table.flip();
+		return result;
+	}
+
+	/**
+	 * The issues section is copied if the issues were never accessed.
+	 */
+	private List<ByteBuffer> writeIssues() throws IOException {
+		if (pendingIssues != null) {
+			return Collections.singletonList(pendingIssues.duplicate());
 		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ExtendedEObjectOutputStream out = new ExtendedEObjectOutputStream(bytes, 128);
+		writeIssues(out);
+		out.flush();
+		return Collections.singletonList(ByteBuffer.wrap(bytes.toByteArray()));
 	}
 
 	private void writeIssues(ExtendedEObjectOutputStream out) throws IOException {
@@ -10,6 +10,7 @@ package org.eclipse.xtext.builder.standalone.compiler;
 
 import java.io.File;
 
+import org.eclipse.xtext.builder.standalone.incremental.FileStatCache;
 import org.eclipse.xtext.resource.IResourceDescription;
 
 /**
@@ -30,6 +31,8 @@ public class CompilerConfiguration {
 	
 	private IResourceDescription.Event.Listener eventListener;
 	
+	private FileStatCache fileStatCache;
+	
 	public String getSourceLevel() {
 		return sourceLevel;
 	}
@@ -78,14 +81,32 @@ public class CompilerConfiguration {
 		return eventListener;
 	}
 	
+	/**
+	 * @since 2.31
+	 */
+	public FileStatCache getFileStatCache() {
+		return fileStatCache;
+	}
+	
 	public void enableIncrementalCompilation(File compilerStateDirectory, IResourceDescription.Event.Listener eventListener) {
 		this.compilerStateDirectory = compilerStateDirectory;
 		this.eventListener = eventListener;
 	}
 	
+	/**
+	 * @param fileStatCache
+	 *            used to skip hashing unchanged class files, may be <code>null</code>.
+	 * @since 2.31
+	 */
+	public void enableIncrementalCompilation(File compilerStateDirectory, IResourceDescription.Event.Listener eventListener, FileStatCache fileStatCache) {
+		enableIncrementalCompilation(compilerStateDirectory, eventListener);
+		this.fileStatCache = fileStatCache;
+	}
+	
 	public void disableIncrementalCompilation() {
 		this.compilerStateDirectory = null;
 		this.eventListener = null;
+		this.fileStatCache = null;
 	}
 	
 }
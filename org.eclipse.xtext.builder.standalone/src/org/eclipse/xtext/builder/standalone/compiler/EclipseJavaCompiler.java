@@ -102,7 +102,8 @@ public class EclipseJavaCompiler implements IJavaCompiler {
 					false /* systemExit */, null /* options */, null);
 		} else {
 			LOG.info("Perform incremental compilation");
-			return new InternalIncrementalCompiler(getOutputWriter(), getErrorWriter(), stateDirectory, eventListener, classpathInfos);
+			return new InternalIncrementalCompiler(getOutputWriter(), getErrorWriter(), stateDirectory, eventListener, classpathInfos,
+					getConfiguration().getFileStatCache());
 		}
 	}
 
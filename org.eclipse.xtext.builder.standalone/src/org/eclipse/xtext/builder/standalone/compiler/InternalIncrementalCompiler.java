@@ -39,6 +39,7 @@ import org.eclipse.jdt.internal.compiler.batch.Main;
 import org.eclipse.jdt.internal.compiler.util.SuffixConstants;
 import org.eclipse.jdt.internal.core.builder.ReferenceCollection;
 import org.eclipse.xtext.builder.standalone.incremental.BinaryFileHashing;
+import org.eclipse.xtext.builder.standalone.incremental.FileStatCache;
 import org.eclipse.xtext.builder.standalone.incremental.ClasspathEntryHash;
 import org.eclipse.xtext.builder.standalone.incremental.ClasspathEntryHashVisitor;
 import org.eclipse.xtext.builder.standalone.incremental.ClasspathInfos;
@@ -64,6 +65,7 @@ class InternalIncrementalCompiler extends Main {
 	private final Map<IPath, CompilationUnit> remainingCompilationUnits;
 	private final IResourceDescription.Event.Listener eventListener;
 	private final ClasspathInfos classpathInfos;
+	private final FileStatCache fileStatCache;
 
 	private boolean fullBuild = false;
 	private CompilationUnit[] toCompile;
@@ -79,12 +81,13 @@ class InternalIncrementalCompiler extends Main {
 	private Stopwatch rootStopwatch;
 
 	InternalIncrementalCompiler(Writer outputWriter, Writer errorWriter, File stateDirectory,
-			IResourceDescription.Event.Listener eventListener, ClasspathInfos classpathInfos) {
+			IResourceDescription.Event.Listener eventListener, ClasspathInfos classpathInfos, FileStatCache fileStatCache) {
 		super(new PrintWriter(outputWriter), new PrintWriter(errorWriter),
 				false /* systemExit */, null /* options */, null);
 		this.stateDirectory = stateDirectory;
 		this.eventListener = eventListener;
 		this.classpathInfos = classpathInfos;
+		this.fileStatCache = fileStatCache;
 		this.remainingCompilationUnits = new HashMap<>();
 		this.qualifiedNames = new HashSet<>(3);
 		this.simpleNames = new HashSet<>(3);
@@ -450,9 +453,9 @@ class InternalIncrementalCompiler extends Main {
 		return result;
 	}
 
-	private static void processOutputDirectory(String directory, Map<IPath, HashCode> result) {
+	private void processOutputDirectory(String directory, Map<IPath, HashCode> result) {
 		LOG.debug("Scanning class directory " + directory);
-		BinaryFileHashing.processDirectory(directory, result, ".class");
+		BinaryFileHashing.processDirectory(directory, result, ".class", fileStatCache);
 	}
 
 	@Override
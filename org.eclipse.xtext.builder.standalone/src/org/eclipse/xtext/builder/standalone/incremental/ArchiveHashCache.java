@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.builder.standalone.incremental;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import org.apache.log4j.Logger;
+
+import com.google.common.hash.HashCode;
+
+/**
+ * An on-disk cache for the hashes of archives on the class path that can be shared by all builds on a machine.
+ *
+ * Each hash is stored in its own file. The name of the file is derived from the absolute path, the size and the
+ * modification time of the archive, thus a modified archive is hashed again and concurrent builds never see partially
+ * written entries. Archives that were modified shortly before they were hashed are not cached, since a later
+ * modification of the same size might not change their modification time.
+ *
+ * @since 2.31
+ */
+public class ArchiveHashCache {
+
+	private static final Logger LOG = Logger.getLogger(ArchiveHashCache.class);
+
+	/**
+	 * Archives that were modified within this many milliseconds before they were hashed are not cached. This covers
+	 * the timestamp granularity of the common file systems.
+	 */
+	private static final long RACY_INTERVAL = 2000;
+
+	private final File directory;
+
+	public ArchiveHashCache(File directory) {
+		this.directory = directory;
+	}
+
+	public File getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Returns the cached hash of the given archive or <code>null</code> if it was not hashed before in its current
+	 * state.
+	 */
+	public HashCode get(File archive) {
+		File entry = entry(archive);
+		if (!entry.isFile()) {
+			return null;
+		}
+		try {
+			byte[] bytes = Files.readAllBytes(entry.toPath());
+			if (bytes.length == BinaryFileHashing.hashFunction().bits() / Byte.SIZE) {
+				return HashCode.fromBytes(bytes);
+			}
+		} catch (IOException e) {
+			LOG.debug("Failed to read cached hash " + entry.getAbsolutePath(), e);
+		}
+		return null;
+	}
+
+	/**
+	 * Caches the hash of the given archive. The hash is only cached if the archive was not modified within the
+	 * timestamp granularity of the file system before the given time in milliseconds, when hashing started.
+	 */
+	public void put(File archive, HashCode hash, long hashedAt) {
+		if (hash.equals(BinaryFileHashing.unknownHashCode()) || hashedAt - archive.lastModified() < RACY_INTERVAL) {
+			return;
+		}
+		File entry = entry(archive);
+		try {
+			File parent = entry.getParentFile();
+			Files.createDirectories(parent.toPath());
+			File tmp = File.createTempFile(entry.getName(), ".tmp", parent);
+			try {
+				Files.write(tmp.toPath(), hash.asBytes());
+				try {
+					Files.move(tmp.toPath(), entry.toPath(), StandardCopyOption.ATOMIC_MOVE);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(tmp.toPath(), entry.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				}
+			} finally {
+				tmp.delete();
+			}
+		} catch (IOException e) {
+			LOG.debug("Failed to write cached hash " + entry.getAbsolutePath(), e);
+		}
+	}
+
+	private File entry(File archive) {
+		String key = BinaryFileHashing.hashFunction().newHasher()
+				.putString(archive.getAbsolutePath(), StandardCharsets.UTF_8)
+				.putLong(archive.length())
+				.putLong(archive.lastModified())
+				.hash().toString();
+		return new File(new File(directory, key.substring(0, 2)), key.substring(2));
+	}
+
+}
@@ -29,9 +29,21 @@ public class BinaryFileHashing {
 	private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128(0);
 	
 	public static void processDirectory(String directory, Map<IPath, HashCode> result, String fileExtension) {
+		processDirectory(directory, result, fileExtension, null);
+	}
+	
+	/**
+	 * Hashes all files in the given directory. Files that did not change according to the given {@code fileStats} are
+	 * not read again.
+	 * 
+	 * @param fileStats
+	 *            the cache of previously computed hashes, may be <code>null</code>.
+	 * @since 2.31
+	 */
+	public static void processDirectory(String directory, Map<IPath, HashCode> result, String fileExtension, FileStatCache fileStats) {
 		Files.fileTraverser().breadthFirst(new File(directory)).forEach(file -> {
 			if (file.isFile() && (fileExtension == null || file.getName().endsWith(fileExtension))) {
-				processFile(file, result::put);
+				result.put(new Path(file.getAbsolutePath()), processFile(file, fileStats));
 			}
 		});
 	}
@@ -40,6 +52,18 @@ public class BinaryFileHashing {
 		result.accept(new Path(file.getAbsolutePath()), processFile(file));
 	}
 	
+	/**
+	 * @param fileStats
+	 *            the cache of previously computed hashes, may be <code>null</code>.
+	 * @since 2.31
+	 */
+	public static HashCode processFile(File file, FileStatCache fileStats) {
+		if (fileStats != null) {
+			return fileStats.hash(file);
+		}
+		return processFile(file);
+	}
+	
 	public static HashCode processFile(File file) {
 		try {
 			HashCode hash = Files.asByteSource(file).hash(HASH_FUNCTION);
@@ -32,6 +32,8 @@ public class ClasspathInfos {
 
 	private ConcurrentHashMap<IPath, ClasspathEntryHash> classpathEntries = new ConcurrentHashMap<>();
 
+	private volatile ArchiveHashCache archiveHashCache;
+
 	public ClasspathEntryHash hashClassesOrJar(IPath classpathEntry) {
 		return classpathEntries.computeIfAbsent(classpathEntry, any -> {
 			File classpathEntryAsFile = classpathEntry.toFile();
@@ -45,11 +47,26 @@ public class ClasspathInfos {
 						return new CoarseGrainedEntryHash(hash);
 					}
 				}
+				ArchiveHashCache cache = archiveHashCache;
+				if (cache != null) {
+					HashCode hash = cache.get(classpathEntryAsFile);
+					if (hash != null) {
+						BinaryFileHashing.LOG.trace("Reused hash " + hash + " of file " + classpathEntryAsFile.getName());
+						return new CoarseGrainedEntryHash(hash);
+					}
+				}
+				long hashedAt = System.currentTimeMillis();
+				HashCode hash;
 				File mavenSha1 = classpathEntry.addFileExtension("sha1").toFile();
 				if (mavenSha1.isFile()) {
-					return new CoarseGrainedEntryHash(BinaryFileHashing.processFile(mavenSha1));
+					hash = BinaryFileHashing.processFile(mavenSha1);
+				} else {
+					hash = BinaryFileHashing.processFile(classpathEntryAsFile);
+				}
+				if (cache != null) {
+					cache.put(classpathEntryAsFile, hash, hashedAt);
 				}
-				return new CoarseGrainedEntryHash(BinaryFileHashing.processFile(classpathEntryAsFile));
+				return new CoarseGrainedEntryHash(hash);
 			}
 			Map<IPath, HashCode> classHashes = new HashMap<>();
 			Files.fileTraverser().breadthFirst(classpathEntryAsFile).forEach(file -> {
@@ -67,6 +84,23 @@ public class ClasspathInfos {
 		});
 	}
 
+	/**
+	 * Hashes of archives are looked up in and added to the given cache, may be <code>null</code>. Directories are
+	 * always hashed on a per class basis since their modification time does not reflect changes of their contents.
+	 * 
+	 * @since 2.31
+	 */
+	public void setArchiveHashCache(ArchiveHashCache archiveHashCache) {
+		this.archiveHashCache = archiveHashCache;
+	}
+
+	/**
+	 * @since 2.31
+	 */
+	public ArchiveHashCache getArchiveHashCache() {
+		return archiveHashCache;
+	}
+
 	@VisibleForTesting
 	public void clear() {
 		classpathEntries.clear();
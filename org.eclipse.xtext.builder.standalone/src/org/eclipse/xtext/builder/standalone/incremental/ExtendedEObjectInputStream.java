@@ -86,11 +86,29 @@ public class ExtendedEObjectInputStream extends EObjectInputStream {
 	
 	public SerializableResourceDescription readResourceDescription() throws IOException {
 		SerializableResourceDescription result = new SerializableResourceDescription();
+		readExportedObjects(result);
+		readReferencesAndImportedNames(result);
+		return result;
+	}
+
+	/**
+	 * Reads the URI and the exported objects into the given description.
+	 * 
+	 * @since 2.31
+	 */
+	public void readExportedObjects(SerializableResourceDescription result) throws IOException {
 		result.setURI(readURI());
 		result.setDescriptions(readEObjectDescriptions());
+	}
+
+	/**
+	 * Reads the references and the imported names into the given description.
+	 * 
+	 * @since 2.31
+	 */
+	public void readReferencesAndImportedNames(SerializableResourceDescription result) throws IOException {
 		result.setReferences(readReferenceDescriptions());
 		result.setImportedNames(readImportedNames());
-		return result;
 	}
 
 	protected List<SerializableEObjectDescription> readEObjectDescriptions()
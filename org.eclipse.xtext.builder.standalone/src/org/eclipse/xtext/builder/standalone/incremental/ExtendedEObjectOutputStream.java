@@ -87,8 +87,26 @@ public class ExtendedEObjectOutputStream extends EObjectOutputStream {
 	}
 
 	public void writeResourceDescription(SerializableResourceDescription description) throws IOException {
+		writeExportedObjects(description);
+		writeReferencesAndImportedNames(description);
+	}
+
+	/**
+	 * Writes the URI and the exported objects of the given description.
+	 * 
+	 * @since 2.31
+	 */
+	public void writeExportedObjects(SerializableResourceDescription description) throws IOException {
 		writeURI(description.getURI());
 		writeEObjectDescriptions(description);
+	}
+
+	/**
+	 * Writes the references and the imported names of the given description.
+	 * 
+	 * @since 2.31
+	 */
+	public void writeReferencesAndImportedNames(SerializableResourceDescription description) throws IOException {
 		writeReferenceDescriptions(description);
 		writeImportedNames(description);
 	}
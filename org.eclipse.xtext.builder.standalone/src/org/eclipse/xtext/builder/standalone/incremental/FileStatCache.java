@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.builder.standalone.incremental;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Logger;
+
+import com.google.common.hash.HashCode;
+
+/**
+ * Remembers the hash of a file together with its size, modification time and file key (the inode on most unix file
+ * systems). As long as this metadata did not change, the file is not read again but the remembered hash is used.
+ *
+ * Files that were modified shortly before they were hashed are not remembered, since a subsequent modification may
+ * not be observable in their modification time. In paranoid mode, all files are hashed and a warning is logged if the
+ * metadata of a file did not change but its contents did.
+ *
+ * Only the files that were hashed in the current build are stored again.
+ *
+ * @since 2.31
+ */
+public class FileStatCache {
+
+	private static final Logger LOG = Logger.getLogger(FileStatCache.class);
+
+	private static final int SERIALIZATION_VERSION = 1;
+
+	/**
+	 * Files that were modified within this many milliseconds before they were hashed are not remembered. This covers
+	 * the timestamp granularity of the common file systems.
+	 */
+	private static final long RACY_INTERVAL = 2000;
+
+	private final Map<String, FileStat> previous;
+
+	private final Map<String, FileStat> current = new ConcurrentHashMap<>();
+
+	private boolean paranoid;
+
+	public FileStatCache() {
+		this(new ConcurrentHashMap<>());
+	}
+
+	private FileStatCache(Map<String, FileStat> previous) {
+		this.previous = previous;
+	}
+
+	public static FileStatCache from(File file) {
+		Map<String, FileStat> previous = new ConcurrentHashMap<>();
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (input.readInt() == SERIALIZATION_VERSION) {
+				int size = input.readInt();
+				for (int i = 0; i < size; i++) {
+					String path = input.readUTF();
+					long length = input.readLong();
+					long lastModified = input.readLong();
+					String fileKey = input.readBoolean() ? input.readUTF() : null;
+					byte[] hash = new byte[input.readUnsignedByte()];
+					input.readFully(hash);
+					previous.put(path, new FileStat(length, lastModified, fileKey, HashCode.fromBytes(hash)));
+				}
+			}
+		} catch (FileNotFoundException e) {
+			// nothing known yet
+		} catch (IOException | RuntimeException e) {
+			LOG.warn("Failed to read file stat cache " + file.getAbsolutePath() + ", all files will be hashed.");
+			previous.clear();
+		}
+		return new FileStatCache(previous);
+	}
+
+	public void to(File file) {
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			output.writeInt(SERIALIZATION_VERSION);
+			output.writeInt(current.size());
+			for (Map.Entry<String, FileStat> entry : current.entrySet()) {
+				FileStat stat = entry.getValue();
+				output.writeUTF(entry.getKey());
+				output.writeLong(stat.length);
+				output.writeLong(stat.lastModified);
+				output.writeBoolean(stat.fileKey != null);
+				if (stat.fileKey != null) {
+					output.writeUTF(stat.fileKey);
+				}
+				byte[] hash = stat.hash.asBytes();
+				output.writeByte(hash.length);
+				output.write(hash);
+			}
+		} catch (IOException e) {
+			LOG.warn("Failed to write file stat cache " + file.getAbsolutePath());
+			file.delete();
+		}
+	}
+
+	/**
+	 * Returns the hash of the given file. The file is only read if its metadata changed since it was hashed the last
+	 * time or if this cache is {@link #isParanoid() paranoid}.
+	 */
+	public HashCode hash(File file) {
+		String path = file.getAbsolutePath();
+		FileStat stat;
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+			Object fileKey = attributes.fileKey();
+			stat = new FileStat(attributes.size(), attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS),
+					fileKey != null ? fileKey.toString() : null, null);
+		} catch (IOException e) {
+			return BinaryFileHashing.processFile(file);
+		}
+		FileStat known = current.get(path);
+		if (known == null) {
+			known = previous.get(path);
+		}
+		boolean unchanged = known != null && known.matches(stat);
+		if (unchanged && !paranoid) {
+			current.put(path, known);
+			return known.hash;
+		}
+		long hashedAt = System.currentTimeMillis();
+		HashCode hash = BinaryFileHashing.processFile(file);
+		if (unchanged && !known.hash.equals(hash)) {
+			LOG.warn("The contents of " + path + " changed but its size, modification time and file key did not.");
+		}
+		if (hash.equals(BinaryFileHashing.unknownHashCode())
+				|| hashedAt - TimeUnit.NANOSECONDS.toMillis(stat.lastModified) < RACY_INTERVAL) {
+			current.remove(path);
+		} else {
+			current.put(path, new FileStat(stat.length, stat.lastModified, stat.fileKey, hash));
+		}
+		return hash;
+	}
+
+	/**
+	 * Whether all files are hashed regardless of their metadata.
+	 */
+	public boolean isParanoid() {
+		return paranoid;
+	}
+
+	public void setParanoid(boolean paranoid) {
+		this.paranoid = paranoid;
+	}
+
+	private static class FileStat {
+		final long length;
+		final long lastModified;
+		final String fileKey;
+		final HashCode hash;
+
+		FileStat(long length, long lastModified, String fileKey, HashCode hash) {
+			this.length = length;
+			this.lastModified = lastModified;
+			this.fileKey = fileKey;
+			this.hash = hash;
+		}
+
+		boolean matches(FileStat other) {
+			return length == other.length && lastModified == other.lastModified
+					&& Objects.equals(fileKey, other.fileKey);
+		}
+	}
+
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.access.binary;
+
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.JvmMember;
+import org.eclipse.xtext.common.types.access.binary.asm.ClassFileBytesAccess;
+import org.eclipse.xtext.common.types.access.binary.asm.JvmDeclaredTypeBuilder;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+public class JdkClassFilesTest extends Assert {
+
+	private final ClassLoader classLoader = getClass().getClassLoader();
+
+	@Test
+	public void testRuntime() {
+		JdkClassFiles runtime = JdkClassFiles.getRuntime();
+		Assume.assumeNotNull(runtime);
+		assertEquals(Runtime.version().feature(), runtime.getRelease());
+		assertTrue(runtime.isJdkPackage("java.lang"));
+		assertFalse(runtime.isJdkPackage("org.eclipse.xtext.common.types.access.binary"));
+		assertTrue(runtime.contains("java.util.Map$Entry"));
+		assertFalse(runtime.contains("java.lang.DoesNotExist"));
+		byte[] bytes = runtime.getBytes("java.lang.String");
+		assertEquals(0xCAFEBABE, ((bytes[0] & 0xFF) << 24) | ((bytes[1] & 0xFF) << 16) | ((bytes[2] & 0xFF) << 8) | (bytes[3] & 0xFF));
+		assertNull(runtime.getBytes("java.lang.DoesNotExist"));
+	}
+
+	@Test
+	public void testOlderRelease() {
+		JdkClassFiles release = JdkClassFiles.forRelease(8);
+		Assume.assumeTrue(release != null && release.getRelease() == 8);
+		assertTrue(release.contains("java.lang.String"));
+		assertFalse(release.contains("java.lang.Module"));
+	}
+
+	@Test
+	public void testBinaryClassFinder() throws Exception {
+		JdkClassFiles runtime = JdkClassFiles.getRuntime();
+		Assume.assumeNotNull(runtime);
+		BinaryClassFinder finder = new BinaryClassFinder(classLoader, runtime);
+		BinaryClass entry = finder.forName("java.util.Map$Entry");
+		assertTrue(entry instanceof BinaryClass.Jdk);
+		assertEquals("java.util.Map", entry.getOutermostClassName());
+		assertTrue(finder.forName(getClass().getName()).getClass() == BinaryClass.class);
+		try {
+			finder.forName("java.lang.DoesNotExist");
+			fail();
+		} catch (ClassNotFoundException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testBuildType() throws Exception {
+		JdkClassFiles runtime = JdkClassFiles.getRuntime();
+		Assume.assumeNotNull(runtime);
+		BinaryClass map = new BinaryClassFinder(classLoader, runtime).forName("java.util.Map");
+		JvmDeclaredType type = new JvmDeclaredTypeBuilder(map, new ClassFileBytesAccess(), classLoader).buildType();
+		assertEquals("java.util.Map", type.getIdentifier());
+		boolean hasEntry = false;
+		for (JvmMember member : type.getMembers()) {
+			if ("java.util.Map$Entry".equals(member.getIdentifier())) {
+				hasEntry = true;
+			}
+		}
+		assertTrue(hasEntry);
+	}
+
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.access.binary.asm;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.JvmMember;
+import org.eclipse.xtext.common.types.access.binary.BinaryClass;
+import org.eclipse.xtext.common.types.impl.JvmDeclaredTypeImplCustom;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JvmDeclaredTypeBuilderTest extends Assert {
+
+	private final ClassLoader classLoader = getClass().getClassLoader();
+
+	private JvmDeclaredType buildType(Class<?> clazz, boolean lazyMembers) throws Exception {
+		BinaryClass binaryClass = BinaryClass.forName(clazz.getName(), classLoader);
+		return new JvmDeclaredTypeBuilder(binaryClass, new ClassFileBytesAccess(), classLoader, lazyMembers).buildType();
+	}
+
+	private List<String> getMemberIdentifiers(JvmDeclaredType type) {
+		List<String> result = new ArrayList<>();
+		for (JvmMember member : type.getMembers()) {
+			result.add(member.getIdentifier());
+			if (member instanceof JvmDeclaredType) {
+				result.addAll(getMemberIdentifiers((JvmDeclaredType) member));
+			}
+		}
+		return result;
+	}
+
+	@Test
+	public void testLazyMembersAreCreatedOnDemand() throws Exception {
+		JvmDeclaredType type = buildType(HashMap.class, true);
+		assertEquals("java.util.HashMap", type.getIdentifier());
+		assertFalse(type.getSuperTypes().isEmpty());
+		for (JvmMember member : ((JvmDeclaredTypeImplCustom) type).basicGetMembers()) {
+			assertTrue(member.getIdentifier(), member instanceof JvmDeclaredType);
+		}
+		assertTrue(type.findAllFeaturesByName("put").iterator().hasNext());
+	}
+
+	@Test
+	public void testLazyMembersEqualEagerMembers() throws Exception {
+		assertEquals(getMemberIdentifiers(buildType(HashMap.class, false)),
+				getMemberIdentifiers(buildType(HashMap.class, true)));
+	}
+
+	@Test
+	public void testNestedTypesAreInitializedConcurrently() throws Exception {
+		List<String> expected = getMemberIdentifiers(buildType(HashMap.class, false));
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			for (int i = 0; i < 20; i++) {
+				JvmDeclaredType type = buildType(HashMap.class, true);
+				List<Callable<Integer>> initializers = new ArrayList<>();
+				initializers.add(() -> type.getMembers().size());
+				for (JvmMember member : ((JvmDeclaredTypeImplCustom) type).basicGetMembers()) {
+					initializers.add(() -> ((JvmDeclaredType) member).getMembers().size());
+				}
+				for (Future<Integer> initialized : executor.invokeAll(initializers)) {
+					initialized.get();
+				}
+				assertEquals(expected, getMemberIdentifiers(type));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.access.binary.asm;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.eclipse.xtext.common.types.access.binary.BinaryClass;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * @author agent - Initial contribution and API
+ */
+public class SharedClassFileBytesTest extends Assert {
+
+	private final SharedClassFileBytes sharedBytes = new SharedClassFileBytes(SharedClassFileBytes.DEFAULT_MAXIMUM_BYTES);
+
+	@Test
+	public void testSharedBetweenClassLoaders() throws Exception {
+		URL jar = ImmutableList.class.getProtectionDomain().getCodeSource().getLocation();
+		try (URLClassLoader first = new URLClassLoader(new URL[] { jar }, null);
+				URLClassLoader second = new URLClassLoader(new URL[] { jar }, null)) {
+			BinaryClass clazz = BinaryClass.forName(ImmutableList.class.getName(), first);
+			byte[] bytes = new ClassFileBytesAccess(sharedBytes).getBytes(clazz);
+			assertArrayEquals(clazz.getBytes(), bytes);
+			assertEquals(1, sharedBytes.getStatistics().missCount());
+
+			BinaryClass other = BinaryClass.forName(ImmutableList.class.getName(), second);
+			assertSame(bytes, new ClassFileBytesAccess(sharedBytes).getBytes(other));
+			assertEquals(1, sharedBytes.getStatistics().hitCount());
+		}
+	}
+
+	@Test
+	public void testNotSharedByDefault() throws Exception {
+		BinaryClass clazz = BinaryClass.forName(ImmutableList.class.getName(), ImmutableList.class.getClassLoader());
+		long requests = SharedClassFileBytes.getDefault().getStatistics().requestCount();
+		assertArrayEquals(clazz.getBytes(), new ClassFileBytesAccess().getBytes(clazz));
+		assertEquals(requests, SharedClassFileBytes.getDefault().getStatistics().requestCount());
+	}
+
+	@Test
+	public void testChangedArchiveIsReadAgain() throws Exception {
+		File jar = Files.createTempFile("classes", ".jar").toFile();
+		try {
+			writeJar(jar, new byte[] { 1, 2, 3 });
+			jar.setLastModified(System.currentTimeMillis() - 60_000);
+			try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jar.toURI().toURL() }, null)) {
+				BinaryClass clazz = new BinaryClass("a.A", classLoader);
+				assertArrayEquals(new byte[] { 1, 2, 3 }, sharedBytes.getBytes(clazz));
+				assertArrayEquals(new byte[] { 1, 2, 3 }, sharedBytes.getBytes(clazz));
+				assertEquals(1, sharedBytes.getStatistics().missCount());
+			}
+			writeJar(jar, new byte[] { 4, 5, 6, 7 });
+			jar.setLastModified(System.currentTimeMillis());
+			Thread.sleep(SharedClassFileBytes.STAT_INTERVAL);
+			try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jar.toURI().toURL() }, null)) {
+				BinaryClass clazz = new BinaryClass("a.A", classLoader);
+				assertArrayEquals(new byte[] { 4, 5, 6, 7 }, sharedBytes.getBytes(clazz));
+				assertEquals(2, sharedBytes.getStatistics().missCount());
+			}
+		} finally {
+			sharedBytes.clear();
+			jar.delete();
+		}
+	}
+
+	@Test
+	public void testRuntimeClasses() throws Exception {
+		BinaryClass clazz = BinaryClass.forName(String.class.getName(), ClassLoader.getSystemClassLoader());
+		byte[] bytes = sharedBytes.getBytes(clazz);
+		assertArrayEquals(clazz.getBytes(), bytes);
+		assertSame(bytes, sharedBytes.getBytes(clazz));
+	}
+
+	@Test
+	public void testDirectoriesAreNotShared() throws Exception {
+		BinaryClass clazz = BinaryClass.forName(getClass().getName(), getClass().getClassLoader());
+		assertEquals("file", clazz.getClassFileURL().getProtocol());
+		assertArrayEquals(clazz.getBytes(), sharedBytes.getBytes(clazz));
+		assertEquals(0, sharedBytes.getStatistics().requestCount());
+	}
+
+	@Test
+	public void testMissingClass() {
+		BinaryClass clazz = new BinaryClass("does.not.Exist", getClass().getClassLoader());
+		assertNull(new ClassFileBytesAccess(sharedBytes).getBytes(clazz));
+	}
+
+	private void writeJar(File jar, byte[] classFile) throws IOException {
+		try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+			out.putNextEntry(new ZipEntry("a/A.class"));
+			out.write(classFile);
+			out.closeEntry();
+		}
+	}
+
+}
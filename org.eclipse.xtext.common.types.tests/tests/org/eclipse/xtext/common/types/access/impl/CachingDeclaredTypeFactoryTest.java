@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.access.impl;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.JvmOperation;
+import org.eclipse.xtext.common.types.access.binary.BinaryClass;
+import org.eclipse.xtext.common.types.access.binary.asm.ClassFileBytesAccess;
+import org.eclipse.xtext.common.types.access.impl.CachingDeclaredTypeFactory.EvictionPolicy;
+import org.eclipse.xtext.common.types.impl.JvmDeclaredTypeImplCustom;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Iterables;
+
+public class CachingDeclaredTypeFactoryTest extends Assert {
+
+	private final ClassLoader classLoader = getClass().getClassLoader();
+
+	private CachingDeclaredTypeFactory newFactory(EvictionPolicy evictionPolicy) {
+		return new CachingDeclaredTypeFactory(new DeclaredTypeFactory(new ClassFileBytesAccess(), classLoader),
+				evictionPolicy);
+	}
+
+	private JvmDeclaredType createType(CachingDeclaredTypeFactory factory, Class<?> clazz) throws Exception {
+		return factory.createType(BinaryClass.forName(clazz.getName(), classLoader));
+	}
+
+	@Test
+	public void testCopiesAreDelivered() throws Exception {
+		CachingDeclaredTypeFactory factory = newFactory(EvictionPolicy.unbounded());
+		JvmDeclaredType first = createType(factory, ArrayList.class);
+		JvmDeclaredType second = createType(factory, ArrayList.class);
+		assertNotSame(first, second);
+		assertEquals(first.getIdentifier(), second.getIdentifier());
+		assertEquals(first.getMembers().size(), second.getMembers().size());
+		CacheStats statistics = factory.getStatistics();
+		assertEquals(1, statistics.missCount());
+		assertEquals(1, statistics.hitCount());
+	}
+
+	@Test
+	public void testCopiesAreComplete() throws Exception {
+		CachingDeclaredTypeFactory factory = newFactory(EvictionPolicy.unbounded());
+		for (int i = 0; i < 2; i++) {
+			JvmDeclaredType type = createType(factory, AbstractMap.class);
+			assertTrue(Iterables.any(((JvmDeclaredTypeImplCustom) type).basicGetMembers(), JvmOperation.class::isInstance));
+			JvmDeclaredType nested = (JvmDeclaredType) Iterables.find(((JvmDeclaredTypeImplCustom) type).basicGetMembers(),
+					member -> "SimpleEntry".equals(member.getSimpleName()));
+			assertTrue(Iterables.any(((JvmDeclaredTypeImplCustom) nested).basicGetMembers(), JvmOperation.class::isInstance));
+		}
+	}
+
+	@Test
+	public void testMaximumEntries() throws Exception {
+		CachingDeclaredTypeFactory factory = newFactory(EvictionPolicy.maximumEntries(1));
+		createType(factory, ArrayList.class);
+		createType(factory, List.class);
+		assertEquals(1, factory.getSize());
+		assertEquals(1, factory.getStatistics().evictionCount());
+		assertEquals("java.util.ArrayList", createType(factory, ArrayList.class).getIdentifier());
+		assertEquals(3, factory.getStatistics().missCount());
+	}
+
+	private long getClassFileSize(Class<?> clazz) throws Exception {
+		return BinaryClass.forName(clazz.getName(), classLoader).getClassFileURL().openConnection().getContentLengthLong();
+	}
+
+	@Test
+	public void testMaximumRetainedBytes() throws Exception {
+		int serializable = CachingDeclaredTypeFactory.estimateRetainedBytes(getClassFileSize(Serializable.class));
+		int list = CachingDeclaredTypeFactory.estimateRetainedBytes(getClassFileSize(ArrayList.class));
+		assertTrue(serializable < list);
+
+		CachingDeclaredTypeFactory factory = newFactory(EvictionPolicy.maximumRetainedBytes(serializable + list - 1));
+		createType(factory, Serializable.class);
+		createType(factory, ArrayList.class);
+		assertEquals(1, factory.getStatistics().evictionCount());
+	}
+
+	@Test
+	public void testCopiesGetTheDefaultEstimate() throws Exception {
+		assertEquals(CachingDeclaredTypeFactory.estimateRetainedBytes(-1),
+				CachingDeclaredTypeFactory.estimateRetainedBytes(createType(newFactory(EvictionPolicy.unbounded()), ArrayList.class)));
+	}
+
+}
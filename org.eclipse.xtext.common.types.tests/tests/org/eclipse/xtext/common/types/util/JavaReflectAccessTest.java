@@ -8,10 +8,12 @@
  *******************************************************************************/
 package org.eclipse.xtext.common.types.util;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
@@ -136,6 +138,106 @@ public class JavaReflectAccessTest extends Assert {
 		assertEquals(field, getJavaReflectAccess().getField((JvmField) addMethod));
 	}
 
+	@Test public void testCachedMembers() throws Exception {
+		JavaReflectAccess javaReflectAccess = getJavaReflectAccess();
+		JvmOperation operation = (JvmOperation) findMember(Z.class, "plus");
+		Method method = javaReflectAccess.getMethod(operation);
+		assertSame(method, javaReflectAccess.getMethod(operation));
+		MethodHandle handle = javaReflectAccess.getMethodHandle(operation);
+		assertSame(handle, javaReflectAccess.getMethodHandle(operation));
+		javaReflectAccess.setClassLoader(new ClassLoader(getClass().getClassLoader()) {});
+		assertNotSame(handle, javaReflectAccess.getMethodHandle(operation));
+	}
+
+	@Test public void testGetMethodHandle_1() throws Throwable {
+		MethodHandle handle = getJavaReflectAccess().getMethodHandle((JvmOperation) findMember(Z.class, "plus"));
+		assertEquals(Long.valueOf(5L), (Object) handle.invokeExact((Object) new Z(2), new Object[] { 1L, 2 }));
+		assertEquals(Long.valueOf(5L), (Object) handle.invokeExact((Object) new Z(2), new Object[] { 1, (short) 2 }));
+	}
+
+	@Test public void testGetMethodHandle_2() throws Throwable {
+		MethodHandle handle = getJavaReflectAccess().getMethodHandle((JvmOperation) findMember(Z.class, "plus"));
+		try {
+			Object result = (Object) handle.invokeExact((Object) new Z(2), new Object[] { 1L, null });
+			fail("Unexpected result " + result);
+		} catch (JavaReflectAccess.ArgumentMismatchException e) {
+			// expected
+		}
+		try {
+			Object result = (Object) handle.invokeExact((Object) new Z(2), new Object[] { 1L, 2L });
+			fail("Unexpected result " + result);
+		} catch (JavaReflectAccess.ArgumentMismatchException e) {
+			// expected
+		}
+		try {
+			Object result = (Object) handle.invokeExact((Object) "receiver", new Object[] { 1L, 2 });
+			fail("Unexpected result " + result);
+		} catch (JavaReflectAccess.ArgumentMismatchException e) {
+			// expected
+		}
+	}
+
+	@Test public void testGetMethodHandle_3() throws Throwable {
+		MethodHandle handle = getJavaReflectAccess().getMethodHandle((JvmOperation) findMember(Z.class, "join"));
+		Object[] varArgs = new String[] { "a", "b" };
+		assertEquals("a,b", (Object) handle.invokeExact((Object) null, new Object[] { ",", varArgs }));
+	}
+
+	@Test public void testGetMethodHandle_4() throws Throwable {
+		MethodHandle handle = getJavaReflectAccess().getMethodHandle((JvmOperation) findMember(Z.class, "fail"));
+		try {
+			Object result = (Object) handle.invokeExact((Object) new Z(0), new Object[0]);
+			fail("Unexpected result " + result);
+		} catch (UnsupportedOperationException e) {
+			assertEquals("fail", e.getMessage());
+		}
+	}
+
+	@Test public void testGetConstructorHandle() throws Throwable {
+		JvmGenericType type = (JvmGenericType) getType(Z.class);
+		JvmConstructor constructor = type.getDeclaredConstructors().iterator().next();
+		MethodHandle handle = getJavaReflectAccess().getConstructorHandle(constructor);
+		Z z = (Z) (Object) handle.invokeExact(new Object[] { Short.valueOf((short) 3) });
+		assertEquals(3, z.count);
+	}
+
+	@Test public void testGetFieldHandles() throws Throwable {
+		JavaReflectAccess javaReflectAccess = getJavaReflectAccess();
+		JvmField countField = (JvmField) findMember(Z.class, "count");
+		Z z = new Z(1);
+		javaReflectAccess.getFieldSetter(countField).invokeExact((Object) z, (Object) 'b');
+		assertEquals(Integer.valueOf('b'), (Object) javaReflectAccess.getFieldGetter(countField).invokeExact((Object) z));
+
+		JvmField nameField = (JvmField) findMember(Z.class, "NAME");
+		assertEquals("Z", (Object) javaReflectAccess.getFieldGetter(nameField).invokeExact((Object) null));
+		assertNull(javaReflectAccess.getFieldSetter(nameField));
+	}
+
+	@Test public void testMissingHandlesAreCached() throws Throwable {
+		AtomicInteger lookups = new AtomicInteger();
+		JavaReflectAccess javaReflectAccess = new JavaReflectAccess() {
+			@Override
+			public Field getField(JvmField field) {
+				lookups.incrementAndGet();
+				return super.getField(field);
+			}
+		};
+		javaReflectAccess.setClassLoader(getClass().getClassLoader());
+		JvmField nameField = (JvmField) findMember(Z.class, "NAME");
+		assertNull(javaReflectAccess.getFieldSetter(nameField));
+		assertNull(javaReflectAccess.getFieldSetter(nameField));
+		assertEquals(1, lookups.get());
+	}
+
+	private JvmMember findMember(Class<?> declaringClass, String simpleName) {
+		return Iterables.find(getType(declaringClass).getMembers(), new Predicate<JvmMember>() {
+			@Override
+			public boolean apply(JvmMember input) {
+				return input.getSimpleName().equals(simpleName);
+			}
+		});
+	}
+
 	protected JavaReflectAccess getJavaReflectAccess() {
 		JavaReflectAccess javaReflectAccess = new JavaReflectAccess();
 		javaReflectAccess.setClassLoader(getClass().getClassLoader());
@@ -152,4 +254,21 @@ public class JavaReflectAccessTest extends Assert {
 	public static class Y<T extends Comparable<CharSequence>> {
 		T z;
 	}
+
+	public static class Z {
+		public static final String NAME = "Z";
+		int count;
+		public Z(int count) {
+			this.count = count;
+		}
+		public long plus(long a, int b) {
+			return a + b + count;
+		}
+		public static String join(String separator, String... parts) {
+			return String.join(separator, parts);
+		}
+		public void fail() {
+			throw new UnsupportedOperationException("fail");
+		}
+	}
 }
@@ -9,7 +9,9 @@
 package org.eclipse.xtext.common.types.access;
 
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.common.types.access.binary.JdkClassFiles;
 import org.eclipse.xtext.common.types.access.binary.asm.ClassFileBytesAccess;
+import org.eclipse.xtext.common.types.access.binary.asm.SharedClassFileBytes;
 import org.eclipse.xtext.common.types.access.impl.CachingClasspathTypeProvider;
 import org.eclipse.xtext.common.types.access.impl.CachingDeclaredTypeFactory;
 import org.eclipse.xtext.common.types.access.impl.ClasspathTypeProvider;
@@ -34,8 +36,20 @@ public class CachingClasspathTypeProviderFactory extends ClasspathTypeProviderFa
 	}
 
 	private CachingDeclaredTypeFactory newClassReaderTypeFactory(ClassLoader classLoader) {
-		DeclaredTypeFactory factoryDelegate = new DeclaredTypeFactory(new ClassFileBytesAccess(), classLoader);
-		return new CachingDeclaredTypeFactory(factoryDelegate);
+		DeclaredTypeFactory factoryDelegate = new DeclaredTypeFactory(
+				// the bytes of archives are shared between the factories of all class loaders
+				new ClassFileBytesAccess(SharedClassFileBytes.getDefault()), classLoader);
+		return new CachingDeclaredTypeFactory(factoryDelegate, getEvictionPolicy());
+	}
+
+	/**
+	 * Returns the policy that limits the number of cached types. Invoked during construction of this factory, thus
+	 * implementations must not rely on the state of subclasses.
+	 * 
+	 * @since 2.31
+	 */
+	protected CachingDeclaredTypeFactory.EvictionPolicy getEvictionPolicy() {
+		return CachingDeclaredTypeFactory.EvictionPolicy.softReferences();
 	}
 	
 	@Override
@@ -49,7 +63,9 @@ public class CachingClasspathTypeProviderFactory extends ClasspathTypeProviderFa
 				classLoader, 
 				resourceSet, 
 				getIndexedJvmTypeAccess(),
-				actualFactoryToUse, services);
+				actualFactoryToUse, services,
+				// the cached types are shared across releases, thus they are read from the runtime image
+				JdkClassFiles.getRuntime());
 	}
 	
 }
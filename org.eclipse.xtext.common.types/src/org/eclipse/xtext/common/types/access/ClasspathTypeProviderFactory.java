@@ -9,20 +9,34 @@
 package org.eclipse.xtext.common.types.access;
 
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.common.types.access.binary.JdkClassFiles;
 import org.eclipse.xtext.common.types.access.impl.ClasspathTypeProvider;
 import org.eclipse.xtext.common.types.access.impl.TypeResourceServices;
 import org.eclipse.xtext.resource.XtextResourceSet;
 
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
 
 /**
  * @author Sebastian Zarnekow - Initial contribution and API
  */
 public class ClasspathTypeProviderFactory extends AbstractTypeProviderFactory {
 
+	/**
+	 * The name of the optional binding for the Java release whose class files are used for the types of the JDK,
+	 * e.g. {@code 11}. Defaults to the release of the running JVM.
+	 * 
+	 * @since 2.31
+	 */
+	public static final String JDK_RELEASE = "ClasspathTypeProviderFactory_JdkRelease";
+
 	private final ClassLoader classLoader;
 	protected final TypeResourceServices services;
 	
+	@Inject(optional = true)
+	@Named(JDK_RELEASE)
+	private int jdkRelease;
+	
 	@Inject
 	public ClasspathTypeProviderFactory(ClassLoader classLoader, TypeResourceServices services) {
 		this.classLoader = classLoader;
@@ -38,7 +52,17 @@ public class ClasspathTypeProviderFactory extends AbstractTypeProviderFactory {
 	}
 
 	protected ClasspathTypeProvider createClasspathTypeProvider(ResourceSet resourceSet) {
-		return new ClasspathTypeProvider(getClassLoader(resourceSet), resourceSet, getIndexedJvmTypeAccess(), services);
+		return new ClasspathTypeProvider(getClassLoader(resourceSet), resourceSet, getIndexedJvmTypeAccess(), services, getJdkClassFiles());
+	}
+	
+	/**
+	 * Returns the class files of the JDK that are read without asking the class loader or <code>null</code> if they
+	 * are not available.
+	 * 
+	 * @since 2.31
+	 */
+	protected JdkClassFiles getJdkClassFiles() {
+		return jdkRelease > 0 ? JdkClassFiles.forRelease(jdkRelease) : JdkClassFiles.getRuntime();
 	}
 	
 	public ClassLoader getClassLoader(ResourceSet resourceSet) {
@@ -89,13 +89,22 @@ public class TypeResource extends ResourceImpl implements ISynchronizable<TypeRe
 		return super.basicSetResourceSet(resourceSet, notifications);
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * <p>Implementation detail: Proxies are resolved while holding the shared {@link #getLock() lock}
+	 * since the types of this resource are shared by all resources of the resource set, that may use
+	 * distinct locks.</p>
+	 */
 	@Override
 	public EObject getEObject(String uriFragment) {
-		if (mirror != null) {
-			EObject result = mirror.getEObject(this, uriFragment, fragmentProviderFallback);
-			return result;
+		synchronized (getLock()) {
+			if (mirror != null) {
+				EObject result = mirror.getEObject(this, uriFragment, fragmentProviderFallback);
+				return result;
+			}
+			return super.getEObject(uriFragment);
 		}
-		return super.getEObject(uriFragment);
 	}
 	
 	@Override
@@ -69,6 +69,18 @@ public class BinaryClass {
 		return name;
 	}
 
+	/**
+	 * Returns the location of the class file or <code>null</code> if it cannot be found.
+	 * 
+	 * @since 2.31
+	 */
+	public URL getClassFileURL() {
+		if (classLoader == null) {
+			return null;
+		}
+		return classLoader.getResource(toClassFile(name));
+	}
+
 	public byte[] getBytes() {
 		InputStream stream = null;
 		try {
@@ -288,4 +300,50 @@ public class BinaryClass {
 		}
 	}
 
+	/**
+	 * A class of the JDK whose bytes are read from the {@link JdkClassFiles} rather than from the class loader.
+	 *
+	 * @since 2.31
+	 */
+	public static class Jdk extends BinaryClass {
+
+		private final JdkClassFiles jdkClassFiles;
+
+		public Jdk(String binaryName, ClassLoader classLoader, JdkClassFiles jdkClassFiles) {
+			super(binaryName, classLoader);
+			this.jdkClassFiles = jdkClassFiles;
+		}
+
+		@Override
+		public String getOutermostClassName() {
+			String name = getName();
+			int dollar = name.indexOf('$', name.lastIndexOf('.') + 1);
+			while (dollar != -1) {
+				String outerName = name.substring(0, dollar);
+				if (jdkClassFiles.contains(outerName)) {
+					return outerName;
+				}
+				dollar = name.indexOf('$', dollar + 1);
+			}
+			return name;
+		}
+
+		/**
+		 * Returns the nested class with the given binary name, whose bytes are read from the same JDK.
+		 */
+		public Jdk createNestedClass(String binaryName) {
+			return new Jdk(binaryName, getClassLoader(), jdkClassFiles);
+		}
+
+		@Override
+		public URL getClassFileURL() {
+			return null;
+		}
+
+		@Override
+		public byte[] getBytes() {
+			return jdkClassFiles.getBytes(getName());
+		}
+	}
+
 }
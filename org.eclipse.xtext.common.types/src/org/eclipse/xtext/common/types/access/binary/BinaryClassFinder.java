@@ -33,12 +33,34 @@ public class BinaryClassFinder extends AbstractClassFinder<BinaryClass> {
 		}
 	}
 	
+	private final JdkClassFiles jdkClassFiles;
+	
 	public BinaryClassFinder(ClassLoader classLoader) {
+		this(classLoader, null);
+	}
+	
+	/**
+	 * @param jdkClassFiles
+	 *            the class files of the JDK, may be <code>null</code>. If given, the classes of the JDK are read from
+	 *            it rather than from the class loader. It is authoritative for the {@code java.*} packages which
+	 *            cannot be defined by other class loaders.
+	 * @since 2.31
+	 */
+	public BinaryClassFinder(ClassLoader classLoader, JdkClassFiles jdkClassFiles) {
 		super(classLoader, NULL_CLASS, new Cache());
+		this.jdkClassFiles = jdkClassFiles;
 	}
 
 	@Override
 	protected BinaryClass forName(String binaryName, ClassLoader classLoader) throws ClassNotFoundException {
+		if (jdkClassFiles != null && binaryName.charAt(0) != '[' && jdkClassFiles.isJdkClass(binaryName)) {
+			if (jdkClassFiles.contains(binaryName)) {
+				return new BinaryClass.Jdk(binaryName, classLoader, jdkClassFiles);
+			}
+			if (binaryName.startsWith("java.")) {
+				throw CACHED_EXCEPTION;
+			}
+		}
 		return BinaryClass.forName(binaryName, classLoader);
 	}
 
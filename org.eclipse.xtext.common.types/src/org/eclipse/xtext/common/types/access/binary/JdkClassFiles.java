@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.access.binary;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+import org.apache.log4j.Logger;
+
+/**
+ * <p>
+ * Reads the class files of the JDK directly from the runtime image of the running JVM ({@code jrt:/}) or, for older
+ * releases, from the {@code lib/ct.sym} file of the JDK. The class loader is not involved.
+ * </p>
+ * <p>
+ * The packages of a release are indexed once per process. Instances are immutable and may be used concurrently.
+ * </p>
+ *
+ * @since 2.31
+ */
+public class JdkClassFiles {
+
+	private static final Logger log = Logger.getLogger(JdkClassFiles.class);
+
+	private static volatile JdkClassFiles runtime;
+
+	private static final ConcurrentMap<Integer, JdkClassFiles> releases = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the class files of the running JVM or <code>null</code> if its runtime image cannot be read.
+	 */
+	public static JdkClassFiles getRuntime() {
+		JdkClassFiles result = runtime;
+		if (result == null) {
+			synchronized (JdkClassFiles.class) {
+				result = runtime;
+				if (result == null) {
+					result = runtime = loadRuntime();
+				}
+			}
+		}
+		return result == NOT_AVAILABLE ? null : result;
+	}
+
+	/**
+	 * Returns the class files of the given Java release. Falls back to the class files of the running JVM if the
+	 * release is not older than the running JVM or if it is not supported by its {@code ct.sym}.
+	 */
+	public static JdkClassFiles forRelease(int release) {
+		if (release >= Runtime.version().feature()) {
+			return getRuntime();
+		}
+		JdkClassFiles result = releases.computeIfAbsent(release, JdkClassFiles::loadRelease);
+		return result == NOT_AVAILABLE ? getRuntime() : result;
+	}
+
+	private static final JdkClassFiles NOT_AVAILABLE = new JdkClassFiles(0, Collections.emptyMap(), null);
+
+	private static JdkClassFiles loadRuntime() {
+		try {
+			FileSystem fileSystem = FileSystems.getFileSystem(URI.create("jrt:/"));
+			Map<String, List<Path>> packages = new HashMap<>();
+			try (DirectoryStream<Path> packageDirs = Files.newDirectoryStream(fileSystem.getPath("/packages"))) {
+				for (Path packageDir : packageDirs) {
+					String packageName = getName(packageDir);
+					List<Path> locations = new ArrayList<>(1);
+					try (DirectoryStream<Path> modules = Files.newDirectoryStream(packageDir)) {
+						for (Path module : modules) {
+							locations.add(fileSystem.getPath("/modules", getName(module), packageName.replace('.', '/')));
+						}
+					}
+					packages.put(packageName, locations);
+				}
+			}
+			return new JdkClassFiles(Runtime.version().feature(), packages, ".class");
+		} catch (IOException | RuntimeException e) {
+			log.warn("Cannot read the runtime image of the JVM", e);
+			return NOT_AVAILABLE;
+		}
+	}
+
+	private static JdkClassFiles loadRelease(int release) {
+		Path ctSym = Paths.get(System.getProperty("java.home"), "lib", "ct.sym");
+		if (!Files.isRegularFile(ctSym)) {
+			return NOT_AVAILABLE;
+		}
+		try {
+			// the file system stays open for the lifetime of the process, just like the runtime image
+			FileSystem fileSystem = FileSystems.newFileSystem(ctSym, (ClassLoader) null);
+			char releaseChar = Character.toUpperCase(Character.forDigit(release, Character.MAX_RADIX));
+			Map<String, List<Path>> packages = new HashMap<>();
+			for (Path root : fileSystem.getRootDirectories()) {
+				try (DirectoryStream<Path> releaseDirs = Files.newDirectoryStream(root)) {
+					for (Path releaseDir : releaseDirs) {
+						String name = getName(releaseDir);
+						if (name.indexOf('-') < 0 && name.indexOf(releaseChar) >= 0 && Files.isDirectory(releaseDir)) {
+							try (DirectoryStream<Path> children = Files.newDirectoryStream(releaseDir)) {
+								for (Path child : children) {
+									// newer JDKs group the packages by module, even for the releases prior to 9
+									if (getName(child).indexOf('.') >= 0) {
+										indexPackages(child, packages);
+									} else {
+										indexPackages(releaseDir, packages);
+										break;
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+			if (packages.isEmpty()) {
+				fileSystem.close();
+				return NOT_AVAILABLE;
+			}
+			return new JdkClassFiles(release, packages, ".sig");
+		} catch (IOException | RuntimeException e) {
+			log.warn("Cannot read the class files of release " + release + " from " + ctSym, e);
+			return NOT_AVAILABLE;
+		}
+	}
+
+	private static void indexPackages(Path packageRoot, Map<String, List<Path>> packages) throws IOException {
+		try (Stream<Path> files = Files.walk(packageRoot)) {
+			files.filter(file -> getName(file).endsWith(".sig")).map(Path::getParent).distinct().forEach(dir -> {
+				String packageName = packageRoot.relativize(dir).toString().replace(dir.getFileSystem().getSeparator(), ".");
+				List<Path> locations = packages.computeIfAbsent(packageName, key -> new ArrayList<>(1));
+				if (!locations.contains(dir)) {
+					locations.add(dir);
+				}
+			});
+		}
+	}
+
+	private static String getName(Path path) {
+		String result = path.getFileName().toString();
+		return result.endsWith("/") ? result.substring(0, result.length() - 1) : result;
+	}
+
+	private final int release;
+
+	/**
+	 * The directories that contain the class files by their dot separated package name.
+	 */
+	private final Map<String, List<Path>> packages;
+
+	private final String fileExtension;
+
+	protected JdkClassFiles(int release, Map<String, List<Path>> packages, String fileExtension) {
+		this.release = release;
+		this.packages = packages;
+		this.fileExtension = fileExtension;
+	}
+
+	/**
+	 * The Java release of the class files.
+	 */
+	public int getRelease() {
+		return release;
+	}
+
+	/**
+	 * Returns <code>true</code> if the given package belongs to the JDK. The JDK is authoritative for the classes of
+	 * these packages.
+	 *
+	 * @param packageName
+	 *            the dot separated name of the package.
+	 */
+	public boolean isJdkPackage(String packageName) {
+		return packages.containsKey(packageName);
+	}
+
+	/**
+	 * Returns <code>true</code> if the package of the given class belongs to the JDK.
+	 *
+	 * @param binaryName
+	 *            the binary name of a class, e.g. {@code java.util.Map$Entry}.
+	 */
+	public boolean isJdkClass(String binaryName) {
+		int lastDot = binaryName.lastIndexOf('.');
+		return lastDot > 0 && isJdkPackage(binaryName.substring(0, lastDot));
+	}
+
+	public boolean contains(String binaryName) {
+		return getClassFile(binaryName) != null;
+	}
+
+	/**
+	 * Returns the bytes of the given class or <code>null</code> if the class is not part of the JDK.
+	 */
+	public byte[] getBytes(String binaryName) {
+		Path classFile = getClassFile(binaryName);
+		if (classFile == null) {
+			return null;
+		}
+		try {
+			return Files.readAllBytes(classFile);
+		} catch (IOException e) {
+			throw new IllegalStateException("Cannot read bytes for " + binaryName, e);
+		}
+	}
+
+	private Path getClassFile(String binaryName) {
+		int lastDot = binaryName.lastIndexOf('.');
+		if (lastDot <= 0) {
+			return null;
+		}
+		List<Path> locations = packages.get(binaryName.substring(0, lastDot));
+		if (locations == null) {
+			return null;
+		}
+		String fileName = binaryName.substring(lastDot + 1) + fileExtension;
+		for (Path location : locations) {
+			Path result = location.resolve(fileName);
+			if (Files.isRegularFile(result)) {
+				return result;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[release=" + release + ", packages=" + packages.size() + "]";
+	}
+
+}
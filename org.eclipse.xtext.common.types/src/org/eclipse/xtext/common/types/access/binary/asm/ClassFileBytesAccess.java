@@ -21,6 +21,9 @@ import com.google.common.collect.Maps;
  * or parsing them again and again, a small struct with the necessary
  * information is cached.
  * 
+ * <p>Class files that are not yet known to this instance are obtained from
+ * a {@link SharedClassFileBytes shared cache} if one was given.</p>
+ * 
  * <p>It is not expected to be used concurrently.</p>
  * 
  * @author Sebastian Zarnekow - Initial contribution and API
@@ -35,8 +38,20 @@ public class ClassFileBytesAccess {
 	
 	private final byte[] notAvailable = new byte[0];
 
+	private final SharedClassFileBytes sharedBytes;
+
 	public ClassFileBytesAccess() {
+		this(null);
+	}
+
+	/**
+	 * @param sharedBytes
+	 *            the cache that is shared with other instances, may be <code>null</code>.
+	 * @since 2.31
+	 */
+	public ClassFileBytesAccess(SharedClassFileBytes sharedBytes) {
 		this.cache = createCache();
+		this.sharedBytes = sharedBytes;
 	}
 
 	protected HashMap<String, byte[]> createCache() {
@@ -54,7 +69,7 @@ public class ClassFileBytesAccess {
 		if (result != null) {
 			return result != notAvailable ? result : null;
 		}
-		result = clazz.getBytes();
+		result = sharedBytes != null ? sharedBytes.getBytes(clazz) : clazz.getBytes();
 		
 		cache.put(className, result != null ? result : notAvailable);
 		return result;
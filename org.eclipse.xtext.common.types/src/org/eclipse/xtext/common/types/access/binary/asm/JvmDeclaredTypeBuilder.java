@@ -22,6 +22,7 @@ import org.eclipse.xtext.common.types.JvmTypeReference;
 import org.eclipse.xtext.common.types.TypesFactory;
 import org.eclipse.xtext.common.types.TypesPackage;
 import org.eclipse.xtext.common.types.access.binary.BinaryClass;
+import org.eclipse.xtext.common.types.impl.JvmDeclaredTypeImplCustom;
 import org.objectweb.asm.AnnotationVisitor;
 import org.objectweb.asm.Attribute;
 import org.objectweb.asm.ClassReader;
@@ -49,17 +50,44 @@ public class JvmDeclaredTypeBuilder extends ClassVisitor implements Opcodes {
 
 	private final ClassFileBytesAccess bytesAccess;
 
+	private final boolean lazyMembers;
+
+	/**
+	 * Whether the current pass over the class file creates the fields and operations. If they are created lazily, the
+	 * first pass only creates the type with its annotations, type parameters, super types and nested types.
+	 */
+	private boolean visitMembers;
+
     public JvmDeclaredTypeBuilder(BinaryClass binaryClass, ClassFileBytesAccess bytesAccess, ClassLoader classLoader) {
-		this(binaryClass, bytesAccess, classLoader, null, new Proxies());
+		this(binaryClass, bytesAccess, classLoader, false);
 	}
     
+    /**
+     * @param lazyMembers
+     *            if <code>true</code>, the fields and operations of the built type are only created when its
+     *            members are accessed for the first time.
+     * @since 2.31
+     */
+    public JvmDeclaredTypeBuilder(BinaryClass binaryClass, ClassFileBytesAccess bytesAccess, ClassLoader classLoader, boolean lazyMembers) {
+    	this(binaryClass, bytesAccess, classLoader, null, new Proxies(), lazyMembers);
+    }
+    
     protected JvmDeclaredTypeBuilder(BinaryClass binaryClass, ClassFileBytesAccess bytesAccess, ClassLoader classLoader, Map<String, JvmTypeParameter> typeParameters, Proxies proxies) {
+    	this(binaryClass, bytesAccess, classLoader, typeParameters, proxies, false);
+    }
+    
+    /**
+     * @since 2.31
+     */
+    protected JvmDeclaredTypeBuilder(BinaryClass binaryClass, ClassFileBytesAccess bytesAccess, ClassLoader classLoader, Map<String, JvmTypeParameter> typeParameters, Proxies proxies, boolean lazyMembers) {
     	super(Opcodes.ASM9);
     	this.proxies = proxies;
 		this.binaryClass = binaryClass;
 		this.bytesAccess = bytesAccess;
 		this.classLoader = classLoader;
 		this.typeParameters = typeParameters;
+		this.lazyMembers = lazyMembers;
+		this.visitMembers = !lazyMembers;
     }
 
     public JvmDeclaredType buildType() {
@@ -67,14 +95,46 @@ public class JvmDeclaredTypeBuilder extends ClassVisitor implements Opcodes {
     	if (bytes == null) {
     		return null;
     	}
-		ClassReader reader = new ClassReader(bytes);
+		final ClassReader reader = new ClassReader(bytes);
 		reader.accept(this, 
 			  ClassReader.SKIP_DEBUG 
 			| ClassReader.SKIP_FRAMES 
 			| ClassReader.SKIP_CODE
 		);
+		if (!visitMembers) {
+			if (result instanceof JvmDeclaredTypeImplCustom) {
+				((JvmDeclaredTypeImplCustom) result).setPendingMembersInitializer(new Runnable() {
+					@Override
+					public void run() {
+						// the initializers of an outer type and its nested types share the proxies
+						synchronized (proxies) {
+							buildMembers(reader);
+						}
+					}
+				});
+			} else {
+				buildMembers(reader);
+			}
+		}
 		return result;
 	}
+
+	private void buildMembers(ClassReader reader) {
+		visitMembers = true;
+		reader.accept(this, 
+			  ClassReader.SKIP_DEBUG 
+			| ClassReader.SKIP_FRAMES 
+			| ClassReader.SKIP_CODE
+		);
+	}
+
+	/**
+	 * Returns <code>true</code> if the header of the type, e.g. its name and super types, was already created by a
+	 * previous pass over the class file.
+	 */
+	private boolean isHeaderBuilt() {
+		return lazyMembers && visitMembers;
+	}
     
     // ------------------------------------------------------------------------
     // Implementation of the ClassVisitor interface
@@ -89,6 +149,9 @@ public class JvmDeclaredTypeBuilder extends ClassVisitor implements Opcodes {
         final String superName,
         final String[] interfaces)
     {
+    	if (isHeaderBuilt()) {
+    		return;
+    	}
     	if ((access & ACC_SYNTHETIC) != 0)
 			throw new IllegalStateException("Cannot create type for anonymous or synthetic classes");
     	if ((ACC_ENUM & access) != 0) {
@@ -124,6 +187,9 @@ public class JvmDeclaredTypeBuilder extends ClassVisitor implements Opcodes {
     
 	@Override
 	public AnnotationVisitor visitAnnotation(final String desc, final boolean visible) {
+		if (isHeaderBuilt()) {
+			return null;
+		}
 		return new JvmAnnotationReferenceBuilder((InternalEList<JvmAnnotationReference>) result
 				.getAnnotations(), desc, proxies);
 	}
@@ -218,8 +284,11 @@ public class JvmDeclaredTypeBuilder extends ClassVisitor implements Opcodes {
         final String innerName,
         final int access)
     {
-    	if (outerName != null && innerName != null && outerName.replace('/', '.').equals(result.getIdentifier())) {
-    		BinaryClass binaryClass = new BinaryClass(name, classLoader);
+    	// nested types are created eagerly, such that the class loader is not needed anymore once the type is built
+    	if (!isHeaderBuilt() && outerName != null && innerName != null && outerName.replace('/', '.').equals(result.getIdentifier())) {
+    		BinaryClass binaryClass = this.binaryClass instanceof BinaryClass.Jdk
+    				? ((BinaryClass.Jdk) this.binaryClass).createNestedClass(name.replace('/', '.'))
+    				: new BinaryClass(name, classLoader);
     		boolean isStatic = (access & ACC_STATIC) != 0;
 			NestedJvmDeclaredTypeBuilder builder = new NestedJvmDeclaredTypeBuilder(
     				innerName,
@@ -228,7 +297,8 @@ public class JvmDeclaredTypeBuilder extends ClassVisitor implements Opcodes {
     				bytesAccess,
     				classLoader,
     				typeParameters,
-    				proxies);
+    				proxies,
+    				lazyMembers);
     		JvmDeclaredType nestedType = builder.buildType();
     		if (nestedType != null) {
 	    		if (isStatic) {
@@ -251,8 +321,9 @@ public class JvmDeclaredTypeBuilder extends ClassVisitor implements Opcodes {
 				ClassFileBytesAccess bytesAccess,
 				ClassLoader classLoader,
 				Map<String, JvmTypeParameter> typeParameters,
-				Proxies proxies) {
-			super(binaryClass, bytesAccess, classLoader, typeParameters, proxies);
+				Proxies proxies,
+				boolean lazyMembers) {
+			super(binaryClass, bytesAccess, classLoader, typeParameters, proxies, lazyMembers);
 			this.innerName = innerName;
 			this.offset = offset;
 		}
@@ -289,7 +360,7 @@ public class JvmDeclaredTypeBuilder extends ClassVisitor implements Opcodes {
         final String signature,
         final Object value)
     {
-    	if ((access & ACC_SYNTHETIC) == 0) {
+    	if (visitMembers && (access & ACC_SYNTHETIC) == 0) {
 	        JvmFieldBuilder fieldBuilder = new JvmFieldBuilder(
 	        		result,
 	        		(access & ACC_STATIC) == 0 ? typeParameters : null,
@@ -312,7 +383,7 @@ public class JvmDeclaredTypeBuilder extends ClassVisitor implements Opcodes {
         final String signature,
         final String[] exceptions)
     {
-    	if ((access & (ACC_SYNTHETIC | ACC_BRIDGE)) == 0 && !isClinit(name)) {
+    	if (visitMembers && (access & (ACC_SYNTHETIC | ACC_BRIDGE)) == 0 && !isClinit(name)) {
     		JvmExecutableBuilder builder = new JvmExecutableBuilder(
     				result,
     				offset,
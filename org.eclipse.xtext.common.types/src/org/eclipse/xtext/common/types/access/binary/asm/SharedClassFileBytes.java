@@ -0,0 +1,245 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.access.binary.asm;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+import org.eclipse.xtext.common.types.access.binary.BinaryClass;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.io.ByteStreams;
+
+/**
+ * A concurrent cache for the bytes of class files that can be shared by all {@link ClassFileBytesAccess} instances,
+ * regardless of the class loader that is used to locate a class.
+ *
+ * <p>
+ * Classes are keyed by the location of their class file. Only classes that are read from a jar file or from the
+ * runtime image are cached, the key of a jar entry includes the size and modification time of the jar file. These are
+ * checked at most once per {@link #STAT_INTERVAL} for each jar. Classes from directories or in-memory class loaders
+ * are always read again since they are likely to change.
+ * </p>
+ *
+ * <p>
+ * Class files are read from jar files that are kept open by this cache until it is {@link #clear() cleared} or the
+ * jar file changes. The cache is not used unless a {@link ClassFileBytesAccess} is explicitly created with it.
+ * </p>
+ *
+ * <p>
+ * The total size of the cached bytes is bounded, the least recently used classes are evicted first.
+ * </p>
+ *
+ * @since 2.31
+ */
+public class SharedClassFileBytes {
+
+	/**
+	 * The default upper bound of the cached bytes.
+	 */
+	public static final long DEFAULT_MAXIMUM_BYTES = 64L * 1024 * 1024;
+
+	private static final SharedClassFileBytes DEFAULT = new SharedClassFileBytes(DEFAULT_MAXIMUM_BYTES);
+
+	/**
+	 * Returns the process wide instance.
+	 */
+	public static SharedClassFileBytes getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * The minimum time in milliseconds between two checks of the size and modification time of an archive.
+	 */
+	public static final long STAT_INTERVAL = 1000L;
+
+	private final Cache<String, byte[]> cache;
+
+	/**
+	 * The archives that were opened to read class files on a cache miss, keyed by the location of the jar file.
+	 */
+	private final ConcurrentMap<String, Archive> archives = new ConcurrentHashMap<>();
+
+	public SharedClassFileBytes(long maximumBytes) {
+		this.cache = CacheBuilder.newBuilder()
+				.maximumWeight(maximumBytes)
+				.<String, byte[]>weigher((key, bytes) -> key.length() * 2 + bytes.length)
+				.recordStats()
+				.build();
+	}
+
+	/**
+	 * Returns the bytes of the given class or <code>null</code> if the class cannot be found.
+	 */
+	public byte[] getBytes(BinaryClass clazz) {
+		URL url = clazz.getClassFileURL();
+		if (url == null) {
+			return clazz.getBytes();
+		}
+		String key = getKey(url);
+		if (key == null) {
+			return read(url);
+		}
+		byte[] result = cache.getIfPresent(key);
+		if (result == null) {
+			result = read(url);
+			if (result != null) {
+				cache.put(key, result);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the number of hits, misses and evictions of this cache.
+	 */
+	public CacheStats getStatistics() {
+		return cache.stats();
+	}
+
+	/**
+	 * Discards the cached bytes and closes the archives that were opened by this instance.
+	 */
+	public void clear() {
+		cache.invalidateAll();
+		synchronized (archives) {
+			for (Archive archive : archives.values()) {
+				archive.close();
+			}
+			archives.clear();
+		}
+	}
+
+	/**
+	 * Returns the key for the class file at the given location or <code>null</code> if the class file is not
+	 * supposed to be shared.
+	 */
+	protected String getKey(URL url) {
+		String protocol = url.getProtocol();
+		if ("jrt".equals(protocol)) {
+			return url.toExternalForm();
+		}
+		if ("jar".equals(protocol)) {
+			Archive archive = getArchive(url);
+			if (archive == null) {
+				return null;
+			}
+			return url.toExternalForm() + '@' + archive.length + ':' + archive.lastModified;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the opened archive that contains the given jar entry or <code>null</code> if the entry is not located in
+	 * a local jar file. The size and modification time of the file are checked at most once per
+	 * {@link #STAT_INTERVAL}, a changed archive is opened again.
+	 */
+	private Archive getArchive(URL url) {
+		String location = url.getPath();
+		int separator = location.indexOf("!/");
+		if (separator < 0) {
+			return null;
+		}
+		String jarLocation = location.substring(0, separator);
+		long now = System.currentTimeMillis();
+		Archive archive = archives.get(jarLocation);
+		if (archive != null && now - archive.checkedAt < STAT_INTERVAL) {
+			return archive;
+		}
+		try {
+			URL jarURL = new URL(jarLocation);
+			if (!"file".equals(jarURL.getProtocol())) {
+				return null;
+			}
+			File file = new File(jarURL.toURI());
+			long lastModified = file.lastModified();
+			if (lastModified == 0L) {
+				return null;
+			}
+			long length = file.length();
+			synchronized (archives) {
+				archive = archives.get(jarLocation);
+				if (archive != null && archive.length == length && archive.lastModified == lastModified) {
+					archive.checkedAt = now;
+					return archive;
+				}
+				Archive result = new Archive(new JarFile(file), length, lastModified, now);
+				archives.put(jarLocation, result);
+				if (archive != null) {
+					archive.close();
+				}
+				return result;
+			}
+		} catch (IOException | URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private byte[] read(URL url) {
+		if ("jar".equals(url.getProtocol())) {
+			Archive archive = getArchive(url);
+			if (archive != null) {
+				String location = url.getPath();
+				String entryName = location.substring(location.indexOf("!/") + 2);
+				try {
+					ZipEntry entry = archive.jarFile.getEntry(entryName);
+					if (entry != null) {
+						try (InputStream stream = archive.jarFile.getInputStream(entry)) {
+							return ByteStreams.toByteArray(stream);
+						}
+					}
+				} catch (IOException | IllegalStateException e) {
+					// the archive was closed concurrently, read it through the connection
+				}
+			}
+		}
+		try (InputStream stream = url.openStream()) {
+			return ByteStreams.toByteArray(stream);
+		} catch (IOException e) {
+			throw new IllegalStateException("Cannot read bytes for " + e);
+		}
+	}
+
+	private static class Archive {
+
+		private final JarFile jarFile;
+
+		private final long length;
+
+		private final long lastModified;
+
+		private volatile long checkedAt;
+
+		Archive(JarFile jarFile, long length, long lastModified, long checkedAt) {
+			this.jarFile = jarFile;
+			this.length = length;
+			this.lastModified = lastModified;
+			this.checkedAt = checkedAt;
+		}
+
+		void close() {
+			try {
+				jarFile.close();
+			} catch (IOException e) {
+				// ignore
+			}
+		}
+
+	}
+
+}
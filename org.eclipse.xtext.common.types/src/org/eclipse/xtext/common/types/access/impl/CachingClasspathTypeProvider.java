@@ -12,6 +12,7 @@ import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.xtext.common.types.JvmDeclaredType;
 import org.eclipse.xtext.common.types.access.binary.BinaryClass;
 import org.eclipse.xtext.common.types.access.binary.BinaryClassMirror;
+import org.eclipse.xtext.common.types.access.binary.JdkClassFiles;
 import org.eclipse.xtext.common.types.access.binary.asm.ClassFileBytesAccess;
 
 /**
@@ -29,7 +30,16 @@ public class CachingClasspathTypeProvider extends ClasspathTypeProvider {
 	
 	public CachingClasspathTypeProvider(ClassLoader classLoader, ResourceSet resourceSet,
 			IndexedJvmTypeAccess indexedJvmTypeAccess, ITypeFactory<BinaryClass, JvmDeclaredType> reusedFactory, TypeResourceServices services) {
-		super(classLoader, resourceSet, indexedJvmTypeAccess, services);
+		this(classLoader, resourceSet, indexedJvmTypeAccess, reusedFactory, services, null);
+	}
+	
+	/**
+	 * @since 2.31
+	 */
+	public CachingClasspathTypeProvider(ClassLoader classLoader, ResourceSet resourceSet,
+			IndexedJvmTypeAccess indexedJvmTypeAccess, ITypeFactory<BinaryClass, JvmDeclaredType> reusedFactory, TypeResourceServices services,
+			JdkClassFiles jdkClassFiles) {
+		super(classLoader, resourceSet, indexedJvmTypeAccess, services, jdkClassFiles);
 		this.reusedFactory = reusedFactory;
 	}
 	
@@ -8,22 +8,37 @@
  *******************************************************************************/
 package org.eclipse.xtext.common.types.access.impl;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.concurrent.ExecutionException;
 
 import org.apache.log4j.Logger;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.common.types.JvmDeclaredType;
 import org.eclipse.xtext.common.types.JvmType;
 import org.eclipse.xtext.common.types.TypesFactory;
 import org.eclipse.xtext.common.types.access.binary.BinaryClass;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
 /**
  * It caches the {@link JvmDeclaredType} per {@link Class}.
  * 
  * The mechanism is based on the assumption that the same class loader is used during the lifetime of the type factory.
  * The cached {@link JvmDeclaredType type} is not contained in a resource / resource set and contains proxies. If a
- * client requests a type, the cached instance is EcoreUtil.copied and the copy is delivered.
+ * client requests a type, the cached instance is EcoreUtil.copied and the copy is delivered. Since the copies are
+ * complete, the members of the cached types are built eagerly, even if the delegate builds them lazily.
+ * 
+ * The number of cached types is limited by an {@link EvictionPolicy}. By default, the cached types are only
+ * {@link EvictionPolicy#softReferences() softly referenced}.
  * 
  * This class is mainly useful for unit tests where the number of
  * used resource sets is rather big compared to the number of loaded types,
@@ -38,16 +53,94 @@ import org.eclipse.xtext.common.types.access.binary.BinaryClass;
  */
 public class CachingDeclaredTypeFactory implements ITypeFactory<BinaryClass, JvmDeclaredType> {
 
+	/**
+	 * Limits the number of types that are kept by a {@link CachingDeclaredTypeFactory}.
+	 * 
+	 * @since 2.31
+	 */
+	public interface EvictionPolicy {
+
+		/**
+		 * Configures the given builder of the type cache. The keys of the cache are the binary names of the types.
+		 */
+		CacheBuilder<? super String, ? super JvmDeclaredType> configure(CacheBuilder<Object, Object> builder);
+
+		/**
+		 * All types are kept as long as the factory is alive.
+		 */
+		static EvictionPolicy unbounded() {
+			return builder -> builder;
+		}
+
+		/**
+		 * The cached types are released by the garbage collector in response to memory demand.
+		 */
+		static EvictionPolicy softReferences() {
+			return builder -> builder.softValues();
+		}
+
+		/**
+		 * At most the given number of types is kept, the least recently used types are evicted first.
+		 */
+		static EvictionPolicy maximumEntries(long maximumEntries) {
+			return builder -> builder.maximumSize(maximumEntries);
+		}
+
+		/**
+		 * The {@link CachingDeclaredTypeFactory#estimateRetainedBytes(JvmDeclaredType) estimated size} of all kept
+		 * types does not exceed the given number of bytes, the least recently used types are evicted first.
+		 */
+		static EvictionPolicy maximumRetainedBytes(long maximumBytes) {
+			return builder -> builder.maximumWeight(maximumBytes).<String, JvmDeclaredType>weigher(
+					(name, type) -> estimateRetainedBytes(type));
+		}
+	}
+
 	private static final Logger log = Logger.getLogger(CachingDeclaredTypeFactory.class);
 
+	/**
+	 * A rough estimate of the memory that is retained by a type per byte of its class file. A member takes a few
+	 * dozen bytes in the class file but a couple of objects with their lists and type references in the type.
+	 */
+	private static final int ESTIMATED_BYTES_PER_CLASS_FILE_BYTE = 8;
+
+	/**
+	 * The class file size that is assumed if the actual size cannot be determined.
+	 */
+	private static final int DEFAULT_CLASS_FILE_SIZE = 4096;
+
+	/**
+	 * Remembers the size of the class file of a cached type.
+	 */
+	private static class ClassFileSize extends AdapterImpl {
+		private final long bytes;
+
+		ClassFileSize(long bytes) {
+			this.bytes = bytes;
+		}
+
+		@Override
+		public boolean isAdapterForType(Object type) {
+			return type == ClassFileSize.class;
+		}
+	}
+
 	private final DeclaredTypeFactory delegate;
 
-	private final Map<String, JvmDeclaredType> typeCache = new ConcurrentHashMap<String, JvmDeclaredType>();
+	private final Cache<String, JvmDeclaredType> typeCache;
 	
 	private final JvmDeclaredType nullValue = TypesFactory.eINSTANCE.createJvmGenericType();
 
 	public CachingDeclaredTypeFactory(DeclaredTypeFactory delegate) {
+		this(delegate, EvictionPolicy.softReferences());
+	}
+
+	/**
+	 * @since 2.31
+	 */
+	public CachingDeclaredTypeFactory(DeclaredTypeFactory delegate, EvictionPolicy evictionPolicy) {
 		this.delegate = delegate;
+		this.typeCache = evictionPolicy.configure(CacheBuilder.newBuilder().recordStats()).build();
 	}
 	
 	@Override
@@ -68,17 +161,31 @@ public class CachingDeclaredTypeFactory implements ITypeFactory<BinaryClass, Jvm
 		}
 	}
 
-	private JvmDeclaredType get(BinaryClass clazz) {
-		String name = clazz.getName();
-		JvmDeclaredType cachedResult = typeCache.get(name);
-		if (cachedResult == null) {
-			cachedResult = load(clazz);
-			if (cachedResult == null) {
-				typeCache.put(name, nullValue);
-			} else {
-				typeCache.put(name, cachedResult);
-			}
-		} else if (cachedResult == nullValue) {
+	/**
+	 * Returns the number of hits, misses and evictions of the type cache.
+	 * 
+	 * @since 2.31
+	 */
+	public CacheStats getStatistics() {
+		return typeCache.stats();
+	}
+
+	/**
+	 * Returns the number of currently cached types.
+	 * 
+	 * @since 2.31
+	 */
+	public long getSize() {
+		return typeCache.size();
+	}
+
+	private JvmDeclaredType get(BinaryClass clazz) throws ExecutionException {
+		// concurrent requests for the same type wait for a single load
+		JvmDeclaredType cachedResult = typeCache.get(clazz.getName(), () -> {
+			JvmDeclaredType loaded = load(clazz);
+			return loaded != null ? loaded : nullValue;
+		});
+		if (cachedResult == nullValue) {
 			return null;
 		}
 		return cachedResult;
@@ -87,7 +194,65 @@ public class CachingDeclaredTypeFactory implements ITypeFactory<BinaryClass, Jvm
 	private JvmDeclaredType load(BinaryClass key) {
 		if (log.isDebugEnabled())
 			log.debug("Hit:" + key.getName());
-		return delegate.createType(key);
+		JvmDeclaredType result = delegate.createType(key);
+		if (result != null) {
+			initializeMembers(result);
+			result.eAdapters().add(new ClassFileSize(getClassFileSize(key)));
+		}
+		return result;
+	}
+
+	/**
+	 * Builds the members of the given type and of its nested types if they are built lazily. Each delivered copy is
+	 * complete, thus the members would be built by the first copy anyway. Building them right away releases the class
+	 * file that the cached type would otherwise keep for that purpose.
+	 */
+	private void initializeMembers(JvmDeclaredType type) {
+		TreeIterator<EObject> contents = type.eAllContents();
+		while (contents.hasNext()) {
+			contents.next();
+		}
+	}
+
+	private long getClassFileSize(BinaryClass clazz) {
+		URL url = clazz.getClassFileURL();
+		if (url != null) {
+			try {
+				if ("file".equals(url.getProtocol())) {
+					// a file connection would open the file right away
+					return new File(url.toURI()).length();
+				}
+				// the size is taken from the directory of an archive, the class file is not read again
+				return url.openConnection().getContentLengthLong();
+			} catch (IOException | URISyntaxException | IllegalArgumentException e) {
+				if (log.isDebugEnabled()) {
+					log.debug(e.getMessage(), e);
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Estimates the memory that is retained by the given type of this factory's cache based on the size of its class
+	 * file. The contents of the type are not traversed. Other types get a default estimate.
+	 * 
+	 * @since 2.31
+	 */
+	public static int estimateRetainedBytes(JvmDeclaredType type) {
+		ClassFileSize size = (ClassFileSize) EcoreUtil.getAdapter(type.eAdapters(), ClassFileSize.class);
+		return estimateRetainedBytes(size != null ? size.bytes : -1);
+	}
+
+	/**
+	 * Estimates the memory that is retained by a type with a class file of the given size in bytes. A negative size
+	 * stands for an unknown size.
+	 * 
+	 * @since 2.31
+	 */
+	public static int estimateRetainedBytes(long classFileSize) {
+		long bytes = classFileSize >= 0 ? classFileSize : DEFAULT_CLASS_FILE_SIZE;
+		return (int) Math.min(Integer.MAX_VALUE, bytes * ESTIMATED_BYTES_PER_CLASS_FILE_BYTE);
 	}
 	
 }
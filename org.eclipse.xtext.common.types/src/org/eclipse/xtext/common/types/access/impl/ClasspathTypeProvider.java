@@ -29,6 +29,7 @@ import org.eclipse.xtext.common.types.access.TypeResource;
 import org.eclipse.xtext.common.types.access.binary.BinaryClass;
 import org.eclipse.xtext.common.types.access.binary.BinaryClassFinder;
 import org.eclipse.xtext.common.types.access.binary.BinaryClassMirror;
+import org.eclipse.xtext.common.types.access.binary.JdkClassFiles;
 import org.eclipse.xtext.common.types.access.binary.asm.ClassFileBytesAccess;
 import org.eclipse.xtext.common.types.access.impl.IndexedJvmTypeAccess.UnknownNestedTypeException;
 import org.eclipse.xtext.util.Strings;
@@ -134,6 +135,8 @@ public class ClasspathTypeProvider extends AbstractRuntimeJvmTypeProvider {
 	
 	private final ClassFileBytesAccess readerAccess;
 	
+	private final JdkClassFiles jdkClassFiles;
+	
 	/**
 	 * @deprecated use {@link #ClasspathTypeProvider(ClassLoader, ResourceSet, IndexedJvmTypeAccess, TypeResourceServices)} instead.
 	 */
@@ -142,9 +145,26 @@ public class ClasspathTypeProvider extends AbstractRuntimeJvmTypeProvider {
 		this(classLoader, resourceSet, indexedJvmTypeAccess, null);
 	}
 	
+	/**
+	 * Creates a type provider that reads all classes via the given class loader. Use
+	 * {@link #ClasspathTypeProvider(ClassLoader, ResourceSet, IndexedJvmTypeAccess, TypeResourceServices, JdkClassFiles)}
+	 * to read the classes of the JDK from its runtime image.
+	 */
 	public ClasspathTypeProvider(ClassLoader classLoader, ResourceSet resourceSet, IndexedJvmTypeAccess indexedJvmTypeAccess, TypeResourceServices services) {
+		this(classLoader, resourceSet, indexedJvmTypeAccess, services, null);
+	}
+	
+	/**
+	 * @param jdkClassFiles
+	 *            the class files of the JDK that are read without asking the class loader, may be <code>null</code>.
+	 *            The {@link org.eclipse.xtext.common.types.access.ClasspathTypeProviderFactory factory} passes the
+	 *            {@link JdkClassFiles#getRuntime() runtime image} or the configured release.
+	 * @since 2.31
+	 */
+	public ClasspathTypeProvider(ClassLoader classLoader, ResourceSet resourceSet, IndexedJvmTypeAccess indexedJvmTypeAccess, TypeResourceServices services, JdkClassFiles jdkClassFiles) {
 		super(resourceSet, indexedJvmTypeAccess, services);
 		this.classLoader = classLoader;
+		this.jdkClassFiles = jdkClassFiles;
 		readerAccess = createClassFileReaderAccess(); 
 		classFinder = createBinaryClassFinder(classLoader);
 		typeFactory = createDeclaredTypeFactory(readerAccess, classLoader);
@@ -169,7 +189,14 @@ public class ClasspathTypeProvider extends AbstractRuntimeJvmTypeProvider {
 	}
 	
 	protected BinaryClassFinder createBinaryClassFinder(ClassLoader classLoader) {
-		return new BinaryClassFinder(classLoader);
+		return new BinaryClassFinder(classLoader, jdkClassFiles);
+	}
+	
+	/**
+	 * @since 2.31
+	 */
+	public JdkClassFiles getJdkClassFiles() {
+		return jdkClassFiles;
 	}
 
 	protected ITypeFactory<BinaryClass, JvmDeclaredType> createDeclaredTypeFactory(ClassFileBytesAccess readerAccess, ClassLoader classLoader) {
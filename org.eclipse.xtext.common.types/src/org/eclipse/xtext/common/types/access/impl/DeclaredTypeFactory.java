@@ -113,7 +113,7 @@ public class DeclaredTypeFactory implements ITypeFactory<BinaryClass, JvmDeclare
 	}
 
 	protected JvmDeclaredType doCreateType(BinaryClass binaryClass) {
-		JvmDeclaredTypeBuilder builder = new JvmDeclaredTypeBuilder(binaryClass, bytesAccess, classLoader);
+		JvmDeclaredTypeBuilder builder = new JvmDeclaredTypeBuilder(binaryClass, bytesAccess, classLoader, true);
 		return builder.buildType();
 	}
 
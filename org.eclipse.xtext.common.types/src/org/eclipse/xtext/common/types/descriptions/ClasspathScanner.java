@@ -11,9 +11,16 @@ package org.eclipse.xtext.common.types.descriptions;
 import static java.util.stream.Collectors.*;
 
 import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
@@ -26,6 +33,7 @@ import com.google.inject.Provider;
 import com.google.inject.Singleton;
 
 import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ScanResult;
 
 @Singleton
@@ -112,6 +120,8 @@ public class ClasspathScanner {
 
 	private final Cache<ClassLoaderPackageConfig, Iterable<ITypeDescriptor>> classLoaderDescriptors = createClassLoaderCache();
 
+	private volatile TypeDescriptorIndex typeDescriptorIndex;
+
 	protected Cache<ClassLoaderPackageConfig, Iterable<ITypeDescriptor>> createClassLoaderCache() {
 		return CacheBuilder.newBuilder()
 			.initialCapacity(8)
@@ -138,6 +148,24 @@ public class ClasspathScanner {
 		}
 	}
 
+	/**
+	 * The descriptors of jars and modules are read from and stored in the given index, may be <code>null</code>.
+	 * Injected if a {@link TypeDescriptorIndex} is bound.
+	 * 
+	 * @since 2.31
+	 */
+	@Inject(optional = true)
+	public void setTypeDescriptorIndex(TypeDescriptorIndex typeDescriptorIndex) {
+		this.typeDescriptorIndex = typeDescriptorIndex;
+	}
+
+	/**
+	 * @since 2.31
+	 */
+	public TypeDescriptorIndex getTypeDescriptorIndex() {
+		return typeDescriptorIndex;
+	}
+
 	public Iterable<ITypeDescriptor> getBootClasspathDescriptors(Collection<String> packagePrefixes) {
 		return getDescriptors(ClassLoader.getSystemClassLoader(), true, packagePrefixes);
 	}
@@ -169,6 +197,10 @@ public class ClasspathScanner {
 
 	protected Iterable<ITypeDescriptor> loadDescriptors(ClassLoader classLoader, boolean bootstrap,
 			Collection<String> packagePrefixes) {
+		TypeDescriptorIndex index = typeDescriptorIndex;
+		if (index != null) {
+			return loadDescriptors(classLoader, bootstrap, packagePrefixes, index);
+		}
 		ClassGraph classGraph = classGraphProvider.get()
 			.ignoreClassVisibility()
 			.enableClassInfo()
@@ -182,6 +214,112 @@ public class ClasspathScanner {
 		}
 	}
 
+	/**
+	 * Reads the descriptors of all indexed class path entries from the given index and scans only the remaining
+	 * entries. Entries are scanned completely, such that their descriptors can be reused for other package prefixes.
+	 * Like a scan of the complete class path, a class that is found in several entries is only reported for the first
+	 * one.
+	 * 
+	 * @since 2.31
+	 */
+	protected Iterable<ITypeDescriptor> loadDescriptors(ClassLoader classLoader, boolean bootstrap,
+			Collection<String> packagePrefixes, TypeDescriptorIndex index) {
+		Map<URI, List<ITypeDescriptor>> entries = new LinkedHashMap<>();
+		Set<URI> indexedEntries = new HashSet<>();
+		Set<String> indexedModules = new HashSet<>();
+		Map<URI, String> fingerprints = new HashMap<>();
+		boolean complete = true;
+		for (URI entry : newClassGraph(classLoader, bootstrap).getClasspathURIs()) {
+			String fingerprint = index.getFingerprint(entry);
+			if (fingerprint != null) {
+				List<ITypeDescriptor> descriptors = index.read(entry, fingerprint, this::newDescriptor);
+				if (descriptors != null) {
+					entries.put(entry, descriptors);
+					if ("jrt".equals(entry.getScheme())) {
+						indexedModules.add(entry.getPath().substring(1));
+					} else {
+						indexedEntries.add(entry);
+					}
+					continue;
+				}
+				fingerprints.put(entry, fingerprint);
+			}
+			// keep the position of the entry in the class path
+			entries.put(entry, null);
+			complete = false;
+		}
+		if (!complete) {
+			ClassGraph classGraph = newClassGraph(classLoader, bootstrap).filterClasspathElementsByURL(url -> {
+				try {
+					return !indexedEntries.contains(url.toURI());
+				} catch (URISyntaxException e) {
+					return true;
+				}
+			});
+			if (!indexedModules.isEmpty()) {
+				classGraph.rejectModules(indexedModules.toArray(new String[indexedModules.size()]));
+			}
+			Map<URI, List<ITypeDescriptor>> scannedEntries = new LinkedHashMap<>();
+			try (ScanResult scanResult = classGraph.scan()) {
+				for (ClassInfo clazz : scanResult.getAllClasses()) {
+					if (clazz.getResource() != null) {
+						scannedEntries.computeIfAbsent(clazz.getClasspathElementURI(), any -> new ArrayList<>())
+							.add(newDescriptor(clazz.getName(), clazz.getModifiers()));
+					}
+				}
+			}
+			entries.putAll(scannedEntries);
+			fingerprints.forEach((entry, fingerprint) -> {
+				List<ITypeDescriptor> descriptors = scannedEntries.get(entry);
+				index.write(entry, fingerprint, descriptors != null ? descriptors : new ArrayList<>());
+			});
+		}
+		List<ITypeDescriptor> result = new ArrayList<>();
+		Set<String> names = new HashSet<>();
+		for (List<ITypeDescriptor> descriptors : entries.values()) {
+			if (descriptors != null) {
+				addDescriptors(descriptors, packagePrefixes, names, result);
+			}
+		}
+		return result;
+	}
+
+	private ClassGraph newClassGraph(ClassLoader classLoader, boolean bootstrap) {
+		ClassGraph classGraph = classGraphProvider.get()
+			.ignoreClassVisibility()
+			.enableClassInfo()
+			.addClassLoader(classLoader);
+		if (bootstrap) {
+			classGraph.enableSystemJarsAndModules();
+		}
+		return classGraph;
+	}
+
+	private void addDescriptors(List<ITypeDescriptor> descriptors, Collection<String> packagePrefixes,
+			Set<String> names, List<ITypeDescriptor> result) {
+		for (ITypeDescriptor descriptor : descriptors) {
+			String name = descriptor.getName();
+			if (isInPackages(name, packagePrefixes) && names.add(name)) {
+				result.add(descriptor);
+			}
+		}
+	}
+
+	private boolean isInPackages(String name, Collection<String> packagePrefixes) {
+		if (packagePrefixes.isEmpty()) {
+			return true;
+		}
+		int lastDot = name.lastIndexOf('.');
+		String packageName = lastDot < 0 ? "" : name.substring(0, lastDot);
+		for (String prefix : packagePrefixes) {
+			if (packageName.equals(prefix) || packageName.startsWith(prefix) && packageName.length() > prefix.length()
+					&& packageName.charAt(prefix.length()) == '.') {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	protected Iterable<ITypeDescriptor> loadDescriptors(ScanResult scanResult) {
 		return scanResult.getAllClasses().stream()
 			.filter(clazz -> clazz.getResource() != null)
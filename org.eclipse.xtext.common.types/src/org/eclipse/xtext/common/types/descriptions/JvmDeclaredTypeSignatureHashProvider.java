@@ -14,6 +14,9 @@ import java.io.UnsupportedEncodingException;
 import java.math.BigInteger;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.apache.log4j.Logger;
 import org.eclipse.xtext.common.types.JvmAnnotationReference;
@@ -61,6 +64,10 @@ public class JvmDeclaredTypeSignatureHashProvider {
 
 	private static final String HASH_CACHE_KEY = "SignatureHash";
 
+	private static final String HEADER_HASH_CACHE_KEY = "HeaderSignatureHash";
+
+	private static final String MEMBER_HASHES_CACHE_KEY = "MemberSignatureHashes";
+
 	public String getHash(final JvmDeclaredType type) {
 		if(type.eResource() instanceof TypeResource) {
 			IMirror mirror = ((TypeResource)type.eResource()).getMirror();
@@ -75,6 +82,55 @@ public class JvmDeclaredTypeSignatureHashProvider {
 		});
 	}
 	
+	/**
+	 * Calculates the hash of the signature of the type without its members. Together with the
+	 * {@link #getMemberHashes(JvmDeclaredType) member hashes} it allows to tell which parts of a type's signature
+	 * changed.
+	 * 
+	 * @since 2.31
+	 */
+	public String getHeaderHash(final JvmDeclaredType type) {
+		return cache.get(Tuples.create(HEADER_HASH_CACHE_KEY, type), type.eResource(), new Provider<String>() {
+			@Override
+			public String get() {
+				return signatureBuilderProvider.get().appendHeaderSignature(type).hash();
+			}
+		});
+	}
+
+	/**
+	 * Calculates the hashes of the signatures of the members of the given type, except for nested types. Overloaded
+	 * members share a single hash since a change to any of them can change the linking of clients that use the
+	 * simple name. Constructors are hashed with the simple name of the type.
+	 * 
+	 * @return the hashes by the simple names of the members, sorted by name.
+	 * @since 2.31
+	 */
+	public Map<String, String> getMemberHashes(final JvmDeclaredType type) {
+		return cache.get(Tuples.create(MEMBER_HASHES_CACHE_KEY, type), type.eResource(), new Provider<Map<String, String>>() {
+			@Override
+			public Map<String, String> get() {
+				Map<String, SignatureHashBuilder> builders = new TreeMap<String, SignatureHashBuilder>();
+				for (JvmMember member : type.getMembers()) {
+					String name = member.getSimpleName();
+					if (name != null && !(member instanceof JvmDeclaredType)) {
+						SignatureHashBuilder builder = builders.get(name);
+						if (builder == null) {
+							builder = signatureBuilderProvider.get();
+							builders.put(name, builder);
+						}
+						builder.appendMemberSignature(member);
+					}
+				}
+				Map<String, String> result = new TreeMap<String, String>();
+				for (Map.Entry<String, SignatureHashBuilder> entry : builders.entrySet()) {
+					result.put(entry.getKey(), entry.getValue().hash());
+				}
+				return Collections.unmodifiableMap(result);
+			}
+		});
+	}
+	
 	public static class SignatureHashBuilder {
 
 		@Inject
@@ -116,45 +172,62 @@ public class JvmDeclaredTypeSignatureHashProvider {
 
 		public SignatureHashBuilder appendSignature(JvmDeclaredType type) {
 			if (type.getVisibility() != JvmVisibility.PRIVATE) {
-				appendAnnotationReferences(type);
-				appendVisibility(type.getVisibility()).append(" ");
-				if (type.isAbstract())
-					append("abstract ");
-				if (type.isStatic())
-					append("static ");
-				if (type.isFinal())
-					append("final ");
-				append("class ").append(type.getIdentifier());
-				if (type instanceof JvmTypeParameterDeclarator)
-					appendTypeParameters((JvmTypeParameterDeclarator) type);
-				append("\n").appendSuperTypeSignatures(type).appendMemberSignatures(type, false);
+				appendHeaderSignature(type).appendMemberSignatures(type, false);
 			}
 			return this;
 		}
 
+		/**
+		 * Appends the signature of the type without its members, that is its annotations, modifiers, type
+		 * parameters and super types.
+		 * 
+		 * @since 2.31
+		 */
+		public SignatureHashBuilder appendHeaderSignature(JvmDeclaredType type) {
+			appendAnnotationReferences(type);
+			appendVisibility(type.getVisibility()).append(" ");
+			if (type.isAbstract())
+				append("abstract ");
+			if (type.isStatic())
+				append("static ");
+			if (type.isFinal())
+				append("final ");
+			append("class ").append(type.getIdentifier());
+			if (type instanceof JvmTypeParameterDeclarator)
+				appendTypeParameters((JvmTypeParameterDeclarator) type);
+			return append("\n").appendSuperTypeSignatures(type);
+		}
+
 		protected SignatureHashBuilder appendMemberSignatures(JvmDeclaredType type, boolean innerTypesOnly) {
 			Iterable<? extends JvmMember> members = type.getMembers();
 			if(innerTypesOnly)
 				members = filter(members, JvmDeclaredType.class);
 			for (JvmMember member : members) {
 				if (member.getSimpleName() != null) {
-					appendAnnotationReferences(member);
-					if (member instanceof JvmOperation) 
-						appendSignature((JvmOperation) member);
-					else if (member instanceof JvmConstructor) 
-						appendSignature((JvmConstructor) member);
-					else if (member instanceof JvmField) 
-						appendSignature((JvmField) member);
-					else if (member instanceof JvmDeclaredType) {
-						append(member.getQualifiedName());
-						appendMemberSignatures((JvmDeclaredType) member, true);
-					}
-					append("\n");
+					appendMemberSignature(member);
 				}
 			}
 			return this;
 		}
 
+		/**
+		 * @since 2.31
+		 */
+		public SignatureHashBuilder appendMemberSignature(JvmMember member) {
+			appendAnnotationReferences(member);
+			if (member instanceof JvmOperation) 
+				appendSignature((JvmOperation) member);
+			else if (member instanceof JvmConstructor) 
+				appendSignature((JvmConstructor) member);
+			else if (member instanceof JvmField) 
+				appendSignature((JvmField) member);
+			else if (member instanceof JvmDeclaredType) {
+				append(member.getQualifiedName());
+				appendMemberSignatures((JvmDeclaredType) member, true);
+			}
+			return append("\n");
+		}
+
 		protected void appendAnnotationReferences(JvmAnnotationTarget target) {
 			for(JvmAnnotationReference annotationReference: target.getAnnotations()) {
 				if(annotationRelevance.isRelevant(annotationReference)) 
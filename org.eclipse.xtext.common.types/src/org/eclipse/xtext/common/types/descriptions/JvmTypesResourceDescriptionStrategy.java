@@ -8,6 +8,7 @@
  *******************************************************************************/
 package org.eclipse.xtext.common.types.descriptions;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -26,6 +27,7 @@ import com.google.common.collect.ForwardingMap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
 
 /**
  * @author Jan Koehnlein - Initial contribution and API
@@ -39,9 +41,35 @@ public class JvmTypesResourceDescriptionStrategy extends DefaultResourceDescript
 	public static final String IS_INTERFACE = "interface";
 	public static final String TYPE_PARAMETERS = "typeParameters";
 	public static final String SIGNATURE_HASH_KEY = "sig";
+
+	/**
+	 * @since 2.31
+	 */
+	public static final String HEADER_SIGNATURE_HASH_KEY = "headerSig";
+
+	/**
+	 * The {@link JvmDeclaredTypeSignatureHashProvider#getMemberHashes(JvmDeclaredType) member hashes} of a type,
+	 * encoded as <code>name:hash</code> pairs that are separated by <code>;</code>.
+	 * 
+	 * @since 2.31
+	 */
+	public static final String MEMBER_SIGNATURE_HASHES_KEY = "memberSigs";
+
+	/**
+	 * Enables the {@link #HEADER_SIGNATURE_HASH_KEY header} and {@link #MEMBER_SIGNATURE_HASHES_KEY member} signature
+	 * hashes in the user data of the exported types, such that clients can track their dependencies on individual
+	 * members.
+	 * 
+	 * @since 2.31
+	 */
+	public static final String MEMBER_SIGNATURE_HASHES_ENABLEMENT = "JvmTypesResourceDescriptionStrategy_MemberSignatureHashes";
 	
 	@Inject
 	private JvmDeclaredTypeSignatureHashProvider hashProvider;
+
+	@Inject(optional = true)
+	@Named(MEMBER_SIGNATURE_HASHES_ENABLEMENT)
+	private boolean memberSignatureHashes = false;
 	
 	@Override
 	public boolean createEObjectDescriptions(EObject eObject, IAcceptor<IEObjectDescription> acceptor) {
@@ -77,6 +105,10 @@ public class JvmTypesResourceDescriptionStrategy extends DefaultResourceDescript
 	protected void createUserData(EObject eObject, ImmutableMap.Builder<String, String> userData) {
 		if (eObject instanceof JvmDeclaredType) {
 			userData.put(SIGNATURE_HASH_KEY, hashProvider.getHash((JvmDeclaredType) eObject));
+			if (memberSignatureHashes) {
+				userData.put(HEADER_SIGNATURE_HASH_KEY, hashProvider.getHeaderHash((JvmDeclaredType) eObject));
+				userData.put(MEMBER_SIGNATURE_HASHES_KEY, encodeMemberHashes(hashProvider.getMemberHashes((JvmDeclaredType) eObject)));
+			}
 			if (eObject.eContainer() != null) {
 				userData.put(IS_NESTED_TYPE, Boolean.TRUE.toString());
 			}
@@ -99,4 +131,32 @@ public class JvmTypesResourceDescriptionStrategy extends DefaultResourceDescript
 			}
 		}
 	}
+
+	/**
+	 * @since 2.31
+	 */
+	public static String encodeMemberHashes(Map<String, String> memberHashes) {
+		StringBuilder result = new StringBuilder();
+		for (Map.Entry<String, String> entry : memberHashes.entrySet()) {
+			if (result.length() != 0) {
+				result.append(';');
+			}
+			result.append(entry.getKey()).append(':').append(entry.getValue());
+		}
+		return result.toString();
+	}
+
+	/**
+	 * @since 2.31
+	 */
+	public static Map<String, String> decodeMemberHashes(String encoded) {
+		Map<String, String> result = new HashMap<>();
+		if (!encoded.isEmpty()) {
+			for (String pair : encoded.split(";")) {
+				int separator = pair.indexOf(':');
+				result.put(pair.substring(0, separator), pair.substring(separator + 1));
+			}
+		}
+		return result;
+	}
 }
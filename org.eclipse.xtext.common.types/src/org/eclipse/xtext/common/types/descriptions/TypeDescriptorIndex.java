@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.descriptions;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+
+import org.apache.log4j.Logger;
+
+import com.google.common.hash.Hashing;
+
+/**
+ * A persisted index of the {@link ITypeDescriptor type descriptors} per class path entry. The descriptors of an entry
+ * are stored in their own file whose name is derived from a fingerprint of the entry, i.e. its location, size and
+ * modification time. A changed jar thus gets a new file and the descriptors of all other entries remain valid.
+ *
+ * Only jars and modules of the running Java runtime are indexed. The files are read via memory mapping and never
+ * modified once written, so the same directory may be used by multiple processes.
+ *
+ * The file of an entry replaces the files of all former fingerprints of the same entry. Files that were not read for
+ * {@link #MAX_AGE} are deleted, e.g. the ones of jars that have disappeared.
+ *
+ * @author agent - Initial contribution and API
+ * @since 2.31
+ */
+public class TypeDescriptorIndex {
+
+	private static final Logger LOG = Logger.getLogger(TypeDescriptorIndex.class);
+
+	private static final int VERSION = 1;
+
+	private static final String SUFFIX = ".types";
+
+	/**
+	 * The time in milliseconds after which files that were not read are deleted.
+	 */
+	public static final long MAX_AGE = TimeUnit.DAYS.toMillis(30);
+
+	/**
+	 * The minimum time in milliseconds between two updates of the modification time of a file that is read.
+	 */
+	private static final long TOUCH_INTERVAL = TimeUnit.DAYS.toMillis(1);
+
+	/**
+	 * Returns the directory of the index that is shared by all processes of the current user.
+	 */
+	public static File getDefaultDirectory() {
+		return new File(System.getProperty("java.io.tmpdir"), "xtext-type-descriptors-" + System.getProperty("user.name"));
+	}
+
+	private final File directory;
+
+	private final AtomicBoolean pruned = new AtomicBoolean();
+
+	public TypeDescriptorIndex(File directory) {
+		this.directory = directory;
+	}
+
+	public File getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Returns the fingerprint of the given class path entry or <code>null</code> if the entry cannot be indexed.
+	 */
+	public String getFingerprint(URI classpathEntry) {
+		if ("jrt".equals(classpathEntry.getScheme())) {
+			return classpathEntry + "|" + System.getProperty("java.home") + "|"
+					+ System.getProperty("java.runtime.version");
+		}
+		if ("file".equals(classpathEntry.getScheme())) {
+			File file;
+			try {
+				file = new File(classpathEntry);
+			} catch (IllegalArgumentException e) {
+				return null;
+			}
+			if (file.isFile()) {
+				return file.getAbsolutePath() + "|" + file.length() + "|" + file.lastModified();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the indexed descriptors of the given class path entry with the given fingerprint or <code>null</code>
+	 * if it was not indexed yet.
+	 */
+	public List<ITypeDescriptor> read(URI classpathEntry, String fingerprint,
+			BiFunction<String, Integer, ITypeDescriptor> factory) {
+		pruneOnce();
+		File file = getFile(classpathEntry, fingerprint);
+		long lastModified = file.lastModified();
+		if (lastModified == 0L) {
+			return null;
+		}
+		long now = System.currentTimeMillis();
+		if (now - lastModified > TOUCH_INTERVAL) {
+			file.setLastModified(now);
+		}
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.getInt() != VERSION) {
+				return null;
+			}
+			int size = buffer.getInt();
+			List<ITypeDescriptor> result = new ArrayList<>(size);
+			byte[] name = new byte[256];
+			for (int i = 0; i < size; i++) {
+				int modifiers = buffer.getInt();
+				int length = buffer.getInt();
+				if (length > name.length) {
+					name = new byte[length];
+				}
+				buffer.get(name, 0, length);
+				result.add(factory.apply(new String(name, 0, length, StandardCharsets.UTF_8), modifiers));
+			}
+			return result;
+		} catch (IOException | RuntimeException e) {
+			LOG.debug("Failed to read type descriptors from " + file.getAbsolutePath(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the descriptors of the given class path entry with the given fingerprint and deletes the files of its
+	 * former fingerprints.
+	 */
+	public void write(URI classpathEntry, String fingerprint, Collection<? extends ITypeDescriptor> descriptors) {
+		pruneOnce();
+		File file = getFile(classpathEntry, fingerprint);
+		try {
+			Files.createDirectories(directory.toPath());
+			File tmp = File.createTempFile(file.getName(), ".tmp", directory);
+			try {
+				try (DataOutputStream output = new DataOutputStream(
+						new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+					output.writeInt(VERSION);
+					output.writeInt(descriptors.size());
+					for (ITypeDescriptor descriptor : descriptors) {
+						byte[] name = descriptor.getName().getBytes(StandardCharsets.UTF_8);
+						output.writeInt(descriptor.getModifiers());
+						output.writeInt(name.length);
+						output.write(name);
+					}
+				}
+				try {
+					Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				}
+			} finally {
+				tmp.delete();
+			}
+		} catch (IOException e) {
+			LOG.debug("Failed to write type descriptors to " + file.getAbsolutePath(), e);
+			return;
+		}
+		String prefix = getFilePrefix(classpathEntry);
+		File[] files = directory.listFiles((dir, name) -> name.startsWith(prefix) && name.endsWith(SUFFIX));
+		if (files != null) {
+			for (File stale : files) {
+				if (!stale.equals(file)) {
+					stale.delete();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Deletes the files that were not read for {@link #MAX_AGE}.
+	 */
+	public void prune() {
+		long expired = System.currentTimeMillis() - MAX_AGE;
+		File[] files = directory.listFiles((dir, name) -> name.endsWith(SUFFIX) || name.endsWith(".tmp"));
+		if (files != null) {
+			for (File file : files) {
+				long lastModified = file.lastModified();
+				if (lastModified != 0L && lastModified < expired) {
+					file.delete();
+				}
+			}
+		}
+	}
+
+	private void pruneOnce() {
+		if (pruned.compareAndSet(false, true)) {
+			prune();
+		}
+	}
+
+	protected File getFile(URI classpathEntry, String fingerprint) {
+		String name = Hashing.murmur3_128().hashString(fingerprint, StandardCharsets.UTF_8).toString();
+		return new File(directory, getFilePrefix(classpathEntry) + name + SUFFIX);
+	}
+
+	private String getFilePrefix(URI classpathEntry) {
+		return Hashing.murmur3_128().hashString(classpathEntry.toString(), StandardCharsets.UTF_8) + "-";
+	}
+
+}
@@ -548,9 +548,49 @@ public abstract class JvmDeclaredTypeImplCustom extends JvmDeclaredTypeImpl {
 		}
 	}
 	
+	private volatile Runnable pendingMembersInitializer;
+	
+	private boolean isInitializingMembers = false;
+	
+	/**
+	 * Defers the creation of the members of this type until they are accessed for the first time. The initializer
+	 * populates the {@link #basicGetMembers() members} without sending notifications. It is run at most once.
+	 * 
+	 * @since 2.31
+	 */
+	public void setPendingMembersInitializer(Runnable pendingMembersInitializer) {
+		this.pendingMembersInitializer = pendingMembersInitializer;
+	}
+	
+	/**
+	 * @since 2.31
+	 */
+	protected void checkPendingMembersInitialization() {
+		if (pendingMembersInitializer == null) {
+			return;
+		}
+		synchronized (this) {
+			Runnable initializer = pendingMembersInitializer;
+			if (initializer == null || isInitializingMembers) {
+				return;
+			}
+			isInitializingMembers = true;
+			boolean wasDeliver = eDeliver();
+			eSetDeliver(false);
+			try {
+				initializer.run();
+			} finally {
+				eSetDeliver(wasDeliver);
+				isInitializingMembers = false;
+				pendingMembersInitializer = null;
+			}
+		}
+	}
+	
 	@Override
 	public EList<EObject> eContents() {
 		checkPendingInitialization();
+		checkPendingMembersInitialization();
 		return super.eContents();
 	}
 	
@@ -569,6 +609,9 @@ public abstract class JvmDeclaredTypeImplCustom extends JvmDeclaredTypeImpl {
 	@Override
 	public boolean eIsSet(int featureID) {
 		checkPendingInitialization();
+		if (featureID == TypesPackage.JVM_DECLARED_TYPE__MEMBERS) {
+			checkPendingMembersInitialization();
+		}
 		return super.eIsSet(featureID);
 	}
 	
@@ -606,6 +649,7 @@ public abstract class JvmDeclaredTypeImplCustom extends JvmDeclaredTypeImpl {
 	@Override
 	public EList<JvmMember> getMembers() {
 		checkPendingInitialization();
+		checkPendingMembersInitialization();
 		return super.getMembers();
 	}
 	
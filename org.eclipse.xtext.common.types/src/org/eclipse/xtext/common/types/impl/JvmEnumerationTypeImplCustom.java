@@ -41,6 +41,7 @@ public class JvmEnumerationTypeImplCustom extends JvmEnumerationTypeImpl {
 	@Override
 	public EList<JvmMember> getMembers() {
 		checkPendingInitialization();
+		checkPendingMembersInitialization();
 		if (members == null) {
 			members = new EObjectContainmentWithInverseEList<JvmMember>(JvmMember.class, this,
 					TypesPackage.JVM_DECLARED_TYPE__MEMBERS, TypesPackage.JVM_MEMBER__DECLARING_TYPE) {
@@ -8,10 +8,19 @@
  *******************************************************************************/
 package org.eclipse.xtext.common.types.util;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.EList;
@@ -21,6 +30,7 @@ import org.eclipse.xtext.common.types.JvmConstructor;
 import org.eclipse.xtext.common.types.JvmExecutable;
 import org.eclipse.xtext.common.types.JvmField;
 import org.eclipse.xtext.common.types.JvmFormalParameter;
+import org.eclipse.xtext.common.types.JvmMember;
 import org.eclipse.xtext.common.types.JvmOperation;
 import org.eclipse.xtext.common.types.JvmType;
 import org.eclipse.xtext.common.types.JvmTypeConstraint;
@@ -29,25 +39,69 @@ import org.eclipse.xtext.common.types.JvmTypeReference;
 import org.eclipse.xtext.common.types.JvmUpperBound;
 import org.eclipse.xtext.common.types.access.impl.ClassFinder;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
+import com.google.common.primitives.Primitives;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.inject.Inject;
 
 /**
+ * Looks up the reflective members that correspond to {@link JvmMember JVM members}. The members and the method
+ * handles that are created for them are cached per JVM member until the class loader is changed.
+ * 
  * @author Sven Efftinge - Initial contribution and API
  */
 public class JavaReflectAccess {
 
+	/**
+	 * Thrown by the method handles of this class if an argument cannot be converted to the type of the parameter,
+	 * i.e. in the very same situations in which {@link Method#invoke(Object, Object...)} throws an
+	 * {@link IllegalArgumentException}.
+	 * 
+	 * @since 2.31
+	 */
+	public static class ArgumentMismatchException extends IllegalArgumentException {
+		private static final long serialVersionUID = 1L;
+
+		public ArgumentMismatchException(String message) {
+			super(message);
+		}
+	}
+
 	private final static Logger log = Logger.getLogger(JavaReflectAccess.class);
 
+	private static final MethodHandle CONVERT_ARGUMENT;
+
+	static {
+		try {
+			CONVERT_ARGUMENT = MethodHandles.lookup().findStatic(JavaReflectAccess.class, "convertArgument",
+					MethodType.methodType(Object.class, Class.class, Object.class));
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
 	private ClassLoader classLoader = getClass().getClassLoader();
 
 	private ClassFinder classFinder;
 
+	private final Cache<JvmMember, Optional<Member>> members = CacheBuilder.newBuilder().weakKeys().build();
+
+	private final Cache<JvmMember, Optional<MethodHandle>> invokers = CacheBuilder.newBuilder().weakKeys().build();
+
+	private final Cache<JvmField, Optional<MethodHandle>> setters = CacheBuilder.newBuilder().weakKeys().build();
+
 	@Inject(optional = true)
 	public void setClassLoader(ClassLoader classLoader) {
 		if (classLoader != this.classLoader) {
 			this.classLoader = classLoader;
 			classFinder = null;
+			members.invalidateAll();
+			invokers.invalidateAll();
+			setters.invalidateAll();
 		}
 	}
 
@@ -55,6 +109,235 @@ public class JavaReflectAccess {
 	 * @return the {@link java.lang.reflect.Field} corresponding to the given {@link JvmField} or <code>null</code>.
 	 */
 	public Field getField(JvmField field) {
+		return (Field) getCached(members, field, () -> findField(field));
+	}
+
+	/**
+	 * @return the {@link Method} corresponding to the given {@link JvmOperation} or <code>null</code>.
+	 */
+	public Method getMethod(JvmOperation operation) {
+		return (Method) getCached(members, operation, () -> findMethod(operation));
+	}
+
+	/**
+	 * @return the {@link Constructor} corresponding to the given {@link JvmConstructor} or <code>null</code>.
+	 */
+	public Constructor<?> getConstructor(JvmConstructor constructor) {
+		return (Constructor<?>) getCached(members, constructor, () -> findConstructor(constructor));
+	}
+
+	/**
+	 * Returns a method handle of type <code>(Object receiver, Object[] arguments)Object</code> that invokes the given
+	 * operation. The receiver is ignored for static operations. The arguments are spread to the parameters of the
+	 * method, the last one being the array of variable arguments, and are unboxed and widened like
+	 * {@link Method#invoke(Object, Object...)} does. An argument that cannot be converted results in an
+	 * {@link ArgumentMismatchException}, all other exceptions are thrown by the method itself. The result of a void
+	 * method is <code>null</code>.
+	 * 
+	 * @return the method handle or <code>null</code> if the method cannot be found or is not accessible.
+	 * @since 2.31
+	 */
+	public MethodHandle getMethodHandle(JvmOperation operation) {
+		return getCached(invokers, operation, () -> {
+			Method method = getMethod(operation);
+			if (method == null || !setAccessible(method)) {
+				return null;
+			}
+			MethodHandle result = MethodHandles.lookup().unreflect(method).asFixedArity();
+			if (Modifier.isStatic(method.getModifiers())) {
+				result = MethodHandles.dropArguments(result, 0, Object.class);
+			}
+			int parameterCount = method.getParameterCount();
+			result = MethodHandles.filterArguments(result, 0, argumentConverters(result.type()));
+			return result.asType(MethodType.genericMethodType(parameterCount + 1))
+					.asSpreader(Object[].class, parameterCount);
+		});
+	}
+
+	/**
+	 * Returns a method handle of type <code>(Object[] arguments)Object</code> that creates a new instance by means
+	 * of the given constructor. The arguments are converted like the ones of {@link #getMethodHandle(JvmOperation)}.
+	 * 
+	 * @return the method handle or <code>null</code> if the constructor cannot be found or is not accessible.
+	 * @since 2.31
+	 */
+	public MethodHandle getConstructorHandle(JvmConstructor constructor) {
+		return getCached(invokers, constructor, () -> {
+			Constructor<?> reflectConstructor = getConstructor(constructor);
+			if (reflectConstructor == null || !setAccessible(reflectConstructor)) {
+				return null;
+			}
+			MethodHandle result = MethodHandles.lookup().unreflectConstructor(reflectConstructor).asFixedArity();
+			int parameterCount = reflectConstructor.getParameterCount();
+			result = MethodHandles.filterArguments(result, 0, argumentConverters(result.type()));
+			return result.asType(MethodType.genericMethodType(parameterCount))
+					.asSpreader(Object[].class, parameterCount);
+		});
+	}
+
+	/**
+	 * Returns a method handle of type <code>(Object receiver)Object</code> that reads the given field. The receiver
+	 * is ignored for static fields.
+	 * 
+	 * @return the method handle or <code>null</code> if the field cannot be found or is not accessible.
+	 * @since 2.31
+	 */
+	public MethodHandle getFieldGetter(JvmField field) {
+		return getCached(invokers, field, () -> {
+			Field reflectField = getField(field);
+			if (reflectField == null || !setAccessible(reflectField)) {
+				return null;
+			}
+			MethodHandle result = MethodHandles.lookup().unreflectGetter(reflectField);
+			if (Modifier.isStatic(reflectField.getModifiers())) {
+				result = MethodHandles.dropArguments(result, 0, Object.class);
+			}
+			result = MethodHandles.filterArguments(result, 0, argumentConverters(result.type()));
+			return result.asType(MethodType.genericMethodType(1));
+		});
+	}
+
+	/**
+	 * Returns a method handle of type <code>(Object receiver, Object value)void</code> that writes the given field.
+	 * The receiver is ignored for static fields and the value is converted like an argument of
+	 * {@link #getMethodHandle(JvmOperation)}.
+	 * 
+	 * @return the method handle or <code>null</code> if the field cannot be found or cannot be written.
+	 * @since 2.31
+	 */
+	public MethodHandle getFieldSetter(JvmField field) {
+		return getCached(setters, field, () -> {
+			Field reflectField = getField(field);
+			if (reflectField == null || !setAccessible(reflectField)) {
+				return null;
+			}
+			MethodHandle result = MethodHandles.lookup().unreflectSetter(reflectField);
+			if (Modifier.isStatic(reflectField.getModifiers())) {
+				result = MethodHandles.dropArguments(result, 0, Object.class);
+			}
+			result = MethodHandles.filterArguments(result, 0, argumentConverters(result.type()));
+			return result.asType(MethodType.methodType(void.class, Object.class, Object.class));
+		});
+	}
+
+	/**
+	 * Returns the cached value for the given key. A value that cannot be created, e.g. a method handle for a method
+	 * that is not accessible, is cached as absent just like a member that does not exist. Unchecked exceptions are
+	 * not cached, they are thrown to the caller.
+	 */
+	private static <K, V> V getCached(Cache<K, Optional<V>> cache, K key, Callable<? extends V> loader) {
+		try {
+			return cache.get(key, () -> {
+				try {
+					return Optional.ofNullable(loader.call());
+				} catch (RuntimeException e) {
+					throw e;
+				} catch (Exception e) {
+					if (log.isDebugEnabled())
+						log.debug(e.getMessage(), e);
+					return Optional.empty();
+				}
+			}).orElse(null);
+		} catch (UncheckedExecutionException | ExecutionError e) {
+			Throwables.throwIfUnchecked(e.getCause());
+			throw e;
+		} catch (ExecutionException e) {
+			// not thrown since the loader handles all checked exceptions
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private static boolean setAccessible(AccessibleObject object) {
+		try {
+			object.setAccessible(true);
+			return true;
+		} catch (RuntimeException e) {
+			if (log.isDebugEnabled())
+				log.debug(e.getMessage(), e);
+			return false;
+		}
+	}
+
+	private static MethodHandle[] argumentConverters(MethodType type) {
+		MethodHandle[] result = new MethodHandle[type.parameterCount()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = argumentConverter(type.parameterType(i));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns a method handle that converts an object to the given type or <code>null</code> if no conversion is
+	 * necessary.
+	 */
+	private static MethodHandle argumentConverter(Class<?> type) {
+		if (type == Object.class) {
+			return null;
+		}
+		return MethodHandles.insertArguments(CONVERT_ARGUMENT, 0, type)
+				.asType(MethodType.methodType(type, Object.class));
+	}
+
+	/**
+	 * Checks that the given value is assignable to the given type and returns the value of the wrapper type of a
+	 * primitive type, e.g. a {@link Long} for an {@link Integer} if the type is <code>long</code>.
+	 */
+	@SuppressWarnings("unused") // invoked by means of a method handle
+	private static Object convertArgument(Class<?> type, Object value) {
+		if (!type.isPrimitive()) {
+			if (value == null || type.isInstance(value)) {
+				return value;
+			}
+		} else if (value != null) {
+			Class<?> wrapper = Primitives.wrap(type);
+			if (wrapper.isInstance(value)) {
+				return value;
+			}
+			Object widened = widen(type, value);
+			if (widened != null) {
+				return widened;
+			}
+		}
+		throw new ArgumentMismatchException("argument type mismatch");
+	}
+
+	/**
+	 * Applies a widening primitive conversion to a boxed primitive value or returns <code>null</code> if the value
+	 * cannot be widened to the given type.
+	 */
+	private static Object widen(Class<?> type, Object value) {
+		if (value instanceof Character) {
+			char c = ((Character) value).charValue();
+			if (type == int.class)
+				return (int) c;
+			if (type == long.class)
+				return (long) c;
+			if (type == float.class)
+				return (float) c;
+			if (type == double.class)
+				return (double) c;
+			return null;
+		}
+		if (value instanceof Byte) {
+			if (type == short.class)
+				return ((Byte) value).shortValue();
+		} else if (!(value instanceof Short || value instanceof Integer || value instanceof Long || value instanceof Float)) {
+			return null;
+		}
+		Number number = (Number) value;
+		boolean fromFloatingPoint = value instanceof Float;
+		if (type == int.class && !(value instanceof Long) && !fromFloatingPoint)
+			return number.intValue();
+		if (type == long.class && !fromFloatingPoint)
+			return number.longValue();
+		if (type == float.class)
+			return number.floatValue();
+		if (type == double.class)
+			return number.doubleValue();
+		return null;
+	}
+
+	private Field findField(JvmField field) {
 		Class<?> class1 = getRawType(field.getDeclaringType());
 		if (class1 == null)
 			return null;
@@ -67,10 +350,7 @@ public class JavaReflectAccess {
 		return null;
 	}
 
-	/**
-	 * @return the {@link Method} corresponding to the given {@link JvmOperation} or <code>null</code>.
-	 */
-	public Method getMethod(JvmOperation operation) {
+	private Method findMethod(JvmOperation operation) {
 		Class<?> declaringType = getRawType(operation.getDeclaringType());
 		if (declaringType == null)
 			return null;
@@ -84,10 +364,7 @@ public class JavaReflectAccess {
 		return null;
 	}
 
-	/**
-	 * @return the {@link Constructor} corresponding to the given {@link JvmConstructor} or <code>null</code>.
-	 */
-	public Constructor<?> getConstructor(JvmConstructor constructor) {
+	private Constructor<?> findConstructor(JvmConstructor constructor) {
 		Class<?> declaringType = getRawType(constructor.getDeclaringType());
 		if (declaringType == null)
 			return null;
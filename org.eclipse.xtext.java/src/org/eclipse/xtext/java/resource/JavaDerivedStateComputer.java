@@ -176,10 +176,10 @@ public class JavaDerivedStateComputer {
 		Procedure2<? super List<String>, ? super Map<String, byte[]>> initializer = (List<String> topLevelTypes,
 				Map<String, byte[]> classMap) -> {
 			InMemoryClassLoader inMemClassLoader = new InMemoryClassLoader(classMap, classLoader);
+			ClassFileBytesAccess classFileBytesAccess = new ClassFileBytesAccess();
 			for (String topLevel : topLevelTypes) {
 				try {
 					BinaryClass binaryClass = new BinaryClass(topLevel, inMemClassLoader);
-					ClassFileBytesAccess classFileBytesAccess = new ClassFileBytesAccess();
 					JvmDeclaredTypeBuilder builder = new JvmDeclaredTypeBuilder(binaryClass, classFileBytesAccess,
 							inMemClassLoader);
 					JvmDeclaredType type = builder.buildType();
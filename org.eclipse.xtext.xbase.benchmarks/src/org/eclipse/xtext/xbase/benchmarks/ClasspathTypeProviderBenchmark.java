@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.xtext.common.types.access.ClasspathTypeProviderFactory;
+import org.eclipse.xtext.common.types.access.impl.ClasspathTypeProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the lookup of types by their name. Each invocation uses a new {@link ClasspathTypeProvider} on a new
+ * resource set, such that the types are loaded from the class files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClasspathTypeProviderBenchmark {
+
+	/**
+	 * The number of type names that are looked up per invocation.
+	 */
+	@Param({ "10", "100" })
+	public int size;
+
+	private ClasspathTypeProviderFactory typeProviderFactory;
+
+	private String[] typeNames;
+
+	@Setup
+	public void setup() {
+		typeProviderFactory = XbaseBenchmarkSetup.getInjector().getInstance(ClasspathTypeProviderFactory.class);
+		typeNames = SyntheticCorpus.typeNames(size);
+	}
+
+	@Benchmark
+	public void findTypeByName(Blackhole blackhole) {
+		ClasspathTypeProvider typeProvider = typeProviderFactory.createTypeProvider(XbaseBenchmarkSetup.createResourceSet());
+		for (String typeName : typeNames) {
+			blackhole.consume(typeProvider.findTypeByName(typeName));
+		}
+	}
+
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.compiler.ImportManager;
+import org.eclipse.xtext.xbase.compiler.XbaseCompiler;
+import org.eclipse.xtext.xbase.compiler.output.FakeTreeAppendable;
+import org.eclipse.xtext.xbase.typesystem.IBatchTypeResolver;
+import org.eclipse.xtext.xbase.typesystem.references.LightweightTypeReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.inject.Injector;
+
+/**
+ * Measures the generation of Java code from a block expression. The types of the expression are resolved during
+ * the setup, such that the measurement covers the compiler only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompilerBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	public int size;
+
+	private XbaseCompiler compiler;
+
+	private XExpression expression;
+
+	private LightweightTypeReference returnType;
+
+	@Setup
+	public void setup() throws Exception {
+		Injector injector = XbaseBenchmarkSetup.getInjector();
+		compiler = injector.getInstance(XbaseCompiler.class);
+		expression = XbaseBenchmarkSetup.parse(SyntheticCorpus.expression(size));
+		returnType = injector.getInstance(IBatchTypeResolver.class).resolveTypes(expression).getReturnType(expression);
+	}
+
+	@Benchmark
+	public CharSequence compile() {
+		FakeTreeAppendable appendable = new FakeTreeAppendable(new ImportManager(true), "  ", "\n");
+		compiler.compile(expression, appendable, returnType);
+		return appendable.getContent();
+	}
+
+}
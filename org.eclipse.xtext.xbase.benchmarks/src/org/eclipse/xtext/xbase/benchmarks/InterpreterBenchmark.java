@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.interpreter.IEvaluationResult;
+import org.eclipse.xtext.xbase.interpreter.IExecutableExpression;
+import org.eclipse.xtext.xbase.interpreter.IExpressionInterpreter;
+import org.eclipse.xtext.xbase.interpreter.impl.XbaseInterpreter;
+import org.eclipse.xtext.xbase.typesystem.IBatchTypeResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.inject.Injector;
+
+/**
+ * Measures the evaluation of a block expression by the interpreter. The types of the expression are resolved during
+ * the setup. {@link #executeCompiled()} runs the same expression {@link XbaseInterpreter#compile(XExpression) compiled}
+ * once during the setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterpreterBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	public int size;
+
+	private IExpressionInterpreter interpreter;
+
+	private XExpression expression;
+
+	private IExecutableExpression executable;
+
+	@Setup
+	public void setup() throws Exception {
+		Injector injector = XbaseBenchmarkSetup.getInjector();
+		interpreter = injector.getInstance(IExpressionInterpreter.class);
+		expression = XbaseBenchmarkSetup.parse(SyntheticCorpus.expression(size));
+		injector.getInstance(IBatchTypeResolver.class).resolveTypes(expression);
+		IEvaluationResult result = interpreter.evaluate(expression);
+		if (result.getException() != null) {
+			throw new IllegalStateException(result.getException());
+		}
+		executable = injector.getInstance(XbaseInterpreter.class).compile(expression);
+		IEvaluationResult compiledResult = executable.evaluate();
+		if (compiledResult.getException() != null) {
+			throw new IllegalStateException(compiledResult.getException());
+		}
+	}
+
+	@Benchmark
+	public Object evaluate() {
+		return interpreter.evaluate(expression).getResult();
+	}
+
+	@Benchmark
+	public Object executeCompiled() {
+		return executable.evaluate().getResult();
+	}
+
+}
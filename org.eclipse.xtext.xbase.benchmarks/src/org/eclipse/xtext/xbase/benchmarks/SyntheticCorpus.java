@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.benchmarks;
+
+/**
+ * Generates Xbase expressions of a configurable size. The expressions exercise feature calls, extension methods,
+ * closures, loops and operators. They are free of errors, such that they can be compiled and evaluated.
+ */
+public class SyntheticCorpus {
+
+	private SyntheticCorpus() {
+	}
+
+	/**
+	 * @param size
+	 *            the number of statement groups in the block expression.
+	 */
+	public static String expression(int size) {
+		StringBuilder result = new StringBuilder("{\n");
+		for (int i = 0; i < size; i++) {
+			result.append("\tval list").append(i).append(" = newArrayList('a").append(i).append("', 'b").append(i)
+					.append("', 'c").append(i).append("')\n");
+			result.append("\tval text").append(i).append(" = list").append(i)
+					.append(".map[ toUpperCase ].filter[ length > 1 ].join(',')\n");
+			result.append("\tvar sum").append(i).append(" = 0\n");
+			result.append("\tfor (s : list").append(i).append(") {\n");
+			result.append("\t\tsum").append(i).append(" = sum").append(i).append(" + s.length * ").append(i)
+					.append("\n");
+			result.append("\t}\n");
+			result.append("\tval max").append(i).append(" = if (sum").append(i).append(" > text").append(i)
+					.append(".length) sum").append(i).append(" else text").append(i).append(".length\n");
+		}
+		result.append("\t").append(size == 0 ? "0" : "max" + (size - 1)).append("\n");
+		return result.append("}\n").toString();
+	}
+
+	/**
+	 * @param size
+	 *            the number of statement groups in the block expression.
+	 * @return a block expression where almost every feature call is an extension method call, either on a receiver
+	 *         or with an implicit first argument, including the property syntax for extensions.
+	 */
+	public static String extensionHeavyExpression(int size) {
+		StringBuilder result = new StringBuilder("{\n");
+		for (int i = 0; i < size; i++) {
+			result.append("\tval numbers").append(i).append(" = newArrayList(").append(i).append(", 2, 3).toList\n");
+			result.append("\tval first").append(i).append(" = numbers").append(i)
+					.append(".map[ it * 2 ].filter[ it > 1 ].sortBy[ -it ].head\n");
+			result.append("\tval last").append(i).append(" = numbers").append(i)
+					.append(".reverseView.last + numbers").append(i).append(".max + numbers").append(i)
+					.append(".fold(0)[ a, b | a + b ]\n");
+			result.append("\tval text").append(i).append(" = 'text").append(i)
+					.append("'.toFirstUpper.toFirstLower + numbers").append(i).append(".join(',') + first").append(i)
+					.append(".toString.nullOrEmpty\n");
+			result.append("\tval pairs").append(i).append(" = newHashMap(text").append(i).append(" -> last").append(i)
+					.append(").entrySet.exists[ key.empty || value > 0 ]\n");
+		}
+		result.append("\t").append(size == 0 ? "false" : "pairs" + (size - 1)).append("\n");
+		return result.append("}\n").toString();
+	}
+
+	private static final String[] TYPE_NAMES = {
+		"java.lang.String",
+		"java.lang.Integer",
+		"java.lang.StringBuilder",
+		"java.util.ArrayList",
+		"java.util.HashMap",
+		"java.util.LinkedList",
+		"java.util.TreeMap",
+		"java.util.Collections",
+		"java.util.concurrent.ConcurrentHashMap",
+		"java.util.function.Function",
+		"java.util.stream.Collectors",
+		"java.io.File",
+		"java.io.BufferedReader",
+		"java.math.BigDecimal",
+		"java.net.URI",
+		"java.nio.file.Files",
+		"java.text.SimpleDateFormat",
+		"java.time.LocalDateTime",
+		"com.google.common.collect.ImmutableList",
+		"com.google.common.collect.ImmutableMap",
+		"com.google.common.collect.Iterables",
+		"com.google.common.base.Joiner",
+		"org.eclipse.xtext.xbase.lib.IterableExtensions",
+		"org.eclipse.xtext.xbase.lib.StringExtensions",
+		"org.eclipse.xtext.xbase.lib.Functions$Function1",
+		"org.eclipse.xtext.xbase.lib.Procedures$Procedure1",
+		"org.eclipse.emf.ecore.EObject",
+		"org.eclipse.emf.common.util.EList",
+	};
+
+	/**
+	 * @param size
+	 *            the number of type names.
+	 * @return the binary names of types that are available on the classpath of the benchmarks. Names repeat if more
+	 *         names are requested than there are distinct types.
+	 */
+	public static String[] typeNames(int size) {
+		String[] result = new String[size];
+		for (int i = 0; i < size; i++) {
+			result[i] = TYPE_NAMES[i % TYPE_NAMES.length];
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.xtext.xbase.lib.Functions.Function1;
+import org.eclipse.xtext.xbase.typesystem.conformance.TypeConformanceComputer;
+import org.eclipse.xtext.xbase.typesystem.references.ITypeReferenceOwner;
+import org.eclipse.xtext.xbase.typesystem.references.LightweightTypeReference;
+import org.eclipse.xtext.xbase.typesystem.references.ParameterizedTypeReference;
+import org.eclipse.xtext.xbase.typesystem.references.StandardTypeReferenceOwner;
+import org.eclipse.xtext.xbase.typesystem.references.WildcardTypeReference;
+import org.eclipse.xtext.xbase.typesystem.util.CommonTypeComputationServices;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link TypeConformanceComputer#isConformant(LightweightTypeReference, LightweightTypeReference)} for a
+ * mix of raw, parameterized, wildcard and primitive types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeConformanceBenchmark {
+
+	/**
+	 * The number of conformance checks per invocation.
+	 */
+	@Param({ "100", "10000" })
+	public int size;
+
+	private TypeConformanceComputer conformanceComputer;
+
+	private LightweightTypeReference[] left;
+
+	private LightweightTypeReference[] right;
+
+	@Setup
+	public void setup() {
+		CommonTypeComputationServices services = XbaseBenchmarkSetup.getInjector().getInstance(CommonTypeComputationServices.class);
+		conformanceComputer = services.getTypeConformanceComputer();
+		ITypeReferenceOwner owner = new StandardTypeReferenceOwner(services, XbaseBenchmarkSetup.createResourceSet());
+		List<LightweightTypeReference[]> pairs = new ArrayList<>();
+		pairs.add(new LightweightTypeReference[] {
+				parameterized(owner, Collection.class, extendsWildcard(owner, owner.newReferenceTo(CharSequence.class))),
+				parameterized(owner, ArrayList.class, owner.newReferenceTo(String.class)) });
+		pairs.add(new LightweightTypeReference[] {
+				parameterized(owner, Iterable.class, owner.newReferenceToObject()),
+				parameterized(owner, List.class, owner.newReferenceTo(String.class)) });
+		pairs.add(new LightweightTypeReference[] {
+				owner.newReferenceTo(Number.class),
+				owner.newReferenceTo(Integer.class) });
+		pairs.add(new LightweightTypeReference[] {
+				parameterized(owner, Comparable.class, owner.newReferenceTo(String.class)),
+				owner.newReferenceTo(String.class) });
+		pairs.add(new LightweightTypeReference[] {
+				parameterized(owner, Map.class, owner.newReferenceTo(String.class), extendsWildcard(owner, owner.newReferenceTo(Number.class))),
+				parameterized(owner, HashMap.class, owner.newReferenceTo(String.class), owner.newReferenceTo(Integer.class)) });
+		pairs.add(new LightweightTypeReference[] {
+				owner.newReferenceTo(CharSequence.class),
+				owner.newReferenceTo(StringBuilder.class) });
+		pairs.add(new LightweightTypeReference[] {
+				parameterized(owner, Function1.class, owner.newReferenceTo(String.class), extendsWildcard(owner, owner.newReferenceToObject())),
+				parameterized(owner, Function1.class, owner.newReferenceToObject(), owner.newReferenceTo(String.class)) });
+		pairs.add(new LightweightTypeReference[] {
+				owner.newReferenceToObject(),
+				owner.newReferenceTo(int.class) });
+		left = new LightweightTypeReference[size];
+		right = new LightweightTypeReference[size];
+		for (int i = 0; i < size; i++) {
+			LightweightTypeReference[] pair = pairs.get(i % pairs.size());
+			left[i] = pair[0];
+			right[i] = pair[1];
+		}
+	}
+
+	@Benchmark
+	public void isConformant(Blackhole blackhole) {
+		for (int i = 0; i < size; i++) {
+			blackhole.consume(conformanceComputer.isConformant(left[i], right[i]));
+		}
+	}
+
+	private LightweightTypeReference parameterized(ITypeReferenceOwner owner, Class<?> type,
+			LightweightTypeReference... arguments) {
+		return owner.newReferenceTo(type, (ParameterizedTypeReference reference) -> {
+			for (LightweightTypeReference argument : arguments) {
+				reference.addTypeArgument(argument);
+			}
+			return reference;
+		});
+	}
+
+	private LightweightTypeReference extendsWildcard(ITypeReferenceOwner owner, LightweightTypeReference upperBound) {
+		WildcardTypeReference result = owner.newWildcardTypeReference();
+		result.addUpperBound(upperBound);
+		return result;
+	}
+
+}
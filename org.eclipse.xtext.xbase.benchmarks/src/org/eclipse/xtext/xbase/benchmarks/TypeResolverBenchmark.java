@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.typesystem.IResolvedTypes;
+import org.eclipse.xtext.xbase.typesystem.internal.DefaultBatchTypeResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the type resolution of a block expression. The {@link DefaultBatchTypeResolver} is used directly, such
+ * that no cached result is returned. The feature calls are linked by the first resolution during warmup, so the
+ * measurement covers the type computation and not the initial loading of the referenced types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeResolverBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	public int size;
+
+	private DefaultBatchTypeResolver typeResolver;
+
+	private XExpression expression;
+
+	@Setup
+	public void setup() throws Exception {
+		typeResolver = XbaseBenchmarkSetup.getInjector().getInstance(DefaultBatchTypeResolver.class);
+		expression = XbaseBenchmarkSetup.parse(SyntheticCorpus.expression(size));
+	}
+
+	@Benchmark
+	public IResolvedTypes resolveTypes() {
+		return typeResolver.resolveTypes(expression);
+	}
+
+}
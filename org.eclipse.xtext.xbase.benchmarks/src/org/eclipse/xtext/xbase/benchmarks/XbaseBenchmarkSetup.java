@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.XbaseStandaloneSetup;
+
+import com.google.inject.Injector;
+
+/**
+ * Provides the injector and the parsed synthetic corpora that are shared by the benchmarks.
+ */
+public class XbaseBenchmarkSetup {
+
+	private static Injector injector;
+
+	private XbaseBenchmarkSetup() {
+	}
+
+	public static synchronized Injector getInjector() {
+		if (injector == null) {
+			injector = new XbaseStandaloneSetup().createInjectorAndDoEMFRegistration();
+		}
+		return injector;
+	}
+
+	public static XtextResourceSet createResourceSet() {
+		XtextResourceSet result = getInjector().getInstance(XtextResourceSet.class);
+		result.setClasspathURIContext(XbaseBenchmarkSetup.class.getClassLoader());
+		return result;
+	}
+
+	/**
+	 * Parses the given Xbase code into a new resource set. Neither links nor resolves the types of the result.
+	 */
+	public static XExpression parse(String code) throws IOException {
+		XtextResourceSet resourceSet = createResourceSet();
+		Resource resource = resourceSet.createResource(URI.createURI("__synthetic.___xbase"));
+		resource.load(new ByteArrayInputStream(code.getBytes(StandardCharsets.UTF_8)), null);
+		if (!resource.getErrors().isEmpty()) {
+			throw new IllegalStateException(resource.getErrors().toString());
+		}
+		return (XExpression) resource.getContents().get(0);
+	}
+
+}
@@ -10,6 +10,7 @@ package org.eclipse.xtext.xbase.ide;
 
 import com.google.inject.Binder;
 import org.eclipse.xtext.common.types.descriptions.ClasspathScanner;
+import org.eclipse.xtext.common.types.descriptions.TypeDescriptorIndex;
 import org.eclipse.xtext.ide.DefaultIdeModule;
 import org.eclipse.xtext.ide.editor.contentassist.IdeContentProposalPriorities;
 import org.eclipse.xtext.ide.editor.contentassist.IdeContentProposalProvider;
@@ -33,6 +34,16 @@ public class DefaultXbaseIdeModule extends DefaultIdeModule {
 		binder.bind(ClasspathScanner.class);
 	}
 
+	/**
+	 * Persists the descriptors of the scanned jars, such that the first request for types after a restart does not
+	 * have to scan the complete class path again.
+	 * 
+	 * @since 2.31
+	 */
+	public void configureTypeDescriptorIndex(Binder binder) {
+		binder.bind(TypeDescriptorIndex.class).toInstance(new TypeDescriptorIndex(TypeDescriptorIndex.getDefaultDirectory()));
+	}
+
 	public Class<? extends IFeatureScopeTracker.Provider> bindIFeatureScopeTrackerProvider() {
 		return OptimizingFeatureScopeTrackerProvider.class;
 	}
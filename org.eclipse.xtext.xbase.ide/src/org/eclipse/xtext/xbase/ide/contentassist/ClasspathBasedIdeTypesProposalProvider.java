@@ -9,7 +9,13 @@
 package org.eclipse.xtext.xbase.ide.contentassist;
 
 import java.lang.reflect.Modifier;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.resource.ResourceSet;
@@ -17,13 +23,16 @@ import org.eclipse.xtext.common.types.descriptions.ClasspathScanner;
 import org.eclipse.xtext.common.types.descriptions.ITypeDescriptor;
 import org.eclipse.xtext.ide.editor.contentassist.ContentAssistContext;
 import org.eclipse.xtext.ide.editor.contentassist.ContentAssistEntry;
+import org.eclipse.xtext.ide.editor.contentassist.FQNPrefixMatcher;
 import org.eclipse.xtext.ide.editor.contentassist.IIdeContentProposalAcceptor;
+import org.eclipse.xtext.ide.editor.contentassist.IPrefixMatcher;
 import org.eclipse.xtext.ide.editor.contentassist.IdeContentProposalCreator;
 import org.eclipse.xtext.ide.editor.contentassist.IdeContentProposalPriorities;
 import org.eclipse.xtext.naming.IQualifiedNameConverter;
 import org.eclipse.xtext.resource.XtextResourceSet;
 import org.eclipse.xtext.util.ITextRegion;
 import org.eclipse.xtext.util.ReplaceRegion;
+import org.eclipse.xtext.util.Strings;
 import org.eclipse.xtext.xbase.imports.IImportsConfiguration;
 import org.eclipse.xtext.xbase.imports.ImportSectionRegionUtil;
 import org.eclipse.xtext.xbase.lib.IterableExtensions;
@@ -33,11 +42,31 @@ import org.eclipse.xtext.xtype.XtypePackage;
 
 import com.google.common.base.Objects;
 import com.google.common.base.Predicate;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 
 public class ClasspathBasedIdeTypesProposalProvider implements IIdeTypesProposalProvider {
+	/**
+	 * The type descriptors of the boot and the application class path. Proposals are looked up by prefix if the
+	 * {@link IPrefixMatcher} allows to.
+	 */
+	private static class IndexedTypeDescriptors implements Iterable<ITypeDescriptor> {
+		private final List<TypeDescriptorPrefixIndex> indexes;
+
+		IndexedTypeDescriptors(List<TypeDescriptorPrefixIndex> indexes) {
+			this.indexes = indexes;
+		}
+
+		@Override
+		public Iterator<ITypeDescriptor> iterator() {
+			return Iterables.concat(indexes).iterator();
+		}
+	}
+
 	@Inject
 	private ClassLoader classLoader;
 
@@ -59,6 +88,22 @@ public class ClasspathBasedIdeTypesProposalProvider implements IIdeTypesProposal
 	@Inject
 	private ImportSectionRegionUtil importSectionRegionUtil;
 
+	@Inject
+	private IPrefixMatcher prefixMatcher;
+
+	/**
+	 * The descriptors of the {@link ClasspathScanner} are cached for a while, the index is kept as long as they are.
+	 */
+	private final Cache<Iterable<ITypeDescriptor>, TypeDescriptorPrefixIndex> prefixIndexes = CacheBuilder.newBuilder()
+			.weakKeys().build();
+
+	private final Function<ITypeDescriptor, String> simpleName = ITypeDescriptor::getSimpleName;
+
+	private final Function<ITypeDescriptor, String> qualifiedName = typeDesc -> qualifiedNameConverter
+			.toString(typeDesc.getQualifiedName());
+
+	private final Map<String, Function<ITypeDescriptor, String>> lastSegments = new ConcurrentHashMap<>();
+
 	@Override
 	public void createTypeProposals(EReference reference, ContentAssistContext context,
 			Predicate<? super ITypeDescriptor> filter, IIdeContentProposalAcceptor acceptor) {
@@ -68,7 +113,12 @@ public class ClasspathBasedIdeTypesProposalProvider implements IIdeTypesProposal
 			importSection = importsConfiguration.getImportSection(context.getResource());
 			importSectionRegion = importSectionRegionUtil.computeRegion(context.getResource());
 		}
-		for (ITypeDescriptor typeDesc : getTypeDescriptors(context)) {
+		Iterable<ITypeDescriptor> typeDescriptors = getTypeDescriptors(context);
+		if (typeDescriptors instanceof IndexedTypeDescriptors) {
+			typeDescriptors = getCandidates((IndexedTypeDescriptors) typeDescriptors,
+					isImportDeclaration(reference, context), context.getPrefix());
+		}
+		for (ITypeDescriptor typeDesc : typeDescriptors) {
 			if (!acceptor.canAcceptMoreProposals()) {
 				return;
 			}
@@ -87,7 +137,75 @@ public class ClasspathBasedIdeTypesProposalProvider implements IIdeTypesProposal
 				.getBootClasspathDescriptors(Lists.newArrayList("java"));
 		Iterable<ITypeDescriptor> appClasspath = classpathScanner.getDescriptors(getClassLoader(context),
 				Collections.emptyList());
-		return Iterables.concat(bootClasspath, appClasspath);
+		return new IndexedTypeDescriptors(ImmutableList.of(getPrefixIndex(bootClasspath), getPrefixIndex(appClasspath)));
+	}
+
+	private TypeDescriptorPrefixIndex getPrefixIndex(Iterable<ITypeDescriptor> descriptors) {
+		TypeDescriptorPrefixIndex result = prefixIndexes.getIfPresent(descriptors);
+		if (result == null) {
+			result = new TypeDescriptorPrefixIndex(descriptors);
+			prefixIndexes.put(descriptors, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns all descriptors whose proposal may be accepted by the {@link IPrefixMatcher} for the given prefix, in
+	 * their original order. The prefix matchers {@link IPrefixMatcher.IgnoreCase} and {@link FQNPrefixMatcher} are
+	 * answered from the index, all descriptors are returned for other matchers.
+	 */
+	private Iterable<ITypeDescriptor> getCandidates(IndexedTypeDescriptors typeDescriptors, boolean qualified,
+			String prefix) {
+		if (Strings.isEmpty(prefix)) {
+			return typeDescriptors;
+		}
+		Function<ITypeDescriptor, String> proposal = qualified ? qualifiedName : simpleName;
+		Function<ITypeDescriptor, String> lastSegment = null;
+		if (prefixMatcher.getClass() == FQNPrefixMatcher.class) {
+			FQNPrefixMatcher fqnPrefixMatcher = (FQNPrefixMatcher) prefixMatcher;
+			if (fqnPrefixMatcher.getDelegate().getClass() != IPrefixMatcher.IgnoreCase.class) {
+				return typeDescriptors;
+			}
+			String delimiter = fqnPrefixMatcher.getDelimiter();
+			if (!Strings.isEmpty(delimiter)) {
+				int index = prefix.indexOf(delimiter);
+				if (index == 0) {
+					return typeDescriptors;
+				} else if (index > 0) {
+					// each segment of the proposal has to match the respective segment of the prefix
+					prefix = prefix.substring(0, index);
+				} else {
+					lastSegment = getLastSegment(qualified, delimiter);
+				}
+			}
+		} else if (prefixMatcher.getClass() != IPrefixMatcher.IgnoreCase.class) {
+			return typeDescriptors;
+		}
+		List<Iterable<ITypeDescriptor>> result = Lists.newArrayList();
+		for (TypeDescriptorPrefixIndex index : typeDescriptors.indexes) {
+			BitSet matches = new BitSet(index.size());
+			index.markMatches(proposal, prefix, matches);
+			if (lastSegment != null) {
+				index.markMatches(lastSegment, prefix, matches);
+			}
+			result.add(index.select(matches));
+		}
+		return Iterables.concat(result);
+	}
+
+	/**
+	 * Returns a function that computes the last segment of a proposal like {@link FQNPrefixMatcher} does.
+	 */
+	private Function<ITypeDescriptor, String> getLastSegment(boolean qualified, String delimiter) {
+		Function<ITypeDescriptor, String> proposal = qualified ? qualifiedName : simpleName;
+		return lastSegments.computeIfAbsent((qualified ? "qualified:" : "simple:") + delimiter, any -> typeDesc -> {
+			String name = proposal.apply(typeDesc);
+			int index = name.lastIndexOf(delimiter);
+			if (index >= 0 && index + delimiter.length() < name.length()) {
+				return name.substring(index + delimiter.length());
+			}
+			return null;
+		});
 	}
 
 	protected ClassLoader getClassLoader(ContentAssistContext context) {
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.xtext.xbase.ide.contentassist;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.xtext.common.types.descriptions.ITypeDescriptor;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * A list of type descriptors that allows to find the descriptors whose key, e.g. the simple name, starts with a given
+ * prefix without looking at all descriptors. For each key function, the keys are computed and sorted once. Case is
+ * ignored the same way as by {@link String#regionMatches(boolean, int, String, int, int)}.
+ *
+ * Matches are always returned in the order of the original descriptors.
+ *
+ * @since 2.31
+ */
+public class TypeDescriptorPrefixIndex implements Iterable<ITypeDescriptor> {
+
+	private static class SortedKeys {
+		private final String[] keys;
+
+		private final int[] positions;
+
+		SortedKeys(String[] keys, int[] positions) {
+			this.keys = keys;
+			this.positions = positions;
+		}
+	}
+
+	private final List<ITypeDescriptor> descriptors;
+
+	private final Map<Function<? super ITypeDescriptor, String>, SortedKeys> sortedKeys = new ConcurrentHashMap<>();
+
+	public TypeDescriptorPrefixIndex(Iterable<? extends ITypeDescriptor> descriptors) {
+		this.descriptors = ImmutableList.copyOf(descriptors);
+	}
+
+	@Override
+	public Iterator<ITypeDescriptor> iterator() {
+		return descriptors.iterator();
+	}
+
+	public int size() {
+		return descriptors.size();
+	}
+
+	/**
+	 * Marks the positions of all descriptors whose key starts with the given prefix. Descriptors whose key is
+	 * <code>null</code> never match.
+	 *
+	 * @param key
+	 *            computes the key of a descriptor. The same function instance should be used for all lookups since
+	 *            the sorted keys are cached per instance.
+	 */
+	public void markMatches(Function<? super ITypeDescriptor, String> key, String prefix, BitSet result) {
+		SortedKeys sorted = sortedKeys.computeIfAbsent(key, this::sort);
+		String normalizedPrefix = normalize(prefix);
+		int index = lowerBound(sorted.keys, normalizedPrefix);
+		while (index < sorted.keys.length && sorted.keys[index].startsWith(normalizedPrefix)) {
+			result.set(sorted.positions[index]);
+			index++;
+		}
+	}
+
+	/**
+	 * Returns the descriptors at the given positions in their original order.
+	 */
+	public Iterable<ITypeDescriptor> select(BitSet positions) {
+		List<ITypeDescriptor> result = new ArrayList<>(positions.cardinality());
+		for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+			result.add(descriptors.get(i));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the index of the first key that is not less than the given prefix.
+	 */
+	private static int lowerBound(String[] keys, String prefix) {
+		int low = 0;
+		int high = keys.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (keys[mid].compareTo(prefix) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private SortedKeys sort(Function<? super ITypeDescriptor, String> key) {
+		int size = descriptors.size();
+		String[] keys = new String[size];
+		Integer[] order = new Integer[size];
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			String value = key.apply(descriptors.get(i));
+			if (value != null) {
+				keys[i] = normalize(value);
+				order[count++] = i;
+			}
+		}
+		Arrays.sort(order, 0, count, (a, b) -> keys[a].compareTo(keys[b]));
+		String[] sortedKeys = new String[count];
+		int[] positions = new int[count];
+		for (int i = 0; i < count; i++) {
+			positions[i] = order[i];
+			sortedKeys[i] = keys[order[i]];
+		}
+		return new SortedKeys(sortedKeys, positions);
+	}
+
+	/**
+	 * Two characters are considered equal by {@link String#regionMatches(boolean, int, String, int, int)} if and
+	 * only if they are mapped to the same character.
+	 */
+	private static String normalize(String value) {
+		char[] result = null;
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			char normalized = Character.toLowerCase(Character.toUpperCase(c));
+			if (normalized != c) {
+				if (result == null) {
+					result = value.toCharArray();
+				}
+				result[i] = normalized;
+			}
+		}
+		return result == null ? value : new String(result);
+	}
+
+}
@@ -20,7 +20,11 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.core.compiler.CategorizedProblem;
 import org.eclipse.jdt.core.compiler.CharOperation;
@@ -31,6 +35,7 @@ import org.eclipse.jdt.internal.compiler.ICompilerRequestor;
 import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.eclipse.jdt.internal.compiler.env.IBinaryType;
 import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
 import org.eclipse.jdt.internal.compiler.env.INameEnvironment;
 import org.eclipse.jdt.internal.compiler.env.NameEnvironmentAnswer;
@@ -39,76 +44,78 @@ import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
 import org.eclipse.xtext.util.JavaVersion;
 import org.eclipse.xtext.xbase.lib.Exceptions;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.Lists;
 
 /**
  * @since 2.9
  */
 public class InMemoryJavaCompiler {
+	/**
+	 * The binary types that were read from the class path of a class loader. Since the class path of a class loader
+	 * does not change, the types can be shared by all compiler instances and threads.
+	 */
+	private static final LoadingCache<ClassLoader, ConcurrentMap<String, Optional<IBinaryType>>> BINARY_TYPES = CacheBuilder
+			.newBuilder().weakKeys().build(new CacheLoader<ClassLoader, ConcurrentMap<String, Optional<IBinaryType>>>() {
+				@Override
+				public ConcurrentMap<String, Optional<IBinaryType>> load(ClassLoader classLoader) {
+					return new ConcurrentHashMap<>();
+				}
+			});
+
 	private static class ClassLoaderBasedNameEnvironment implements INameEnvironment {
 		private final ClassLoader classLoader;
 
-		private Map<String, NameEnvironmentAnswer> cache = new HashMap<>();
+		private final ConcurrentMap<String, Optional<IBinaryType>> cache;
 
 		public ClassLoaderBasedNameEnvironment(ClassLoader classLoader) {
 			this.classLoader = classLoader;
+			this.cache = BINARY_TYPES.getUnchecked(classLoader);
 		}
 
 		@Override
 		public void cleanup() {
-			cache.clear();
+			// the cache is shared
 		}
 
 		@Override
 		public NameEnvironmentAnswer findType(char[][] compoundTypeName) {
-			try {
-				String fileName = new String(CharOperation.concatWith(compoundTypeName, '/')) + ".class";
-				if (cache.containsKey(fileName)) {
-					return cache.get(fileName);
-				}
-				URL url = classLoader.getResource(fileName);
-				if (url == null) {
-					cache.put(fileName, null);
-					return null;
-				}
-				ClassFileReader reader = null;
-				try (InputStream in = url.openStream()) {
-					reader = ClassFileReader.read(in, fileName);
-				}
-				if (reader == null) {
-					return null;
-				}
-				NameEnvironmentAnswer result = new NameEnvironmentAnswer(reader, null);
-				cache.put(fileName, result);
-				return result;
-			} catch (ClassFormatException | IOException e) {
-				throw Exceptions.sneakyThrow(e);
-			}
+			return findType(new String(CharOperation.concatWith(compoundTypeName, '/')) + ".class");
 		}
 
 		@Override
 		public NameEnvironmentAnswer findType(char[] typeName, char[][] packageName) {
-			try {
-				String fileName = new String(CharOperation.concatWith(packageName, '/')) + "/"
-						+ String.valueOf(typeName) + ".class";
-				if (cache.containsKey(fileName)) {
-					return cache.get(fileName);
+			return findType(new String(CharOperation.concatWith(packageName, '/')) + "/" + String.valueOf(typeName)
+					+ ".class");
+		}
+
+		private NameEnvironmentAnswer findType(String fileName) {
+			Optional<IBinaryType> binaryType = cache.get(fileName);
+			if (binaryType == null) {
+				binaryType = readType(fileName);
+				Optional<IBinaryType> existing = cache.putIfAbsent(fileName, binaryType);
+				if (existing != null) {
+					binaryType = existing;
 				}
+			}
+			if (!binaryType.isPresent()) {
+				return null;
+			}
+			return new NameEnvironmentAnswer(binaryType.get(), null);
+		}
+
+		private Optional<IBinaryType> readType(String fileName) {
+			try {
 				URL url = classLoader.getResource(fileName);
 				if (url == null) {
-					cache.put(fileName, null);
-					return null;
+					return Optional.empty();
 				}
-				ClassFileReader reader = null;
 				try (InputStream in = url.openStream()) {
-					reader = ClassFileReader.read(in, fileName);
+					// fully initialized readers are not modified anymore, so they may be shared between threads
+					return Optional.ofNullable(ClassFileReader.read(in, fileName, true));
 				}
-				if (reader == null) {
-					return null;
-				}
-				NameEnvironmentAnswer result = new NameEnvironmentAnswer(reader, null);
-				cache.put(fileName, result);
-				return result;
 			} catch (ClassFormatException | IOException e) {
 				throw Exceptions.sneakyThrow(e);
 			}
@@ -280,4 +287,15 @@ public class InMemoryJavaCompiler {
 		compiler.compile(units);
 		return result;
 	}
+
+	/**
+	 * Compiles each of the given groups of sources on its own. The groups are compiled concurrently and must not
+	 * depend on each other.
+	 * 
+	 * @return the results in the order of the given groups.
+	 * @since 2.31
+	 */
+	public List<Result> compileConcurrently(List<JavaSource[]> sources) {
+		return sources.parallelStream().map(this::compile).collect(Collectors.toList());
+	}
 }
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.xtext.xbase.tests.compiler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.eclipse.xtext.util.JavaVersion;
+import org.eclipse.xtext.xbase.testing.InMemoryJavaCompiler;
+import org.eclipse.xtext.xbase.testing.JavaSource;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class InMemoryJavaCompilerTest {
+
+	@Test
+	public void testCompileConcurrently() throws Exception {
+		InMemoryJavaCompiler compiler = new InMemoryJavaCompiler(getClass().getClassLoader(), JavaVersion.JAVA8);
+		List<JavaSource[]> sources = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			sources.add(new JavaSource[] { new JavaSource("tests/Main" + i + ".java",
+					"package tests;\n"
+					+ "public class Main" + i + " implements java.util.function.Supplier<String> {\n"
+					+ "	public String get() {\n"
+					+ "		return com.google.common.base.Joiner.on(',').join(java.util.Arrays.asList(\"" + i + "\", \"x\"));\n"
+					+ "	}\n"
+					+ "}") });
+		}
+		List<InMemoryJavaCompiler.Result> results = compiler.compileConcurrently(sources);
+		Assert.assertEquals(sources.size(), results.size());
+		for (int i = 0; i < results.size(); i++) {
+			InMemoryJavaCompiler.Result result = results.get(i);
+			Assert.assertTrue(result.getCompilationProblems().toString(), result.getCompilationProblems().isEmpty());
+			Supplier<?> supplier = (Supplier<?>) result.getClassLoader().loadClass("tests.Main" + i).getDeclaredConstructor().newInstance();
+			Assert.assertEquals(i + ",x", supplier.get());
+		}
+	}
+
+	@Test
+	public void testSharedTypesAcrossInstances() throws Exception {
+		for (int i = 0; i < 2; i++) {
+			InMemoryJavaCompiler compiler = new InMemoryJavaCompiler(getClass().getClassLoader(), JavaVersion.JAVA8);
+			InMemoryJavaCompiler.Result result = compiler.compile(new JavaSource("tests/Main.java",
+					"package tests;\n"
+					+ "public class Main {\n"
+					+ "	java.util.List<String> list = new java.util.ArrayList<>();\n"
+					+ "	Unknown unknown;\n"
+					+ "}"));
+			Assert.assertEquals(1, result.getCompilationProblems().size());
+		}
+	}
+
+}
@@ -8,6 +8,7 @@
  *******************************************************************************/
 package org.eclipse.xtext.xbase.tests.compiler.output;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
@@ -273,6 +274,52 @@ public class TreeAppendableTest extends Assert implements ILocationInFileProvide
 		assertEquals("my bbaa text bbaa more bbaa end", appendable.getContent());
 	}
 
+	@Test
+	public void testCharSequenceOfGrowingChildren() throws IOException {
+		expectedRegions = new AbstractIterator<ITextRegionWithLineInformation>() {
+			int start = 0;
+			@Override
+			protected ITextRegionWithLineInformation computeNext() {
+				return new TextRegionWithLineInformation(start++, 1, 1, 1);
+			}
+		};
+		TreeAppendable appendable = new TreeAppendable(new ImportManager(false), this, this, this, content, "  ", "\n");
+		appendable.append("start");
+		TreeAppendable first = appendable.trace(content);
+		TreeAppendable second = appendable.trace(content);
+		second.append("[");
+		TreeAppendable grandChild = second.trace(content);
+		assertEquals("start[", appendable.toString());
+		assertEquals(6, appendable.length());
+		first.appendUnsafe("<first>");
+		grandChild.append("grand\nchild");
+		second.append("]");
+		appendable.append("end");
+		String expected = "start<first>[grand\nchild]end";
+		assertEquals(expected, appendable.getContent());
+		assertEquals(expected.length(), appendable.length());
+		for (int i = 0; i < expected.length(); i++) {
+			assertEquals(expected.charAt(i), appendable.charAt(i));
+		}
+		assertEquals("first>[gra", appendable.subSequence(6, 16).toString());
+		assertEquals(expected, appendable.subSequence(0, expected.length()).toString());
+		assertEquals("", appendable.subSequence(7, 7).toString());
+		StringBuilder written = new StringBuilder();
+		appendable.writeTo(written);
+		assertEquals(expected, written.toString());
+
+		appendable.acceptVisitor(new TreeAppendable.Visitor() {
+			@Override
+			protected String visit(String string) {
+				return string.toUpperCase();
+			}
+		});
+		assertEquals(expected.toUpperCase(), appendable.getContent());
+		assertEquals(expected.length(), appendable.length());
+		assertEquals('G', appendable.charAt(13));
+		expectedRegions = null;
+	}
+
 	@Override
 	public Set<EObject> getSourceElements(EObject jvmElement) {
 		return Collections.emptySet();
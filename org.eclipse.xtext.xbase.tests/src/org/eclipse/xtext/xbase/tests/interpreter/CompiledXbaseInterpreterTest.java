@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.tests.interpreter;
+
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.testing.InjectWith;
+import org.eclipse.xtext.testing.XtextRunner;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.util.IResourceScopeCache;
+import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.XVariableDeclaration;
+import org.eclipse.xtext.xbase.interpreter.IEvaluationContext;
+import org.eclipse.xtext.xbase.interpreter.IEvaluationResult;
+import org.eclipse.xtext.xbase.interpreter.IExecutableExpression;
+import org.eclipse.xtext.xbase.interpreter.impl.DefaultEvaluationContext;
+import org.eclipse.xtext.xbase.interpreter.impl.ExecutableExpressionBuilder;
+import org.eclipse.xtext.xbase.interpreter.impl.ExecutableNode;
+import org.eclipse.xtext.xbase.interpreter.impl.XbaseInterpreter;
+import org.eclipse.xtext.xbase.tests.XbaseInjectorProvider;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+
+/**
+ * Runs all evaluation tests against expressions that are compiled once and evaluated twice.
+ */
+@RunWith(XtextRunner.class)
+@InjectWith(XbaseInjectorProvider.class)
+public class CompiledXbaseInterpreterTest extends XbaseInterpreterTest {
+
+	@Inject
+	private XbaseInterpreter interpreter;
+
+	@Inject
+	private IResourceScopeCache cache;
+
+	@Inject
+	private Injector injector;
+
+	@Override
+	public void assertEvaluatesTo(Object expectation, String model, boolean validate) {
+		XExpression expression = null;
+		try {
+			expression = expression(model, validate);
+			IExecutableExpression executable = interpreter.compile(expression);
+			for (int i = 0; i < 2; i++) {
+				IEvaluationResult result = executable.evaluate();
+				assertNull("Expected no exception. Model was: " + model + ", Exception was: " + result.getException(),
+						result.getException());
+				if (expectation != null && expectation.getClass().isArray())
+					assertArrayEquals("Model was: " + model, (Object[]) expectation, (Object[]) result.getResult());
+				else
+					assertEquals("Model was: " + model, expectation, result.getResult());
+			}
+		} catch (Exception e) {
+			if (e instanceof RuntimeException)
+				throw (RuntimeException) e;
+			throw new RuntimeException(e);
+		} finally {
+			if (expression != null) {
+				cache.clear(expression.eResource());
+			}
+		}
+	}
+
+	@Override
+	public void assertEvaluatesWithException(Class<? extends Throwable> expectatedException, String model) {
+		XExpression expression = null;
+		try {
+			expression = expression(model, true);
+			IExecutableExpression executable = interpreter.compile(expression);
+			for (int i = 0; i < 2; i++) {
+				IEvaluationResult result = executable.evaluate();
+				assertTrue("Expected " + expectatedException.getSimpleName() + " but got: " + result.getException(),
+						expectatedException.isInstance(result.getException()));
+			}
+		} catch (Exception e) {
+			if (e instanceof RuntimeException)
+				throw (RuntimeException) e;
+			throw new RuntimeException(e);
+		} finally {
+			if (expression != null) {
+				cache.clear(expression.eResource());
+			}
+		}
+	}
+
+	@Test
+	public void testEvaluateWithChangingInputs() throws Exception {
+		XExpression expression = expression("{ val x = 'foo' x.length }", true);
+		IExecutableExpression executable = interpreter.compile(expression);
+		assertEquals(3, executable.evaluate().getResult());
+		assertEquals(3, executable.evaluate().getResult());
+
+		expression = expression("[ String s | s.toUpperCase + s.length ]", true);
+		executable = interpreter.compile(expression);
+		@SuppressWarnings("unchecked")
+		org.eclipse.xtext.xbase.lib.Functions.Function1<String, String> function =
+				(org.eclipse.xtext.xbase.lib.Functions.Function1<String, String>) executable.evaluate().getResult();
+		assertEquals("FOO3", function.apply("foo"));
+		assertEquals("BARBAZ6", function.apply("barbaz"));
+	}
+
+	@Test
+	public void testEvaluateInGivenContext() throws Exception {
+		XExpression expression = expression("{ var int x = 0 for (i : 1..3) x = x + i x }", true);
+		IExecutableExpression executable = interpreter.compile(expression);
+		IEvaluationContext context = new DefaultEvaluationContext();
+		context.newValue(QualifiedName.create("unused"), "value");
+		assertEquals(6, executable.evaluate(context, CancelIndicator.NullImpl).getResult());
+		assertNull(executable.evaluate(context, () -> true));
+	}
+
+	@Test
+	public void testClosuresCaptureLoopVariables() throws Exception {
+		assertEvaluatesTo("123",
+				"{ val result = <()=>String>newArrayList" +
+				"  for (i : 1..3) { val s = String.valueOf(i) result.add([| s ]) }" +
+				"  result.map[apply].join }");
+		assertEvaluatesTo("3,2,1",
+				"{ val fs = <(String)=>String>newArrayList" +
+				"  for (i : 3..1) fs.add([ x | x + i ])" +
+				"  fs.map[apply('')].join(',') }");
+	}
+
+	@Test
+	public void testInterpretedExpressionsAccessSlots() throws Exception {
+		assertEvaluatesTo(5,
+				"{ var x = 1" +
+				"  switch x { case 1: x = x + 4 }" +
+				"  x }");
+		assertEvaluatesTo("b",
+				"{ { val x = 'a' newArrayList.add(x) } val x = 'b'" +
+				"  switch x { case 'b': x } }");
+	}
+
+	@Test
+	public void testVariableWithoutDefaultValueFailsOnExecution() throws Exception {
+		XbaseInterpreter withoutDefaults = new XbaseInterpreter() {
+			@Override
+			protected Object getDefaultValue(XVariableDeclaration variableDecl) {
+				throw new IllegalStateException("No default value");
+			}
+		};
+		injector.injectMembers(withoutDefaults);
+		assertEquals(1, withoutDefaults.compile(expression("{ if (false) { var int y } 1 }", true)).evaluate().getResult());
+		IExecutableExpression executable = withoutDefaults.compile(expression("{ var int y 1 }", true));
+		try {
+			executable.evaluate();
+			fail("Expected IllegalStateException");
+		} catch (IllegalStateException e) {
+			assertEquals("No default value", e.getMessage());
+		}
+	}
+
+	@Test
+	public void testNodesWithVariablesRequireAFrame() throws Exception {
+		ExecutableNode node = new ExecutableExpressionBuilder(interpreter).build(expression("{ val x = 1 x }", true));
+		try {
+			node.execute(new DefaultEvaluationContext(), CancelIndicator.NullImpl);
+			fail("Expected IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains("FrameEvaluationContext"));
+		}
+	}
+
+}
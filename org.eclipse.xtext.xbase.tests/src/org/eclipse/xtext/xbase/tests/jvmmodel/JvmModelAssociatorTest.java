@@ -8,7 +8,9 @@
  */
 package org.eclipse.xtext.xbase.tests.jvmmodel;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
@@ -17,9 +19,14 @@ import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.xtext.common.types.JvmConstructor;
 import org.eclipse.xtext.common.types.JvmDeclaredType;
 import org.eclipse.xtext.common.types.JvmGenericType;
+import org.eclipse.xtext.common.types.JvmIdentifiableElement;
+import org.eclipse.xtext.common.types.JvmOperation;
 import org.eclipse.xtext.common.types.JvmTypeReference;
+import org.eclipse.xtext.common.types.TypesFactory;
 import org.eclipse.xtext.resource.DerivedStateAwareResource;
 import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.XbaseFactory;
 import org.eclipse.xtext.xbase.jvmmodel.IJvmDeclaredTypeAcceptor;
 import org.eclipse.xtext.xbase.jvmmodel.IJvmModelInferrer;
 import org.eclipse.xtext.xbase.jvmmodel.JvmModelAssociator;
@@ -154,4 +161,31 @@ public class JvmModelAssociatorTest extends AbstractJvmModelTest {
 		sources2 = Lists.newArrayList(assoc.getSourceElements(jvmElement2));
 		Assert.assertEquals(0, sources2.size());
 	}
+
+	@Test
+	public void testLogicalContainerMapKeepsReverseMappingConsistent() {
+		JvmModelAssociator.LogicalContainerMap map = new JvmModelAssociator.LogicalContainerMap();
+		JvmOperation first = TypesFactory.eINSTANCE.createJvmOperation();
+		JvmOperation second = TypesFactory.eINSTANCE.createJvmOperation();
+		XExpression body = XbaseFactory.eINSTANCE.createXBlockExpression();
+		XExpression other = XbaseFactory.eINSTANCE.createXNullLiteral();
+		map.put(body, first);
+		map.put(other, first);
+		Assert.assertSame(body, map.getAssociatedExpression(first));
+		Assert.assertNull(map.getAssociatedExpression(second));
+		map.put(body, second);
+		Assert.assertSame(other, map.getAssociatedExpression(first));
+		Assert.assertSame(body, map.getAssociatedExpression(second));
+		Iterator<Map.Entry<EObject, JvmIdentifiableElement>> iterator = map.entrySet().iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().getKey() == other) {
+				iterator.remove();
+			}
+		}
+		Assert.assertNull(map.getAssociatedExpression(first));
+		Assert.assertEquals(1, map.size());
+		map.remove(body);
+		Assert.assertNull(map.getAssociatedExpression(second));
+		Assert.assertTrue(map.getLogicalChildren(second).isEmpty());
+	}
 }
@@ -8,12 +8,17 @@
  */
 package org.eclipse.xtext.xbase.tests.jvmmodel;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.xtext.common.types.JvmConstructor;
 import org.eclipse.xtext.common.types.JvmDeclaredType;
 import org.eclipse.xtext.common.types.JvmGenericType;
 import org.eclipse.xtext.common.types.descriptions.JvmDeclaredTypeSignatureHashProvider;
+import org.eclipse.xtext.common.types.descriptions.JvmTypesResourceDescriptionStrategy;
 import org.eclipse.xtext.common.types.util.TypeReferences;
 import org.eclipse.xtext.xbase.XExpression;
 import org.eclipse.xtext.xbase.jvmmodel.JvmTypesBuilder;
@@ -77,4 +82,23 @@ public class TypeSignatureHashTest extends AbstractXbaseTestCase {
 		Assert.assertEquals("java.lang.String",
 				jvmDeclaredTypeSignatureHashProvider.getHash(((JvmDeclaredType) typeReferences.findDeclaredType(String.class, e))));
 	}
+
+	@Test
+	public void testMemberHashes() throws Exception {
+		XExpression eObject = expression("null");
+		JvmGenericType foo = jvmTypesBuilder.toClass(eObject, "Foo", (JvmGenericType it) -> {
+			it.getMembers().add(jvmTypesBuilder.toMethod(eObject, "bar", typeReferences.getTypeForName(String.class, eObject), null));
+			it.getMembers().add(jvmTypesBuilder.toMethod(eObject, "baz", typeReferences.getTypeForName(String.class, eObject), null));
+		});
+		String headerHash = jvmDeclaredTypeSignatureHashProvider.getHeaderHash(foo);
+		Map<String, String> memberHashes = jvmDeclaredTypeSignatureHashProvider.getMemberHashes(foo);
+		Assert.assertEquals(Arrays.asList("bar", "baz"), new ArrayList<>(memberHashes.keySet()));
+		Assert.assertEquals(memberHashes, JvmTypesResourceDescriptionStrategy.decodeMemberHashes(
+				JvmTypesResourceDescriptionStrategy.encodeMemberHashes(memberHashes)));
+		foo.getMembers().add(jvmTypesBuilder.toMethod(eObject, "bar", typeReferences.getTypeForName(Object.class, eObject), null));
+		Map<String, String> changedHashes = jvmDeclaredTypeSignatureHashProvider.getMemberHashes(foo);
+		Assert.assertEquals(headerHash, jvmDeclaredTypeSignatureHashProvider.getHeaderHash(foo));
+		Assert.assertNotEquals(memberHashes.get("bar"), changedHashes.get("bar"));
+		Assert.assertEquals(memberHashes.get("baz"), changedHashes.get("baz"));
+	}
 }
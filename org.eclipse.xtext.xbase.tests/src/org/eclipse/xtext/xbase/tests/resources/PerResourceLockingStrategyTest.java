@@ -0,0 +1,359 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.tests.resources;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.access.TypeResource;
+import org.eclipse.xtext.resource.SynchronizedXtextResourceSet;
+import org.eclipse.xtext.service.OperationCanceledManager;
+import org.eclipse.xtext.testing.InjectWith;
+import org.eclipse.xtext.testing.XtextRunner;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.util.StringInputStream;
+import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.resource.BatchLinkableResource;
+import org.eclipse.xtext.xbase.resource.IResourceLockingStrategy;
+import org.eclipse.xtext.xbase.resource.PerResourceLockingStrategy;
+import org.eclipse.xtext.xbase.tests.XbaseInjectorProvider;
+import org.eclipse.xtext.xbase.typesystem.override.RawResolvedFeatures;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.google.common.collect.Iterables;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+
+/**
+ * Concurrency tests for the {@link PerResourceLockingStrategy}.
+ */
+@RunWith(XtextRunner.class)
+@InjectWith(XbaseInjectorProvider.class)
+public class PerResourceLockingStrategyTest {
+
+	/**
+	 * Records the thread that holds the lock of a resource and counts the threads that entered a resource while
+	 * another thread held it.
+	 */
+	public static class RecordingLockingStrategy extends PerResourceLockingStrategy {
+
+		private final Map<BatchLinkableResource, Thread> owners = new ConcurrentHashMap<>();
+
+		private final Map<BatchLinkableResource, AtomicInteger> holdCounts = new ConcurrentHashMap<>();
+
+		private final AtomicInteger violations = new AtomicInteger();
+
+		private volatile BatchLinkableResource awaited;
+
+		private final CountDownLatch awaiting = new CountDownLatch(1);
+
+		@Override
+		public void lock(BatchLinkableResource resource) {
+			if (resource == awaited && owners.get(resource) != Thread.currentThread()) {
+				awaiting.countDown();
+			}
+			super.lock(resource);
+			Thread previous = owners.putIfAbsent(resource, Thread.currentThread());
+			if (previous != null && previous != Thread.currentThread()) {
+				violations.incrementAndGet();
+			}
+			holdCounts.computeIfAbsent(resource, r -> new AtomicInteger()).incrementAndGet();
+		}
+
+		@Override
+		public void unlock(BatchLinkableResource resource) {
+			if (holdCounts.get(resource).decrementAndGet() == 0) {
+				owners.remove(resource);
+			}
+			super.unlock(resource);
+		}
+	}
+
+	@Inject
+	private Injector injector;
+
+	@Inject
+	private OperationCanceledManager operationCanceledManager;
+
+	private PerResourceLockingStrategy strategy;
+
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		strategy = new PerResourceLockingStrategy();
+		injector.injectMembers(strategy);
+		executor = Executors.newCachedThreadPool();
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testExecuteUsesLockingStrategy() throws Exception {
+		Injector child = injector.createChildInjector(
+				binder -> binder.bind(IResourceLockingStrategy.class).toInstance(strategy));
+		BatchLinkableResource first = new BatchLinkableResource();
+		BatchLinkableResource second = new BatchLinkableResource();
+		child.injectMembers(first);
+		child.injectMembers(second);
+		assertSame(strategy, first.getLockingStrategy());
+		first.execute(resource -> {
+			assertEquals("other", executor.submit(() -> second.execute(r -> "other")).get(5, TimeUnit.SECONDS));
+			Future<String> same = executor.submit(() -> first.execute(r -> "same"));
+			try {
+				same.get(100, TimeUnit.MILLISECONDS);
+				fail("Expected the resource to be locked");
+			} catch (TimeoutException e) {
+				// expected
+			}
+			return null;
+		});
+	}
+
+	@Test
+	public void testReentrantLocking() throws Exception {
+		BatchLinkableResource resource = new BatchLinkableResource();
+		strategy.lock(resource);
+		strategy.lock(resource);
+		strategy.unlock(resource);
+		assertFalse(tryLock(resource));
+		strategy.unlock(resource);
+		assertTrue(tryLock(resource));
+	}
+
+	@Test
+	public void testDeadlockIsResolvedByCancellation() throws Exception {
+		BatchLinkableResource first = new BatchLinkableResource();
+		BatchLinkableResource second = new BatchLinkableResource();
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		Future<Boolean> one = executor.submit(() -> lockBoth(first, second, barrier));
+		Future<Boolean> two = executor.submit(() -> lockBoth(second, first, barrier));
+		boolean firstCanceled = one.get(10, TimeUnit.SECONDS);
+		boolean secondCanceled = two.get(10, TimeUnit.SECONDS);
+		assertTrue("Exactly one thread should have been canceled", firstCanceled ^ secondCanceled);
+	}
+
+	@Test
+	public void testResourcesAreResolvedConcurrently() throws Exception {
+		RecordingLockingStrategy recordingStrategy = new RecordingLockingStrategy();
+		injector.injectMembers(recordingStrategy);
+		Injector child = injector.createChildInjector(
+				binder -> binder.bind(IResourceLockingStrategy.class).toInstance(recordingStrategy));
+		SynchronizedXtextResourceSet resourceSet = injector.getInstance(SynchronizedXtextResourceSet.class);
+		resourceSet.setClasspathURIContext(getClass());
+		BatchLinkableResource first = loadResource(child, resourceSet, "first", "{ val list = newArrayList('a') list.map[ toUpperCase ].head }");
+		BatchLinkableResource second = loadResource(child, resourceSet, "second", "{ val map = newHashMap(1 -> 'b') map.values.join }");
+		recordingStrategy.awaited = first;
+		CyclicBarrier bothEntered = new CyclicBarrier(2);
+		CyclicBarrier bothResolved = new CyclicBarrier(2);
+		AtomicBoolean probeEntered = new AtomicBoolean();
+		Future<Boolean> firstResolution = executor.submit(() -> first.execute(resource -> {
+			bothEntered.await(10, TimeUnit.SECONDS);
+			resource.resolveLazyCrossReferences(CancelIndicator.NullImpl);
+			bothResolved.await(10, TimeUnit.SECONDS);
+			// another thread that accesses the same resource has to wait until the resolution is done
+			Future<?> probe = executor.submit(() -> {
+				assertTrue(first.getEObject("/0") instanceof XExpression);
+				probeEntered.set(true);
+			});
+			assertTrue(recordingStrategy.awaiting.await(10, TimeUnit.SECONDS));
+			assertFalse(probeEntered.get());
+			assertFalse(probe.isDone());
+			return true;
+		}));
+		Future<Boolean> secondResolution = executor.submit(() -> second.execute(resource -> {
+			bothEntered.await(10, TimeUnit.SECONDS);
+			resource.resolveLazyCrossReferences(CancelIndicator.NullImpl);
+			bothResolved.await(10, TimeUnit.SECONDS);
+			return true;
+		}));
+		assertTrue(firstResolution.get(30, TimeUnit.SECONDS));
+		assertTrue(secondResolution.get(30, TimeUnit.SECONDS));
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		assertTrue(probeEntered.get());
+		assertEquals(0, recordingStrategy.violations.get());
+		assertTrue(first.getErrors().isEmpty());
+		assertTrue(second.getErrors().isEmpty());
+	}
+
+	@Test
+	public void testSharedTypesAreResolvedOnce() throws Exception {
+		Injector child = injector.createChildInjector(
+				binder -> binder.bind(IResourceLockingStrategy.class).toInstance(strategy));
+		SynchronizedXtextResourceSet resourceSet = injector.getInstance(SynchronizedXtextResourceSet.class);
+		resourceSet.setClasspathURIContext(getClass());
+		List<BatchLinkableResource> resources = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			resources.add(loadResource(child, resourceSet, "resource" + i,
+					"{ val list = newArrayList('" + i + "') list.map[ toUpperCase ].filter[ length > 0 ].head }"));
+		}
+		CyclicBarrier start = new CyclicBarrier(resources.size());
+		List<Future<?>> futures = new ArrayList<>();
+		for (BatchLinkableResource resource : resources) {
+			futures.add(executor.submit(() -> resource.execute(r -> {
+				start.await(10, TimeUnit.SECONDS);
+				r.resolveLazyCrossReferences(CancelIndicator.NullImpl);
+				return null;
+			})));
+		}
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+		for (BatchLinkableResource resource : resources) {
+			assertTrue(resource.getErrors().isEmpty());
+		}
+		for (Resource resource : resourceSet.getResources()) {
+			if (resource instanceof TypeResource) {
+				TreeIterator<EObject> contents = resource.getAllContents();
+				while (contents.hasNext()) {
+					EObject object = contents.next();
+					if (object instanceof JvmDeclaredType) {
+						assertTrue(((JvmDeclaredType) object).getIdentifier(),
+								Iterables.size(Iterables.filter(object.eAdapters(), RawResolvedFeatures.class)) <= 1);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testNestedLockingUnderContention() throws Exception {
+		int threads = 8;
+		int iterations = 200;
+		List<BatchLinkableResource> resources = newResources(6);
+		int[] counters = new int[resources.size()];
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> futures = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			Random random = new Random(t);
+			futures.add(executor.submit(() -> {
+				start.await();
+				int canceled = 0;
+				for (int i = 0; i < iterations; i++) {
+					int[] path = { random.nextInt(counters.length), random.nextInt(counters.length),
+							random.nextInt(counters.length) };
+					while (!incrementNested(resources, counters, path, 0)) {
+						canceled++;
+					}
+				}
+				return canceled;
+			}));
+		}
+		start.countDown();
+		for (Future<Integer> future : futures) {
+			future.get(60, TimeUnit.SECONDS);
+		}
+		int sum = 0;
+		for (int counter : counters) {
+			sum += counter;
+		}
+		assertEquals(threads * iterations * 3, sum);
+	}
+
+	private boolean incrementNested(List<BatchLinkableResource> resources, int[] counters, int[] path, int index) {
+		if (index == path.length) {
+			return true;
+		}
+		BatchLinkableResource resource = resources.get(path[index]);
+		try {
+			strategy.lock(resource);
+		} catch (Throwable t) {
+			assertTrue(operationCanceledManager.isOperationCanceledException(t));
+			return false;
+		}
+		try {
+			if (!incrementNested(resources, counters, path, index + 1)) {
+				return false;
+			}
+			int value = counters[path[index]];
+			Thread.yield();
+			counters[path[index]] = value + 1;
+			return true;
+		} finally {
+			strategy.unlock(resource);
+		}
+	}
+
+	private boolean lockBoth(BatchLinkableResource first, BatchLinkableResource second, CyclicBarrier barrier)
+			throws Exception {
+		strategy.lock(first);
+		try {
+			barrier.await();
+			try {
+				strategy.lock(second);
+			} catch (Throwable t) {
+				assertTrue(operationCanceledManager.isOperationCanceledException(t));
+				return true;
+			}
+			strategy.unlock(second);
+			return false;
+		} finally {
+			strategy.unlock(first);
+		}
+	}
+
+	private boolean tryLock(BatchLinkableResource resource) throws Exception {
+		Future<?> future = executor.submit(() -> {
+			strategy.lock(resource);
+			strategy.unlock(resource);
+		});
+		try {
+			future.get(100, TimeUnit.MILLISECONDS);
+			return true;
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			return false;
+		}
+	}
+
+	private BatchLinkableResource loadResource(Injector child, SynchronizedXtextResourceSet resourceSet, String name,
+			String content) throws Exception {
+		BatchLinkableResource resource = new BatchLinkableResource();
+		child.injectMembers(resource);
+		resource.setURI(URI.createURI(name + ".___xbase"));
+		resourceSet.getResources().add(resource);
+		resource.load(new StringInputStream(content), null);
+		return resource;
+	}
+
+	private List<BatchLinkableResource> newResources(int count) {
+		List<BatchLinkableResource> result = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			result.add(new BatchLinkableResource());
+		}
+		return result;
+	}
+
+}
@@ -14,15 +14,21 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
+import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ExtensibleURIConverterImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.common.types.JvmConstructor;
+import org.eclipse.xtext.common.types.JvmDeclaredType;
 import org.eclipse.xtext.common.types.JvmGenericType;
+import org.eclipse.xtext.common.types.JvmIdentifiableElement;
+import org.eclipse.xtext.common.types.JvmOperation;
 import org.eclipse.xtext.common.types.TypesPackage;
+import org.eclipse.xtext.common.types.descriptions.JvmDeclaredTypeSignatureHashProvider;
 import org.eclipse.xtext.nodemodel.BidiTreeIterator;
 import org.eclipse.xtext.nodemodel.INode;
 import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
@@ -37,14 +43,22 @@ import org.eclipse.xtext.xbase.XExpression;
 import org.eclipse.xtext.xbase.jvmmodel.JvmModelAssociator;
 import org.eclipse.xtext.xbase.lib.IterableExtensions;
 import org.eclipse.xtext.xbase.resource.BatchLinkableResourceStorageFacade;
+import org.eclipse.xtext.xbase.resource.BatchLinkableResourceStorageLoadable;
+import org.eclipse.xtext.xbase.resource.BatchLinkableResourceStorageWritable;
+import org.eclipse.xtext.xbase.resource.ResolvedTypesStorage;
 import org.eclipse.xtext.xbase.tests.jvmmodel.AbstractJvmModelTest;
+import org.eclipse.xtext.xbase.typesystem.IBatchTypeResolver;
+import org.eclipse.xtext.xbase.typesystem.IResolvedTypes;
+import org.eclipse.xtext.xbase.typesystem.references.LightweightTypeReference;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import com.google.common.collect.Sets;
 import com.google.inject.Guice;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
+import com.google.inject.Singleton;
 
 /**
  * Test for {@link BatchLinkableResourceStorageFacade} Node Model Serialization
@@ -73,6 +87,24 @@ public class ResourceStorageTest extends AbstractJvmModelTest {
 		public Class<? extends IResourceStorageFacade> bindIResourceStorageFacade() {
 			return BatchLinkableResourceStorageFacade.class;
 		}
+
+		public Class<? extends JvmDeclaredTypeSignatureHashProvider> bindJvmDeclaredTypeSignatureHashProvider() {
+			return ChangeableSignatureHashProvider.class;
+		}
+	}
+
+	/**
+	 * Simulates a signature change of the types with the given identifiers.
+	 */
+	@Singleton
+	public static class ChangeableSignatureHashProvider extends JvmDeclaredTypeSignatureHashProvider {
+		private final Set<String> changedTypes = Sets.newConcurrentHashSet();
+
+		@Override
+		public String getHash(JvmDeclaredType type) {
+			String result = super.getHash(type);
+			return changedTypes.contains(type.getIdentifier()) ? result + "#changed" : result;
+		}
 	}
 
 	public static class InMemoryURIConverter extends ExtensibleURIConverterImpl {
@@ -107,6 +139,15 @@ public class ResourceStorageTest extends AbstractJvmModelTest {
 	@Inject
 	private JvmModelAssociator associator;
 	
+	@Inject
+	private IBatchTypeResolver typeResolver;
+	
+	@Inject
+	private ResolvedTypesStorage resolvedTypesStorage;
+	
+	@Inject
+	private ChangeableSignatureHashProvider hashProvider;
+	
 	@Test
 	public void testWriteAndLoad() throws Exception {
 		StringBuilder model = new StringBuilder();
@@ -213,4 +254,136 @@ public class ResourceStorageTest extends AbstractJvmModelTest {
 		// Write broken associations
 		resourceStorageFacade.createResourceStorageWritable(bout).writeResource(resource);
 	}
+	
+	@Test
+	public void testWriteAndLoadResolvedTypes() throws Exception {
+		String code = "{\n"
+				+ "	val list = newArrayList('a', 'b')\n"
+				+ "	val lengths = list.map[length]\n"
+				+ "	val Object[] array = #[list]\n"
+				+ "	val (String)=>int f = [ it.length ]\n"
+				+ "	lengths.head + f.apply('c') + array.length\n"
+				+ "}";
+		XExpression file = this.expression(code);
+		StorageAwareResource originalResource = (StorageAwareResource) file.eResource();
+		Map<String, String> expected = describeTypes(originalResource);
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		resourceStorageFacade.createResourceStorageWritable(bout).writeResource(originalResource);
+
+		StorageAwareResource resource = loadFromStorage(file, code, resourceStorageFacade.createResourceStorageLoadable(new ByteArrayInputStream(bout.toByteArray())));
+		Assert.assertTrue(resource.isLoadedFromStorage());
+		Assert.assertEquals(expected, describeTypes(resource));
+		Assert.assertTrue(expected.toString(), expected.containsValue("(java.lang.String)=>int"));
+		Assert.assertTrue(expected.toString(), expected.containsValue("java.util.List<java.lang.Integer>"));
+	}
+	
+	@Test
+	public void testLoadStorageWithoutResolvedTypes() throws Exception {
+		String code = "{ val x = 'a' x.length }";
+		XExpression file = this.expression(code);
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		new BatchLinkableResourceStorageWritable(bout, false).writeResource((StorageAwareResource) file.eResource());
+		
+		StorageAwareResource resource = loadFromStorage(file, code, resourceStorageFacade.createResourceStorageLoadable(new ByteArrayInputStream(bout.toByteArray())));
+		Assert.assertTrue(resource.getContents().get(0) instanceof XBlockExpression);
+		Assert.assertEquals(2, resource.getContents().size());
+		
+		bout = new ByteArrayOutputStream();
+		resourceStorageFacade.createResourceStorageWritable(bout).writeResource((StorageAwareResource) file.eResource());
+		resource = loadFromStorage(file, code, new BatchLinkableResourceStorageLoadable(new ByteArrayInputStream(bout.toByteArray()), false));
+		Assert.assertTrue(resource.getContents().get(0) instanceof XBlockExpression);
+	}
+	
+	@Test
+	public void testChangedDependencyRejectsResolvedTypes() throws Exception {
+		String code = "{ System.currentTimeMillis }";
+		XExpression file = this.expression(code);
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		resourceStorageFacade.createResourceStorageWritable(bout).writeResource((StorageAwareResource) file.eResource());
+		
+		StorageAwareResource resource = loadFromStorage(file, code, resourceStorageFacade.createResourceStorageLoadable(new ByteArrayInputStream(bout.toByteArray())));
+		Assert.assertNotNull(resolvedTypesStorage.getResolvedTypes(resource, () -> IResolvedTypes.NULL));
+		try {
+			// System is only the declaring type of the linked feature
+			hashProvider.changedTypes.add("java.lang.System");
+			resource.getResourceSet().createResource(URI.createURI("synthetic:/Other.___xbase"));
+			Assert.assertNull(resolvedTypesStorage.getResolvedTypes(resource, () -> IResolvedTypes.NULL));
+			
+			hashProvider.changedTypes.clear();
+			resource.getResourceSet().createResource(URI.createURI("synthetic:/Another.___xbase"));
+			Assert.assertNotNull(resolvedTypesStorage.getResolvedTypes(resource, () -> IResolvedTypes.NULL));
+		} finally {
+			hashProvider.changedTypes.clear();
+		}
+	}
+	
+	@Test
+	public void testStoredResolvedTypesAnswerTypesOfMembers() throws Exception {
+		String code = "{ val x = 'a' x.length }";
+		XExpression file = this.expression(code);
+		JvmOperation operation = (JvmOperation) ((JvmGenericType) file.eResource().getContents().get(1)).getMembers().get(0);
+		IResolvedTypes original = typeResolver.resolveTypes(file);
+		Assert.assertEquals("java.lang.String", original.getActualType(operation).getIdentifier());
+		Assert.assertEquals("java.lang.String", original.getActualType(operation.getParameters().get(0)).getIdentifier());
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		resourceStorageFacade.createResourceStorageWritable(bout).writeResource((StorageAwareResource) file.eResource());
+		
+		StorageAwareResource resource = loadFromStorage(file, code, resourceStorageFacade.createResourceStorageLoadable(new ByteArrayInputStream(bout.toByteArray())));
+		JvmOperation loaded = (JvmOperation) ((JvmGenericType) resource.getContents().get(1)).getMembers().get(0);
+		IResolvedTypes resolvedTypes = typeResolver.resolveTypes(resource.getContents().get(0));
+		Assert.assertEquals("java.lang.String", resolvedTypes.getActualType(loaded).getIdentifier());
+		Assert.assertEquals("java.lang.String", resolvedTypes.getActualType(loaded.getParameters().get(0)).getIdentifier());
+	}
+	
+	@Test
+	public void testStoredResolvedTypesDelegateToResolution() throws Exception {
+		String code = "{ val list = newArrayList('a') list.head }";
+		XExpression file = this.expression(code);
+		XBlockExpression block = (XBlockExpression) file;
+		IResolvedTypes original = typeResolver.resolveTypes(file);
+		String expectedType = original.getExpectedType(block.getExpressions().get(1)).getIdentifier();
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		resourceStorageFacade.createResourceStorageWritable(bout).writeResource((StorageAwareResource) file.eResource());
+		
+		StorageAwareResource resource = loadFromStorage(file, code, resourceStorageFacade.createResourceStorageLoadable(new ByteArrayInputStream(bout.toByteArray())));
+		XBlockExpression loaded = (XBlockExpression) resource.getContents().get(0);
+		IResolvedTypes resolvedTypes = typeResolver.resolveTypes(loaded);
+		Assert.assertEquals(expectedType, resolvedTypes.getExpectedType(loaded.getExpressions().get(1)).getIdentifier());
+		Assert.assertEquals(original.getReturnType(file).getIdentifier(), resolvedTypes.getReturnType(loaded).getIdentifier());
+		Assert.assertEquals("java.lang.String", resolvedTypes.getActualType(loaded.getExpressions().get(1)).getIdentifier());
+	}
+	
+	private StorageAwareResource loadFromStorage(XExpression file, String code, ResourceStorageLoadable in) throws IOException {
+		ResourceSet resourceSet = file.eResource().getResourceSet();
+		StorageAwareResource resource = (StorageAwareResource) resourceSet.createResource(URI.createURI("synthetic:/Test" + resourceSet.getResources().size() + ".___xbase"));
+		InMemoryURIConverter converter = new InMemoryURIConverter();
+		converter.addModel(resource.getURI().toString(), code);
+		resourceSet.setURIConverter(converter);
+		resource.loadFromStorage(in);
+		return resource;
+	}
+	
+	private Map<String, String> describeTypes(StorageAwareResource resource) {
+		IResolvedTypes resolvedTypes = typeResolver.resolveTypes(resource.getContents().get(0));
+		Map<String, String> result = new HashMap<String, String>();
+		TreeIterator<EObject> iterator = resource.getContents().get(0).eAllContents();
+		while (iterator.hasNext()) {
+			EObject next = iterator.next();
+			if (next.eContainingFeature().isTransient()) {
+				// not part of the storage
+				iterator.prune();
+				continue;
+			}
+			LightweightTypeReference type = null;
+			if (next instanceof XExpression) {
+				type = resolvedTypes.getActualType((XExpression) next);
+			} else if (next instanceof JvmIdentifiableElement) {
+				type = resolvedTypes.getActualType((JvmIdentifiableElement) next);
+			}
+			if (type != null) {
+				result.put(resource.getURIFragment(next), type.getIdentifier());
+			}
+		}
+		return result;
+	}
 }
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.tests.resources;
+
+import static org.eclipse.xtext.common.types.descriptions.JvmTypesResourceDescriptionStrategy.*;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.xtext.common.types.JvmGenericType;
+import org.eclipse.xtext.common.types.TypesFactory;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.EObjectDescription;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IReferenceDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.impl.AbstractResourceDescription;
+import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionDelta;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.resource.XbaseResourceDescription;
+import org.eclipse.xtext.xbase.resource.XbaseResourceDescriptionManager;
+import org.eclipse.xtext.xbase.tests.AbstractXbaseTestCase;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+
+public class XbaseResourceDescriptionManagerTest extends AbstractXbaseTestCase {
+
+	public static class MemberDependenciesResourceDescriptionManager extends XbaseResourceDescriptionManager {
+		public MemberDependenciesResourceDescriptionManager() {
+			memberDependencies = true;
+		}
+	}
+
+	private XbaseResourceDescriptionManager manager;
+
+	@Before
+	public void createManager() {
+		manager = new MemberDependenciesResourceDescriptionManager();
+		getInjector().injectMembers(manager);
+	}
+
+	@Test
+	public void testNormalizeMemberName() {
+		Assert.assertEquals("name", XbaseResourceDescription.normalizeMemberName("getName"));
+		Assert.assertEquals("name", XbaseResourceDescription.normalizeMemberName("setName"));
+		Assert.assertEquals("name", XbaseResourceDescription.normalizeMemberName("isName"));
+		Assert.assertEquals("name", XbaseResourceDescription.normalizeMemberName("name"));
+		Assert.assertEquals("getter", XbaseResourceDescription.normalizeMemberName("getter"));
+	}
+
+	@Test
+	public void testMemberDependencies() throws Exception {
+		Set<QualifiedName> importedNames = importedNames("java::util::Collections::emptyList");
+		Assert.assertTrue(importedNames.contains(XbaseResourceDescription.MEMBER_DEPENDENCIES_RECORDED));
+		Assert.assertTrue(importedNames.contains(QualifiedName.create(XbaseResourceDescription.MEMBER_DEPENDENCY, "emptylist")));
+		Assert.assertFalse(importedNames.contains(QualifiedName.create(XbaseResourceDescription.MEMBER_DEPENDENCY, "emptymap")));
+	}
+
+	@Test
+	public void testCompoundOperatorDependencies() throws Exception {
+		Set<QualifiedName> importedNames = importedNames("{ var x = 1 x += 2 x }");
+		Assert.assertTrue(importedNames.contains(QualifiedName.create(XbaseResourceDescription.MEMBER_DEPENDENCY, "+=")));
+		Assert.assertTrue(importedNames.contains(QualifiedName.create(XbaseResourceDescription.MEMBER_DEPENDENCY, "operator_add")));
+		Assert.assertTrue(importedNames.contains(QualifiedName.create(XbaseResourceDescription.MEMBER_DEPENDENCY, "operator_plus")));
+	}
+
+	@Test
+	public void testUsedMemberChanged() throws Exception {
+		IResourceDescription candidate = candidate("java::util::Collections::emptyList");
+		IResourceDescription.Delta delta = delta(
+				ImmutableMap.of("emptyList", "1", "emptyMap", "2"),
+				ImmutableMap.of("emptyList", "3", "emptyMap", "2"));
+		Assert.assertTrue(manager.isAffected(Collections.singletonList(delta), candidate, new ResourceDescriptionsData(Collections.emptyList())));
+	}
+
+	@Test
+	public void testUnusedMemberChanged() throws Exception {
+		IResourceDescription candidate = candidate("java::util::Collections::emptyList");
+		IResourceDescription.Delta delta = delta(
+				ImmutableMap.of("emptyList", "1", "emptyMap", "2"),
+				ImmutableMap.of("emptyList", "1", "emptyMap", "3"));
+		Assert.assertFalse(manager.isAffected(Collections.singletonList(delta), candidate, new ResourceDescriptionsData(Collections.emptyList())));
+	}
+
+	@Test
+	public void testUnusedMemberAdded() throws Exception {
+		IResourceDescription candidate = candidate("java::util::Collections::emptyList");
+		IResourceDescription.Delta delta = delta(
+				ImmutableMap.of("emptyList", "1"),
+				ImmutableMap.of("emptyList", "1", "emptyMap", "2"));
+		Assert.assertFalse(manager.isAffected(Collections.singletonList(delta), candidate, new ResourceDescriptionsData(Collections.emptyList())));
+	}
+
+	@Test
+	public void testOverloadOfUsedMemberAdded() throws Exception {
+		IResourceDescription candidate = candidate("java::util::Collections::emptyList");
+		IResourceDescription.Delta delta = delta(
+				ImmutableMap.of("emptyList", "1"),
+				ImmutableMap.of("emptyList", "2"));
+		Assert.assertTrue(manager.isAffected(Collections.singletonList(delta), candidate, new ResourceDescriptionsData(Collections.emptyList())));
+	}
+
+	private IResourceDescription candidate(CharSequence expression) throws Exception {
+		XExpression parsed = expression(expression, true);
+		return manager.getResourceDescription(parsed.eResource());
+	}
+
+	private Set<QualifiedName> importedNames(CharSequence expression) throws Exception {
+		return Sets.newHashSet(candidate(expression).getImportedNames());
+	}
+
+	private IResourceDescription.Delta delta(Map<String, String> oldMemberHashes, Map<String, String> newMemberHashes) {
+		URI uri = URI.createURI("java:/Objects/java.util.Collections");
+		return new DefaultResourceDescriptionDelta(
+				typeDescription(uri, oldMemberHashes),
+				typeDescription(uri, newMemberHashes));
+	}
+
+	private IResourceDescription typeDescription(URI uri, Map<String, String> memberHashes) {
+		JvmGenericType type = TypesFactory.eINSTANCE.createJvmGenericType();
+		type.setPackageName("java.util");
+		type.setSimpleName("Collections");
+		Resource resource = new ResourceImpl(uri);
+		resource.getContents().add(type);
+		Map<String, String> userData = new LinkedHashMap<>();
+		userData.put(SIGNATURE_HASH_KEY, memberHashes.toString());
+		userData.put(HEADER_SIGNATURE_HASH_KEY, "header");
+		userData.put(MEMBER_SIGNATURE_HASHES_KEY, encodeMemberHashes(memberHashes));
+		IEObjectDescription description = EObjectDescription.create(QualifiedName.create("java", "util", "Collections"), type, userData);
+		return new AbstractResourceDescription() {
+			@Override
+			public Iterable<QualifiedName> getImportedNames() {
+				return Collections.emptySet();
+			}
+
+			@Override
+			public Iterable<IReferenceDescription> getReferenceDescriptions() {
+				return Collections.emptySet();
+			}
+
+			@Override
+			public URI getURI() {
+				return uri;
+			}
+
+			@Override
+			protected List<IEObjectDescription> computeExportedObjects() {
+				return Collections.singletonList(description);
+			}
+		};
+	}
+
+}
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.tests.scoping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.JvmFeature;
+import org.eclipse.xtext.common.types.util.TypeReferences;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.scoping.IScope;
+import org.eclipse.xtext.xbase.XAbstractFeatureCall;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.eclipse.xtext.xbase.scoping.batch.BucketedEObjectDescription;
+import org.eclipse.xtext.xbase.scoping.batch.IFeatureScopeSession;
+import org.eclipse.xtext.xbase.scoping.batch.StaticExtensionImportsScope;
+import org.eclipse.xtext.xbase.scoping.batch.StaticImportsScope;
+import org.eclipse.xtext.xbase.scoping.batch.TypeBucketIndex;
+import org.eclipse.xtext.xbase.scoping.batch.XbaseBatchScopeProvider;
+import org.eclipse.xtext.xbase.scoping.featurecalls.OperatorMapping;
+import org.eclipse.xtext.xbase.tests.AbstractXbaseTestCase;
+import org.eclipse.xtext.xbase.typesystem.references.LightweightTypeReference;
+import org.eclipse.xtext.xbase.typesystem.references.StandardTypeReferenceOwner;
+import org.eclipse.xtext.xbase.typesystem.util.CommonTypeComputationServices;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.inject.Inject;
+
+/**
+ * Nested sessions only index their own type buckets and fall back to the index of their parent. The lookup results
+ * have to be the same as the ones of an index of all the buckets of the session.
+ */
+public class TypeBucketIndexTest extends AbstractXbaseTestCase {
+
+	private static final List<String> NAMES = Arrays.asList(
+			"emptyList", "emptyMap", "max", "abs", "PI", "getProperties", "properties", "getProperty", "property",
+			"asList", "sort", "join", "filter", "valueOf", "MAX_VALUE", "toString", "hashCode", "operator_plus", "+");
+
+	@Inject
+	private XbaseBatchScopeProvider batchScopeProvider;
+
+	@Inject
+	private TypeReferences typeReferences;
+
+	@Inject
+	private CommonTypeComputationServices services;
+
+	@Inject
+	private OperatorMapping operatorMapping;
+
+	private XAbstractFeatureCall featureCall;
+
+	private IFeatureScopeSession rootSession;
+
+	private IFeatureScopeSession importSession;
+
+	private IFeatureScopeSession nestedSession;
+
+	private IFeatureScopeSession nestedStaticSession;
+
+	@Before
+	public void createSessions() throws Exception {
+		featureCall = (XAbstractFeatureCall) expression("feature");
+		rootSession = batchScopeProvider.newSession(featureCall.eResource());
+		importSession = rootSession.addImports(importer -> {
+			importer.importStatic(type(Collections.class), "emptyList");
+			importer.importStatic(type(Math.class));
+			importer.importStatic(type(System.class), "getProperties");
+			importer.importStaticExtension(type(Arrays.class), false);
+			importer.importStaticExtension(type(Collections.class), "sort", false);
+		});
+		nestedSession = importSession.addTypesToStaticScope(
+				Collections.singletonList(type(Integer.class)),
+				Collections.singletonList(type(IterableExtensions.class)));
+		nestedStaticSession = nestedSession.addTypesToStaticScope(
+				Collections.singletonList(type(Long.class)),
+				Collections.<JvmDeclaredType>emptyList());
+	}
+
+	@Test
+	public void testStaticFeaturesAreOrderedLikeTheBuckets() {
+		for (IFeatureScopeSession session : Arrays.asList(rootSession, importSession, nestedSession, nestedStaticSession)) {
+			TypeBucketIndex staticIndex = TypeBucketIndex.create(session.getStaticallyImportedTypes());
+			TypeBucketIndex extensionIndex = TypeBucketIndex.create(session.getStaticallyImportedExtensionTypes());
+			for (String name : NAMES) {
+				assertSameEntries(name, staticIndex, session.getStaticallyImportedTypesIndex());
+				assertSameEntries(name, extensionIndex, session.getStaticallyImportedExtensionTypesIndex());
+			}
+		}
+	}
+
+	@Test
+	public void testParentIndexIsShared() {
+		Assert.assertSame(nestedSession.getStaticallyImportedExtensionTypesIndex(), nestedStaticSession.getStaticallyImportedExtensionTypesIndex());
+		Assert.assertNotSame(nestedSession.getStaticallyImportedTypesIndex(), nestedStaticSession.getStaticallyImportedTypesIndex());
+	}
+
+	@Test
+	public void testRestrictedNames() {
+		Assert.assertTrue(describe(new StaticImportsScope(IScope.NULLSCOPE, importSession, featureCall), "emptyMap").isEmpty());
+		Assert.assertFalse(describe(new StaticImportsScope(IScope.NULLSCOPE, importSession, featureCall), "emptyList").isEmpty());
+		Assert.assertFalse(describe(new StaticImportsScope(IScope.NULLSCOPE, importSession, featureCall), "properties").isEmpty());
+		Assert.assertTrue(describe(new StaticImportsScope(IScope.NULLSCOPE, importSession, featureCall), "property").isEmpty());
+	}
+
+	@Test
+	public void testScopesAreUnchanged() {
+		LightweightTypeReference receiverType = new StandardTypeReferenceOwner(services, featureCall).toLightweightTypeReference(type(ArrayList.class));
+		for (IFeatureScopeSession session : Arrays.asList(rootSession, importSession, nestedSession, nestedStaticSession)) {
+			for (String name : NAMES) {
+				Assert.assertEquals(name,
+						describe(new StaticImportsScope(IScope.NULLSCOPE, session, featureCall) {
+							@Override
+							protected TypeBucketIndex getBucketIndex() {
+								return TypeBucketIndex.create(getBuckets());
+							}
+						}, name),
+						describe(new StaticImportsScope(IScope.NULLSCOPE, session, featureCall), name));
+				Assert.assertEquals(name,
+						describe(new StaticExtensionImportsScope(IScope.NULLSCOPE, session, null, receiverType, false, featureCall, operatorMapping) {
+							@Override
+							protected TypeBucketIndex getBucketIndex() {
+								return TypeBucketIndex.create(getBuckets());
+							}
+						}, name),
+						describe(new StaticExtensionImportsScope(IScope.NULLSCOPE, session, null, receiverType, false, featureCall, operatorMapping), name));
+			}
+		}
+	}
+
+	private void assertSameEntries(String name, TypeBucketIndex expected, TypeBucketIndex actual) {
+		List<TypeBucketIndex.Entry> expectedEntries = expected.getFeatures(name);
+		List<TypeBucketIndex.Entry> actualEntries = actual.getFeatures(name);
+		Assert.assertEquals(name, expectedEntries.size(), actualEntries.size());
+		for (int i = 0; i < expectedEntries.size(); i++) {
+			Assert.assertSame(name, expectedEntries.get(i).getFeature(), actualEntries.get(i).getFeature());
+			Assert.assertSame(name, expectedEntries.get(i).getBucket(), actualEntries.get(i).getBucket());
+		}
+	}
+
+	private List<String> describe(IScope scope, String name) {
+		List<String> result = new ArrayList<>();
+		for (IEObjectDescription description : scope.getElements(QualifiedName.create(name))) {
+			result.add(description.getName() + " -> " + ((JvmFeature) description.getEObjectOrProxy()).getIdentifier()
+					+ " #" + ((BucketedEObjectDescription) description).getBucketId());
+		}
+		return result;
+	}
+
+	private JvmDeclaredType type(Class<?> type) {
+		return (JvmDeclaredType) typeReferences.findDeclaredType(type, featureCall);
+	}
+
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.tests.typesystem;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.common.types.JvmGenericType;
+import org.eclipse.xtext.common.types.JvmType;
+import org.eclipse.xtext.common.types.TypesFactory;
+import org.eclipse.xtext.common.types.util.TypeReferences;
+import org.eclipse.xtext.xbase.typesystem.conformance.RawSuperTypes;
+import org.eclipse.xtext.xbase.typesystem.conformance.TypeConformanceComputer;
+import org.eclipse.xtext.xbase.typesystem.references.LightweightTypeReference;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.inject.Inject;
+
+public class RawSuperTypesTest extends AbstractLightweightTypeReferenceTest {
+
+	@Inject
+	private TypeConformanceComputer conformanceComputer;
+
+	@Inject
+	private TypeReferences typeReferences;
+
+	@Test
+	public void testSuperTypeIsCached() {
+		JvmType arrayList = type(ArrayList.class);
+		LightweightTypeReference first = typeRef(ArrayList.class).getSuperType(type(List.class));
+		Assert.assertNotNull(EcoreUtil.getAdapter(arrayList.eAdapters(), RawSuperTypes.class));
+		LightweightTypeReference second = typeRef(ArrayList.class).getSuperType(type(List.class));
+		Assert.assertEquals(first.getIdentifier(), second.getIdentifier());
+		Assert.assertEquals("java.util.List<E>", second.getIdentifier());
+		Assert.assertEquals("java.util.AbstractList<E>", typeRef(ArrayList.class).getSuperType(type(AbstractList.class)).getIdentifier());
+	}
+
+	@Test
+	public void testNoSuperTypeIsCached() {
+		for (int i = 0; i < 2; i++) {
+			Assert.assertNull(typeRef(String.class).getSuperType(type(List.class)));
+			Assert.assertNull(typeRef(ArrayList.class).getSuperType(type(Map.class)));
+		}
+	}
+
+	@Test
+	public void testConformanceIsCached() {
+		for (int i = 0; i < 2; i++) {
+			Assert.assertTrue(conformanceComputer.isConformant(typeRef(CharSequence.class), typeRef(String.class)));
+			Assert.assertTrue(conformanceComputer.isConformant(typeRef(Serializable.class), typeRef(String.class)));
+			Assert.assertFalse(conformanceComputer.isConformant(typeRef(String.class), typeRef(CharSequence.class)));
+			Assert.assertFalse(conformanceComputer.isConformant(typeRef(Integer.class), typeRef(String.class)));
+		}
+		Assert.assertNotNull(EcoreUtil.getAdapter(type(String.class).eAdapters(), RawSuperTypes.class));
+	}
+
+	@Test
+	public void testGenericTypesAreNotCached() {
+		Assert.assertTrue(conformanceComputer.isConformant(typeRef(Iterable.class), typeRef(ArrayList.class)));
+		Assert.assertFalse(conformanceComputer.isConformant(typeRef(Map.class), typeRef(ArrayList.class)));
+	}
+
+	@Test
+	public void testSourceTypeIsInvalidated() {
+		JvmType serializable = type(Serializable.class);
+		JvmGenericType sourceType = TypesFactory.eINSTANCE.createJvmGenericType();
+		sourceType.setPackageName("test");
+		sourceType.setSimpleName("SourceType");
+		sourceType.getSuperTypes().add(typeReferences.createTypeRef(serializable));
+		Resource resource = new ResourceImpl(URI.createURI("SourceType.types"));
+		resource.getContents().add(sourceType);
+		serializable.eResource().getResourceSet().getResources().add(resource);
+
+		LightweightTypeReference sourceTypeRef = getOwner().toLightweightTypeReference(sourceType);
+		Assert.assertEquals("java.io.Serializable", sourceTypeRef.getSuperType(serializable).getIdentifier());
+		Assert.assertTrue(conformanceComputer.isConformant(typeRef(Serializable.class), sourceTypeRef));
+		RawSuperTypes rawSuperTypes = (RawSuperTypes) EcoreUtil.getAdapter(sourceType.eAdapters(), RawSuperTypes.class);
+		Assert.assertNotNull(rawSuperTypes);
+		Assert.assertTrue(rawSuperTypes.isChangeable());
+
+		sourceType.getSuperTypes().clear();
+		Assert.assertNull(EcoreUtil.getAdapter(sourceType.eAdapters(), RawSuperTypes.class));
+		sourceTypeRef = getOwner().toLightweightTypeReference(sourceType);
+		Assert.assertNull(sourceTypeRef.getSuperType(serializable));
+		Assert.assertFalse(conformanceComputer.isConformant(typeRef(Serializable.class), sourceTypeRef));
+	}
+
+}
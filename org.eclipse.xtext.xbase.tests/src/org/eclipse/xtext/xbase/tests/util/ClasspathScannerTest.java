@@ -9,16 +9,25 @@
 package org.eclipse.xtext.xbase.tests.util;
 
 import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
 
 import org.eclipse.xtext.common.types.descriptions.ClasspathScanner;
+import org.eclipse.xtext.common.types.descriptions.ClasspathTypeDescriptor;
 import org.eclipse.xtext.common.types.descriptions.ITypeDescriptor;
+import org.eclipse.xtext.common.types.descriptions.TypeDescriptorIndex;
 import org.eclipse.xtext.xbase.lib.IterableExtensions;
 import org.junit.Assert;
 import org.junit.Test;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 
 public class ClasspathScannerTest {
 	private ClasspathScanner scanner = new ClasspathScanner();
@@ -66,4 +75,106 @@ public class ClasspathScannerTest {
 		Iterable<ITypeDescriptor> fromJar = scanner.getDescriptors(classloader, Lists.newArrayList());
 		Assert.assertTrue(IterableExtensions.exists(fromJar, it -> "sample.Sample".equals(it.getName())));
 	}
+
+	@Test
+	public void testIndexedBootClasspathScanning() throws Exception {
+		File indexDirectory = Files.createTempDirectory("ClasspathScannerTest").toFile();
+		try {
+			ClasspathScanner indexed = new ClasspathScanner();
+			indexed.setTypeDescriptorIndex(new TypeDescriptorIndex(indexDirectory));
+			Set<ITypeDescriptor> expected = Sets.newHashSet(scanner.getBootClasspathDescriptors(Lists.newArrayList("java.util")));
+			Assert.assertEquals(expected, Sets.newHashSet(indexed.getBootClasspathDescriptors(Lists.newArrayList("java.util"))));
+			int indexFiles = indexDirectory.list().length;
+			Assert.assertTrue(indexFiles > 0);
+
+			ClasspathScanner reused = new ClasspathScanner();
+			reused.setTypeDescriptorIndex(new TypeDescriptorIndex(indexDirectory));
+			Assert.assertEquals(expected, Sets.newHashSet(reused.getBootClasspathDescriptors(Lists.newArrayList("java.util"))));
+			Iterable<ITypeDescriptor> javaLang = reused.getBootClasspathDescriptors(Lists.newArrayList("java.lang"));
+			Assert.assertTrue(IterableExtensions.exists(javaLang, it -> "java.lang.String".equals(it.getName())));
+			Assert.assertFalse(IterableExtensions.exists(javaLang, it -> "java.util.BitSet".equals(it.getName())));
+			Assert.assertEquals(indexFiles, indexDirectory.list().length);
+		} finally {
+			delete(indexDirectory);
+		}
+	}
+
+	@Test
+	public void testIndexedClasspathScanning() throws Exception {
+		File indexDirectory = Files.createTempDirectory("ClasspathScannerTest").toFile();
+		try {
+			ClasspathScanner indexed = new ClasspathScanner();
+			indexed.setTypeDescriptorIndex(new TypeDescriptorIndex(indexDirectory));
+			File bootstrapJar = new File("./somelib/sample.jar");
+			URLClassLoader classloader = new URLClassLoader(new URL[] { bootstrapJar.toURI().toURL() });
+			Iterable<ITypeDescriptor> utilPackage = indexed.getDescriptors(classloader, Lists.newArrayList("sample"));
+			Assert.assertTrue(IterableExtensions.exists(utilPackage, it -> "sample.Sample".equals(it.getName())));
+			Assert.assertFalse(IterableExtensions.exists(utilPackage, it -> "ArrayList".equals(it.getSimpleName())));
+		} finally {
+			delete(indexDirectory);
+		}
+	}
+
+	@Test
+	public void testClassesInSeveralJarsAreReportedOnce() throws Exception {
+		File indexDirectory = Files.createTempDirectory("ClasspathScannerTest").toFile();
+		File copy = new File(indexDirectory, "copy.jar");
+		try {
+			Files.copy(new File("./somelib/sample.jar").toPath(), copy.toPath());
+			URL[] urls = { new File("./somelib/sample.jar").toURI().toURL(), copy.toURI().toURL() };
+			ClasspathScanner indexed = new ClasspathScanner();
+			indexed.setTypeDescriptorIndex(new TypeDescriptorIndex(new File(indexDirectory, "index")));
+			Iterable<ITypeDescriptor> scanned = indexed.getDescriptors(new URLClassLoader(urls), Lists.newArrayList("sample"));
+			Assert.assertEquals(1, IterableExtensions.size(IterableExtensions.filter(scanned, it -> "sample.Sample".equals(it.getName()))));
+
+			ClasspathScanner reused = new ClasspathScanner();
+			reused.setTypeDescriptorIndex(new TypeDescriptorIndex(new File(indexDirectory, "index")));
+			Iterable<ITypeDescriptor> read = reused.getDescriptors(new URLClassLoader(urls), Lists.newArrayList("sample"));
+			Assert.assertEquals(1, IterableExtensions.size(IterableExtensions.filter(read, it -> "sample.Sample".equals(it.getName()))));
+		} finally {
+			delete(indexDirectory);
+		}
+	}
+
+	@Test
+	public void testFilesOfFormerFingerprintsAreDeleted() throws Exception {
+		File indexDirectory = Files.createTempDirectory("ClasspathScannerTest").toFile();
+		try {
+			TypeDescriptorIndex index = new TypeDescriptorIndex(indexDirectory);
+			URI entry = new File("./somelib/sample.jar").toURI();
+			List<ITypeDescriptor> descriptors = Lists.newArrayList(new ClasspathTypeDescriptor("sample.Sample", Modifier.PUBLIC));
+			index.write(entry, "first", descriptors);
+			index.write(new File("./somelib/other.jar").toURI(), "first", descriptors);
+			Assert.assertEquals(2, indexDirectory.list().length);
+			index.write(entry, "second", descriptors);
+			Assert.assertEquals(2, indexDirectory.list().length);
+			Assert.assertNull(index.read(entry, "first", ClasspathTypeDescriptor::new));
+			Assert.assertEquals(descriptors, index.read(entry, "second", ClasspathTypeDescriptor::new));
+		} finally {
+			delete(indexDirectory);
+		}
+	}
+
+	@Test
+	public void testUnusedFilesArePruned() throws Exception {
+		File indexDirectory = Files.createTempDirectory("ClasspathScannerTest").toFile();
+		try {
+			URI entry = new File("./somelib/sample.jar").toURI();
+			List<ITypeDescriptor> descriptors = Lists.newArrayList(new ClasspathTypeDescriptor("sample.Sample", Modifier.PUBLIC));
+			new TypeDescriptorIndex(indexDirectory).write(entry, "unused", descriptors);
+			new TypeDescriptorIndex(indexDirectory).write(entry, "used", descriptors);
+			File[] files = indexDirectory.listFiles();
+			Assert.assertEquals(1, files.length);
+			files[0].setLastModified(System.currentTimeMillis() - TypeDescriptorIndex.MAX_AGE - 1000);
+			Assert.assertNull(new TypeDescriptorIndex(indexDirectory).read(entry, "used", ClasspathTypeDescriptor::new));
+			Assert.assertEquals(0, indexDirectory.list().length);
+		} finally {
+			delete(indexDirectory);
+		}
+	}
+
+	private void delete(File directory) throws IOException {
+		org.eclipse.xtext.util.Files.sweepFolder(directory);
+		directory.delete();
+	}
 }
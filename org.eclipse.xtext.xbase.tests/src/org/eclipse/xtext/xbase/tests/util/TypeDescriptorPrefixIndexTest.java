@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.xtext.xbase.tests.util;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.xtext.common.types.descriptions.ClasspathScanner;
+import org.eclipse.xtext.common.types.descriptions.ITypeDescriptor;
+import org.eclipse.xtext.xbase.ide.contentassist.TypeDescriptorPrefixIndex;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class TypeDescriptorPrefixIndexTest {
+	private final Function<ITypeDescriptor, String> simpleName = ITypeDescriptor::getSimpleName;
+
+	private final Iterable<ITypeDescriptor> javaUtil = new ClasspathScanner()
+			.getBootClasspathDescriptors(Lists.newArrayList("java.util"));
+
+	private final TypeDescriptorPrefixIndex index = new TypeDescriptorPrefixIndex(javaUtil);
+
+	@Test
+	public void testMatchesLinearScan() {
+		for (String prefix : Lists.newArrayList("L", "li", "LIST", "ArrayL", "Map", "entry", "Xyz", "")) {
+			List<ITypeDescriptor> expected = Lists.newArrayList();
+			for (ITypeDescriptor typeDesc : javaUtil) {
+				if (typeDesc.getSimpleName().regionMatches(true, 0, prefix, 0, prefix.length())) {
+					expected.add(typeDesc);
+				}
+			}
+			BitSet matches = new BitSet();
+			index.markMatches(simpleName, prefix, matches);
+			Assert.assertEquals(prefix, expected, Lists.newArrayList(index.select(matches)));
+		}
+	}
+
+	@Test
+	public void testUnionOfKeys() {
+		BitSet matches = new BitSet();
+		index.markMatches(simpleName, "BitSet", matches);
+		index.markMatches(ITypeDescriptor::getName, "java.util.concurrent.", matches);
+		List<ITypeDescriptor> selected = Lists.newArrayList(index.select(matches));
+		Assert.assertTrue(selected.stream().anyMatch(it -> "java.util.BitSet".equals(it.getName())));
+		Assert.assertTrue(selected.stream().anyMatch(it -> "java.util.concurrent.Executor".equals(it.getName())));
+		Assert.assertFalse(selected.stream().anyMatch(it -> "java.util.List".equals(it.getName())));
+	}
+
+	@Test
+	public void testNullKeysNeverMatch() {
+		BitSet matches = new BitSet();
+		index.markMatches(typeDesc -> null, "", matches);
+		Assert.assertTrue(matches.isEmpty());
+	}
+}
@@ -8,6 +8,7 @@
  *******************************************************************************/
 package org.eclipse.xtext.xbase.compiler.output;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -71,9 +72,9 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 			for (int i = 0; i < parent.children.size(); i++) {
 				Object o = parent.children.get(i);
 				if (o instanceof String) {
-					parent.children.set(i, visit((String) o));
+					parent.replaceChild(i, visit((String) o));
 				} else {
-					parent.children.set(i, visit((TreeAppendable) o));
+					parent.replaceChild(i, visit((TreeAppendable) o));
 				}
 			}
 		}
@@ -97,6 +98,15 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 	private boolean closed = false;
 	private boolean useForDebugging = false;
 	private LightweightTypeReferenceSerializer lightweightTypeReferenceSerializer;
+	/**
+	 * The appendable that this one was added to. It is notified about content that is added to this appendable such
+	 * that {@link #length} is always up to date.
+	 */
+	private TreeAppendable parent;
+	/**
+	 * The number of characters of the content of this appendable and its children.
+	 */
+	private int length;
 	
 	public TreeAppendable(ImportManager importManager, ITraceURIConverter converter, ILocationInFileProvider locationProvider, IJvmModelAssociations jvmModelAssociations, EObject source,
 			String indentation, String lineSeparator) {
@@ -159,7 +169,7 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 	@Override
 	public ErrorTreeAppendable errorChild() {
 		ErrorTreeAppendable errorChild = new ErrorTreeAppendable(state, traceURIConverter, locationProvider, jvmModelAssociations, getLocationData(), useForDebugging);
-		children.add(errorChild);
+		addChild(errorChild);
 		return errorChild;
 	}
 
@@ -187,7 +197,7 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 		}
 		TreeAppendable result = createChild(state, locationProvider, jvmModelAssociations, newData, useForDebugging);
 		if(result != this)
-			children.add(result);
+			addChild(result);
 		return result;
 	}
 
@@ -323,7 +333,43 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 	 */
 	@Override
 	public void accept(/* @Nullable */ String text) {
+		addChild(text);
+	}
+
+	private void addChild(String text) {
 		children.add(text);
+		if (text != null) {
+			contentAdded(text.length());
+		}
+	}
+
+	private void addChild(TreeAppendable child) {
+		children.add(child);
+		child.parent = this;
+		contentAdded(child.length);
+	}
+
+	private void replaceChild(int index, Object child) {
+		Object previous = children.set(index, child);
+		int delta = 0;
+		if (previous instanceof TreeAppendable) {
+			delta -= ((TreeAppendable) previous).length;
+		} else if (previous != null) {
+			delta -= ((String) previous).length();
+		}
+		if (child instanceof TreeAppendable) {
+			((TreeAppendable) child).parent = this;
+			delta += ((TreeAppendable) child).length;
+		} else if (child != null) {
+			delta += ((String) child).length();
+		}
+		contentAdded(delta);
+	}
+
+	private void contentAdded(int delta) {
+		for (TreeAppendable appendable = this; appendable != null; appendable = appendable.parent) {
+			appendable.length += delta;
+		}
 	}
 
 	protected void markClosed() {
@@ -377,7 +423,7 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 			// TODO improve
 			throw new IllegalArgumentException("Unexpected implementation");
 		}
-		children.add(other);
+		addChild((TreeAppendable) other);
 		return this;
 	}
 
@@ -497,19 +543,89 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 
 	@Override
 	public String getContent() {
-		StringBuilder result = new StringBuilder(8 * 1024);
+		StringBuilder result = new StringBuilder(length);
 		doGetContent(result);
 		return result.toString();
 	}
+
+	/**
+	 * Writes the content of this appendable to the given target without creating the complete content as a string
+	 * first.
+	 * 
+	 * @since 2.31
+	 */
+	public void writeTo(Appendable target) throws IOException {
+		for (Object child : children) {
+			if (child instanceof String) {
+				target.append((String) child);
+			} else {
+				((TreeAppendable) child).writeTo(target);
+			}
+		}
+	}
 	
 	@Override
 	public char charAt(int index) {
-		return toString().charAt(index);
+		if (index < 0 || index >= length) {
+			throw new StringIndexOutOfBoundsException("index " + index + ", length " + length);
+		}
+		TreeAppendable current = this;
+		int offset = index;
+		while (true) {
+			TreeAppendable next = null;
+			for (Object child : current.children) {
+				if (child instanceof String) {
+					String string = (String) child;
+					if (offset < string.length()) {
+						return string.charAt(offset);
+					}
+					offset -= string.length();
+				} else if (child != null) {
+					TreeAppendable appendable = (TreeAppendable) child;
+					if (offset < appendable.length) {
+						next = appendable;
+						break;
+					}
+					offset -= appendable.length;
+				}
+			}
+			if (next == null) {
+				throw new IllegalStateException("Inconsistent length of " + current);
+			}
+			current = next;
+		}
 	}
 	
 	@Override
 	public CharSequence subSequence(int start, int end) {
-		return toString().subSequence(start, end);
+		if (start < 0 || end > length || start > end) {
+			throw new StringIndexOutOfBoundsException("begin " + start + ", end " + end + ", length " + length);
+		}
+		StringBuilder result = new StringBuilder(end - start);
+		doGetContent(result, start, end);
+		return result.toString();
+	}
+
+	private void doGetContent(StringBuilder result, int start, int end) {
+		int offset = 0;
+		for (Object child : children) {
+			if (offset >= end) {
+				return;
+			}
+			if (child instanceof String) {
+				String string = (String) child;
+				if (offset + string.length() > start) {
+					result.append(string, Math.max(start - offset, 0), Math.min(end - offset, string.length()));
+				}
+				offset += string.length();
+			} else if (child != null) {
+				TreeAppendable appendable = (TreeAppendable) child;
+				if (offset + appendable.length > start) {
+					appendable.doGetContent(result, Math.max(start - offset, 0), Math.min(end - offset, appendable.length));
+				}
+				offset += appendable.length;
+			}
+		}
 	}
 	
 	@Override
@@ -529,7 +645,7 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 
 	@Override
 	public int length() {
-		return toString().length();
+		return length;
 	}
 
 	@Override
@@ -554,12 +670,12 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 					idx++;
 				}
 				int lineLength = idx - delimiterLength - nextLineOffset + 1;
-				children.add(text.substring(nextLineOffset, nextLineOffset + lineLength));
+				addChild(text.substring(nextLineOffset, nextLineOffset + lineLength));
 				state.appendNewLineAndIndentation(this);
 				nextLineOffset = idx + 1;
 			} else if (currentChar == '\n') {
 				int lineLength = idx - nextLineOffset;
-				children.add(text.substring(nextLineOffset, nextLineOffset + lineLength));
+				addChild(text.substring(nextLineOffset, nextLineOffset + lineLength));
 				state.appendNewLineAndIndentation(this);
 				nextLineOffset = idx + 1;
 			}
@@ -567,7 +683,7 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 		}
 		if (nextLineOffset != length) {
 			int lineLength = length - nextLineOffset;
-			children.add(text.substring(nextLineOffset, nextLineOffset + lineLength));
+			addChild(text.substring(nextLineOffset, nextLineOffset + lineLength));
 		}
 	}
 
@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.interpreter;
+
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.xbase.XExpression;
+
+/**
+ * An expression that was prepared once for repeated evaluation.
+ *
+ * @see org.eclipse.xtext.xbase.interpreter.impl.XbaseInterpreter#compile(XExpression)
+ * @since 2.31
+ */
+public interface IExecutableExpression {
+
+	XExpression getExpression();
+
+	IEvaluationResult evaluate();
+
+	IEvaluationResult evaluate(IEvaluationContext context, CancelIndicator cancelIndicator);
+
+}
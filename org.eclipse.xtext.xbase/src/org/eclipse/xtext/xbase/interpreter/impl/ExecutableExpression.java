@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.interpreter.impl;
+
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.interpreter.IEvaluationContext;
+import org.eclipse.xtext.xbase.interpreter.IEvaluationResult;
+import org.eclipse.xtext.xbase.interpreter.IExecutableExpression;
+import org.eclipse.xtext.xbase.interpreter.impl.XbaseInterpreter.ReturnValue;
+
+/**
+ * @since 2.31
+ */
+public class ExecutableExpression implements IExecutableExpression {
+
+	private final XExpression expression;
+
+	private final ExecutableNode node;
+
+	private final XbaseInterpreter interpreter;
+
+	public ExecutableExpression(XExpression expression, ExecutableNode node, XbaseInterpreter interpreter) {
+		this.expression = expression;
+		this.node = node;
+		this.interpreter = interpreter;
+	}
+
+	@Override
+	public XExpression getExpression() {
+		return expression;
+	}
+
+	@Override
+	public IEvaluationResult evaluate() {
+		return evaluate(interpreter.createContext(), CancelIndicator.NullImpl);
+	}
+
+	@Override
+	public IEvaluationResult evaluate(IEvaluationContext context, CancelIndicator indicator) {
+		return evaluate(node, context, indicator != null ? indicator : CancelIndicator.NullImpl);
+	}
+
+	/**
+	 * Executes the given node and converts the outcome to an evaluation result, just like
+	 * {@link XbaseInterpreter#evaluate(XExpression, IEvaluationContext, CancelIndicator)} does.
+	 */
+	static IEvaluationResult evaluate(ExecutableNode node, IEvaluationContext context, CancelIndicator indicator) {
+		try {
+			Object result = node.execute(context, indicator);
+			return new DefaultEvaluationResult(result, null);
+		} catch (ReturnValue e) {
+			return new DefaultEvaluationResult(e.returnValue, null);
+		} catch (EvaluationException e) {
+			return new DefaultEvaluationResult(null, e.getCause());
+		} catch (InterpreterCanceledException e) {
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,1020 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.interpreter.impl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.xtext.common.types.JvmConstructor;
+import org.eclipse.xtext.common.types.JvmExecutable;
+import org.eclipse.xtext.common.types.JvmField;
+import org.eclipse.xtext.common.types.JvmFormalParameter;
+import org.eclipse.xtext.common.types.JvmGenericType;
+import org.eclipse.xtext.common.types.JvmIdentifiableElement;
+import org.eclipse.xtext.common.types.JvmOperation;
+import org.eclipse.xtext.common.types.JvmPrimitiveType;
+import org.eclipse.xtext.common.types.JvmSynonymTypeReference;
+import org.eclipse.xtext.common.types.JvmType;
+import org.eclipse.xtext.common.types.JvmTypeReference;
+import org.eclipse.xtext.common.types.util.JavaReflectAccess;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.xbase.XAbstractFeatureCall;
+import org.eclipse.xtext.xbase.XAssignment;
+import org.eclipse.xtext.xbase.XBasicForLoopExpression;
+import org.eclipse.xtext.xbase.XBinaryOperation;
+import org.eclipse.xtext.xbase.XBlockExpression;
+import org.eclipse.xtext.xbase.XBooleanLiteral;
+import org.eclipse.xtext.xbase.XCastedExpression;
+import org.eclipse.xtext.xbase.XClosure;
+import org.eclipse.xtext.xbase.XConstructorCall;
+import org.eclipse.xtext.xbase.XDoWhileExpression;
+import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.XFeatureCall;
+import org.eclipse.xtext.xbase.XForLoopExpression;
+import org.eclipse.xtext.xbase.XIfExpression;
+import org.eclipse.xtext.xbase.XInstanceOfExpression;
+import org.eclipse.xtext.xbase.XListLiteral;
+import org.eclipse.xtext.xbase.XMemberFeatureCall;
+import org.eclipse.xtext.xbase.XNullLiteral;
+import org.eclipse.xtext.xbase.XNumberLiteral;
+import org.eclipse.xtext.xbase.XReturnExpression;
+import org.eclipse.xtext.xbase.XStringLiteral;
+import org.eclipse.xtext.xbase.XSynchronizedExpression;
+import org.eclipse.xtext.xbase.XThrowExpression;
+import org.eclipse.xtext.xbase.XTypeLiteral;
+import org.eclipse.xtext.xbase.XVariableDeclaration;
+import org.eclipse.xtext.xbase.XWhileExpression;
+import org.eclipse.xtext.xbase.interpreter.IEvaluationContext;
+import org.eclipse.xtext.xbase.interpreter.IEvaluationResult;
+import org.eclipse.xtext.xbase.interpreter.impl.XbaseInterpreter.ReturnValue;
+import org.eclipse.xtext.xbase.lib.Conversions;
+import org.eclipse.xtext.xbase.lib.Exceptions;
+import org.eclipse.xtext.xbase.lib.Functions;
+import org.eclipse.xtext.xbase.typesystem.IBatchTypeResolver;
+import org.eclipse.xtext.xbase.typesystem.references.LightweightTypeReference;
+import org.eclipse.xtext.xbase.typesystem.references.StandardTypeReferenceOwner;
+import org.eclipse.xtext.xbase.util.XExpressionHelper;
+
+/**
+ * Translates an expression into a tree of {@link ExecutableNode executable nodes} that behave like the
+ * {@link XbaseInterpreter} but do all the work that does not depend on the evaluation context only once: the
+ * dispatch on the kind of expression, the resolution of the expected types and the decision whether a result has to
+ * be converted from or to an array, the lookup of reflective fields, methods and constructors and the names of
+ * variables. Local variables, loop and closure parameters are assigned to slots of a {@link FrameEvaluationContext}
+ * such that they are accessed by index.
+ *
+ * <p>
+ * Expressions that are not translated, e.g. switch expressions, try-catch-finally expressions and set literals, are
+ * evaluated by the interpreter. Interpreters that customize the evaluation of an expression should customize its
+ * translation, too, or let {@link #doBuild(XExpression)} return <code>null</code> for it.
+ * </p>
+ *
+ * @since 2.31
+ */
+public class ExecutableExpressionBuilder {
+
+	private static final Class<?>[] FUNCTION_TYPES = { Functions.Function0.class, Functions.Function1.class,
+			Functions.Function2.class, Functions.Function3.class, Functions.Function4.class, Functions.Function5.class,
+			Functions.Function6.class };
+
+	private final XbaseInterpreter interpreter;
+
+	private final IBatchTypeResolver typeResolver;
+
+	private final Map<JvmIdentifiableElement, Integer> slots = new HashMap<>();
+
+	private Map<QualifiedName, Integer> visibleSlots = new HashMap<>();
+
+	private int frameSize;
+
+	public ExecutableExpressionBuilder(XbaseInterpreter interpreter) {
+		this.interpreter = interpreter;
+		this.typeResolver = interpreter.getTypeResolver();
+	}
+
+	protected XbaseInterpreter getInterpreter() {
+		return interpreter;
+	}
+
+	/**
+	 * Returns the node for the given root expression. It evaluates the expression in a new
+	 * {@link FrameEvaluationContext} whose parent is the context that the node is executed with.
+	 */
+	public ExecutableNode buildWithFrame(XExpression expression) {
+		ExecutableNode node = build(expression);
+		int size = frameSize;
+		return (context, indicator) -> node.execute(new FrameEvaluationContext(size, context), indicator);
+	}
+
+	/**
+	 * Returns the node for the given expression. Like
+	 * {@link XbaseInterpreter#internalEvaluate(XExpression, IEvaluationContext, CancelIndicator)}, the node checks
+	 * for cancellation and converts its result to the expected type of the expression.
+	 */
+	public ExecutableNode build(XExpression expression) {
+		ExecutableNode node = doBuild(expression);
+		if (node == null) {
+			Map<QualifiedName, Integer> names = getVisibleSlots();
+			return (context, indicator) -> interpreter.internalEvaluate(expression, withSlots(context, names), indicator);
+		}
+		LightweightTypeReference expectedType = typeResolver.resolveTypes(expression).getExpectedType(expression);
+		if (expectedType != null) {
+			if (expectedType.isArray()) {
+				Class<?> componentType = getJavaType(expectedType.getComponentType().getType());
+				if (componentType != null) {
+					return (context, indicator) -> {
+						checkCanceled(indicator);
+						Object result = node.execute(context, indicator);
+						if (!(result instanceof Object[])) {
+							return Conversions.unwrapArray(result, componentType);
+						}
+						return result;
+					};
+				}
+			} else if (expectedType.isSubtypeOf(Iterable.class)) {
+				return (context, indicator) -> {
+					checkCanceled(indicator);
+					return Conversions.doWrapArray(node.execute(context, indicator));
+				};
+			}
+		}
+		return (context, indicator) -> {
+			checkCanceled(indicator);
+			return node.execute(context, indicator);
+		};
+	}
+
+	/**
+	 * Returns the node that evaluates the given expression without the conversion to its expected type or
+	 * <code>null</code> if the expression should be evaluated by the interpreter.
+	 */
+	protected ExecutableNode doBuild(XExpression expression) {
+		if (expression instanceof XAssignment) {
+			return _build((XAssignment) expression);
+		} else if (expression instanceof XDoWhileExpression) {
+			return _build((XDoWhileExpression) expression);
+		} else if (expression instanceof XMemberFeatureCall) {
+			return _build((XMemberFeatureCall) expression);
+		} else if (expression instanceof XWhileExpression) {
+			return _build((XWhileExpression) expression);
+		} else if (expression instanceof XFeatureCall) {
+			return _build((XFeatureCall) expression);
+		} else if (expression instanceof XAbstractFeatureCall) {
+			return _build((XAbstractFeatureCall) expression);
+		} else if (expression instanceof XBlockExpression) {
+			return _build((XBlockExpression) expression);
+		} else if (expression instanceof XSynchronizedExpression) {
+			return _build((XSynchronizedExpression) expression);
+		} else if (expression instanceof XBooleanLiteral) {
+			Boolean value = ((XBooleanLiteral) expression).isIsTrue();
+			return (context, indicator) -> value;
+		} else if (expression instanceof XCastedExpression) {
+			return _build((XCastedExpression) expression);
+		} else if (expression instanceof XClosure) {
+			return _build((XClosure) expression);
+		} else if (expression instanceof XConstructorCall) {
+			return _build((XConstructorCall) expression);
+		} else if (expression instanceof XForLoopExpression) {
+			return _build((XForLoopExpression) expression);
+		} else if (expression instanceof XBasicForLoopExpression) {
+			return _build((XBasicForLoopExpression) expression);
+		} else if (expression instanceof XIfExpression) {
+			return _build((XIfExpression) expression);
+		} else if (expression instanceof XInstanceOfExpression) {
+			return _build((XInstanceOfExpression) expression);
+		} else if (expression instanceof XNullLiteral) {
+			return (context, indicator) -> null;
+		} else if (expression instanceof XNumberLiteral || expression instanceof XStringLiteral
+				|| expression instanceof XTypeLiteral) {
+			return constant(expression);
+		} else if (expression instanceof XReturnExpression) {
+			return _build((XReturnExpression) expression);
+		} else if (expression instanceof XThrowExpression) {
+			return _build((XThrowExpression) expression);
+		} else if (expression instanceof XVariableDeclaration) {
+			return _build((XVariableDeclaration) expression);
+		} else if (expression instanceof XListLiteral) {
+			return _build((XListLiteral) expression);
+		}
+		return null;
+	}
+
+	/**
+	 * Evaluates an expression that does not depend on the context once. If that fails, the expression is left to the
+	 * interpreter such that the failure is reported on each evaluation.
+	 */
+	protected ExecutableNode constant(XExpression expression) {
+		Object value;
+		try {
+			value = interpreter.doEvaluate(expression, new DefaultEvaluationContext(), CancelIndicator.NullImpl);
+		} catch (RuntimeException e) {
+			return null;
+		}
+		return (context, indicator) -> value;
+	}
+
+	protected ExecutableNode _build(XBlockExpression block) {
+		Map<QualifiedName, Integer> outerScope = enterScope();
+		ExecutableNode[] expressions;
+		try {
+			expressions = buildAll(block.getExpressions());
+		} finally {
+			leaveScope(outerScope);
+		}
+		return (context, indicator) -> {
+			Object result = null;
+			for (ExecutableNode expression : expressions) {
+				result = expression.execute(context, indicator);
+			}
+			return result;
+		};
+	}
+
+	protected ExecutableNode _build(XSynchronizedExpression expression) {
+		ExecutableNode param = build(expression.getParam());
+		ExecutableNode body = build(expression.getExpression());
+		return (context, indicator) -> {
+			param.execute(context, indicator);
+			return body.execute(context, indicator);
+		};
+	}
+
+	protected ExecutableNode _build(XIfExpression ifExpression) {
+		ExecutableNode condition = build(ifExpression.getIf());
+		ExecutableNode then = build(ifExpression.getThen());
+		ExecutableNode otherwise;
+		if (ifExpression.getElse() == null) {
+			otherwise = defaultValue(ifExpression);
+			if (otherwise == null) {
+				return null;
+			}
+		} else {
+			otherwise = build(ifExpression.getElse());
+		}
+		return (context, indicator) -> {
+			Object conditionResult = condition.execute(context, indicator);
+			if (Boolean.TRUE.equals(conditionResult)) {
+				return then.execute(context, indicator);
+			}
+			return otherwise.execute(context, indicator);
+		};
+	}
+
+	protected ExecutableNode _build(XWhileExpression whileLoop) {
+		ExecutableNode predicate = build(whileLoop.getPredicate());
+		ExecutableNode body = build(whileLoop.getBody());
+		return (context, indicator) -> {
+			Object condition = predicate.execute(context, indicator);
+			while (Boolean.TRUE.equals(condition)) {
+				body.execute(context, indicator);
+				condition = predicate.execute(context, indicator);
+			}
+			return null;
+		};
+	}
+
+	protected ExecutableNode _build(XDoWhileExpression doWhileLoop) {
+		ExecutableNode predicate = build(doWhileLoop.getPredicate());
+		ExecutableNode body = build(doWhileLoop.getBody());
+		return (context, indicator) -> {
+			Object condition = null;
+			do {
+				body.execute(context, indicator);
+				condition = predicate.execute(context, indicator);
+			} while (Boolean.TRUE.equals(condition));
+			return null;
+		};
+	}
+
+	protected ExecutableNode _build(XForLoopExpression forLoop) {
+		XExpression forExpression = forLoop.getForExpression();
+		ExecutableNode iterable = build(forExpression);
+		Map<QualifiedName, Integer> outerScope = enterScope();
+		int paramSlot;
+		ExecutableNode each;
+		try {
+			paramSlot = declareSlot(forLoop.getDeclaredParam());
+			each = build(forLoop.getEachExpression());
+		} finally {
+			leaveScope(outerScope);
+		}
+		return (context, indicator) -> {
+			Object iterableOrIterator = iterable.execute(context, indicator);
+			if (iterableOrIterator == null)
+				return interpreter.throwNullPointerException(forExpression, "iterable evaluated to 'null'");
+			Iterator<?> iter = null;
+			if (iterableOrIterator instanceof Iterable<?>) {
+				iter = ((Iterable<?>) iterableOrIterator).iterator();
+			} else if (iterableOrIterator.getClass().isArray()) {
+				iter = ((Iterable<?>) Conversions.doWrapArray(iterableOrIterator)).iterator();
+			} else {
+				return interpreter.throwClassCastException(forExpression, iterableOrIterator, Iterable.class);
+			}
+			Object[] frame = frame(context);
+			while (iter.hasNext()) {
+				frame[paramSlot] = iter.next();
+				each.execute(context, indicator);
+			}
+			return null;
+		};
+	}
+
+	protected ExecutableNode _build(XBasicForLoopExpression forLoop) {
+		Map<QualifiedName, Integer> outerScope = enterScope();
+		ExecutableNode[] initExpressions;
+		ExecutableNode expression;
+		ExecutableNode each;
+		ExecutableNode[] updateExpressions;
+		try {
+			initExpressions = buildAll(forLoop.getInitExpressions());
+			expression = forLoop.getExpression() == null ? null : build(forLoop.getExpression());
+			each = build(forLoop.getEachExpression());
+			updateExpressions = buildAll(forLoop.getUpdateExpressions());
+		} finally {
+			leaveScope(outerScope);
+		}
+		return (context, indicator) -> {
+			for (ExecutableNode initExpression : initExpressions) {
+				initExpression.execute(context, indicator);
+			}
+			Object condition = expression == null ? Boolean.TRUE : expression.execute(context, indicator);
+			while (Boolean.TRUE.equals(condition)) {
+				each.execute(context, indicator);
+				for (ExecutableNode updateExpression : updateExpressions) {
+					updateExpression.execute(context, indicator);
+				}
+				condition = expression == null ? Boolean.TRUE : expression.execute(context, indicator);
+			}
+			return null;
+		};
+	}
+
+	protected ExecutableNode _build(XReturnExpression returnExpr) {
+		if (returnExpr.getExpression() == null) {
+			return (context, indicator) -> {
+				throw new ReturnValue(null);
+			};
+		}
+		ExecutableNode expression = build(returnExpr.getExpression());
+		return (context, indicator) -> {
+			throw new ReturnValue(expression.execute(context, indicator));
+		};
+	}
+
+	protected ExecutableNode _build(XThrowExpression throwExpression) {
+		ExecutableNode expression = build(throwExpression.getExpression());
+		return (context, indicator) -> {
+			Object thrown = expression.execute(context, indicator);
+			if (thrown == null) {
+				return interpreter.throwNullPointerException(throwExpression, "throwable expression evaluated to 'null'");
+			}
+			if (!(thrown instanceof Throwable)) {
+				return interpreter.throwClassCastException(throwExpression.getExpression(), thrown, Throwable.class);
+			}
+			throw new EvaluationException((Throwable) thrown);
+		};
+	}
+
+	protected ExecutableNode _build(XVariableDeclaration variableDecl) {
+		if (variableDecl.getRight() != null) {
+			ExecutableNode right = build(variableDecl.getRight());
+			int slot = declareSlot(variableDecl);
+			return (context, indicator) -> {
+				frame(context)[slot] = right.execute(context, indicator);
+				return null;
+			};
+		}
+		Object initialValue;
+		try {
+			initialValue = interpreter.getDefaultValue(variableDecl);
+		} catch (IllegalStateException e) {
+			// fail on execution, just like the interpreter
+			declareSlot(variableDecl);
+			return (context, indicator) -> {
+				throw e;
+			};
+		}
+		int slot = declareSlot(variableDecl);
+		return (context, indicator) -> {
+			frame(context)[slot] = initialValue;
+			return null;
+		};
+	}
+
+	protected ExecutableNode _build(XListLiteral literal) {
+		ExecutableNode[] elements = buildAll(literal.getElements());
+		LightweightTypeReference type = typeResolver.resolveTypes(literal).getActualType(literal);
+		Class<?> componentType = null;
+		if (type != null && type.isArray()) {
+			componentType = getJavaType(type.getComponentType().getType());
+		}
+		Class<?> arrayComponentType = componentType;
+		return (context, indicator) -> {
+			List<Object> list = new ArrayList<>(elements.length);
+			for (ExecutableNode element : elements) {
+				list.add(element.execute(context, indicator));
+			}
+			if (arrayComponentType != null) {
+				return Conversions.unwrapArray(list, arrayComponentType);
+			}
+			return Collections.unmodifiableList(list);
+		};
+	}
+
+	protected ExecutableNode _build(XClosure closure) {
+		int parameterCount = closure.getFormalParameters().size();
+		if (parameterCount >= FUNCTION_TYPES.length) {
+			return null;
+		}
+		Class<?> functionIntf;
+		try {
+			functionIntf = interpreter.getClass(FUNCTION_TYPES[parameterCount]);
+		} catch (EvaluationException e) {
+			return null;
+		}
+		Map<QualifiedName, Integer> outerScope = enterScope();
+		int[] parameterSlots = new int[parameterCount];
+		ExecutableNode body;
+		try {
+			for (int i = 0; i < parameterCount; i++) {
+				parameterSlots[i] = declareSlot(closure.getFormalParameters().get(i));
+			}
+			body = build(closure.getExpression());
+		} finally {
+			leaveScope(outerScope);
+		}
+		ClassLoader classLoader = interpreter.getClassLoader();
+		return (context, indicator) -> {
+			// the closure sees the values of the captured variables at the time of its creation
+			CompiledClosureInvocationHandler invocationHandler = new CompiledClosureInvocationHandler(closure, body,
+					parameterSlots, frameContext(context).copy(), interpreter, indicator);
+			return Proxy.newProxyInstance(classLoader, new Class<?>[] { functionIntf }, invocationHandler);
+		};
+	}
+
+	protected ExecutableNode _build(XCastedExpression castedExpression) {
+		ExecutableNode target = build(castedExpression.getTarget());
+		StandardTypeReferenceOwner owner = new StandardTypeReferenceOwner(interpreter.getServices(), castedExpression);
+		LightweightTypeReference targetType = owner.toLightweightTypeReference(castedExpression.getType());
+		UnaryOperator<Object> coercion = coercion(castedExpression.getType());
+		JvmType castType = castedExpression.getType().getType();
+		if (castType instanceof JvmPrimitiveType) {
+			JvmPrimitiveType primitiveType = (JvmPrimitiveType) castType;
+			return (context, indicator) -> {
+				Object result = interpreter.wrapOrUnwrapArray(target.execute(context, indicator), targetType);
+				result = coercion.apply(result);
+				if (result == null) {
+					interpreter.throwNullPointerException(castedExpression,
+							"Cannot cast null to primitive " + primitiveType.getIdentifier());
+				}
+				return interpreter.castToPrimitiveType(result,
+						interpreter.getServices().getPrimitives().primitiveKind(primitiveType));
+			};
+		}
+		String typeName = castType.getQualifiedName();
+		Class<?> expectedType = getJavaType(castType);
+		if (expectedType == null) {
+			return null;
+		}
+		return (context, indicator) -> {
+			Object result = interpreter.wrapOrUnwrapArray(target.execute(context, indicator), targetType);
+			result = coercion.apply(result);
+			try {
+				expectedType.cast(result);
+			} catch (ClassCastException e) {
+				throw new EvaluationException(new ClassCastException(typeName));
+			}
+			return result;
+		};
+	}
+
+	protected ExecutableNode _build(XInstanceOfExpression instanceOf) {
+		ExecutableNode expression = build(instanceOf.getExpression());
+		JvmTypeReference type = instanceOf.getType();
+		Class<?> javaType = type instanceof JvmSynonymTypeReference ? null : getJavaType(type.getType());
+		return (context, indicator) -> {
+			Object instance = expression.execute(context, indicator);
+			if (instance == null)
+				return Boolean.FALSE;
+			if (javaType != null)
+				return javaType.isInstance(instance);
+			return interpreter.isInstanceoOf(instance, type);
+		};
+	}
+
+	protected ExecutableNode _build(XConstructorCall constructorCall) {
+		JvmConstructor jvmConstructor = constructorCall.getConstructor();
+		Constructor<?> constructor = interpreter.getJavaReflectAccess().getConstructor(jvmConstructor);
+		if (constructor == null || !setAccessible(constructor)) {
+			return null;
+		}
+		ArgumentsNode arguments = buildArguments(jvmConstructor, constructor.getParameterTypes(),
+				constructorCall.getArguments());
+		MethodHandle handle = interpreter.getJavaReflectAccess().getConstructorHandle(jvmConstructor);
+		if (handle != null) {
+			return (context, indicator) -> {
+				Object[] argumentValues = arguments.execute(context, indicator);
+				try {
+					return (Object) handle.invokeExact(argumentValues);
+				} catch (JavaReflectAccess.ArgumentMismatchException e) {
+					throw new IllegalStateException("Could not invoke constructor: " + jvmConstructor.getIdentifier(), e);
+				} catch (Throwable t) {
+					throw new EvaluationException(t);
+				}
+			};
+		}
+		return (context, indicator) -> {
+			Object[] argumentValues = arguments.execute(context, indicator);
+			try {
+				return constructor.newInstance(argumentValues);
+			} catch (InvocationTargetException targetException) {
+				throw new EvaluationException(targetException.getTargetException());
+			} catch (Exception e) {
+				throw new IllegalStateException("Could not invoke constructor: " + jvmConstructor.getIdentifier(), e);
+			}
+		};
+	}
+
+	protected ExecutableNode _build(XAssignment assignment) {
+		JvmIdentifiableElement feature = assignment.getFeature();
+		if (feature instanceof JvmOperation && ((JvmOperation) feature).isVarArgs()) {
+			return _build((XAbstractFeatureCall) assignment);
+		}
+		ExecutableNode value = build(assignment.getValue());
+		if (feature instanceof XVariableDeclaration) {
+			XVariableDeclaration variable = (XVariableDeclaration) feature;
+			UnaryOperator<Object> coercion = variable.getType() != null ? coercion(variable.getType()) : UnaryOperator.identity();
+			Integer slot = slots.get(variable);
+			if (slot != null) {
+				int index = slot;
+				return (context, indicator) -> {
+					Object result = value.execute(context, indicator);
+					frame(context)[index] = coercion.apply(result);
+					return result;
+				};
+			}
+			QualifiedName name = QualifiedName.create(variable.getName());
+			return (context, indicator) -> {
+				Object result = value.execute(context, indicator);
+				context.assignValue(name, coercion.apply(result));
+				return result;
+			};
+		}
+		Map<QualifiedName, Integer> names = getVisibleSlots();
+		return (context, indicator) -> interpreter.assignValueTo(feature, assignment, value.execute(context, indicator),
+				withSlots(context, names), indicator);
+	}
+
+	protected ExecutableNode _build(XMemberFeatureCall featureCall) {
+		if (featureCall.isTypeLiteral()) {
+			return constant(featureCall);
+		}
+		if (featureCall.isNullSafe()) {
+			ExecutableNode defaultValue = defaultValue(featureCall);
+			XExpression receiver = interpreter.getActualReceiver(featureCall);
+			FeatureNode invocation = buildFeature(featureCall);
+			if (defaultValue == null || receiver == null || invocation == null) {
+				return null;
+			}
+			ExecutableNode receiverNode = build(receiver);
+			return (context, indicator) -> {
+				Object receiverObj = receiverNode.execute(context, indicator);
+				if (receiverObj == null) {
+					return defaultValue.execute(context, indicator);
+				}
+				return invocation.invoke(receiverObj, context, indicator);
+			};
+		}
+		return buildFeatureCall(featureCall);
+	}
+
+	protected ExecutableNode _build(XFeatureCall featureCall) {
+		if (featureCall.isTypeLiteral()) {
+			return constant(featureCall);
+		}
+		return _build((XAbstractFeatureCall) featureCall);
+	}
+
+	protected ExecutableNode _build(XAbstractFeatureCall featureCall) {
+		XExpressionHelper expressionHelper = interpreter.getExpressionHelper();
+		if (expressionHelper.isShortCircuitOperation(featureCall)) {
+			return buildShortCircuitOperation((XBinaryOperation) featureCall);
+		}
+		if (interpreter.isGetAndAssign(featureCall)) {
+			return null;
+		}
+		ExecutableNode invocation = buildFeatureCall(featureCall);
+		if (invocation != null && featureCall instanceof XBinaryOperation
+				&& ((XBinaryOperation) featureCall).isReassignFirstArgument()) {
+			XAbstractFeatureCall leftOperand = (XAbstractFeatureCall) ((XBinaryOperation) featureCall).getLeftOperand();
+			JvmIdentifiableElement assignable = leftOperand.getFeature();
+			Integer slot = slots.get(assignable);
+			if (slot != null && assignable instanceof XVariableDeclaration) {
+				int index = slot;
+				JvmTypeReference type = ((XVariableDeclaration) assignable).getType();
+				UnaryOperator<Object> coercion = type != null ? coercion(type) : UnaryOperator.identity();
+				return (context, indicator) -> {
+					Object result = invocation.execute(context, indicator);
+					frame(context)[index] = coercion.apply(result);
+					return result;
+				};
+			}
+			Map<QualifiedName, Integer> names = getVisibleSlots();
+			return (context, indicator) -> {
+				Object result = invocation.execute(context, indicator);
+				interpreter.assignValueTo(assignable, featureCall, result, withSlots(context, names), indicator);
+				return result;
+			};
+		}
+		return invocation;
+	}
+
+	protected ExecutableNode buildShortCircuitOperation(XBinaryOperation featureCall) {
+		XExpressionHelper expressionHelper = interpreter.getExpressionHelper();
+		XExpression leftOperand = featureCall.getLeftOperand();
+		ExecutableNode left = build(leftOperand);
+		String operatorName = featureCall.getConcreteSyntaxFeatureName();
+		boolean elvis = expressionHelper.getElvisOperator().equals(operatorName);
+		boolean and = !elvis && expressionHelper.getAndOperator().equals(operatorName);
+		boolean or = !elvis && !and && expressionHelper.getOrOperator().equals(operatorName);
+		JvmOperation operation = (JvmOperation) featureCall.getFeature();
+		// the receiver expression is passed as is, just like the interpreter does
+		XExpression receiver = interpreter.getActualReceiver(featureCall);
+		List<XExpression> operationArguments = interpreter.getActualArguments(featureCall);
+		ExecutableNode[] arguments = new ExecutableNode[operationArguments.size()];
+		for (int i = 0; i < arguments.length; i++) {
+			XExpression argument = operationArguments.get(i);
+			if (argument != leftOperand) {
+				arguments[i] = build(argument);
+			}
+		}
+		Map<QualifiedName, Integer> names = getVisibleSlots();
+		return (context, indicator) -> {
+			Object result = left.execute(context, indicator);
+			if (elvis) {
+				if (result != null)
+					return result;
+			} else if (and) {
+				if (!(Boolean) result)
+					return false;
+			} else if (or) {
+				if ((Boolean) result)
+					return true;
+			}
+			List<Object> argumentValues = new ArrayList<>(arguments.length);
+			for (ExecutableNode argument : arguments) {
+				argumentValues.add(argument == null ? result : argument.execute(context, indicator));
+			}
+			return interpreter.invokeOperation(operation, receiver, argumentValues, withSlots(context, names), indicator);
+		};
+	}
+
+	/**
+	 * Returns the node that evaluates the receiver of the given feature call and invokes its feature.
+	 */
+	protected ExecutableNode buildFeatureCall(XAbstractFeatureCall featureCall) {
+		FeatureNode invocation = buildFeature(featureCall);
+		if (invocation == null) {
+			return null;
+		}
+		XExpression receiver = interpreter.getActualReceiver(featureCall);
+		if (receiver == null) {
+			return (context, indicator) -> invocation.invoke(null, context, indicator);
+		}
+		ExecutableNode receiverNode = build(receiver);
+		return (context, indicator) -> invocation.invoke(receiverNode.execute(context, indicator), context, indicator);
+	}
+
+	/**
+	 * Returns the node that invokes the feature of the given feature call on an already evaluated receiver.
+	 */
+	protected FeatureNode buildFeature(XAbstractFeatureCall featureCall) {
+		JvmIdentifiableElement feature = featureCall.getFeature();
+		if (feature instanceof JvmField) {
+			return buildField((JvmField) feature);
+		} else if (feature instanceof JvmOperation) {
+			return buildOperation((JvmOperation) feature, featureCall);
+		} else if (slots.containsKey(feature)) {
+			int slot = slots.get(feature);
+			return (receiver, context, indicator) -> {
+				if (receiver != null)
+					throw new IllegalStateException("feature was simple feature call but got receiver instead of null. Receiver: " + receiver);
+				return frame(context)[slot];
+			};
+		} else if (feature != null) {
+			String simpleName = interpreter.getFeatureNameProvider().getSimpleName(feature);
+			if (simpleName == null) {
+				return null;
+			}
+			QualifiedName name = QualifiedName.create(simpleName);
+			return (receiver, context, indicator) -> {
+				if (receiver != null)
+					throw new IllegalStateException("feature was simple feature call but got receiver instead of null. Receiver: " + receiver);
+				return context.getValue(name);
+			};
+		}
+		return null;
+	}
+
+	protected FeatureNode buildField(JvmField jvmField) {
+		Field field = interpreter.getJavaReflectAccess().getField(jvmField);
+		if (field == null || !setAccessible(field)) {
+			return null;
+		}
+		boolean isStatic = Modifier.isStatic(field.getModifiers());
+		MethodHandle getter = interpreter.getJavaReflectAccess().getFieldGetter(jvmField);
+		if (getter != null) {
+			return (receiver, context, indicator) -> {
+				if (!isStatic && receiver == null) {
+					throw new EvaluationException(new NullPointerException("cannot access field " + field + " on null"));
+				}
+				try {
+					return (Object) getter.invokeExact(receiver);
+				} catch (Exception e) {
+					throw new IllegalStateException("Could not access field: " + jvmField.getIdentifier()
+							+ " on instance: " + receiver, e);
+				} catch (Throwable t) {
+					throw Exceptions.sneakyThrow(t);
+				}
+			};
+		}
+		return (receiver, context, indicator) -> {
+			if (!isStatic && receiver == null) {
+				throw new EvaluationException(new NullPointerException("cannot access field " + field + " on null"));
+			}
+			try {
+				return field.get(receiver);
+			} catch (Exception e) {
+				throw new IllegalStateException("Could not access field: " + jvmField.getIdentifier()
+						+ " on instance: " + receiver, e);
+			}
+		};
+	}
+
+	protected FeatureNode buildOperation(JvmOperation operation, XAbstractFeatureCall featureCall) {
+		Method method = interpreter.getJavaReflectAccess().getMethod(operation);
+		if (method == null) {
+			return null;
+		}
+		MethodHandle handle = interpreter.getJavaReflectAccess().getMethodHandle(operation);
+		ArgumentsNode arguments = buildArguments(operation, method.getParameterTypes(),
+				interpreter.getActualArguments(featureCall));
+		return (receiver, context, indicator) -> interpreter.invokeMethod(operation, method, handle, receiver,
+				arguments.execute(context, indicator));
+	}
+
+	/**
+	 * Returns the node that evaluates and coerces the arguments of an invocation, including the array for the
+	 * variable arguments.
+	 */
+	protected ArgumentsNode buildArguments(JvmExecutable executable, Class<?>[] parameterTypes,
+			List<XExpression> expressions) {
+		List<JvmFormalParameter> parameters = executable.getParameters();
+		int paramCount = parameters.size();
+		if (executable.isVarArgs())
+			paramCount--;
+		ExecutableNode[] fixedArguments = new ExecutableNode[paramCount];
+		List<UnaryOperator<Object>> coercions = new ArrayList<>(paramCount);
+		for (int i = 0; i < paramCount; i++) {
+			fixedArguments[i] = build(expressions.get(i));
+			coercions.add(coercion(parameters.get(i).getParameterType()));
+		}
+		if (!executable.isVarArgs()) {
+			return (context, indicator) -> {
+				Object[] result = new Object[fixedArguments.length];
+				for (int i = 0; i < fixedArguments.length; i++) {
+					result[i] = coercions.get(i).apply(fixedArguments[i].execute(context, indicator));
+				}
+				return result;
+			};
+		}
+		Class<?> componentType = parameterTypes[paramCount].getComponentType();
+		boolean single = expressions.size() == parameters.size();
+		ExecutableNode[] varArguments = buildAll(expressions.subList(paramCount, expressions.size()));
+		return (context, indicator) -> {
+			Object[] result = new Object[fixedArguments.length + 1];
+			for (int i = 0; i < fixedArguments.length; i++) {
+				result[i] = coercions.get(i).apply(fixedArguments[i].execute(context, indicator));
+			}
+			if (single) {
+				Object lastArgResult = varArguments[0].execute(context, indicator);
+				if (componentType.isInstance(lastArgResult)) {
+					Object array = Array.newInstance(componentType, 1);
+					Array.set(array, 0, lastArgResult);
+					result[fixedArguments.length] = array;
+				} else {
+					result[fixedArguments.length] = lastArgResult;
+				}
+			} else {
+				Object array = Array.newInstance(componentType, varArguments.length);
+				for (int i = 0; i < varArguments.length; i++) {
+					Array.set(array, i, varArguments[i].execute(context, indicator));
+				}
+				result[fixedArguments.length] = array;
+			}
+			return result;
+		};
+	}
+
+	/**
+	 * Returns the function that does the same as {@link XbaseInterpreter#coerceArgumentType(Object, JvmTypeReference)}
+	 * but only asks the interpreter if a value has to be converted to an interface that it does not implement yet.
+	 */
+	protected UnaryOperator<Object> coercion(JvmTypeReference expectedType) {
+		JvmType type = expectedType.getType();
+		if (type instanceof JvmGenericType && ((JvmGenericType) type).isInterface()) {
+			Class<?> functionIntf;
+			try {
+				functionIntf = interpreter.getClassFinder().forName(type.getIdentifier());
+			} catch (ClassNotFoundException e) {
+				return value -> interpreter.coerceArgumentType(value, expectedType);
+			}
+			return value -> {
+				if (value == null || functionIntf.isInstance(value))
+					return value;
+				return interpreter.coerceArgumentType(value, expectedType);
+			};
+		}
+		return UnaryOperator.identity();
+	}
+
+	protected ExecutableNode defaultValue(XExpression expression) {
+		LightweightTypeReference type = typeResolver.resolveTypes(expression).getActualType(expression);
+		if (type == null) {
+			return null;
+		}
+		Object value = interpreter.getDefaultObjectValue(type);
+		return (context, indicator) -> value;
+	}
+
+	protected ExecutableNode[] buildAll(List<? extends XExpression> expressions) {
+		ExecutableNode[] result = new ExecutableNode[expressions.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = build(expressions.get(i));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the class of the given type or <code>null</code> if it cannot be found.
+	 */
+	protected Class<?> getJavaType(JvmType type) {
+		try {
+			return interpreter.getJavaType(type);
+		} catch (ClassNotFoundException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Assigns the next slot of the frame to the given local variable or parameter and makes it visible by name in the
+	 * current scope.
+	 */
+	protected int declareSlot(JvmIdentifiableElement element) {
+		int slot = frameSize++;
+		slots.put(element, slot);
+		String simpleName = interpreter.getFeatureNameProvider().getSimpleName(element);
+		if (simpleName != null) {
+			visibleSlots.put(QualifiedName.create(simpleName), slot);
+		}
+		return slot;
+	}
+
+	/**
+	 * Opens a new scope for the slots that are declared until the returned outer scope is
+	 * {@link #leaveScope(Map) restored}.
+	 */
+	protected Map<QualifiedName, Integer> enterScope() {
+		Map<QualifiedName, Integer> result = visibleSlots;
+		visibleSlots = new HashMap<>(result);
+		return result;
+	}
+
+	protected void leaveScope(Map<QualifiedName, Integer> outerScope) {
+		visibleSlots = outerScope;
+	}
+
+	/**
+	 * Returns the slots that are visible by name at the current position, e.g. for expressions that are evaluated
+	 * by the interpreter.
+	 */
+	protected Map<QualifiedName, Integer> getVisibleSlots() {
+		if (visibleSlots.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		return new HashMap<>(visibleSlots);
+	}
+
+	private static IEvaluationContext withSlots(IEvaluationContext context, Map<QualifiedName, Integer> names) {
+		if (names.isEmpty() || !(context instanceof FrameEvaluationContext)) {
+			return context;
+		}
+		return ((FrameEvaluationContext) context).withSlots(names);
+	}
+
+	private static Object[] frame(IEvaluationContext context) {
+		return frameContext(context).getFrame();
+	}
+
+	private static FrameEvaluationContext frameContext(IEvaluationContext context) {
+		if (!(context instanceof FrameEvaluationContext)) {
+			throw new IllegalArgumentException("Expected a FrameEvaluationContext, nodes that declare variables have to be executed within the node of buildWithFrame but got: "
+					+ context);
+		}
+		return (FrameEvaluationContext) context;
+	}
+
+	private static boolean setAccessible(java.lang.reflect.AccessibleObject object) {
+		try {
+			object.setAccessible(true);
+			return true;
+		} catch (RuntimeException e) {
+			return false;
+		}
+	}
+
+	private static void checkCanceled(CancelIndicator indicator) {
+		if (indicator.isCanceled())
+			throw new InterpreterCanceledException();
+	}
+
+	/**
+	 * Invokes a feature on an already evaluated receiver.
+	 */
+	@FunctionalInterface
+	protected interface FeatureNode {
+		Object invoke(Object receiver, IEvaluationContext context, CancelIndicator indicator);
+	}
+
+	/**
+	 * Evaluates the arguments of an invocation.
+	 */
+	@FunctionalInterface
+	protected interface ArgumentsNode {
+		Object[] execute(IEvaluationContext context, CancelIndicator indicator);
+	}
+
+	/**
+	 * Executes the compiled body of a closure.
+	 */
+	protected static class CompiledClosureInvocationHandler extends ClosureInvocationHandler {
+
+		private final ExecutableNode body;
+
+		private final int[] parameterSlots;
+
+		private final FrameEvaluationContext context;
+
+		private final CancelIndicator indicator;
+
+		public CompiledClosureInvocationHandler(XClosure closure, ExecutableNode body, int[] parameterSlots,
+				FrameEvaluationContext context, XbaseInterpreter interpreter, CancelIndicator indicator) {
+			super(closure, context, interpreter, indicator);
+			this.body = body;
+			this.parameterSlots = parameterSlots;
+			this.context = context;
+			this.indicator = indicator;
+		}
+
+		@Override
+		protected Object doInvoke(Method method, Object[] args) throws Throwable {
+			FrameEvaluationContext invocationContext = context.copy();
+			if (args != null) {
+				if (args.length != parameterSlots.length)
+					throw new IllegalStateException("Number of arguments did not match. Expected: " + 
+							parameterSlots.length + " but was: " + args.length);
+				Object[] frame = invocationContext.getFrame();
+				for (int i = 0; i < args.length; i++) {
+					frame[parameterSlots[i]] = args[i];
+				}
+			}
+			IEvaluationResult result = ExecutableExpression.evaluate(body, invocationContext, indicator);
+			if (indicator.isCanceled())
+				throw new InterpreterCanceledException();
+			if (result.getException() != null)
+				throw result.getException();
+			return result.getResult();
+		}
+	}
+
+}
@@ -0,0 +1,26 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.interpreter.impl;
+
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.xbase.interpreter.IEvaluationContext;
+
+/**
+ * A node of a compiled expression. Nodes signal failures and control flow the same way as the
+ * {@link XbaseInterpreter}, e.g. by means of an {@link EvaluationException} or a {@link XbaseInterpreter.ReturnValue}.
+ *
+ * @see ExecutableExpressionBuilder
+ * @since 2.31
+ */
+@FunctionalInterface
+public interface ExecutableNode {
+
+	Object execute(IEvaluationContext context, CancelIndicator indicator);
+
+}
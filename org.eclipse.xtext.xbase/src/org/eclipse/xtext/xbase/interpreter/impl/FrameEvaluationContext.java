@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.interpreter.impl;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.xbase.interpreter.IEvaluationContext;
+
+import com.google.common.collect.Maps;
+
+/**
+ * An evaluation context that stores the local variables of a compiled expression in the slots of an array. The slots
+ * are assigned by the {@link ExecutableExpressionBuilder} such that compiled nodes access variables by index. Values
+ * that are looked up by name are resolved against the slots that are visible by that name, values that were created
+ * by name in this context and finally the parent context.
+ *
+ * @since 2.31
+ */
+public class FrameEvaluationContext implements IEvaluationContext {
+
+	private final Object[] frame;
+
+	private final Map<QualifiedName, Integer> slots;
+
+	private final IEvaluationContext parent;
+
+	private Map<QualifiedName, Object> values;
+
+	public FrameEvaluationContext(int frameSize, IEvaluationContext parent) {
+		this(new Object[frameSize], Collections.emptyMap(), parent);
+	}
+
+	protected FrameEvaluationContext(Object[] frame, Map<QualifiedName, Integer> slots, IEvaluationContext parent) {
+		this.frame = frame;
+		this.slots = slots;
+		this.parent = parent;
+	}
+
+	public Object[] getFrame() {
+		return frame;
+	}
+
+	public IEvaluationContext getParent() {
+		return parent;
+	}
+
+	/**
+	 * Returns a context that shares the frame with this one and resolves the given names to slots.
+	 */
+	public FrameEvaluationContext withSlots(Map<QualifiedName, Integer> slots) {
+		return new FrameEvaluationContext(frame, slots, parent);
+	}
+
+	/**
+	 * Returns a context with a copy of the frame, e.g. for the invocation of a closure.
+	 */
+	public FrameEvaluationContext copy() {
+		return new FrameEvaluationContext(frame.clone(), slots, parent);
+	}
+
+	@Override
+	public Object getValue(QualifiedName qualifiedName) {
+		if (values != null && values.containsKey(qualifiedName))
+			return values.get(qualifiedName);
+		Integer slot = slots.get(qualifiedName);
+		if (slot != null)
+			return frame[slot];
+		return parent.getValue(qualifiedName);
+	}
+
+	@Override
+	public void newValue(QualifiedName qualifiedName, Object value) {
+		if (values == null)
+			values = Maps.newHashMap();
+		if (values.containsKey(qualifiedName))
+			throw new IllegalStateException("Cannot create a duplicate value '" + qualifiedName + "'.");
+		values.put(qualifiedName, value);
+	}
+
+	@Override
+	public void assignValue(QualifiedName qualifiedName, Object value) {
+		if (values != null && values.containsKey(qualifiedName)) {
+			values.put(qualifiedName, value);
+			return;
+		}
+		Integer slot = slots.get(qualifiedName);
+		if (slot != null)
+			frame[slot] = value;
+		else
+			parent.assignValue(qualifiedName, value);
+	}
+
+	@Override
+	public IEvaluationContext fork() {
+		return new DefaultEvaluationContext(this);
+	}
+
+}
@@ -13,6 +13,7 @@ import static com.google.common.collect.Maps.*;
 import static com.google.common.collect.Sets.*;
 import static org.eclipse.xtext.util.Strings.*;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -87,8 +88,10 @@ import org.eclipse.xtext.xbase.XbasePackage;
 import org.eclipse.xtext.xbase.featurecalls.IdentifiableSimpleNameProvider;
 import org.eclipse.xtext.xbase.interpreter.IEvaluationContext;
 import org.eclipse.xtext.xbase.interpreter.IEvaluationResult;
+import org.eclipse.xtext.xbase.interpreter.IExecutableExpression;
 import org.eclipse.xtext.xbase.interpreter.IExpressionInterpreter;
 import org.eclipse.xtext.xbase.lib.Conversions;
+import org.eclipse.xtext.xbase.lib.Exceptions;
 import org.eclipse.xtext.xbase.lib.Functions;
 import org.eclipse.xtext.xbase.lib.ObjectExtensions;
 import org.eclipse.xtext.xbase.lib.Pair;
@@ -207,6 +210,26 @@ public class XbaseInterpreter implements IExpressionInterpreter {
 		return contextProvider.get();
 	}
 	
+	/**
+	 * Translates the given expression once into a tree of executable nodes. The features, reflective handles and
+	 * expected types are resolved during the translation such that repeated evaluations skip the dispatch and type
+	 * resolution of this interpreter. The result is valid as long as the expression and its resource are not modified.
+	 *
+	 * @see ExecutableExpressionBuilder
+	 * @since 2.31
+	 */
+	public IExecutableExpression compile(XExpression expression) {
+		ExecutableNode node = createExecutableExpressionBuilder().buildWithFrame(expression);
+		return new ExecutableExpression(expression, node, this);
+	}
+
+	/**
+	 * @since 2.31
+	 */
+	protected ExecutableExpressionBuilder createExecutableExpressionBuilder() {
+		return new ExecutableExpressionBuilder(this);
+	}
+
 	@Override
 	public IEvaluationResult evaluate(XExpression expression, IEvaluationContext context, CancelIndicator indicator) {
 		try {
@@ -854,6 +877,16 @@ public class XbaseInterpreter implements IExpressionInterpreter {
 		try {
 			if (constructor == null)
 				throw new NoSuchMethodException("Could not find constructor " + jvmConstructor.getIdentifier());
+			MethodHandle handle = javaReflectAccess.getConstructorHandle(jvmConstructor);
+			if (handle != null && arguments.size() == constructor.getParameterCount()) {
+				try {
+					return (Object) handle.invokeExact(arguments.toArray(new Object[arguments.size()]));
+				} catch (JavaReflectAccess.ArgumentMismatchException e) {
+					throw e;
+				} catch (Throwable t) {
+					throw new InvocationTargetException(t);
+				}
+			}
 			constructor.setAccessible(true);
 			Object result = constructor.newInstance(arguments.toArray(new Object[arguments.size()]));
 			return result;
@@ -932,36 +965,46 @@ public class XbaseInterpreter implements IExpressionInterpreter {
 		if (variableDecl.getRight()!=null) {
 			initialValue = internalEvaluate(variableDecl.getRight(), context, indicator);
 		} else {
-			if (services.getPrimitives().isPrimitive(variableDecl.getType())) {
-				Primitive primitiveKind = services.getPrimitives().primitiveKind((JvmPrimitiveType) variableDecl.getType().getType());
-				switch(primitiveKind) {
-					case Boolean:
-						initialValue = Boolean.FALSE; break;
-					case Char:
-						initialValue = Character.valueOf((char) 0); break;
-					case Double:
-						initialValue = Double.valueOf(0d); break;
-					case Byte:
-						initialValue = Byte.valueOf((byte) 0); break;
-					case Float:
-						initialValue = Float.valueOf(0f); break;
-					case Int:
-						initialValue = Integer.valueOf(0); break;
-					case Long:
-						initialValue = Long.valueOf(0L); break;
-					case Short:
-						initialValue = Short.valueOf((short) 0); break;
-					case Void:
-						throw new IllegalStateException("Void is not a valid variable type.");
-					default:
-						throw new IllegalStateException("Unknown primitive type " + primitiveKind);
-				}
-			}
+			initialValue = getDefaultValue(variableDecl);
 		}
 		context.newValue(QualifiedName.create(variableDecl.getName()), initialValue);
 		return null;
 	}
 
+	/**
+	 * Returns the initial value of a variable that is declared without a right hand side.
+	 * 
+	 * @since 2.31
+	 */
+	protected Object getDefaultValue(XVariableDeclaration variableDecl) {
+		if (services.getPrimitives().isPrimitive(variableDecl.getType())) {
+			Primitive primitiveKind = services.getPrimitives().primitiveKind((JvmPrimitiveType) variableDecl.getType().getType());
+			switch(primitiveKind) {
+				case Boolean:
+					return Boolean.FALSE;
+				case Char:
+					return Character.valueOf((char) 0);
+				case Double:
+					return Double.valueOf(0d);
+				case Byte:
+					return Byte.valueOf((byte) 0);
+				case Float:
+					return Float.valueOf(0f);
+				case Int:
+					return Integer.valueOf(0);
+				case Long:
+					return Long.valueOf(0L);
+				case Short:
+					return Short.valueOf((short) 0);
+				case Void:
+					throw new IllegalStateException("Void is not a valid variable type.");
+				default:
+					throw new IllegalStateException("Unknown primitive type " + primitiveKind);
+			}
+		}
+		return null;
+	}
+
 	protected Object _doEvaluate(XFeatureCall featureCall, IEvaluationContext context, CancelIndicator indicator) {
 		if (featureCall.isTypeLiteral()) {
 			JvmType type = (JvmType) featureCall.getFeature();
@@ -1134,6 +1177,10 @@ public class XbaseInterpreter implements IExpressionInterpreter {
 			if(!Modifier.isStatic(field.getModifiers()) && receiver == null) {
 				throw new EvaluationException(new NullPointerException("cannot access field " + field + " on null"));
 			}
+			MethodHandle getter = javaReflectAccess.getFieldGetter(jvmField);
+			if (getter != null) {
+				return (Object) getter.invokeExact(receiver);
+			}
 			field.setAccessible(true);
 			Object result = field.get(receiver);
 			return result;
@@ -1143,6 +1190,8 @@ public class XbaseInterpreter implements IExpressionInterpreter {
 		catch (Exception e) {
 			throw new IllegalStateException("Could not access field: " + jvmField.getIdentifier()
 					+ " on instance: " + receiver, e);
+		} catch (Throwable t) {
+			throw Exceptions.sneakyThrow(t);
 		}
 	}
 
@@ -1169,6 +1218,19 @@ public class XbaseInterpreter implements IExpressionInterpreter {
 	
 	protected Object invokeOperation(JvmOperation operation, Object receiver, List<Object> argumentValues) {
 		Method method = javaReflectAccess.getMethod(operation);
+		MethodHandle handle = javaReflectAccess.getMethodHandle(operation);
+		return invokeMethod(operation, method, handle, receiver, argumentValues.toArray(new Object[argumentValues.size()]));
+	}
+
+	/**
+	 * Invokes the given method that was obtained for the operation.
+	 * 
+	 * @param method the reflective method or <code>null</code> if it could not be found.
+	 * @param handle the method handle as provided by {@link JavaReflectAccess#getMethodHandle(JvmOperation)}. If it is
+	 *            <code>null</code>, the method is invoked reflectively.
+	 * @since 2.31
+	 */
+	protected Object invokeMethod(JvmOperation operation, Method method, MethodHandle handle, Object receiver, Object[] arguments) {
 		try {
 			if (method == null) {
 				throw new NoSuchMethodException("Could not find method " + operation.getIdentifier());
@@ -1182,14 +1244,22 @@ public class XbaseInterpreter implements IExpressionInterpreter {
 			if (receiver != null && Proxy.isProxyClass(receiver.getClass())) {
 				InvocationHandler invocationHandler = Proxy.getInvocationHandler(receiver);
 				try {
-					Object result = invocationHandler.invoke(receiver, method, argumentValues.toArray(new Object[argumentValues.size()]));
+					Object result = invocationHandler.invoke(receiver, method, arguments);
 					return result;
 				} catch(Throwable throwable) {
 					throw new InvocationTargetException(throwable);
 				}
+			} else if (handle != null && arguments.length == method.getParameterCount()) {
+				try {
+					return (Object) handle.invokeExact(receiver, arguments);
+				} catch (JavaReflectAccess.ArgumentMismatchException e) {
+					throw e;
+				} catch (Throwable t) {
+					throw new InvocationTargetException(t);
+				}
 			} else {
 				method.setAccessible(true);
-				Object result = method.invoke(receiver, argumentValues.toArray(new Object[argumentValues.size()]));
+				Object result = method.invoke(receiver, arguments);
 				return result;
 			}
 		} catch (EvaluationException e) {
@@ -1361,12 +1431,19 @@ public class XbaseInterpreter implements IExpressionInterpreter {
 						+ jvmField.getIdentifier() + " on null instance"));
 			JvmTypeReference type = jvmField.getType();
 			Object coerced = coerceArgumentType(value, type);
+			MethodHandle setter = javaReflectAccess.getFieldSetter(jvmField);
+			if (setter != null) {
+				setter.invokeExact(receiver, coerced);
+				return value;
+			}
 			field.setAccessible(true);
 			field.set(receiver, coerced);
 			return value;
 		} catch (Exception e) {
 			throw new IllegalStateException("Could not access field: " + jvmField.getIdentifier()
 					+ " on instance: " + receiver, e);
+		} catch (Throwable t) {
+			throw Exceptions.sneakyThrow(t);
 		}
 	}
 
@@ -1406,4 +1483,39 @@ public class XbaseInterpreter implements IExpressionInterpreter {
 	protected JavaReflectAccess getJavaReflectAccess() {
 		return javaReflectAccess;
 	}
+
+	/**
+	 * @since 2.31
+	 */
+	protected ClassLoader getClassLoader() {
+		return classLoader;
+	}
+
+	/**
+	 * @since 2.31
+	 */
+	protected IBatchTypeResolver getTypeResolver() {
+		return typeResolver;
+	}
+
+	/**
+	 * @since 2.31
+	 */
+	protected CommonTypeComputationServices getServices() {
+		return services;
+	}
+
+	/**
+	 * @since 2.31
+	 */
+	protected IdentifiableSimpleNameProvider getFeatureNameProvider() {
+		return featureNameProvider;
+	}
+
+	/**
+	 * @since 2.31
+	 */
+	protected XExpressionHelper getExpressionHelper() {
+		return expressionHelper;
+	}
 }
@@ -8,9 +8,12 @@
  *******************************************************************************/
 package org.eclipse.xtext.xbase.jvmmodel;
 
+import java.util.AbstractMap;
 import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -97,7 +100,7 @@ public class JvmModelAssociator implements IJvmModelAssociations, IJvmModelAssoc
 	public static class Adapter extends AdapterImpl {
 		public Map<EObject, Set<EObject>> sourceToTargetMap = Maps2.newLinkedHashMapWithExpectedSize(40);
 		public Map<EObject, Set<EObject>> targetToSourceMap = Maps2.newLinkedHashMapWithExpectedSize(40);
-		public Map<EObject, JvmIdentifiableElement> logicalContainerMap = Maps2.newLinkedHashMapWithExpectedSize(40);
+		public Map<EObject, JvmIdentifiableElement> logicalContainerMap = new LogicalContainerMap();
 
 		@Override
 		public boolean isAdapterForType(Object type) {
@@ -105,6 +108,164 @@ public class JvmModelAssociator implements IJvmModelAssociations, IJvmModelAssoc
 		}
 	}
 
+	/**
+	 * A map from logical children to their logical container that also maintains the reverse mapping, such that the
+	 * children of a container can be found without iterating all entries.
+	 *
+	 * @noreference
+	 * @noextend This class is not intended to be subclassed by clients.
+	 * @since 2.31
+	 */
+	public static class LogicalContainerMap extends AbstractMap<EObject, JvmIdentifiableElement> {
+
+		private final Map<EObject, JvmIdentifiableElement> childToContainer = Maps2.newLinkedHashMapWithExpectedSize(40);
+
+		private final Map<JvmIdentifiableElement, Set<EObject>> containerToChildren = Maps2.newLinkedHashMapWithExpectedSize(40);
+
+		private Set<Entry<EObject, JvmIdentifiableElement>> entrySet;
+
+		/**
+		 * Returns the logical children of the given container in the order in which they were associated.
+		 */
+		public Set<EObject> getLogicalChildren(JvmIdentifiableElement container) {
+			Set<EObject> result = containerToChildren.get(container);
+			if (result == null) {
+				return Collections.emptySet();
+			}
+			return Collections.unmodifiableSet(result);
+		}
+
+		/**
+		 * Returns the first expression that is associated with the given container or <code>null</code> if there is none.
+		 */
+		public XExpression getAssociatedExpression(JvmIdentifiableElement container) {
+			Set<EObject> children = containerToChildren.get(container);
+			if (children != null) {
+				for (EObject child : children) {
+					if (child instanceof XExpression) {
+						return (XExpression) child;
+					}
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public int size() {
+			return childToContainer.size();
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return childToContainer.containsKey(key);
+		}
+
+		@Override
+		public JvmIdentifiableElement get(Object key) {
+			return childToContainer.get(key);
+		}
+
+		@Override
+		public JvmIdentifiableElement put(EObject key, JvmIdentifiableElement value) {
+			boolean known = childToContainer.containsKey(key);
+			JvmIdentifiableElement previous = childToContainer.put(key, value);
+			if (known) {
+				if (previous == value) {
+					return previous;
+				}
+				unlink(key, previous);
+			}
+			link(key, value);
+			return previous;
+		}
+
+		@Override
+		public JvmIdentifiableElement remove(Object key) {
+			if (!childToContainer.containsKey(key)) {
+				return null;
+			}
+			JvmIdentifiableElement previous = childToContainer.remove(key);
+			unlink((EObject) key, previous);
+			return previous;
+		}
+
+		@Override
+		public void clear() {
+			childToContainer.clear();
+			containerToChildren.clear();
+		}
+
+		@Override
+		public Set<Entry<EObject, JvmIdentifiableElement>> entrySet() {
+			if (entrySet == null) {
+				entrySet = new AbstractSet<Entry<EObject, JvmIdentifiableElement>>() {
+					@Override
+					public Iterator<Entry<EObject, JvmIdentifiableElement>> iterator() {
+						Iterator<Entry<EObject, JvmIdentifiableElement>> delegate = childToContainer.entrySet().iterator();
+						return new Iterator<Entry<EObject, JvmIdentifiableElement>>() {
+							private Entry<EObject, JvmIdentifiableElement> current;
+
+							@Override
+							public boolean hasNext() {
+								return delegate.hasNext();
+							}
+
+							@Override
+							public Entry<EObject, JvmIdentifiableElement> next() {
+								current = delegate.next();
+								return new SimpleEntry<EObject, JvmIdentifiableElement>(current) {
+									private static final long serialVersionUID = 1L;
+
+									@Override
+									public JvmIdentifiableElement setValue(JvmIdentifiableElement value) {
+										super.setValue(value);
+										return put(getKey(), value);
+									}
+								};
+							}
+
+							@Override
+							public void remove() {
+								delegate.remove();
+								unlink(current.getKey(), current.getValue());
+							}
+						};
+					}
+
+					@Override
+					public int size() {
+						return childToContainer.size();
+					}
+
+					@Override
+					public void clear() {
+						LogicalContainerMap.this.clear();
+					}
+				};
+			}
+			return entrySet;
+		}
+
+		private void link(EObject child, JvmIdentifiableElement container) {
+			Set<EObject> children = containerToChildren.get(container);
+			if (children == null) {
+				children = new LinkedHashSet<>(2);
+				containerToChildren.put(container, children);
+			}
+			children.add(child);
+		}
+
+		private void unlink(EObject child, JvmIdentifiableElement container) {
+			Set<EObject> children = containerToChildren.get(container);
+			if (children != null) {
+				children.remove(child);
+				if (children.isEmpty()) {
+					containerToChildren.remove(container);
+				}
+			}
+		}
+	}
+
 	protected Adapter getOrInstall(Resource resource) {
 		if (!(resource instanceof XtextResource)) {
 			return new Adapter();
@@ -133,6 +294,9 @@ public class JvmModelAssociator implements IJvmModelAssociations, IJvmModelAssoc
 		if (element == null)
 			return null;
 		Map<EObject, JvmIdentifiableElement> mapping = getLogicalContainerMapping(element.eResource());
+		if (mapping instanceof LogicalContainerMap) {
+			return ((LogicalContainerMap) mapping).getAssociatedExpression(element);
+		}
 		for (Map.Entry<EObject, JvmIdentifiableElement> entry : mapping.entrySet()) {
 			if (entry.getValue() == element && entry.getKey() instanceof XExpression) {
 				return (XExpression) entry.getKey();
@@ -192,7 +356,14 @@ public class JvmModelAssociator implements IJvmModelAssociations, IJvmModelAssoc
 		if (container == null)
 			return;
 		final Map<EObject, JvmIdentifiableElement> mapping = getLogicalContainerMapping(container.eResource());
-		if (!mapping.isEmpty()) {
+		if (mapping instanceof LogicalContainerMap) {
+			Set<EObject> children = ((LogicalContainerMap) mapping).getLogicalChildren(container);
+			if (!children.isEmpty()) {
+				for (EObject child : new ArrayList<>(children)) {
+					mapping.remove(child);
+				}
+			}
+		} else if (!mapping.isEmpty()) {
 			Iterator<Entry<EObject, JvmIdentifiableElement>> iterator = mapping.entrySet().iterator();
 			while (iterator.hasNext()) {
 				Entry<EObject, JvmIdentifiableElement> next = iterator.next();
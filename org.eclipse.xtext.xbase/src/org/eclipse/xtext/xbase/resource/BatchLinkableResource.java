@@ -56,6 +56,9 @@ public class BatchLinkableResource extends DerivedStateAwareResource implements
 	@Inject
 	private CompilerPhases compilerPhases;
 	
+	@Inject(optional = true)
+	private IResourceLockingStrategy lockingStrategy;
+	
 	private Set<Runnable> jvmMemberInitializers = null;
 	
 	private boolean hasJvmMemberInitializers = false;
@@ -65,6 +68,9 @@ public class BatchLinkableResource extends DerivedStateAwareResource implements
 	/**
 	 * Returns the lock of the owning {@link ResourceSet}, if it exposes such a lock.
 	 * Otherwise this resource itself is used as the lock context.
+	 * 
+	 * If a {@link IResourceLockingStrategy} is bound, this resource does not synchronize
+	 * on the returned lock but uses the strategy instead.
 	 */
 	/* @NonNull */
 	@Override
@@ -84,11 +90,30 @@ public class BatchLinkableResource extends DerivedStateAwareResource implements
 	/* @Nullable */
 	@Override
 	public <Result> Result execute(/* @NonNull */ IUnitOfWork<Result, ? super BatchLinkableResource> unit) throws Exception {
+		if (lockingStrategy != null) {
+			lockingStrategy.lock(this);
+			try {
+				return unit.exec(this);
+			} finally {
+				lockingStrategy.unlock(this);
+			}
+		}
 		synchronized (getLock()) {
 			return unit.exec(this);
 		}
 	}
 	
+	/**
+	 * Returns the {@link IResourceLockingStrategy} that guards this resource or <code>null</code>
+	 * if this resource synchronizes on its {@link #getLock() lock}.
+	 * 
+	 * @since 2.31
+	 */
+	/* @Nullable */
+	public IResourceLockingStrategy getLockingStrategy() {
+		return lockingStrategy;
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -107,52 +132,77 @@ public class BatchLinkableResource extends DerivedStateAwareResource implements
 	 */
 	@Override
 	public EObject getEObject(String uriFragment) {
-		synchronized (getLock()) {
+		if (lockingStrategy != null) {
+			lockingStrategy.lock(this);
 			try {
-				if (getEncoder().isCrossLinkFragment(this, uriFragment) && !isLoadedFromStorage()) {
-					if (!getUnresolvableURIFragments().contains(uriFragment)) {
-						Triple<EObject, EReference, INode> triple = getEncoder().decode(this, uriFragment);
-						if (batchLinkingService.isBatchLinkable(triple.getSecond())) {
-							if (compilerPhases.isIndexing(this))
-								log.error("Don't resolve expressions during indexing!", new IllegalStateException("Resource URI : "+getURI()+", fragment : "+uriFragment));
-							return batchLinkingService.resolveBatched(triple.getFirst(), triple.getSecond(), uriFragment);
-						}
-						return getEObject(uriFragment, triple);
-					} else {
-						return null;
+				return getEObjectWithLock(uriFragment);
+			} finally {
+				lockingStrategy.unlock(this);
+			}
+		}
+		synchronized (getLock()) {
+			return getEObjectWithLock(uriFragment);
+		}
+	}
+	
+	private EObject getEObjectWithLock(String uriFragment) {
+		try {
+			if (getEncoder().isCrossLinkFragment(this, uriFragment) && !isLoadedFromStorage()) {
+				if (!getUnresolvableURIFragments().contains(uriFragment)) {
+					Triple<EObject, EReference, INode> triple = getEncoder().decode(this, uriFragment);
+					if (batchLinkingService.isBatchLinkable(triple.getSecond())) {
+						if (compilerPhases.isIndexing(this))
+							log.error("Don't resolve expressions during indexing!", new IllegalStateException("Resource URI : "+getURI()+", fragment : "+uriFragment));
+						return batchLinkingService.resolveBatched(triple.getFirst(), triple.getSecond(), uriFragment);
 					}
+					return getEObject(uriFragment, triple);
+				} else {
+					return null;
 				}
-				return super.getEObject(uriFragment);
-			} catch (RuntimeException e) {
-				operationCanceledManager.propagateAsErrorIfCancelException(e);
-				getErrors().add(new ExceptionDiagnostic(e));
-				log.error("resolution of uriFragment '" + uriFragment + "' failed.", e);
-				// wrapped because the javaDoc of this method states that WrappedExceptions are thrown
-				// logged because EcoreUtil.resolve will ignore any exceptions.
-				throw new WrappedException(e);
 			}
+			return super.getEObject(uriFragment);
+		} catch (RuntimeException e) {
+			operationCanceledManager.propagateAsErrorIfCancelException(e);
+			getErrors().add(new ExceptionDiagnostic(e));
+			log.error("resolution of uriFragment '" + uriFragment + "' failed.", e);
+			// wrapped because the javaDoc of this method states that WrappedExceptions are thrown
+			// logged because EcoreUtil.resolve will ignore any exceptions.
+			throw new WrappedException(e);
 		}
 	}
 	
 	/**
 	 * {@inheritDoc}
 	 * 
-	 * <p>Implementation detail: Overridden to use the shared {@link #getLock() lock}.</p> 
+	 * <p>Implementation detail: Overridden to use the shared {@link #getLock() lock} or the
+	 * {@link IResourceLockingStrategy locking strategy}.</p> 
 	 */
 	@SuppressWarnings("sync-override")
 	@Override
 	public EList<EObject> getContents() {
+		if (lockingStrategy != null) {
+			lockingStrategy.lock(this);
+			try {
+				return getContentsWithLock();
+			} finally {
+				lockingStrategy.unlock(this);
+			}
+		}
 		synchronized (getLock()) {
-			if (isLoaded && !isLoading && !isInitializing && !isUpdating && !fullyInitialized && !isLoadedFromStorage()) {
-				try {
-					eSetDeliver(false);
-					installDerivedState(false);
-				} finally {
-					eSetDeliver(true);
-				}
+			return getContentsWithLock();
+		}
+	}
+	
+	private EList<EObject> getContentsWithLock() {
+		if (isLoaded && !isLoading && !isInitializing && !isUpdating && !fullyInitialized && !isLoadedFromStorage()) {
+			try {
+				eSetDeliver(false);
+				installDerivedState(false);
+			} finally {
+				eSetDeliver(true);
 			}
-			return doGetContents();
 		}
+		return doGetContents();
 	}
 	
 	/**
@@ -28,15 +28,18 @@ import com.google.inject.Inject;
 public class BatchLinkableResourceStorageFacade extends ResourceStorageFacade {
 	@Inject
 	private IProjectConfigProvider projectConfigProvider;
+	
+	@Inject
+	private ResolvedTypesStorage resolvedTypesStorage;
 
 	@Override
 	public ResourceStorageLoadable createResourceStorageLoadable(InputStream in) {
-		return new BatchLinkableResourceStorageLoadable(in, isStoreNodeModel());
+		return new BatchLinkableResourceStorageLoadable(in, isStoreNodeModel(), resolvedTypesStorage);
 	}
 
 	@Override
 	public ResourceStorageWritable createResourceStorageWritable(OutputStream out) {
-		return new BatchLinkableResourceStorageWritable(out, isStoreNodeModel());
+		return new BatchLinkableResourceStorageWritable(out, isStoreNodeModel(), resolvedTypesStorage);
 	}
 
 	@Override
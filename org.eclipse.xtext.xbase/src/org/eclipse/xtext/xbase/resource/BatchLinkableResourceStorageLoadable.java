@@ -9,6 +9,7 @@
 package org.eclipse.xtext.xbase.resource;
 
 import java.io.BufferedInputStream;
+import java.io.DataInputStream;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -16,6 +17,7 @@ import java.io.ObjectInputStream;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 import org.eclipse.emf.ecore.EObject;
@@ -32,8 +34,21 @@ import com.google.common.collect.FluentIterable;
 
 public class BatchLinkableResourceStorageLoadable extends ResourceStorageLoadable {
 
+	private final ResolvedTypesStorage resolvedTypesStorage;
+
 	public BatchLinkableResourceStorageLoadable(InputStream in, boolean storeNodeModel) {
+		this(in, storeNodeModel, null);
+	}
+
+	/**
+	 * @param resolvedTypesStorage
+	 *            reads the resolved types of the resource, or <code>null</code> if they should be ignored.
+	 * @since 2.31
+	 */
+	public BatchLinkableResourceStorageLoadable(InputStream in, boolean storeNodeModel,
+			/* @Nullable */ ResolvedTypesStorage resolvedTypesStorage) {
 		super(in, storeNodeModel);
+		this.resolvedTypesStorage = resolvedTypesStorage;
 	}
 
 	@Override
@@ -41,6 +56,22 @@ public class BatchLinkableResourceStorageLoadable extends ResourceStorageLoadabl
 		super.loadEntries(resource, zipIn);
 		if (resource instanceof BatchLinkableResource) {
 			readAssociationsAdapter((BatchLinkableResource) resource, zipIn);
+			if (resolvedTypesStorage != null) {
+				readResolvedTypes((BatchLinkableResource) resource, zipIn);
+			}
+		}
+	}
+
+	/**
+	 * Reads the resolved types if they are present. Storages that were written by previous versions do not
+	 * contain them.
+	 * 
+	 * @since 2.31
+	 */
+	protected void readResolvedTypes(BatchLinkableResource resource, ZipInputStream stream) throws IOException {
+		ZipEntry entry = stream.getNextEntry();
+		if (entry != null && BatchLinkableResourceStorageWritable.RESOLVED_TYPES_ENTRY.equals(entry.getName())) {
+			resolvedTypesStorage.read(resource, new DataInputStream(new BufferedInputStream(stream)));
 		}
 	}
 
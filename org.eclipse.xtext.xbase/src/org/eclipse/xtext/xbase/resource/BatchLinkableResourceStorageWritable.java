@@ -9,6 +9,7 @@
 package org.eclipse.xtext.xbase.resource;
 
 import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
@@ -43,9 +44,27 @@ public class BatchLinkableResourceStorageWritable extends ResourceStorageWritabl
 	private static final Logger LOG = Logger.getLogger(BatchLinkableResourceStorageWritable.class);
 	
 	public static final String MISSING_FRAGMENT = "none";
+	
+	/**
+	 * @since 2.31
+	 */
+	public static final String RESOLVED_TYPES_ENTRY = "resolved-types";
+
+	private final ResolvedTypesStorage resolvedTypesStorage;
 
 	public BatchLinkableResourceStorageWritable(OutputStream out, boolean storeNodeModel) {
+		this(out, storeNodeModel, null);
+	}
+
+	/**
+	 * @param resolvedTypesStorage
+	 *            writes the resolved types of the resource, or <code>null</code> if they should not be stored.
+	 * @since 2.31
+	 */
+	public BatchLinkableResourceStorageWritable(OutputStream out, boolean storeNodeModel,
+			/* @Nullable */ ResolvedTypesStorage resolvedTypesStorage) {
 		super(out, storeNodeModel);
+		this.resolvedTypesStorage = resolvedTypesStorage;
 	}
 
 	@Override
@@ -60,6 +79,16 @@ public class BatchLinkableResourceStorageWritable extends ResourceStorageWritabl
 				buffOut.flush();
 				zipOut.closeEntry();
 			}
+			if (resolvedTypesStorage != null) {
+				zipOut.putNextEntry(new ZipEntry(RESOLVED_TYPES_ENTRY));
+				DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(zipOut));
+				try {
+					resolvedTypesStorage.write((BatchLinkableResource) resource, dataOut);
+				} finally {
+					dataOut.flush();
+					zipOut.closeEntry();
+				}
+			}
 		}
 	}
 
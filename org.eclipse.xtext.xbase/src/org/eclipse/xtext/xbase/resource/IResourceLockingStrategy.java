@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.resource;
+
+/**
+ * Guards the state of a {@link BatchLinkableResource}, e.g. during proxy resolution, the installation of the derived
+ * state or the type resolution.
+ *
+ * By default, there is no binding for this interface and a {@link BatchLinkableResource} synchronizes on the
+ * {@link BatchLinkableResource#getLock() lock} of its resource set. Clients may opt in to a different strategy, e.g.
+ * the {@link PerResourceLockingStrategy}, by binding it in their runtime module.
+ *
+ * Implementations have to be reentrant and have to be shared by all resources of a resource set.
+ *
+ * @since 2.31
+ */
+public interface IResourceLockingStrategy {
+
+	/**
+	 * Acquires the lock for the given resource. May throw an operation canceled exception if the lock cannot be
+	 * acquired without risking a dead lock.
+	 */
+	void lock(BatchLinkableResource resource);
+
+	/**
+	 * Releases the lock that was acquired by {@link #lock(BatchLinkableResource)}.
+	 */
+	void unlock(BatchLinkableResource resource);
+
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.resource;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.xtext.service.OperationCanceledManager;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * A {@link IResourceLockingStrategy locking strategy} that uses a dedicated lock for each resource, such that
+ * threads that work on different resources do not block each other.
+ *
+ * The order in which a thread acquires the locks of different resources is determined by the proxies that it resolves,
+ * so two threads may end up waiting for each other. A thread that cannot acquire a lock immediately follows the chain
+ * of lock owners periodically, with a growing interval. If that chain leads back to the waiting threads, the waiting thread with the highest id
+ * gives up and throws an operation canceled exception, which releases its locks and allows the others to proceed.
+ * Clients that use this strategy have to be prepared to retry canceled operations, as e.g. the language server does.
+ *
+ * Resources that are not {@link BatchLinkableResource batch linkable}, e.g. the types from the class path, are shared
+ * by all threads without being guarded by this strategy. The resource set has to be a
+ * {@link org.eclipse.xtext.resource.SynchronizedXtextResourceSet}: its lock is the common lock that guards the state
+ * of shared types, i.e. the resolution of proxies to types from the class path and the resolved features that are
+ * cached on any type. A thread that holds this common lock may wait for the lock of a resource, e.g. to resolve a
+ * proxy to an inferred type, thus such a cycle is resolved by the deadlock detection, too.
+ *
+ * @since 2.31
+ */
+@Singleton
+public class PerResourceLockingStrategy implements IResourceLockingStrategy {
+
+	private static final long MAX_DEADLOCK_DETECTION_INTERVAL = TimeUnit.MILLISECONDS.toNanos(50);
+
+	protected static class ResourceLock extends ReentrantLock {
+
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Fair locks ensure that a thread that gave up cannot barge in before the threads that it was blocking.
+		 */
+		protected ResourceLock() {
+			super(true);
+		}
+
+		protected Thread owner() {
+			return getOwner();
+		}
+	}
+
+	@Inject
+	private OperationCanceledManager operationCanceledManager;
+
+	private final LoadingCache<BatchLinkableResource, ResourceLock> locks = CacheBuilder.newBuilder().weakKeys()
+			.build(CacheLoader.from(resource -> new ResourceLock()));
+
+	private final Set<Long> waitingThreads = ConcurrentHashMap.newKeySet();
+
+	private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+	@Override
+	public void lock(BatchLinkableResource resource) {
+		ResourceLock lock = locks.getUnchecked(resource);
+		long self = Thread.currentThread().getId();
+		try {
+			if (lock.tryLock(0, TimeUnit.NANOSECONDS)) {
+				return;
+			}
+			waitingThreads.add(self);
+			long interval = TimeUnit.MILLISECONDS.toNanos(1);
+			while (!lock.tryLock(interval, TimeUnit.NANOSECONDS)) {
+				if (isDeadlockVictim(self, lock)) {
+					operationCanceledManager.throwOperationCanceledException();
+				}
+				interval = Math.min(interval * 2, MAX_DEADLOCK_DETECTION_INTERVAL);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			operationCanceledManager.throwOperationCanceledException();
+		} finally {
+			waitingThreads.remove(self);
+		}
+	}
+
+	@Override
+	public void unlock(BatchLinkableResource resource) {
+		locks.getUnchecked(resource).unlock();
+	}
+
+	/**
+	 * Follows the owners of the locks that the threads are waiting for. If the current thread is waiting for itself,
+	 * the waiting thread with the highest id in that cycle is elected to give up. Since all waiting threads in the
+	 * cycle see the same chain, exactly one of them cancels.
+	 */
+	protected boolean isDeadlockVictim(long self, ResourceLock lock) {
+		Thread owner = lock.owner();
+		long victim = self;
+		long current = owner != null ? owner.getId() : -1;
+		int threadCount = threads.getThreadCount();
+		for (int i = 0; current != -1 && i <= threadCount; i++) {
+			if (current == self) {
+				return victim == self;
+			}
+			if (waitingThreads.contains(current)) {
+				victim = Math.max(victim, current);
+			}
+			ThreadInfo info = threads.getThreadInfo(current);
+			if (info == null) {
+				return false;
+			}
+			current = info.getLockOwnerId();
+		}
+		return false;
+	}
+
+}
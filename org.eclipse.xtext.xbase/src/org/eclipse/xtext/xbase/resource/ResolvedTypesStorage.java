@@ -0,0 +1,638 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.resource;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.JvmIdentifiableElement;
+import org.eclipse.xtext.common.types.JvmMember;
+import org.eclipse.xtext.common.types.JvmType;
+import org.eclipse.xtext.common.types.access.JvmTypeChangeDispatcher;
+import org.eclipse.xtext.common.types.descriptions.JvmDeclaredTypeSignatureHashProvider;
+import org.eclipse.xtext.resource.persistence.StorageAwareResource;
+import org.eclipse.xtext.xbase.XAbstractFeatureCall;
+import org.eclipse.xtext.xbase.XConstructorCall;
+import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.typesystem.IBatchTypeResolver;
+import org.eclipse.xtext.xbase.typesystem.IResolvedTypes;
+import org.eclipse.xtext.xbase.typesystem.internal.ForwardingResolvedTypes;
+import org.eclipse.xtext.xbase.typesystem.references.ArrayTypeReference;
+import org.eclipse.xtext.xbase.typesystem.references.CompoundTypeReference;
+import org.eclipse.xtext.xbase.typesystem.references.FunctionTypeReference;
+import org.eclipse.xtext.xbase.typesystem.references.ITypeReferenceOwner;
+import org.eclipse.xtext.xbase.typesystem.references.InnerFunctionTypeReference;
+import org.eclipse.xtext.xbase.typesystem.references.InnerTypeReference;
+import org.eclipse.xtext.xbase.typesystem.references.LightweightTypeReference;
+import org.eclipse.xtext.xbase.typesystem.references.ParameterizedTypeReference;
+import org.eclipse.xtext.xbase.typesystem.references.StandardTypeReferenceOwner;
+import org.eclipse.xtext.xbase.typesystem.references.UnboundTypeReference;
+import org.eclipse.xtext.xbase.typesystem.references.WildcardTypeReference;
+import org.eclipse.xtext.xbase.typesystem.util.CommonTypeComputationServices;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+
+/**
+ * Persists the actual types of the expressions of a {@link BatchLinkableResource} in its resource storage, such that
+ * the {@link org.eclipse.xtext.xbase.typesystem.internal.CachingBatchTypeResolver} can answer them for a resource that
+ * was {@link StorageAwareResource#isLoadedFromStorage() loaded from storage} without running the type inference.
+ *
+ * The stored types are only used if the {@link JvmDeclaredTypeSignatureHashProvider signatures} of the types they
+ * refer to and of the declaring types of the linked features are unchanged. The signatures are checked again after
+ * each change in the resource set. The linked features are part of the stored model anyways, so only the types of
+ * expressions and local identifiables are stored. Function types and inner types are preserved, other types that only
+ * exist during the resolution are stored by their upper bound. All other queries are answered by a regular
+ * resolution that is only performed on demand.
+ *
+ * @since 2.31
+ */
+@Singleton
+public class ResolvedTypesStorage {
+
+	private static final int NONE = -1;
+
+	@Inject
+	private IBatchTypeResolver typeResolver;
+
+	@Inject
+	private JvmDeclaredTypeSignatureHashProvider hashProvider;
+
+	@Inject
+	private CommonTypeComputationServices services;
+
+	/**
+	 * Writes the resolved types of the given resource.
+	 */
+	public void write(BatchLinkableResource resource, DataOutput out) throws IOException {
+		if (resource.getContents().isEmpty() || resource.isLoadedFromStorage()) {
+			out.writeBoolean(false);
+			return;
+		}
+		IResolvedTypes resolvedTypes = typeResolver.resolveTypes(resource.getContents().get(0));
+		Encoder encoder = new Encoder(resource);
+		Map<String, Integer> expressionTypes = new LinkedHashMap<>();
+		Map<String, Integer> identifiableTypes = new LinkedHashMap<>();
+		TreeIterator<EObject> iterator = EcoreUtil.getAllProperContents(resource, false);
+		while (iterator.hasNext()) {
+			EObject next = iterator.next();
+			if (next instanceof XExpression) {
+				LightweightTypeReference type = resolvedTypes.getActualType((XExpression) next);
+				if (type != null) {
+					expressionTypes.put(resource.getURIFragment(next), encoder.encode(type));
+				}
+				if (next instanceof XAbstractFeatureCall) {
+					encoder.dependOn(resolvedTypes.getLinkedFeature((XAbstractFeatureCall) next));
+				} else if (next instanceof XConstructorCall) {
+					encoder.dependOn(resolvedTypes.getLinkedFeature((XConstructorCall) next));
+				}
+			}
+			if (next instanceof JvmIdentifiableElement && isLocal(next)) {
+				LightweightTypeReference type = resolvedTypes.getActualType((JvmIdentifiableElement) next);
+				if (type != null) {
+					identifiableTypes.put(resource.getURIFragment(next), encoder.encode(type));
+				}
+			}
+		}
+		Map<Integer, String> dependencies = encoder.getDependencies();
+		out.writeBoolean(true);
+		out.writeInt(encoder.elements.size());
+		for (String element : encoder.elements) {
+			out.writeUTF(element);
+		}
+		out.writeInt(dependencies.size());
+		for (Map.Entry<Integer, String> dependency : dependencies.entrySet()) {
+			out.writeInt(dependency.getKey());
+			out.writeUTF(dependency.getValue());
+		}
+		out.writeInt(encoder.payload.size());
+		for (int value : encoder.payload) {
+			out.writeInt(value);
+		}
+		writeOffsets(expressionTypes, out);
+		writeOffsets(identifiableTypes, out);
+	}
+
+	private boolean isLocal(EObject identifiable) {
+		return identifiable instanceof XExpression || identifiable.eContainer() instanceof XExpression;
+	}
+
+	private void writeOffsets(Map<String, Integer> offsets, DataOutput out) throws IOException {
+		out.writeInt(offsets.size());
+		for (Map.Entry<String, Integer> entry : offsets.entrySet()) {
+			out.writeUTF(entry.getKey());
+			out.writeInt(entry.getValue());
+		}
+	}
+
+	/**
+	 * Reads the resolved types that were written by {@link #write(BatchLinkableResource, DataOutput)} and attaches
+	 * them to the resource.
+	 */
+	public void read(BatchLinkableResource resource, DataInput in) throws IOException {
+		resource.eAdapters().removeIf(StoredTypes.class::isInstance);
+		if (!in.readBoolean()) {
+			return;
+		}
+		StoredTypes storedTypes = new StoredTypes();
+		storedTypes.elements = new String[in.readInt()];
+		for (int i = 0; i < storedTypes.elements.length; i++) {
+			storedTypes.elements[i] = in.readUTF();
+		}
+		int dependencies = in.readInt();
+		storedTypes.dependencies = new int[dependencies];
+		storedTypes.hashes = new String[dependencies];
+		for (int i = 0; i < dependencies; i++) {
+			storedTypes.dependencies[i] = in.readInt();
+			storedTypes.hashes[i] = in.readUTF();
+		}
+		storedTypes.payload = new int[in.readInt()];
+		for (int i = 0; i < storedTypes.payload.length; i++) {
+			storedTypes.payload[i] = in.readInt();
+		}
+		storedTypes.expressionTypes = readOffsets(in);
+		storedTypes.identifiableTypes = readOffsets(in);
+		resource.eAdapters().add(storedTypes);
+	}
+
+	private Map<String, Integer> readOffsets(DataInput in) throws IOException {
+		int size = in.readInt();
+		Map<String, Integer> result = new LinkedHashMap<>(size * 4 / 3 + 1);
+		for (int i = 0; i < size; i++) {
+			result.put(in.readUTF(), in.readInt());
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the stored types of a resource that was loaded from storage, or <code>null</code> if there are none or
+	 * if the signature of a type that they depend on has changed in the meantime. Queries that are not covered by the
+	 * stored types are answered by the given resolution. It is only requested on demand.
+	 */
+	/* @Nullable */
+	public IResolvedTypes getResolvedTypes(Resource resource, Provider<? extends IResolvedTypes> resolution) {
+		StoredTypes storedTypes = null;
+		for (Adapter adapter : resource.eAdapters()) {
+			if (adapter instanceof StoredTypes) {
+				storedTypes = (StoredTypes) adapter;
+			}
+		}
+		if (storedTypes == null) {
+			return null;
+		}
+		// computed without a lock since proxies are resolved, concurrent threads compute the same result
+		IResolvedTypes result = storedTypes.resolvedTypes;
+		if (result == null) {
+			int modificationCount = storedTypes.modificationCount;
+			requestNotificationOnChange(resource, storedTypes);
+			result = createResolvedTypes(resource, storedTypes);
+			synchronized (storedTypes) {
+				// the signatures are checked again after a change in the resource set
+				if (modificationCount == storedTypes.modificationCount) {
+					storedTypes.resolvedTypes = result;
+				}
+			}
+		}
+		if (result == IResolvedTypes.NULL) {
+			return null;
+		}
+		return new StoredResolvedTypes((StoredResolvedTypes) result, resolution);
+	}
+
+	private void requestNotificationOnChange(Resource resource, StoredTypes storedTypes) {
+		Notifier notifier = resource;
+		if (resource.getResourceSet() != null) {
+			notifier = resource.getResourceSet();
+		}
+		JvmTypeChangeDispatcher.findResourceChangeDispatcher(notifier).requestNotificationOnChange(notifier, storedTypes::reset);
+	}
+
+	/**
+	 * Returns the stored types without a resolution or {@link IResolvedTypes#NULL} if a signature has changed.
+	 */
+	protected IResolvedTypes createResolvedTypes(Resource resource, StoredTypes storedTypes) {
+		Decoder decoder = new Decoder(resource, storedTypes, new StandardTypeReferenceOwner(services, resource));
+		for (int i = 0; i < storedTypes.dependencies.length; i++) {
+			EObject dependency = decoder.getElement(storedTypes.dependencies[i]);
+			if (!(dependency instanceof JvmDeclaredType)
+					|| !storedTypes.hashes[i].equals(hashProvider.getHash((JvmDeclaredType) dependency))) {
+				return IResolvedTypes.NULL;
+			}
+		}
+		return new StoredResolvedTypes(decoder, toObjects(resource, storedTypes.expressionTypes),
+				toObjects(resource, storedTypes.identifiableTypes), null);
+	}
+
+	private Map<EObject, Integer> toObjects(Resource resource, Map<String, Integer> offsets) {
+		Map<EObject, Integer> result = new IdentityHashMap<>(offsets.size());
+		offsets.forEach((fragment, offset) -> {
+			EObject object = resource.getEObject(fragment);
+			if (object != null) {
+				result.put(object, offset);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * The raw stored types of a resource.
+	 */
+	protected static class StoredTypes extends AdapterImpl {
+		private String[] elements;
+		private int[] dependencies;
+		private String[] hashes;
+		private int[] payload;
+		private Map<String, Integer> expressionTypes;
+		private Map<String, Integer> identifiableTypes;
+		private volatile IResolvedTypes resolvedTypes;
+		private volatile int modificationCount;
+
+		private synchronized void reset() {
+			modificationCount++;
+			resolvedTypes = null;
+		}
+
+		@Override
+		public boolean isAdapterForType(Object type) {
+			return type == StoredTypes.class;
+		}
+	}
+
+	/**
+	 * Answers the actual types from storage. The linked features are taken from the model. All other queries are
+	 * answered by the resolution, which is requested on first use.
+	 */
+	protected static class StoredResolvedTypes extends ForwardingResolvedTypes {
+
+		private final Decoder decoder;
+		private final Map<EObject, Integer> expressionTypes;
+		private final Map<EObject, Integer> identifiableTypes;
+		private final Provider<? extends IResolvedTypes> resolution;
+		private volatile IResolvedTypes delegate;
+
+		protected StoredResolvedTypes(Decoder decoder, Map<EObject, Integer> expressionTypes,
+				Map<EObject, Integer> identifiableTypes, /* @Nullable */ Provider<? extends IResolvedTypes> resolution) {
+			this.decoder = decoder;
+			this.expressionTypes = expressionTypes;
+			this.identifiableTypes = identifiableTypes;
+			this.resolution = resolution;
+		}
+
+		protected StoredResolvedTypes(StoredResolvedTypes storedTypes, Provider<? extends IResolvedTypes> resolution) {
+			this(storedTypes.decoder, storedTypes.expressionTypes, storedTypes.identifiableTypes, resolution);
+		}
+
+		@Override
+		protected IResolvedTypes delegate() {
+			IResolvedTypes result = delegate;
+			if (result == null) {
+				result = resolution != null ? resolution.get() : IResolvedTypes.NULL;
+				delegate = result;
+			}
+			return result;
+		}
+
+		/* @Nullable */
+		@Override
+		public LightweightTypeReference getActualType(XExpression expression) {
+			Integer offset = expressionTypes.get(expression);
+			if (offset == null) {
+				return delegate().getActualType(expression);
+			}
+			return decoder.decode(offset);
+		}
+
+		/**
+		 * Only the types of local elements are stored, e.g. the types of fields and operations are answered by the
+		 * resolution.
+		 */
+		/* @Nullable */
+		@Override
+		public LightweightTypeReference getActualType(JvmIdentifiableElement identifiable) {
+			Integer offset = identifiableTypes.get(identifiable);
+			if (offset == null) {
+				return delegate().getActualType(identifiable);
+			}
+			return decoder.decode(offset);
+		}
+
+		/* @Nullable */
+		@Override
+		public JvmIdentifiableElement getLinkedFeature(/* @Nullable */ XAbstractFeatureCall featureCall) {
+			if (featureCall == null) {
+				return null;
+			}
+			JvmIdentifiableElement feature = featureCall.getFeature();
+			return feature == null || feature.eIsProxy() ? null : feature;
+		}
+
+		/* @Nullable */
+		@Override
+		public JvmIdentifiableElement getLinkedFeature(/* @Nullable */ XConstructorCall constructorCall) {
+			if (constructorCall == null) {
+				return null;
+			}
+			JvmIdentifiableElement constructor = constructorCall.getConstructor();
+			return constructor == null || constructor.eIsProxy() ? null : constructor;
+		}
+	}
+
+	/**
+	 * Writes types as a sequence of ints that starts with the {@link LightweightTypeReference#getKind() kind}. The
+	 * referenced elements and names are stored in a separate table.
+	 */
+	private class Encoder {
+		private final Resource resource;
+		private final List<String> elements = new ArrayList<>();
+		private final Map<Object, Integer> indexes = new LinkedHashMap<>();
+		private final List<Integer> payload = new ArrayList<>();
+
+		private Encoder(Resource resource) {
+			this.resource = resource;
+		}
+
+		private int encode(LightweightTypeReference type) {
+			int offset = payload.size();
+			write(type);
+			return offset;
+		}
+
+		private void write(LightweightTypeReference type) {
+			switch (type.getKind()) {
+				case LightweightTypeReference.KIND_ANY_TYPE_REFERENCE:
+					payload.add(type.getKind());
+					break;
+				case LightweightTypeReference.KIND_UNKNOWN_TYPE_REFERENCE:
+					writeUnknown(type.getSimpleName());
+					break;
+				case LightweightTypeReference.KIND_ARRAY_TYPE_REFERENCE:
+					payload.add(type.getKind());
+					write(((ArrayTypeReference) type).getComponentType());
+					break;
+				case LightweightTypeReference.KIND_WILDCARD_TYPE_REFERENCE: {
+					WildcardTypeReference wildcard = (WildcardTypeReference) type;
+					payload.add(type.getKind());
+					writeAll(wildcard.getUpperBounds());
+					writeOptional(wildcard.getLowerBound());
+					break;
+				}
+				case LightweightTypeReference.KIND_COMPOUND_TYPE_REFERENCE:
+					payload.add(type.getKind());
+					payload.add(type.isSynonym() ? 1 : 0);
+					writeAll(((CompoundTypeReference) type).getMultiTypeComponents());
+					break;
+				case LightweightTypeReference.KIND_PARAMETERIZED_TYPE_REFERENCE:
+					writeParameterized((ParameterizedTypeReference) type, null);
+					break;
+				case LightweightTypeReference.KIND_INNER_TYPE_REFERENCE:
+					writeParameterized((ParameterizedTypeReference) type, ((InnerTypeReference) type).getOuter());
+					break;
+				case LightweightTypeReference.KIND_FUNCTION_TYPE_REFERENCE:
+					writeFunction((FunctionTypeReference) type, null);
+					break;
+				case LightweightTypeReference.KIND_INNER_FUNCTION_TYPE_REFERENCE:
+					writeFunction((FunctionTypeReference) type, ((InnerFunctionTypeReference) type).getOuter());
+					break;
+				case LightweightTypeReference.KIND_UNBOUND_TYPE_REFERENCE: {
+					LightweightTypeReference substitute = ((UnboundTypeReference) type).getUpperBoundSubstitute();
+					if (substitute.getKind() == LightweightTypeReference.KIND_UNBOUND_TYPE_REFERENCE) {
+						writeUnknown(type.getSimpleName());
+					} else {
+						write(substitute);
+					}
+					break;
+				}
+				default:
+					writeUnknown(type.getSimpleName());
+			}
+		}
+
+		private void writeUnknown(String name) {
+			payload.add(LightweightTypeReference.KIND_UNKNOWN_TYPE_REFERENCE);
+			payload.add(name == null ? NONE : index(name, name));
+		}
+
+		private void writeParameterized(ParameterizedTypeReference type, LightweightTypeReference outer) {
+			if (type.getType().eIsProxy()) {
+				writeUnknown(type.getSimpleName());
+				return;
+			}
+			payload.add(type.getKind());
+			payload.add(index(type.getType()));
+			if (outer != null) {
+				write(outer);
+			}
+			writeAll(type.getTypeArguments());
+		}
+
+		private void writeFunction(FunctionTypeReference type, LightweightTypeReference outer) {
+			if (type.getType().eIsProxy()) {
+				writeUnknown(type.getSimpleName());
+				return;
+			}
+			writeParameterized(type, outer);
+			writeAll(type.getParameterTypes());
+			writeOptional(type.getReturnType());
+		}
+
+		private void writeAll(List<LightweightTypeReference> types) {
+			payload.add(types.size());
+			for (LightweightTypeReference type : types) {
+				write(type);
+			}
+		}
+
+		private void writeOptional(LightweightTypeReference type) {
+			payload.add(type == null ? 0 : 1);
+			if (type != null) {
+				write(type);
+			}
+		}
+
+		/**
+		 * Records the declaring type of a linked feature as a dependency.
+		 */
+		private void dependOn(/* @Nullable */ JvmIdentifiableElement feature) {
+			if (feature == null || feature.eIsProxy()) {
+				return;
+			}
+			if (feature instanceof JvmType) {
+				index((JvmType) feature);
+			} else if (feature instanceof JvmMember && ((JvmMember) feature).getDeclaringType() != null) {
+				index(((JvmMember) feature).getDeclaringType());
+			}
+		}
+
+		private int index(JvmType type) {
+			if (type.eResource() == resource) {
+				return index(type, "#" + resource.getURIFragment(type));
+			}
+			return index(type, EcoreUtil.getURI(type).toString());
+		}
+
+		private int index(Object key, String element) {
+			Integer result = indexes.get(key);
+			if (result == null) {
+				result = elements.size();
+				elements.add(element);
+				indexes.put(key, result);
+			}
+			return result;
+		}
+
+		/**
+		 * The signature hashes of the top level types that the stored types refer to, by their element index.
+		 */
+		private Map<Integer, String> getDependencies() {
+			Map<Integer, String> result = new LinkedHashMap<>();
+			for (Object key : new ArrayList<>(indexes.keySet())) {
+				if (key instanceof EObject && !((EObject) key).eIsProxy() && ((EObject) key).eResource() != resource) {
+					EObject root = EcoreUtil.getRootContainer((EObject) key);
+					if (root instanceof JvmDeclaredType) {
+						int index = index((JvmType) root);
+						if (!result.containsKey(index)) {
+							result.put(index, hashProvider.getHash((JvmDeclaredType) root));
+						}
+					}
+				}
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Creates the types from their stored representation.
+	 */
+	protected static class Decoder {
+		private final Resource resource;
+		private final StoredTypes storedTypes;
+		private final ITypeReferenceOwner owner;
+		private final EObject[] resolvedElements;
+
+		protected Decoder(Resource resource, StoredTypes storedTypes, ITypeReferenceOwner owner) {
+			this.resource = resource;
+			this.storedTypes = storedTypes;
+			this.owner = owner;
+			this.resolvedElements = new EObject[storedTypes.elements.length];
+		}
+
+		protected LightweightTypeReference decode(/* @Nullable */ Integer offset) {
+			if (offset == null) {
+				return null;
+			}
+			return read(new int[] { offset });
+		}
+
+		protected EObject getElement(int index) {
+			EObject result = resolvedElements[index];
+			if (result == null) {
+				String element = storedTypes.elements[index];
+				if (element.startsWith("#")) {
+					result = resource.getEObject(element.substring(1));
+				} else {
+					result = resource.getResourceSet().getEObject(URI.createURI(element), true);
+				}
+				resolvedElements[index] = result;
+			}
+			return result;
+		}
+
+		private int next(int[] position) {
+			return storedTypes.payload[position[0]++];
+		}
+
+		private LightweightTypeReference read(int[] position) {
+			int kind = next(position);
+			switch (kind) {
+				case LightweightTypeReference.KIND_ANY_TYPE_REFERENCE:
+					return owner.newAnyTypeReference();
+				case LightweightTypeReference.KIND_ARRAY_TYPE_REFERENCE:
+					return owner.newArrayTypeReference(read(position));
+				case LightweightTypeReference.KIND_WILDCARD_TYPE_REFERENCE: {
+					WildcardTypeReference result = owner.newWildcardTypeReference();
+					for (int i = 0, size = next(position); i < size; i++) {
+						result.addUpperBound(read(position));
+					}
+					if (next(position) != 0) {
+						result.setLowerBound(read(position));
+					}
+					return result;
+				}
+				case LightweightTypeReference.KIND_COMPOUND_TYPE_REFERENCE: {
+					CompoundTypeReference result = owner.newCompoundTypeReference(next(position) != 0);
+					for (int i = 0, size = next(position); i < size; i++) {
+						result.addComponent(read(position));
+					}
+					return result;
+				}
+				case LightweightTypeReference.KIND_PARAMETERIZED_TYPE_REFERENCE:
+					return readTypeArguments(owner.newParameterizedTypeReference(readType(position)), position);
+				case LightweightTypeReference.KIND_INNER_TYPE_REFERENCE: {
+					JvmType type = readType(position);
+					return readTypeArguments(owner.newParameterizedTypeReference(read(position), type), position);
+				}
+				case LightweightTypeReference.KIND_FUNCTION_TYPE_REFERENCE:
+					return readFunction(owner.newFunctionTypeReference(readType(position)), position);
+				case LightweightTypeReference.KIND_INNER_FUNCTION_TYPE_REFERENCE: {
+					JvmType type = readType(position);
+					return readFunction(owner.newFunctionTypeReference(read(position), type), position);
+				}
+				default: {
+					int name = next(position);
+					return name == NONE ? owner.newUnknownTypeReference()
+							: owner.newUnknownTypeReference(storedTypes.elements[name]);
+				}
+			}
+		}
+
+		private JvmType readType(int[] position) {
+			int index = next(position);
+			EObject element = getElement(index);
+			if (element instanceof JvmType) {
+				return (JvmType) element;
+			}
+			throw new IllegalStateException("Cannot resolve stored type: " + storedTypes.elements[index]);
+		}
+
+		private <T extends ParameterizedTypeReference> T readTypeArguments(T result, int[] position) {
+			for (int i = 0, size = next(position); i < size; i++) {
+				result.addTypeArgument(read(position));
+			}
+			return result;
+		}
+
+		private FunctionTypeReference readFunction(FunctionTypeReference result, int[] position) {
+			readTypeArguments(result, position);
+			for (int i = 0, size = next(position); i < size; i++) {
+				result.addParameterType(read(position));
+			}
+			if (next(position) != 0) {
+				result.setReturnType(read(position));
+			}
+			return result;
+		}
+	}
+
+}
@@ -14,14 +14,18 @@ import java.util.List;
 import java.util.Set;
 
 import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.common.types.JvmDeclaredType;
 import org.eclipse.xtext.common.types.JvmGenericType;
 import org.eclipse.xtext.common.types.JvmIdentifiableElement;
+import org.eclipse.xtext.common.types.JvmMember;
 import org.eclipse.xtext.common.types.JvmType;
 import org.eclipse.xtext.common.types.JvmTypeReference;
+import org.eclipse.xtext.common.types.TypesPackage;
 import org.eclipse.xtext.naming.IQualifiedNameConverter;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.IDefaultResourceDescriptionStrategy;
@@ -29,8 +33,10 @@ import org.eclipse.xtext.resource.impl.DefaultResourceDescription;
 import org.eclipse.xtext.resource.impl.EObjectDescriptionLookUp;
 import org.eclipse.xtext.util.IResourceScopeCache;
 import org.eclipse.xtext.xbase.XAbstractFeatureCall;
+import org.eclipse.xtext.xbase.XClosure;
 import org.eclipse.xtext.xbase.XExpression;
 import org.eclipse.xtext.xbase.XMemberFeatureCall;
+import org.eclipse.xtext.xbase.scoping.featurecalls.OperatorMapping;
 import org.eclipse.xtext.xbase.typesystem.IBatchTypeResolver;
 import org.eclipse.xtext.xbase.typesystem.IResolvedTypes;
 import org.eclipse.xtext.xbase.typesystem.references.LightweightTypeReference;
@@ -67,17 +73,62 @@ public class XbaseResourceDescription extends DefaultResourceDescription {
 		}
 	}
 
+	/**
+	 * The first segment of the imported names that denote the {@link #normalizeMemberName(String) normalized names}
+	 * of the members that the resource links against.
+	 * 
+	 * @since 2.31
+	 */
+	public static final String MEMBER_DEPENDENCY = "#member";
+
+	/**
+	 * The first segment of the imported names that denote types that the resource depends on as a whole, e.g. since
+	 * it declares a subtype or implements it with a lambda expression.
+	 * 
+	 * @since 2.31
+	 */
+	public static final String TYPE_DEPENDENCY = "#type";
+
+	/**
+	 * The imported name that marks the descriptions that have recorded their member dependencies completely.
+	 * 
+	 * @since 2.31
+	 */
+	public static final QualifiedName MEMBER_DEPENDENCIES_RECORDED = QualifiedName.create("#members");
+
 	private IBatchTypeResolver typeResolver;
 
 	private IQualifiedNameConverter nameConverter;
 
+	private boolean recordMemberDependencies;
+
+	private OperatorMapping operatorMapping;
+
 	private Set<QualifiedName> importedNames;
 
 	public XbaseResourceDescription(Resource resource, IDefaultResourceDescriptionStrategy strategy,
 			IResourceScopeCache cache, IBatchTypeResolver typeResolver, IQualifiedNameConverter nameConverter) {
+		this(resource, strategy, cache, typeResolver, nameConverter, false, null);
+	}
+
+	/**
+	 * @param recordMemberDependencies
+	 *            if <code>true</code>, the imported names include the members that the resource links against and the
+	 *            types that it depends on as a whole, such that the {@link XbaseResourceDescriptionManager} can ignore
+	 *            changes to other members of the imported types.
+	 * @param operatorMapping
+	 *            used to record the method names that an operator may link to, e.g. {@code operator_add} and
+	 *            {@code operator_plus} for {@code +=}. May be <code>null</code>.
+	 * @since 2.31
+	 */
+	public XbaseResourceDescription(Resource resource, IDefaultResourceDescriptionStrategy strategy,
+			IResourceScopeCache cache, IBatchTypeResolver typeResolver, IQualifiedNameConverter nameConverter,
+			boolean recordMemberDependencies, /* @Nullable */ OperatorMapping operatorMapping) {
 		super(resource, strategy, cache);
 		this.typeResolver = typeResolver;
 		this.nameConverter = nameConverter;
+		this.recordMemberDependencies = recordMemberDependencies;
+		this.operatorMapping = operatorMapping;
 	}
 	
 	@Override
@@ -142,8 +193,109 @@ public class XbaseResourceDescription extends DefaultResourceDescription {
 			}
 		}
 		Iterables.addAll(result, super.getImportedNames());
+		if (recordMemberDependencies && !contents.isEmpty()) {
+			registerMemberDependencies(resource, result);
+		}
 		return importedNames = Collections.unmodifiableSet(result);
 	}
+
+	/**
+	 * Records the names of the members that the resource links against and the types that it depends on as a whole.
+	 * If a member reference cannot be resolved, nothing is recorded since any new member could fix it.
+	 * 
+	 * @since 2.31
+	 */
+	protected void registerMemberDependencies(Resource resource, Set<QualifiedName> result) {
+		IResolvedTypes types = typeResolver.resolveTypes(resource);
+		Set<QualifiedName> dependencies = new HashSet<>();
+		Set<QualifiedName> typeDependencies = new HashSet<>();
+		TreeIterator<EObject> iter = EcoreUtil.getAllContents(resource, true);
+		while(iter.hasNext()) {
+			EObject content = iter.next();
+			for (EReference reference : content.eClass().getEAllReferences()) {
+				if (!reference.isContainment() && !reference.isContainer() && !reference.isDerived()
+						&& mayReferToMember(reference)) {
+					Object value = content.eGet(reference);
+					for (Object target : reference.isMany() ? (List<?>) value : Collections.singletonList(value)) {
+						if (target instanceof JvmMember && !(target instanceof JvmDeclaredType)) {
+							JvmMember member = (JvmMember) target;
+							if (member.eIsProxy()) {
+								return;
+							}
+							dependencies.add(QualifiedName.create(MEMBER_DEPENDENCY, normalizeMemberName(member.getSimpleName())));
+						}
+					}
+				}
+			}
+			if (content instanceof XAbstractFeatureCall) {
+				XAbstractFeatureCall featureCall = (XAbstractFeatureCall) content;
+				if (featureCall.getFeature() != null && featureCall.getFeature().eIsProxy()) {
+					return;
+				}
+				String concreteSyntaxName = featureCall.getConcreteSyntaxFeatureName();
+				if (concreteSyntaxName != null) {
+					dependencies.add(QualifiedName.create(MEMBER_DEPENDENCY, normalizeMemberName(concreteSyntaxName)));
+					registerOperatorMethodNames(QualifiedName.create(concreteSyntaxName), dependencies);
+				}
+			} else if (content instanceof XClosure) {
+				LightweightTypeReference closureType = types.getActualType((XClosure) content);
+				if (closureType != null) {
+					registerAllTypes(closureType.getType(), typeDependencies);
+				}
+			} else if (content instanceof JvmDeclaredType) {
+				for (JvmTypeReference superType : ((JvmDeclaredType) content).getSuperTypes()) {
+					registerAllTypes(superType.getType(), typeDependencies);
+				}
+			}
+		}
+		result.addAll(dependencies);
+		for (QualifiedName type : typeDependencies) {
+			result.add(QualifiedName.create(TYPE_DEPENDENCY).append(type));
+		}
+		result.add(MEMBER_DEPENDENCIES_RECORDED);
+	}
+
+	/**
+	 * Records the method names that the given operator may link to. A compound operator like {@code +=} links to its
+	 * own method {@code operator_add} if there is one, or else to the method of the simple operator
+	 * {@code operator_plus}. Both have to be recorded, since adding either of them may change the linking.
+	 */
+	private void registerOperatorMethodNames(QualifiedName operator, Set<QualifiedName> dependencies) {
+		if (operatorMapping == null) {
+			return;
+		}
+		QualifiedName methodName = operatorMapping.getMethodName(operator);
+		if (methodName != null) {
+			dependencies.add(QualifiedName.create(MEMBER_DEPENDENCY, normalizeMemberName(methodName.toString())));
+		}
+		if (operatorMapping.getCompoundOperators().contains(operator)) {
+			QualifiedName simpleMethodName = operatorMapping.getMethodName(operatorMapping.getSimpleOperator(operator));
+			if (simpleMethodName != null) {
+				dependencies.add(QualifiedName.create(MEMBER_DEPENDENCY, normalizeMemberName(simpleMethodName.toString())));
+			}
+		}
+	}
+
+	private boolean mayReferToMember(EReference reference) {
+		EClass type = reference.getEReferenceType();
+		return type.isSuperTypeOf(TypesPackage.Literals.JVM_MEMBER) || TypesPackage.Literals.JVM_MEMBER.isSuperTypeOf(type);
+	}
+
+	/**
+	 * Normalizes the name of a member, such that the names that may link to the same member by means of the property
+	 * access syntax are equal, e.g. {@code getName}, {@code setName} and {@code name} are normalized to {@code name}.
+	 * 
+	 * @since 2.31
+	 */
+	public static String normalizeMemberName(String name) {
+		for (String prefix : new String[] { "get", "set", "is" }) {
+			if (name.length() > prefix.length() && name.startsWith(prefix)
+					&& Character.isUpperCase(name.charAt(prefix.length()))) {
+				return name.substring(prefix.length()).toLowerCase();
+			}
+		}
+		return name.toLowerCase();
+	}
 	
 	protected Set<QualifiedName> createEmptyImportedNamesSet() {
 		return new PrimitiveNamesFilteringSet();
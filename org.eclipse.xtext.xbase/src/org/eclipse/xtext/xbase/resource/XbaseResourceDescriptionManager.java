@@ -8,15 +8,34 @@
  *******************************************************************************/
 package org.eclipse.xtext.xbase.resource;
 
+import static org.eclipse.xtext.common.types.descriptions.JvmTypesResourceDescriptionStrategy.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.common.types.TypesPackage;
 import org.eclipse.xtext.naming.IQualifiedNameConverter;
+import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.DerivedStateAwareResourceDescriptionManager;
 import org.eclipse.xtext.resource.IDefaultResourceDescriptionStrategy;
+import org.eclipse.xtext.resource.IEObjectDescription;
 import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.IResourceDescription.Delta;
+import org.eclipse.xtext.resource.IResourceDescriptions;
+import org.eclipse.xtext.xbase.scoping.featurecalls.OperatorMapping;
 import org.eclipse.xtext.xbase.typesystem.IBatchTypeResolver;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 
 /**
  * @since 2.29
@@ -29,9 +48,124 @@ public class XbaseResourceDescriptionManager extends DerivedStateAwareResourceDe
 	@Inject 
 	protected IQualifiedNameConverter nameConverter;
 
+	/**
+	 * If enabled, the resource descriptions record the members that they link against, and changes to other members of
+	 * a type do not affect them.
+	 * 
+	 * @since 2.31
+	 */
+	@Inject(optional = true)
+	@Named(MEMBER_SIGNATURE_HASHES_ENABLEMENT)
+	protected boolean memberDependencies = false;
+
+	/**
+	 * @since 2.31
+	 */
+	@Inject
+	protected OperatorMapping operatorMapping;
+
 	@Override
 	protected IResourceDescription createResourceDescription(Resource resource,
 			IDefaultResourceDescriptionStrategy strategy) {
-		return new XbaseResourceDescription(resource, strategy, getCache(), typeResolver, nameConverter);
+		return new XbaseResourceDescription(resource, strategy, getCache(), typeResolver, nameConverter, memberDependencies, operatorMapping);
+	}
+
+	@Override
+	public boolean isAffected(Collection<Delta> deltas, IResourceDescription candidate, IResourceDescriptions context) {
+		if (memberDependencies) {
+			Set<QualifiedName> importedNames = new HashSet<>();
+			for (QualifiedName name : candidate.getImportedNames()) {
+				importedNames.add(name.toLowerCase());
+			}
+			if (importedNames.contains(XbaseResourceDescription.MEMBER_DEPENDENCIES_RECORDED)) {
+				List<Delta> relevantDeltas = new ArrayList<>(deltas.size());
+				for (Delta delta : deltas) {
+					if (!isOnlyUnusedMembersChanged(delta, importedNames)) {
+						relevantDeltas.add(delta);
+					}
+				}
+				return super.isAffected(relevantDeltas, candidate, context);
+			}
+		}
+		return super.isAffected(deltas, candidate, context);
+	}
+
+	/**
+	 * Returns <code>true</code> if the delta only changes members of types that the candidate with the given imported
+	 * names neither links against nor depends on as a whole.
+	 * 
+	 * @since 2.31
+	 */
+	protected boolean isOnlyUnusedMembersChanged(Delta delta, Set<QualifiedName> importedNames) {
+		if (delta.getOld() == null || delta.getNew() == null) {
+			return false;
+		}
+		Map<QualifiedName, IEObjectDescription> oldDescriptions = new HashMap<>();
+		for (IEObjectDescription description : delta.getOld().getExportedObjects()) {
+			if (oldDescriptions.put(description.getName(), description) != null) {
+				return false;
+			}
+		}
+		int count = 0;
+		for (IEObjectDescription newDescription : delta.getNew().getExportedObjects()) {
+			IEObjectDescription oldDescription = oldDescriptions.get(newDescription.getName());
+			if (oldDescription == null || oldDescription.getEClass() != newDescription.getEClass()
+					|| !hasSameUserDataExceptSignatures(oldDescription, newDescription)) {
+				return false;
+			}
+			if (!Objects.equals(oldDescription.getUserData(SIGNATURE_HASH_KEY), newDescription.getUserData(SIGNATURE_HASH_KEY))
+					&& !isOnlyUnusedMembersChanged(oldDescription, newDescription, importedNames)) {
+				return false;
+			}
+			count++;
+		}
+		return count == oldDescriptions.size();
+	}
+
+	private boolean hasSameUserDataExceptSignatures(IEObjectDescription oldDescription, IEObjectDescription newDescription) {
+		Set<String> keys = new HashSet<>(Arrays.asList(oldDescription.getUserDataKeys()));
+		keys.addAll(Arrays.asList(newDescription.getUserDataKeys()));
+		keys.remove(SIGNATURE_HASH_KEY);
+		keys.remove(HEADER_SIGNATURE_HASH_KEY);
+		keys.remove(MEMBER_SIGNATURE_HASHES_KEY);
+		for (String key : keys) {
+			if (!Objects.equals(oldDescription.getUserData(key), newDescription.getUserData(key))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean isOnlyUnusedMembersChanged(IEObjectDescription oldDescription, IEObjectDescription newDescription,
+			Set<QualifiedName> importedNames) {
+		if (!TypesPackage.Literals.JVM_DECLARED_TYPE.isSuperTypeOf(newDescription.getEClass())) {
+			return false;
+		}
+		QualifiedName typeDependency = QualifiedName.create(XbaseResourceDescription.TYPE_DEPENDENCY)
+				.append(newDescription.getName().toLowerCase());
+		if (importedNames.contains(typeDependency)) {
+			return false;
+		}
+		String oldHeader = oldDescription.getUserData(HEADER_SIGNATURE_HASH_KEY);
+		String newHeader = newDescription.getUserData(HEADER_SIGNATURE_HASH_KEY);
+		String oldMembers = oldDescription.getUserData(MEMBER_SIGNATURE_HASHES_KEY);
+		String newMembers = newDescription.getUserData(MEMBER_SIGNATURE_HASHES_KEY);
+		if (oldHeader == null || !oldHeader.equals(newHeader) || oldMembers == null || newMembers == null) {
+			return false;
+		}
+		Map<String, String> oldHashes = decodeMemberHashes(oldMembers);
+		Map<String, String> newHashes = decodeMemberHashes(newMembers);
+		Set<String> memberNames = new HashSet<>(oldHashes.keySet());
+		memberNames.addAll(newHashes.keySet());
+		for (String memberName : memberNames) {
+			if (!Objects.equals(oldHashes.get(memberName), newHashes.get(memberName))) {
+				QualifiedName memberDependency = QualifiedName.create(XbaseResourceDescription.MEMBER_DEPENDENCY,
+						XbaseResourceDescription.normalizeMemberName(memberName));
+				if (importedNames.contains(memberDependency)) {
+					return false;
+				}
+			}
+		}
+		return true;
 	}
 }
@@ -22,6 +22,8 @@ abstract class AbstractFeatureScopeSessionWithStaticTypes<T> extends AbstractNes
 	
 	private List<TypeBucket> staticallyImportedTypes;
 	private List<TypeBucket> staticallyImportedExtensions;
+	private TypeBucketIndex staticallyImportedTypesIndex;
+	private TypeBucketIndex staticallyImportedExtensionsIndex;
 	private IResolvedFeatures.Provider resolvedFeaturesProvider;
 
 	public AbstractFeatureScopeSessionWithStaticTypes(AbstractFeatureScopeSession featureScopeSession,
@@ -47,6 +49,35 @@ abstract class AbstractFeatureScopeSessionWithStaticTypes<T> extends AbstractNes
 			return staticallyImportedExtensions;
 		return staticallyImportedExtensions = concatTypeBuckets(extensionProviders, super.getStaticallyImportedExtensionTypes(), resolvedFeaturesProvider);
 	}
+	
+	@Override
+	public TypeBucketIndex getStaticallyImportedTypesIndex() {
+		if (staticallyImportedTypesIndex != null)
+			return staticallyImportedTypesIndex;
+		return staticallyImportedTypesIndex = createIndex(getStaticallyImportedTypes(), super.getStaticallyImportedTypes(), super.getStaticallyImportedTypesIndex());
+	}
+	
+	@Override
+	public TypeBucketIndex getStaticallyImportedExtensionTypesIndex() {
+		if (staticallyImportedExtensionsIndex != null)
+			return staticallyImportedExtensionsIndex;
+		return staticallyImportedExtensionsIndex = createIndex(getStaticallyImportedExtensionTypes(), super.getStaticallyImportedExtensionTypes(), super.getStaticallyImportedExtensionTypesIndex());
+	}
+	
+	/**
+	 * Indexes only the buckets that are added by this session. They precede the buckets of the parent,
+	 * whose index is shared.
+	 */
+	private TypeBucketIndex createIndex(List<TypeBucket> buckets, List<TypeBucket> parentBuckets, TypeBucketIndex parentIndex) {
+		if (buckets == parentBuckets) {
+			return parentIndex;
+		}
+		int ownSize = buckets.size() - parentBuckets.size();
+		if (ownSize >= 0 && buckets.subList(ownSize, buckets.size()).equals(parentBuckets)) {
+			return TypeBucketIndex.create(buckets.subList(0, ownSize), parentIndex);
+		}
+		return TypeBucketIndex.create(buckets);
+	}
 
 	protected abstract List<TypeBucket> concatTypeBuckets(T types, List<TypeBucket> parentResult, IResolvedFeatures.Provider resolvedFeaturesProvider);
 
@@ -111,6 +111,16 @@ public abstract class AbstractNestedFeatureScopeSession extends AbstractFeatureS
 		return parent.getStaticallyImportedExtensionTypes();
 	}
 	
+	@Override
+	public TypeBucketIndex getStaticallyImportedTypesIndex() {
+		return parent.getStaticallyImportedTypesIndex();
+	}
+	
+	@Override
+	public TypeBucketIndex getStaticallyImportedExtensionTypesIndex() {
+		return parent.getStaticallyImportedExtensionTypesIndex();
+	}
+	
 	@Override
 	public List<ExpressionBucket> getExtensionProviders() {
 		return parent.getExtensionProviders();
@@ -96,48 +96,38 @@ public abstract class AbstractStaticImportsScope extends AbstractSessionBasedExe
 
 	protected abstract List<TypeBucket> getBuckets();
 
+	/**
+	 * Returns the static features of the {@link #getBuckets() buckets} by their simple name. Subclasses should return
+	 * the index of the session, such that it is not built again for each scope.
+	 * 
+	 * @since 2.31
+	 */
+	protected TypeBucketIndex getBucketIndex() {
+		return TypeBucketIndex.create(getBuckets());
+	}
+
 	@Override
 	protected List<IEObjectDescription> getLocalElementsByName(final QualifiedName name) {
-		final List<TypeBucket> buckets = getBuckets();
-		if (buckets.isEmpty()) {
+		final TypeBucketIndex index = getBucketIndex();
+		if (index.isEmpty()) {
 			return Collections.emptyList();
 		}
 		final List<IEObjectDescription> result = Lists.newArrayList();
 		processFeatureNames(name, new NameAcceptor() {
 			@Override
 			public void accept(String simpleName, int order) {
-				for (TypeBucket bucket : buckets) {
-					if (bucket.isRestrictingNames()) {
-						for (Map.Entry<? extends JvmType, ? extends Set<String>> entry : bucket.getTypesToNames().entrySet()) {
-							if (entry.getValue().contains(simpleName)) {
-								processType(entry.getKey(), simpleName, order, bucket);
-							}
-						}
-					} else {
-						for (JvmType type : bucket.getTypes()) {
-							processType(type, simpleName, order, bucket);
-						}
-					}
-				}
-			}
-
-			protected void processType(JvmType type, String simpleName, int order, TypeBucket bucket) {
-				if (type instanceof JvmDeclaredType) {
-					List<JvmFeature> features = findAllFeaturesByName(type, simpleName, bucket.getResolvedFeaturesProvider());
-					for(int i = 0, size = features.size(); i < size; i++) {
-						JvmFeature feature = features.get(i);
-						if (feature.isStatic() && (order == 1 || feature instanceof JvmOperation)) {
-							IIdentifiableElementDescription description = createDescription(name, feature, bucket);
-							if (description != null)
-								addToList(description, result);
-						}
+				List<TypeBucketIndex.Entry> entries = index.getFeatures(simpleName);
+				for(int i = 0, size = entries.size(); i < size; i++) {
+					TypeBucketIndex.Entry entry = entries.get(i);
+					JvmFeature feature = entry.getFeature();
+					if (order == 1 || feature instanceof JvmOperation) {
+						IIdentifiableElementDescription description = createDescription(name, feature, entry.getBucket());
+						if (description != null)
+							addToList(description, result);
 					}
 				}
 			}
 		});
-
-		// TODO cache the result in the session explicitly for the static types
-		// especially interesting for cache misses
 		return result;
 	}
 
@@ -172,24 +172,19 @@ public class DynamicExtensionsScope extends AbstractSessionBasedExecutableScope
 				final LightweightTypeReference extensionType = extensionProvider.getValue();
 				if (extensionType == null)
 					throw new IllegalStateException("extensionType is null");
-				final List<JvmType> types = extensionType.getRawTypes();
+				final XExpression provider = extensionProvider.getKey();
 				final Set<JvmFeature> allFeatures = Sets.newLinkedHashSet();
 				processFeatureNames(name, new NameAcceptor() {
 					@Override
 					public void accept(String simpleName, int order) {
-						for(JvmType type: types) {
-							if (type instanceof JvmDeclaredType) {
-								IResolvedFeatures resolvedFeatures = bucket.getResolvedFeaturesProvider().getResolvedFeatures(type).getParameterizedView(extensionType);
-								List<JvmFeature> features = resolvedFeatures.getAllFeatures(simpleName);
-								if (order == 1) {
-									allFeatures.addAll(features);
-								} else {
-									for(int i = 0, size = features.size(); i < size; i++) {
-										JvmFeature feature = features.get(i);
-										if (feature.eClass() == TypesPackage.Literals.JVM_OPERATION) {
-											allFeatures.add(feature);
-										}
-									}
+						List<JvmFeature> features = bucket.getFeatures(provider, simpleName);
+						if (order == 1) {
+							allFeatures.addAll(features);
+						} else {
+							for(int i = 0, size = features.size(); i < size; i++) {
+								JvmFeature feature = features.get(i);
+								if (feature.eClass() == TypesPackage.Literals.JVM_OPERATION) {
+									allFeatures.add(feature);
 								}
 							}
 						}
@@ -8,7 +8,15 @@
  */
 package org.eclipse.xtext.xbase.scoping.batch;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.JvmFeature;
+import org.eclipse.xtext.common.types.JvmType;
 import org.eclipse.xtext.xbase.XExpression;
 import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
 import org.eclipse.xtext.xbase.typesystem.override.IResolvedFeatures;
@@ -29,6 +37,11 @@ public class ExpressionBucket {
 
 	private final IResolvedFeatures.Provider resolvedFeaturesProvider;
 
+	/**
+	 * The features of each extension provider by their simple name.
+	 */
+	private Map<XExpression, Map<String, List<JvmFeature>>> featureIndex;
+
 	public ExpressionBucket(int id, Map<XExpression, LightweightTypeReference> extensionProviders,
 			final IResolvedFeatures.Provider resolvedFeaturesProvider) {
 		this.id = id;
@@ -90,4 +103,40 @@ public class ExpressionBucket {
 	public IResolvedFeatures.Provider getResolvedFeaturesProvider() {
 		return resolvedFeaturesProvider;
 	}
+
+	/**
+	 * Returns the features of the given extension provider with the given simple name. The features are ordered like
+	 * the raw types of the provider. All the features of a provider are indexed on first access, the index is shared
+	 * by all the scopes that use this bucket. The result must not be modified.
+	 * 
+	 * @since 2.31
+	 */
+	public List<JvmFeature> getFeatures(XExpression extensionProvider, String simpleName) {
+		if (featureIndex == null) {
+			featureIndex = new HashMap<>();
+		}
+		Map<String, List<JvmFeature>> index = featureIndex.get(extensionProvider);
+		if (index == null) {
+			index = createFeatureIndex(extensionProviders.get(extensionProvider));
+			featureIndex.put(extensionProvider, index);
+		}
+		List<JvmFeature> result = index.get(simpleName);
+		return result != null ? result : Collections.emptyList();
+	}
+
+	/**
+	 * @since 2.31
+	 */
+	protected Map<String, List<JvmFeature>> createFeatureIndex(LightweightTypeReference extensionType) {
+		Map<String, List<JvmFeature>> result = new HashMap<>();
+		for (JvmType type : extensionType.getRawTypes()) {
+			if (type instanceof JvmDeclaredType) {
+				IResolvedFeatures resolvedFeatures = resolvedFeaturesProvider.getResolvedFeatures(type).getParameterizedView(extensionType);
+				for (JvmFeature feature : resolvedFeatures.getAllFeatures()) {
+					result.computeIfAbsent(feature.getSimpleName(), name -> new ArrayList<>(2)).add(feature);
+				}
+			}
+		}
+		return result;
+	}
 }
@@ -24,6 +24,7 @@ public class FeatureScopeSessionWithDynamicExtensions extends AbstractNestedFeat
 
 	private final Map<XExpression, LightweightTypeReference> extensionProviders;
 	private final IResolvedFeatures.Provider resolvedFeaturesProvider;
+	private ExpressionBucket bucket;
 
 	public FeatureScopeSessionWithDynamicExtensions(AbstractFeatureScopeSession parent,
 			Map<XExpression, LightweightTypeReference> extensionProviders,
@@ -35,7 +36,10 @@ public class FeatureScopeSessionWithDynamicExtensions extends AbstractNestedFeat
 	
 	@Override
 	protected void addExtensionProviders(List<ExpressionBucket> result) {
-		ExpressionBucket bucket = new ExpressionBucket(getId(), extensionProviders, resolvedFeaturesProvider);
+		// the bucket is reused, such that the scopes of this session share the index of its features
+		if (bucket == null) {
+			bucket = new ExpressionBucket(getId(), extensionProviders, resolvedFeaturesProvider);
+		}
 		result.add(bucket);
 		super.addExtensionProviders(result);
 	}
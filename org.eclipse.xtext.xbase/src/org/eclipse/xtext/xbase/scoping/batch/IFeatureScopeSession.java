@@ -197,6 +197,25 @@ public interface IFeatureScopeSession extends IVisibilityHelper {
 	 */
 	List<TypeBucket> getStaticallyImportedExtensionTypes();
 	
+	/**
+	 * The static features of the {@link #getStaticallyImportedTypes() statically imported types} by their simple name.
+	 * 
+	 * @since 2.31
+	 */
+	default TypeBucketIndex getStaticallyImportedTypesIndex() {
+		return TypeBucketIndex.create(getStaticallyImportedTypes());
+	}
+	
+	/**
+	 * The static features of the {@link #getStaticallyImportedExtensionTypes() statically imported extension types}
+	 * by their simple name.
+	 * 
+	 * @since 2.31
+	 */
+	default TypeBucketIndex getStaticallyImportedExtensionTypesIndex() {
+		return TypeBucketIndex.create(getStaticallyImportedExtensionTypes());
+	}
+	
 	/**
 	 * Returns <code>true</code> if the member is visible according to the {@link JvmVisibility} and the local context
 	 * when invoked on the given receiver feature which resolves to the given type.
@@ -50,6 +50,11 @@ public class StaticExtensionImportsScope extends AbstractStaticImportsScope {
 		return getSession().getStaticallyImportedExtensionTypes();
 	}
 	
+	@Override
+	protected TypeBucketIndex getBucketIndex() {
+		return getSession().getStaticallyImportedExtensionTypesIndex();
+	}
+	
 	@Override
 	protected List<IEObjectDescription> getAllLocalElements() {
 		if (receiverType != null && !helper.isResolvedReceiverType()) {
@@ -31,6 +31,11 @@ public class StaticImportsScope extends AbstractStaticImportsScope {
 		return getSession().getStaticallyImportedTypes();
 	}
 	
+	@Override
+	protected TypeBucketIndex getBucketIndex() {
+		return getSession().getStaticallyImportedTypesIndex();
+	}
+	
 	@Override
 	protected BucketedEObjectDescription createDescription(QualifiedName name, JvmFeature feature, TypeBucket bucket) {
 		return new StaticFeatureDescription(name, feature, bucket.getId(), getSession().isVisible(feature));
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.scoping.batch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.JvmFeature;
+import org.eclipse.xtext.common.types.JvmType;
+import org.eclipse.xtext.xbase.typesystem.override.IResolvedFeatures;
+
+/**
+ * An immutable index of the static features of a list of {@link TypeBucket type buckets} by their simple name. The
+ * features of a name are ordered like the buckets, the types of a bucket and the {@link IResolvedFeatures#getAllFeatures(String)
+ * resolved features} of a type. The index is built once per {@link IFeatureScopeSession session} and shared by all
+ * the scopes that are derived from that session. A nested session only indexes its own buckets and
+ * {@link #create(List, TypeBucketIndex) falls back} to the index of its parent.
+ *
+ * @since 2.31
+ */
+public class TypeBucketIndex {
+
+	public static final TypeBucketIndex EMPTY = new TypeBucketIndex(Collections.emptyMap());
+
+	/**
+	 * A static feature and the bucket that contributes it.
+	 */
+	public static class Entry {
+		private final JvmFeature feature;
+
+		private final TypeBucket bucket;
+
+		public Entry(JvmFeature feature, TypeBucket bucket) {
+			this.feature = feature;
+			this.bucket = bucket;
+		}
+
+		public JvmFeature getFeature() {
+			return feature;
+		}
+
+		public TypeBucket getBucket() {
+			return bucket;
+		}
+	}
+
+	public static TypeBucketIndex create(List<TypeBucket> buckets) {
+		if (buckets.isEmpty()) {
+			return EMPTY;
+		}
+		Map<String, List<Entry>> index = new HashMap<>();
+		for (TypeBucket bucket : buckets) {
+			IResolvedFeatures.Provider resolvedFeaturesProvider = bucket.getResolvedFeaturesProvider();
+			if (bucket.isRestrictingNames()) {
+				for (Map.Entry<? extends JvmType, ? extends Set<String>> entry : bucket.getTypesToNames().entrySet()) {
+					if (entry.getKey() instanceof JvmDeclaredType) {
+						IResolvedFeatures resolvedFeatures = resolvedFeaturesProvider.getResolvedFeatures(entry.getKey());
+						for (String simpleName : entry.getValue()) {
+							addStaticFeatures(resolvedFeatures.getAllFeatures(simpleName), bucket, index);
+						}
+					}
+				}
+			} else {
+				for (JvmType type : bucket.getTypes()) {
+					if (type instanceof JvmDeclaredType) {
+						addStaticFeatures(resolvedFeaturesProvider.getResolvedFeatures(type).getAllFeatures(), bucket, index);
+					}
+				}
+			}
+		}
+		return new TypeBucketIndex(index);
+	}
+
+	/**
+	 * Creates an index of the given buckets that precede the buckets of the given parent index.
+	 */
+	public static TypeBucketIndex create(List<TypeBucket> buckets, TypeBucketIndex parent) {
+		TypeBucketIndex result = create(buckets);
+		if (parent.isEmpty()) {
+			return result;
+		}
+		if (result.isEmpty()) {
+			return parent;
+		}
+		return new TypeBucketIndex(result.index, parent);
+	}
+
+	private static void addStaticFeatures(List<JvmFeature> features, TypeBucket bucket, Map<String, List<Entry>> index) {
+		for(int i = 0, size = features.size(); i < size; i++) {
+			JvmFeature feature = features.get(i);
+			if (feature.isStatic()) {
+				index.computeIfAbsent(feature.getSimpleName(), name -> new ArrayList<>(2)).add(new Entry(feature, bucket));
+			}
+		}
+	}
+
+	private final Map<String, List<Entry>> index;
+
+	/* @Nullable */
+	private final TypeBucketIndex parent;
+
+	/**
+	 * The features of the names that are contributed by this index and its parent.
+	 */
+	private final Map<String, List<Entry>> merged;
+
+	protected TypeBucketIndex(Map<String, List<Entry>> index) {
+		this(index, null);
+	}
+
+	protected TypeBucketIndex(Map<String, List<Entry>> index, /* @Nullable */ TypeBucketIndex parent) {
+		this.index = index;
+		this.parent = parent;
+		this.merged = parent != null ? new ConcurrentHashMap<>() : Collections.emptyMap();
+	}
+
+	public boolean isEmpty() {
+		return index.isEmpty() && (parent == null || parent.isEmpty());
+	}
+
+	/**
+	 * Returns the static features with the given simple name. The result must not be modified.
+	 */
+	public List<Entry> getFeatures(String simpleName) {
+		List<Entry> result = index.get(simpleName);
+		if (parent == null) {
+			return result != null ? result : Collections.emptyList();
+		}
+		List<Entry> parentResult = parent.getFeatures(simpleName);
+		if (result == null) {
+			return parentResult;
+		}
+		if (parentResult.isEmpty()) {
+			return result;
+		}
+		return merged.computeIfAbsent(simpleName, name -> {
+			List<Entry> entries = new ArrayList<>(result.size() + parentResult.size());
+			entries.addAll(result);
+			entries.addAll(parentResult);
+			return entries;
+		});
+	}
+
+}
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2023 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.typesystem.conformance;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.JvmType;
+import org.eclipse.xtext.common.types.JvmTypeReference;
+import org.eclipse.xtext.common.types.access.IMirror;
+import org.eclipse.xtext.common.types.access.IMirrorExtension;
+import org.eclipse.xtext.common.types.access.JvmTypeChangeDispatcher;
+import org.eclipse.xtext.common.types.access.TypeResource;
+
+/**
+ * <p>
+ * Caches the answers to raw type questions about a {@link JvmDeclaredType}, that is the declared super type
+ * reference that leads to a given raw super type and the result of the raw conformance check against other types
+ * without type parameters. These answers are independent of the type arguments and the
+ * {@link org.eclipse.xtext.xbase.typesystem.references.ITypeReferenceOwner owner} of a type reference, but they are
+ * requested over and over again by the overload resolution.
+ * </p>
+ * <p>
+ * Instances are obtained via {@link #getRawSuperTypes(JvmDeclaredType)} and are cached on the type. They will
+ * invalidate themselves as soon as a type in the resource set changes. Types that are read from class files never
+ * change.
+ * </p>
+ *
+ * @since 2.31
+ */
+public class RawSuperTypes implements Adapter {
+
+	/**
+	 * Returns an existing instance of {@link RawSuperTypes} or creates a new one that will be cached on the type.
+	 */
+	public static RawSuperTypes getRawSuperTypes(JvmDeclaredType type) {
+		final List<Adapter> adapterList = type.eAdapters();
+		RawSuperTypes adapter = (RawSuperTypes) EcoreUtil.getAdapter(adapterList, RawSuperTypes.class);
+		if (adapter != null) {
+			return adapter;
+		}
+		final RawSuperTypes newAdapter = new RawSuperTypes(!isSealed(type));
+		if (newAdapter.isChangeable()) {
+			requestNotificationOnChange(type, new Runnable() {
+				@Override
+				public void run() {
+					newAdapter.clear();
+					adapterList.remove(newAdapter);
+				}
+			});
+		}
+		adapterList.add(newAdapter);
+		return newAdapter;
+	}
+
+	/**
+	 * Returns <code>true</code> if the given type is read from a class file and thus never changes.
+	 *
+	 * @see IMirrorExtension#isSealed()
+	 */
+	public static boolean isSealed(JvmType type) {
+		Resource resource = type.eResource();
+		if (resource instanceof TypeResource) {
+			IMirror mirror = ((TypeResource) resource).getMirror();
+			if (mirror instanceof IMirrorExtension) {
+				return ((IMirrorExtension) mirror).isSealed();
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Registers the given listener to be notified on changes of the types in the resource set of the given type.
+	 */
+	protected static void requestNotificationOnChange(JvmType type, Runnable listener) {
+		Resource resource = type.eResource();
+		Notifier notifier = type;
+		if (resource != null) {
+			if (resource.getResourceSet() != null)
+				notifier = resource.getResourceSet();
+			else
+				notifier = resource;
+		}
+		JvmTypeChangeDispatcher dispatcher = JvmTypeChangeDispatcher.findResourceChangeDispatcher(notifier);
+		dispatcher.requestNotificationOnChange(type, listener);
+	}
+
+	/**
+	 * The key of a cached conformance result. The computer is part of the key since languages may customize the
+	 * conformance rules.
+	 */
+	private static class ConformanceKey {
+		private final RawTypeConformanceComputer computer;
+		private final JvmType left;
+		private final int flags;
+
+		ConformanceKey(RawTypeConformanceComputer computer, JvmType left, int flags) {
+			this.computer = computer;
+			this.left = left;
+			this.flags = flags;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(System.identityHashCode(computer), System.identityHashCode(left), flags);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof ConformanceKey))
+				return false;
+			ConformanceKey other = (ConformanceKey) obj;
+			return computer == other.computer && left == other.left && flags == other.flags;
+		}
+	}
+
+	private static final Object NO_SUPER_TYPE = new Object();
+
+	/**
+	 * The declared super type references by their raw type.
+	 */
+	private final Map<JvmType, Object> superTypes = new ConcurrentHashMap<>();
+
+	private final Map<ConformanceKey, Integer> conformance = new ConcurrentHashMap<>();
+
+	private final boolean changeable;
+
+	protected RawSuperTypes(boolean changeable) {
+		this.changeable = changeable;
+	}
+
+	/**
+	 * Returns <code>true</code> if this instance is invalidated when a type in the resource set changes. Otherwise
+	 * it belongs to a {@link #isSealed(JvmType) sealed} type and only answers that involve sealed types should be
+	 * cached.
+	 */
+	public boolean isChangeable() {
+		return changeable;
+	}
+
+	/**
+	 * Returns the super type reference of the given raw type or <code>null</code> if the raw type is not a super type.
+	 * The computation is invoked once per raw type. If this instance is not {@link #isChangeable() changeable}, the
+	 * answer is only cached if the raw type is {@link #isSealed(JvmType) sealed}, too. Otherwise the cache would never
+	 * be cleared and it would keep types from source alive.
+	 */
+	/* @Nullable */
+	public JvmTypeReference getSuperType(JvmType rawType, Function<? super JvmType, ? extends JvmTypeReference> computation) {
+		if (!changeable && !isSealed(rawType)) {
+			return computation.apply(rawType);
+		}
+		Object result = superTypes.get(rawType);
+		if (result == null) {
+			result = computation.apply(rawType);
+			superTypes.put(rawType, result != null ? result : NO_SUPER_TYPE);
+		}
+		return result != NO_SUPER_TYPE ? (JvmTypeReference) result : null;
+	}
+
+	/**
+	 * Returns the cached result of the conformance check of the given left type and this type or <code>-1</code> if
+	 * it was not yet computed.
+	 */
+	public int getConformance(RawTypeConformanceComputer computer, JvmType left, int flags) {
+		Integer result = conformance.get(new ConformanceKey(computer, left, flags));
+		return result != null ? result : -1;
+	}
+
+	public void putConformance(RawTypeConformanceComputer computer, JvmType left, int flags, int result) {
+		conformance.put(new ConformanceKey(computer, left, flags), result);
+	}
+
+	@Override
+	public void notifyChanged(/* @Nullable */ Notification notification) {
+	}
+
+	/* @Nullable */
+	@Override
+	public Notifier getTarget() {
+		return null;
+	}
+
+	@Override
+	public void setTarget(/* @Nullable */ Notifier newTarget) {
+	}
+
+	@Override
+	public boolean isAdapterForType(/* @Nullable */ Object type) {
+		return RawSuperTypes.class.equals(type);
+	}
+
+	private void clear() {
+		superTypes.clear();
+		conformance.clear();
+	}
+
+}
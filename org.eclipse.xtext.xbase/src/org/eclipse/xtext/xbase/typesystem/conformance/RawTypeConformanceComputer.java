@@ -858,6 +858,45 @@ public class RawTypeConformanceComputer {
 			}
 			return doIsConformantTypeArguments(left, right, flags);
 		}
+		if (isRawConformanceCacheable(left, right)) {
+			JvmType leftType = left.getType();
+			RawSuperTypes rawSuperTypes = RawSuperTypes.getRawSuperTypes((JvmDeclaredType) right.getType());
+			if (rawSuperTypes.isChangeable() || RawSuperTypes.isSealed(leftType)) {
+				int result = rawSuperTypes.getConformance(this, leftType, flags);
+				if (result == -1) {
+					result = doIsConformantDifferentTypes(left, right, flags);
+					rawSuperTypes.putConformance(this, leftType, flags, result);
+				}
+				return result;
+			}
+		}
+		return doIsConformantDifferentTypes(left, right, flags);
+	}
+
+	/**
+	 * Returns <code>true</code> if the conformance of the given references only depends on their raw types and the
+	 * flags, such that the result can be cached. This is the case if both references point to types without type
+	 * parameters.
+	 * 
+	 * @since 2.31
+	 */
+	protected boolean isRawConformanceCacheable(ParameterizedTypeReference left, ParameterizedTypeReference right) {
+		return left.getClass() == ParameterizedTypeReference.class && right.getClass() == ParameterizedTypeReference.class
+				&& isNonGenericType(left) && isNonGenericType(right);
+	}
+
+	private boolean isNonGenericType(ParameterizedTypeReference reference) {
+		JvmType type = reference.getType();
+		return type.eClass() == TypesPackage.Literals.JVM_GENERIC_TYPE && !type.eIsProxy()
+				&& !reference.hasTypeArguments() && ((JvmGenericType) type).getTypeParameters().isEmpty();
+	}
+
+	/**
+	 * Checks the conformance of two parameterized type references that point to different types.
+	 * 
+	 * @since 2.31
+	 */
+	protected int doIsConformantDifferentTypes(ParameterizedTypeReference left, ParameterizedTypeReference right, int flags) {
 		if (left.isPrimitiveVoid() || right.isPrimitiveVoid()) {
 			return flags;
 		}
@@ -11,10 +11,14 @@ package org.eclipse.xtext.xbase.typesystem.internal;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.xtext.resource.ISynchronizable;
+import org.eclipse.xtext.resource.persistence.StorageAwareResource;
 import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.util.OnChangeEvictingCache;
 import org.eclipse.xtext.util.concurrent.IUnitOfWork;
 import org.eclipse.xtext.xbase.XAbstractFeatureCall;
+import org.eclipse.xtext.xbase.resource.BatchLinkableResource;
+import org.eclipse.xtext.xbase.resource.IResourceLockingStrategy;
+import org.eclipse.xtext.xbase.resource.ResolvedTypesStorage;
 import org.eclipse.xtext.xbase.typesystem.IResolvedTypes;
 
 import com.google.inject.Inject;
@@ -34,6 +38,9 @@ public class CachingBatchTypeResolver extends AbstractBatchTypeResolver {
 	@Inject
 	private DefaultBatchTypeResolver delegate;
 	
+	@Inject
+	private ResolvedTypesStorage resolvedTypesStorage;
+	
 	@Override
 	/* @NonNull */
 	protected IResolvedTypes doResolveTypes(final /* @Nullable */ EObject object, final /* @Nullable */ CancelIndicator monitor) {
@@ -44,6 +51,25 @@ public class CachingBatchTypeResolver extends AbstractBatchTypeResolver {
 		}
 		// TODO
 		final Resource resource = nonArtificialObject.eResource();
+		if (resource instanceof StorageAwareResource && ((StorageAwareResource) resource).isLoadedFromStorage()) {
+			IResolvedTypes storedTypes = resolvedTypesStorage.getResolvedTypes(resource, new Provider<IResolvedTypes>() {
+				@Override
+				public IResolvedTypes get() {
+					// queries that are not covered by the storage are answered by a regular resolution
+					return resolveLazily(object, resource, monitor);
+				}
+			});
+			if (storedTypes != null) {
+				return storedTypes;
+			}
+		}
+		return resolveLazily(object, resource, monitor);
+	}
+	
+	/**
+	 * @since 2.31
+	 */
+	protected IResolvedTypes resolveLazily(final EObject object, final Resource resource, final /* @Nullable */ CancelIndicator monitor) {
 		final LazyResolvedTypes result = cache.get(CachingBatchTypeResolver.class, resource, new Provider<LazyResolvedTypes>() {
 			@Override
 			public LazyResolvedTypes get() {
@@ -76,6 +102,21 @@ public class CachingBatchTypeResolver extends AbstractBatchTypeResolver {
 
 		protected IResolvedTypes resolveTypes(CancelIndicator monitor) {
 			if (this.delegate == null) {
+				IResourceLockingStrategy lockingStrategy = getLockingStrategy();
+				if (lockingStrategy != null) {
+					BatchLinkableResource batchLinkableResource = (BatchLinkableResource) resource;
+					lockingStrategy.lock(batchLinkableResource);
+					try {
+						if (this.delegate == null) {
+							IResolvedTypes result = resolver.reentrantResolve(monitor);
+							this.delegate = result;
+							return result;
+						}
+					} finally {
+						lockingStrategy.unlock(batchLinkableResource);
+					}
+					return delegate;
+				}
 				synchronized (getLock()) {
 					if (this.delegate == null) {
 						IResolvedTypes result = resolver.reentrantResolve(monitor);
@@ -92,6 +133,17 @@ public class CachingBatchTypeResolver extends AbstractBatchTypeResolver {
 			return delegate;
 		}
 		
+		/**
+		 * @since 2.31
+		 */
+		/* @Nullable */
+		protected IResourceLockingStrategy getLockingStrategy() {
+			if (resource instanceof BatchLinkableResource) {
+				return ((BatchLinkableResource) resource).getLockingStrategy();
+			}
+			return null;
+		}
+		
 		protected Object getLock() {
 			if (resource instanceof ISynchronizable<?>) {
 				return ((ISynchronizable<?>) resource).getLock();
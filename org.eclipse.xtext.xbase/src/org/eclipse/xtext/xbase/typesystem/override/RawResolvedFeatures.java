@@ -17,6 +17,7 @@ import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.EContentAdapter;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.common.types.JvmDeclaredType;
@@ -28,6 +29,7 @@ import org.eclipse.xtext.common.types.access.IMirror;
 import org.eclipse.xtext.common.types.access.IMirrorExtension;
 import org.eclipse.xtext.common.types.access.JvmTypeChangeDispatcher;
 import org.eclipse.xtext.common.types.access.TypeResource;
+import org.eclipse.xtext.resource.ISynchronizable;
 import org.eclipse.xtext.xbase.typesystem.references.LightweightTypeReference;
 import org.eclipse.xtext.xbase.typesystem.references.StandardTypeReferenceOwner;
 import org.eclipse.xtext.xbase.typesystem.util.CommonTypeComputationServices;
@@ -50,7 +52,9 @@ import com.google.common.collect.Sets;
  * {@link #getResolvedFeatures(JvmDeclaredType, CommonTypeComputationServices)}
  * and are cached per {@link JvmType}. They will invalidate themselves on change.
  * 
- * Instances of this class are not expected to be used concurrently. 
+ * Types are shared by all resources of a resource set. If the resource set is {@link ISynchronizable
+ * synchronizable}, its lock guards the installation and the lazily computed state of the instances. Otherwise
+ * they are not expected to be used concurrently.
  * 
  * @author Sebastian Zarnekow - Initial contribution and API
  */
@@ -62,21 +66,40 @@ public class RawResolvedFeatures extends AbstractResolvedFeatures implements Ada
 	 * the {@link JvmTypeChangeDispatcher} instead.
 	 */
 	static RawResolvedFeatures getResolvedFeatures(JvmDeclaredType type, CommonTypeComputationServices services) {
-		final List<Adapter> adapterList = type.eAdapters();
-		RawResolvedFeatures adapter = (RawResolvedFeatures) EcoreUtil.getAdapter(adapterList, RawResolvedFeatures.class);
-		if (adapter != null) {
-			return adapter;
+		synchronized (getLock(type)) {
+			final List<Adapter> adapterList = type.eAdapters();
+			RawResolvedFeatures adapter = (RawResolvedFeatures) EcoreUtil.getAdapter(adapterList, RawResolvedFeatures.class);
+			if (adapter != null) {
+				return adapter;
+			}
+			final RawResolvedFeatures newAdapter = new RawResolvedFeatures(type, services);
+			requestNotificationOnChange(type, new Runnable() {
+				@Override
+				public void run() {
+					newAdapter.clear();
+					adapterList.remove(newAdapter);
+				}
+			});
+			adapterList.add(newAdapter);
+			return newAdapter;
 		}
-		final RawResolvedFeatures newAdapter = new RawResolvedFeatures(type, services);
-		requestNotificationOnChange(type, new Runnable() {
-			@Override
-			public void run() {
-				newAdapter.clear();
-				adapterList.remove(newAdapter);
+	}
+	
+	/**
+	 * Returns the lock of the resource set of the given type if it is {@link ISynchronizable synchronizable}.
+	 * Otherwise the type itself is used as the lock.
+	 * 
+	 * @since 2.31
+	 */
+	protected static Object getLock(JvmType type) {
+		Resource resource = type.eResource();
+		if (resource != null) {
+			ResourceSet resourceSet = resource.getResourceSet();
+			if (resourceSet instanceof ISynchronizable<?>) {
+				return ((ISynchronizable<?>) resourceSet).getLock();
 			}
-		});
-		adapterList.add(newAdapter);
-		return newAdapter;
+		}
+		return type;
 	}
 	
 	/**
@@ -122,6 +145,8 @@ public class RawResolvedFeatures extends AbstractResolvedFeatures implements Ada
 	
 	private boolean allFeaturesComputed = false;
 	
+	private final Object lock;
+	
 	protected RawResolvedFeatures(JvmDeclaredType type, CommonTypeComputationServices services) {
 		this(createTypeReference(type, services), new OverrideTester());
 	}
@@ -129,6 +154,8 @@ public class RawResolvedFeatures extends AbstractResolvedFeatures implements Ada
 	protected RawResolvedFeatures(LightweightTypeReference type, OverrideTester overrideTester) {
 		super(type, overrideTester);
 		this.featureIndex = Maps.newHashMapWithExpectedSize(4);
+		JvmType rawType = type.getType();
+		this.lock = rawType != null ? getLock(rawType) : this;
 	}
 	
 	@Override
@@ -138,27 +165,31 @@ public class RawResolvedFeatures extends AbstractResolvedFeatures implements Ada
 	
 	@Override
 	public List<JvmFeature> getAllFeatures(String simpleName) {
-		List<JvmFeature> result = featureIndex.get(simpleName);
-		if (result == null) {
-			featureIndex.put(simpleName, result = computeAllFeatures(simpleName));
+		synchronized (lock) {
+			List<JvmFeature> result = featureIndex.get(simpleName);
+			if (result == null) {
+				featureIndex.put(simpleName, result = computeAllFeatures(simpleName));
+			}
+			return result;
 		}
-		return result;
 	}
 	
 	@Override
 	public List<JvmFeature> getAllFeatures() {
-		if (!allFeaturesComputed) {
-			ListMultimap<String, JvmFeature> featureIndex = computeAllFeatures();
-			for(String simpleName: featureIndex.keySet()) {
-				this.featureIndex.put(simpleName, Lists.newArrayList(featureIndex.get(simpleName)));
+		synchronized (lock) {
+			if (!allFeaturesComputed) {
+				ListMultimap<String, JvmFeature> featureIndex = computeAllFeatures();
+				for(String simpleName: featureIndex.keySet()) {
+					this.featureIndex.put(simpleName, Lists.newArrayList(featureIndex.get(simpleName)));
+				}
+				allFeaturesComputed = true;
 			}
-			allFeaturesComputed = true;
-		}
-		List<JvmFeature> result = Lists.newArrayList();
-		for(List<JvmFeature> list: featureIndex.values()) {
-			result.addAll(list);
+			List<JvmFeature> result = Lists.newArrayList();
+			for(List<JvmFeature> list: featureIndex.values()) {
+				result.addAll(list);
+			}
+			return result;
 		}
-		return result;
 	}
 
 	protected List<JvmFeature> computeAllFeatures(String simpleName) {
@@ -257,8 +288,10 @@ public class RawResolvedFeatures extends AbstractResolvedFeatures implements Ada
 	}
 
 	private void clear() {
-		featureIndex.clear();
-		allFeaturesComputed = false;
+		synchronized (lock) {
+			featureIndex.clear();
+			allFeaturesComputed = false;
+		}
 	}
 
 }
@@ -31,6 +31,7 @@ import org.eclipse.xtext.common.types.JvmUpperBound;
 import org.eclipse.xtext.common.types.TypesPackage;
 import org.eclipse.xtext.common.types.access.impl.URIHelperConstants;
 import org.eclipse.xtext.common.types.util.Primitives.Primitive;
+import org.eclipse.xtext.xbase.typesystem.conformance.RawSuperTypes;
 import org.eclipse.xtext.xbase.typesystem.internal.util.WrapperTypeLookup;
 import org.eclipse.xtext.xbase.typesystem.util.IVisibilityHelper;
 import org.eclipse.xtext.xbase.typesystem.util.RecursionGuard;
@@ -713,6 +714,12 @@ public class ParameterizedTypeReference extends LightweightTypeReference {
 				return null;
 			}
 		}
+		if (type instanceof JvmDeclaredType) {
+			// the declared super type does not depend on the type arguments, thus it is cached on the type
+			final boolean isInterfaceType = interfaceType;
+			return RawSuperTypes.getRawSuperTypes((JvmDeclaredType) type).getSuperType(rawType,
+					raw -> getSuperType(raw, isInterfaceType, type, new RecursionGuard<JvmType>()));
+		}
 		JvmTypeReference superType = getSuperType(rawType, interfaceType, type, new RecursionGuard<JvmType>());
 		return superType;
 	}